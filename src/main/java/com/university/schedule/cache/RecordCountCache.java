@@ -0,0 +1,164 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.RecordCount;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.ScheduleChangedEvent;
+import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.repository.RecordCountRepository;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals of the records listings, which read their pages as Slices and so never count.
+ *
+ * <p>A table whose planner estimate (pg_class.reltuples) reaches the threshold keeps the estimate, smaller tables
+ * are counted with COUNT(*). A missing total is counted by the first read. Totals that are older than the TTL or
+ * whose entity changed are recounted on the recordCountExecutor, the old total is served until the new one is ready.
+ */
+@Slf4j
+@Component
+public class RecordCountCache {
+
+    public static final String NAME = "recordCounts";
+
+    private final RecordCountRepository recordCountRepository;
+
+    private final Executor executor;
+
+    private final long estimateThreshold;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Set<Class<?>> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public RecordCountCache(RecordCountRepository recordCountRepository,
+                            @Qualifier("recordCountExecutor") Executor executor,
+                            @Value("${records.count.estimateThreshold:100000}") long estimateThreshold,
+                            @Value("${records.count.ttlSeconds:60}") long ttlSeconds) {
+        this(recordCountRepository, executor, estimateThreshold, ttlSeconds * 1_000_000_000L, System::nanoTime);
+    }
+
+    RecordCountCache(RecordCountRepository recordCountRepository, Executor executor, long estimateThreshold,
+                     long ttlNanos, LongSupplier nanoClock) {
+        this.recordCountRepository = recordCountRepository;
+        this.executor = executor;
+        this.estimateThreshold = estimateThreshold;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param type entity of the listing, annotated with {@link Table}.
+     * @return total of the entity, possibly stale by up to the TTL or a pending recount.
+     */
+    public RecordCount get(Class<?> type) {
+        Entry entry = entries.get(type);
+        if (entry == null) {
+            misses.increment();
+            return count(type);
+        }
+        hits.increment();
+        if (entry.stale() || nanoClock.getAsLong() - entry.countedAt() > ttlNanos) {
+            recountAsync(type);
+        }
+        return entry.recordCount();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        invalidate(referenceDataChangedEvent.type());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent scheduleChangedEvent) {
+        invalidate(ScheduledClass.class);
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(NAME, entries.size(), entries.size(), hits.sum(), misses.sum(), 0, invalidations.sum());
+    }
+
+    /**
+     * Marks the totals of the type, its subtypes and supertypes stale, a Teacher changes the Users total as well.
+     */
+    private void invalidate(Class<?> type) {
+        generation.incrementAndGet();
+        for (Class<?> cachedType : entries.keySet()) {
+            if (cachedType.isAssignableFrom(type) || type.isAssignableFrom(cachedType)) {
+                entries.computeIfPresent(cachedType, (key, entry) -> entry.toStale());
+                invalidations.increment();
+                log.debug("Invalidated {} total", cachedType.getSimpleName());
+            }
+        }
+    }
+
+    private void recountAsync(Class<?> type) {
+        if (!refreshing.add(type)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    count(type);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to recount {}", type.getSimpleName(), e);
+                } finally {
+                    refreshing.remove(type);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(type);
+            log.debug("Recount of {} rejected, serving the previous total", type.getSimpleName());
+        }
+    }
+
+    private RecordCount count(Class<?> type) {
+        Table table = type.getAnnotation(Table.class);
+        if (table == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " is not annotated with @Table");
+        }
+        long startGeneration = generation.get();
+        long estimate = recordCountRepository.estimate(table.name());
+        RecordCount recordCount = estimate >= estimateThreshold ? new RecordCount(estimate, true) :
+            new RecordCount(recordCountRepository.count(table.name()), false);
+        // an invalidation during the count leaves the total stale, so the next read recounts it
+        entries.put(type, new Entry(recordCount, nanoClock.getAsLong(), generation.get() != startGeneration));
+        log.debug("Counted {} {}", recordCount, type.getSimpleName());
+        return recordCount;
+    }
+
+    private record Entry(RecordCount recordCount, long countedAt, boolean stale) {
+
+        private Entry toStale() {
+            return new Entry(recordCount, countedAt, true);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.*;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.service.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds a {@link ReferenceDataSnapshot}, so rendering a form or the schedule filters doesn`t query the database.
+ *
+ * <p>Every {@link ReferenceDataChangedEvent} bumps the version after the commit, the next read rebuilds the whole
+ * snapshot (the tables are small). A snapshot built while a write committed is tagged with the older version and
+ * is never served after the invalidation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    public static final String NAME = "referenceData";
+
+    private final TeacherService teacherService;
+
+    private final GroupService groupService;
+
+    private final ClassTypeService classTypeService;
+
+    private final ClassTimeService classTimeService;
+
+    private final ClassroomService classroomService;
+
+    private final CourseService courseService;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private volatile ReferenceDataSnapshot snapshot;
+
+    public ReferenceDataSnapshot getSnapshot() {
+        ReferenceDataSnapshot current = snapshot;
+        if (current != null && current.version() == version.get()) {
+            hits.increment();
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            long currentVersion = version.get();
+            if (current != null && current.version() == currentVersion) {
+                hits.increment();
+                return current;
+            }
+            misses.increment();
+            current = new ReferenceDataSnapshot(currentVersion, teacherService.findAllAsDTO(),
+                groupService.findAllAsDTO(), classTypeService.findAllAsDTO(), classTimeService.findAllAsDTO(),
+                classroomService.findAllAsDTO(), courseService.findAllAsDTO());
+            snapshot = current;
+            log.debug("Built reference data snapshot version {}", currentVersion);
+            return current;
+        }
+    }
+
+    public List<TeacherDTO> getTeacherDTOS() {
+        return getSnapshot().teacherDTOS();
+    }
+
+    public List<GroupDTO> getGroupDTOS() {
+        return getSnapshot().groupDTOS();
+    }
+
+    public List<ClassTypeDTO> getClassTypeDTOS() {
+        return getSnapshot().classTypeDTOS();
+    }
+
+    public List<ClassTimeDTO> getClassTimeDTOS() {
+        return getSnapshot().classTimeDTOS();
+    }
+
+    public List<ClassroomDTO> getClassroomDTOS() {
+        return getSnapshot().classroomDTOS();
+    }
+
+    public List<CourseDTO> getCourseDTOS() {
+        return getSnapshot().courseDTOS();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        long invalidatedVersion = version.incrementAndGet();
+        invalidations.increment();
+        log.debug("Invalidated reference data snapshot after {} change, version {}",
+            referenceDataChangedEvent.type().getSimpleName(), invalidatedVersion);
+    }
+
+    public CacheStats getStats() {
+        ReferenceDataSnapshot current = snapshot;
+        int size = current != null && current.version() == version.get() ? 1 : 0;
+        return new CacheStats(NAME, size, 1, hits.sum(), misses.sum(), 0, invalidations.sum());
+    }
+}
@@ -0,0 +1,24 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.*;
+
+import java.util.List;
+
+/**
+ * Immutable view of the reference data rendered by forms and schedule filters.
+ *
+ * @param version number of the invalidation the snapshot was built after.
+ */
+public record ReferenceDataSnapshot(long version, List<TeacherDTO> teacherDTOS, List<GroupDTO> groupDTOS,
+                                    List<ClassTypeDTO> classTypeDTOS, List<ClassTimeDTO> classTimeDTOS,
+                                    List<ClassroomDTO> classroomDTOS, List<CourseDTO> courseDTOS) {
+
+    public ReferenceDataSnapshot {
+        teacherDTOS = List.copyOf(teacherDTOS);
+        groupDTOS = List.copyOf(groupDTOS);
+        classTypeDTOS = List.copyOf(classTypeDTOS);
+        classTimeDTOS = List.copyOf(classTimeDTOS);
+        classroomDTOS = List.copyOf(classroomDTOS);
+        courseDTOS = List.copyOf(courseDTOS);
+    }
+}
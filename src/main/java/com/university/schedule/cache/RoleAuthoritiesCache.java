@@ -0,0 +1,106 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.RoleAuthorities;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.model.Authority;
+import com.university.schedule.model.Role;
+import com.university.schedule.service.AuthorityService;
+import com.university.schedule.service.RoleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Granted authorities of every Role, so a login resolves them without a query.
+ *
+ * <p>There are only a few Roles, so the cache is unbounded. Any Role or Authority write clears it after the
+ * commit; a load that raced with the write is not cached.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleAuthoritiesCache {
+
+    public static final String NAME = "roleAuthorities";
+
+    private final RoleService roleService;
+
+    private final AuthorityService authorityService;
+
+    private final Map<Long, RoleAuthorities> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private long version;
+
+    /**
+     * @return name and granted authorities of the Role, loaded on a miss.
+     * @throws com.university.schedule.exception.ServiceException if there is no Role with the id.
+     */
+    public RoleAuthorities get(Long roleId) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role id is null");
+        }
+        RoleAuthorities roleAuthorities = entries.get(roleId);
+        if (roleAuthorities != null) {
+            hits.increment();
+            return roleAuthorities;
+        }
+        misses.increment();
+        long loadVersion = getVersion();
+        Role role = roleService.findById(roleId);
+        roleAuthorities = new RoleAuthorities(role.getName(), convertToGrantedAuthorities(role));
+        synchronized (this) {
+            if (version == loadVersion) {
+                entries.put(roleId, roleAuthorities);
+            }
+        }
+        log.debug("Loaded {} authorities of Role {}", roleAuthorities.grantedAuthorities().size(), role.getName());
+        return roleAuthorities;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        Class<?> type = referenceDataChangedEvent.type();
+        if (type != Role.class && type != Authority.class) {
+            return;
+        }
+        synchronized (this) {
+            version++;
+            entries.clear();
+        }
+        invalidations.increment();
+        log.debug("Invalidated role authorities after {} change", type.getSimpleName());
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(NAME, entries.size(), entries.size(), hits.sum(), misses.sum(), 0, invalidations.sum());
+    }
+
+    private synchronized long getVersion() {
+        return version;
+    }
+
+    private List<SimpleGrantedAuthority> convertToGrantedAuthorities(Role role) {
+        List<SimpleGrantedAuthority> simpleGrantedAuthorities = new ArrayList<>();
+        for (Authority authority : authorityService.findByRole(role)) {
+            simpleGrantedAuthorities.add(new SimpleGrantedAuthority(authority.getName()));
+        }
+        simpleGrantedAuthorities.add(
+            new SimpleGrantedAuthority(String.format("ROLE_%s", role.getName().toUpperCase())));
+        return List.copyOf(simpleGrantedAuthorities);
+    }
+}
@@ -0,0 +1,36 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.ScheduleChangedEvent;
+import com.university.schedule.repository.ScheduleVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Version of the schedule, incremented with every change of ScheduledClasses, RecurringClasses or the reference data
+ * shown with them. The version is a database sequence, so every instance reads the same version. It is incremented
+ * after the commit of the changing transaction: a version is never announced for data that is not committed yet, a
+ * rolled back change doesn`t increment it and concurrent writers don`t wait for each other.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleVersion {
+
+    private final ScheduleVersionRepository scheduleVersionRepository;
+
+    public long get() {
+        return scheduleVersionRepository.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent scheduleChangedEvent) {
+        scheduleVersionRepository.increment();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        scheduleVersionRepository.increment();
+    }
+}
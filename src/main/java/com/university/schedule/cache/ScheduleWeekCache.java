@@ -0,0 +1,285 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.ScheduleChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Size and TTL bounded cache of schedule views, keyed by the resolved filter (Teacher or Groups, date range and
+ * ClassType), so every Student of a Group shares one entry.
+ *
+ * <p>Concurrent misses of the same key wait for a single load. Entries are invalidated after the commit of every
+ * ScheduledClass or RecurringClass write ({@link ScheduleChangedEvent}), only if the change overlaps their date
+ * range and Teacher or Groups, and all of them after a {@link ReferenceDataChangedEvent}. Cached lists are shared
+ * between requests and must not be modified.
+ *
+ * <p>The changes of an event are coalesced into one date span per Teacher and Group before the entries are
+ * scanned, so a generation of thousands of rows costs one pass over the entries with a few hash lookups per entry.
+ * An event touching more Teachers and Groups than the threshold, or with an unknown previous state, clears the cache
+ * without a scan.
+ */
+@Slf4j
+@Component
+public class ScheduleWeekCache {
+
+    public static final String NAME = "scheduleWeeks";
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final int invalidateAllAbove;
+
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public ScheduleWeekCache(@Value("${schedule.cache.weeks.maxSize:10000}") int maxSize,
+                             @Value("${schedule.cache.weeks.ttlSeconds:300}") long ttlSeconds,
+                             @Value("${schedule.cache.weeks.invalidateAllAbove:1000}") int invalidateAllAbove) {
+        this(maxSize, ttlSeconds * 1_000_000_000L, invalidateAllAbove, System::nanoTime);
+    }
+
+    ScheduleWeekCache(int maxSize, long ttlNanos, int invalidateAllAbove, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.invalidateAllAbove = invalidateAllAbove;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > ScheduleWeekCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached schedule view of the filter or loads and caches it.
+     *
+     * @param scheduleFilterItem processed filter, with the Teacher or Groups and the dates resolved.
+     * @param loader             loads the view on a miss.
+     * @return unmodifiable list of ScheduledClassDTOs.
+     */
+    public List<ScheduledClassDTO> get(ScheduleFilterItem scheduleFilterItem,
+                                       Supplier<List<ScheduledClassDTO>> loader) {
+        Key key = Key.of(scheduleFilterItem);
+        CompletableFuture<List<ScheduledClassDTO>> loading;
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && nanoClock.getAsLong() - entry.createdAt() > ttlNanos) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry != null) {
+                hits.increment();
+                loading = null;
+            } else {
+                misses.increment();
+                loading = new CompletableFuture<>();
+                entry = new Entry(loading, nanoClock.getAsLong());
+                entries.put(key, entry);
+            }
+        }
+        if (loading != null) {
+            load(key, entry, loading, loader);
+        }
+        try {
+            return entry.value().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void load(Key key, Entry entry, CompletableFuture<List<ScheduledClassDTO>> loading,
+                      Supplier<List<ScheduledClassDTO>> loader) {
+        try {
+            loading.complete(List.copyOf(loader.get()));
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            loading.completeExceptionally(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent scheduleChangedEvent) {
+        Invalidation invalidation = Invalidation.of(scheduleChangedEvent.changes());
+        if (invalidation == null) {
+            return;
+        }
+        if (invalidation.isUnbounded() || invalidation.size() > invalidateAllAbove) {
+            invalidateAll();
+            return;
+        }
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Key> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (invalidation.affects(iterator.next())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        invalidations.add(removed);
+        log.debug("Invalidated {} cached schedule views", removed);
+    }
+
+    /**
+     * Cached views embed names of Courses, Teachers, Classrooms and the other referenced entities, so any change of
+     * them drops every view.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        int removed;
+        synchronized (entries) {
+            removed = entries.size();
+            entries.clear();
+        }
+        invalidations.add(removed);
+        log.info("Invalidated all {} cached schedule views", removed);
+    }
+
+    public CacheStats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(NAME, size, maxSize, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    private record Key(Long teacherId, Set<Long> groupIds, LocalDate startDate, LocalDate endDate,
+                       Long classTypeId) {
+
+        static Key of(ScheduleFilterItem scheduleFilterItem) {
+            return new Key(scheduleFilterItem.getTeacherId(),
+                scheduleFilterItem.getGroupIdList() == null ? null : Set.copyOf(scheduleFilterItem.getGroupIdList()),
+                scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
+                scheduleFilterItem.getClassTypeId());
+        }
+    }
+
+    private record Entry(CompletableFuture<List<ScheduledClassDTO>> value, long createdAt) {
+    }
+
+    /**
+     * Changes of one event merged into one date span per affected Teacher and Group, plus the span of the changes
+     * affecting every Teacher and Group.
+     */
+    private record Invalidation(Map<Long, DateSpan> teacherSpans, Map<Long, DateSpan> groupSpans, DateSpan allSpan,
+                                DateSpan anySpan) {
+
+        /**
+         * @return merged changes, null if there are none.
+         */
+        static Invalidation of(List<ScheduleChangedEvent.Change> changes) {
+            Map<Long, DateSpan> teacherSpans = new HashMap<>();
+            Map<Long, DateSpan> groupSpans = new HashMap<>();
+            DateSpan allSpan = null;
+            DateSpan anySpan = null;
+            for (ScheduleChangedEvent.Change change : changes) {
+                DateSpan span = new DateSpan(change.startDate(), change.endDate());
+                anySpan = span.merge(anySpan);
+                if (change.teacherId() == null || change.groupIds() == null) {
+                    allSpan = span.merge(allSpan);
+                    continue;
+                }
+                teacherSpans.merge(change.teacherId(), span, DateSpan::merge);
+                for (Long groupId : change.groupIds()) {
+                    groupSpans.merge(groupId, span, DateSpan::merge);
+                }
+            }
+            return anySpan == null ? null : new Invalidation(teacherSpans, groupSpans, allSpan, anySpan);
+        }
+
+        boolean isUnbounded() {
+            return allSpan != null && allSpan.startDate() == null && allSpan.endDate() == null;
+        }
+
+        int size() {
+            return teacherSpans.size() + groupSpans.size();
+        }
+
+        /**
+         * A cached view is affected if its dates overlap a change of every Teacher and Group, a change of its
+         * Teacher or a change of one of its Groups. A view of the whole schedule is affected by any change in its
+         * dates.
+         */
+        boolean affects(Key key) {
+            if (allSpan != null && allSpan.overlaps(key)) {
+                return true;
+            }
+            if (key.teacherId() == null && key.groupIds() == null) {
+                return anySpan.overlaps(key);
+            }
+            DateSpan teacherSpan = key.teacherId() == null ? null : teacherSpans.get(key.teacherId());
+            if (teacherSpan != null && teacherSpan.overlaps(key)) {
+                return true;
+            }
+            return key.groupIds() != null && key.groupIds().stream().map(groupSpans::get)
+                .anyMatch(groupSpan -> groupSpan != null && groupSpan.overlaps(key));
+        }
+    }
+
+    /**
+     * Inclusive date range, a null bound is open.
+     */
+    private record DateSpan(LocalDate startDate, LocalDate endDate) {
+
+        DateSpan merge(DateSpan other) {
+            if (other == null) {
+                return this;
+            }
+            LocalDate mergedStartDate = startDate == null || other.startDate() == null ? null :
+                startDate.isBefore(other.startDate()) ? startDate : other.startDate();
+            LocalDate mergedEndDate = endDate == null || other.endDate() == null ? null :
+                endDate.isAfter(other.endDate()) ? endDate : other.endDate();
+            return new DateSpan(mergedStartDate, mergedEndDate);
+        }
+
+        boolean overlaps(Key key) {
+            if (startDate != null && key.endDate() != null && key.endDate().isBefore(startDate)) {
+                return false;
+            }
+            return endDate == null || key.startDate() == null || !key.startDate().isAfter(endDate);
+        }
+    }
+}
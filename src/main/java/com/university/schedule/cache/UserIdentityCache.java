@@ -0,0 +1,192 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
+import com.university.schedule.model.Authority;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Size and TTL bounded cache of {@link UserIdentity} by email, so an authenticated page doesn't run the polymorphic
+ * User lookup.
+ *
+ * <p>Reads don't lock: the entries live in a ConcurrentHashMap and every hit only stamps the entry with an access
+ * tick. Once the cache grows past its size, one thread trims it to 90% by dropping the least recently used
+ * entries, so the cost of the trim is spread over the following misses.
+ *
+ * <p>A {@link UserChangedEvent} evicts the identity of that User, found through the userId to email index because
+ * the email itself may be what changed; a Group, Role or Authority change evicts all of them, both after the commit.
+ * The TTL bounds how long another instance's writes stay unseen. A load that raced with an eviction is returned but
+ * not cached.
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    public static final String NAME = "userIdentities";
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> emailsByUserId = new ConcurrentHashMap<>();
+
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private final AtomicLong accessTicks = new AtomicLong();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public UserIdentityCache(@Value("${users.cache.identities.maxSize:10000}") int maxSize,
+                             @Value("${users.cache.identities.ttlSeconds:300}") long ttlSeconds) {
+        this(maxSize, ttlSeconds * 1_000_000_000L, System::nanoTime);
+    }
+
+    UserIdentityCache(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param loader resolves the identity on a miss, without holding any lock.
+     */
+    public UserIdentity get(String email, Supplier<UserIdentity> loader) {
+        Entry entry = entries.get(email);
+        if (entry != null && nanoClock.getAsLong() - entry.loadedAt() <= ttlNanos) {
+            entry.lastAccess().set(accessTicks.incrementAndGet());
+            hits.increment();
+            return entry.userIdentity();
+        }
+        misses.increment();
+        long loadVersion = version.get();
+        UserIdentity userIdentity = loader.get();
+        if (version.get() == loadVersion) {
+            put(email, userIdentity, loadVersion);
+        }
+        return userIdentity;
+    }
+
+    private void put(String email, UserIdentity userIdentity, long loadVersion) {
+        Entry entry =
+            new Entry(userIdentity, nanoClock.getAsLong(), new AtomicLong(accessTicks.incrementAndGet()));
+        entries.put(email, entry);
+        if (entry.userId() != null) {
+            emailsByUserId.put(entry.userId(), email);
+        }
+        // an eviction between the version check and the put must not leave the entry behind
+        if (version.get() != loadVersion) {
+            remove(email, entry);
+            return;
+        }
+        if (entries.size() > maxSize) {
+            trim();
+        }
+    }
+
+    /**
+     * Drops the least recently used entries down to 90% of the size. Threads that find a trim running skip it.
+     */
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = entries.size() - (maxSize - maxSize / 10);
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<String, Entry>> leastRecentlyUsed = new ArrayList<>(entries.entrySet());
+            leastRecentlyUsed.sort(Comparator.comparingLong(mapEntry -> mapEntry.getValue().lastAccess().get()));
+            for (Map.Entry<String, Entry> mapEntry : leastRecentlyUsed.subList(0, excess)) {
+                if (remove(mapEntry.getKey(), mapEntry.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private boolean remove(String email, Entry entry) {
+        if (!entries.remove(email, entry)) {
+            return false;
+        }
+        if (entry.userId() != null) {
+            emailsByUserId.remove(entry.userId(), email);
+        }
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent userChangedEvent) {
+        version.incrementAndGet();
+        String email = emailsByUserId.get(userChangedEvent.userId());
+        Entry entry = email == null ? null : entries.get(email);
+        if (entry != null && Objects.equals(entry.userId(), userChangedEvent.userId()) &&
+            remove(email, entry)) {
+            invalidations.increment();
+            log.debug("Evicted identity of User id = {}", userChangedEvent.userId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent referenceDataChangedEvent) {
+        Class<?> type = referenceDataChangedEvent.type();
+        if (type != Group.class && type != Role.class && type != Authority.class) {
+            return;
+        }
+        version.incrementAndGet();
+        invalidations.add(entries.size());
+        entries.clear();
+        emailsByUserId.clear();
+        log.debug("Evicted all identities after {} change", type.getSimpleName());
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(NAME, entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum(),
+            invalidations.sum());
+    }
+
+    /**
+     * @param lastAccess access tick of the last hit, the trim drops the lowest ones.
+     */
+    private record Entry(UserIdentity userIdentity, long loadedAt, AtomicLong lastAccess) {
+
+        Long userId() {
+            return userIdentity == null ? null : userIdentity.userId();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.university.schedule.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BulkImportConfig {
+
+    /**
+     * Hashes the passwords of imported Users, one thread per core by default. Kept apart from the login pool so an
+     * import neither fills its queue nor delays logins beyond sharing the cores.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bulkImportExecutor(@Value("${imports.hashThreads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("bulk-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Runs the queued ImportJobs, one at a time by default. An import waits for the hashing pool, so it must not run
+     * on bulkImportExecutor itself.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importJobExecutor(@Value("${imports.jobs.poolSize:1}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("import-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.university.schedule.config;
+
+import com.university.schedule.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * BCrypt pool, one thread per core by default. A full queue rejects new logins instead of blocking request
+     * threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordEncoderExecutor(@Value("${security.password.threads:0}") int threads,
+                                                          @Value("${security.password.queueCapacity:64}")
+                                                          int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-encoder-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(
+        @Qualifier("passwordEncoderExecutor") ThreadPoolTaskExecutor passwordEncoderExecutor,
+        @Value("${security.password.bcryptStrength:10}") int bcryptStrength,
+        @Value("${security.password.timeoutMillis:5000}") long timeoutMillis) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+            passwordEncoderExecutor.getThreadPoolExecutor(), timeoutMillis);
+    }
+}
@@ -0,0 +1,24 @@
+package com.university.schedule.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RecordCountConfig {
+
+    /**
+     * Single thread recounting the totals of the records listings, so a COUNT(*) never runs on a request thread
+     * once a total is cached.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recordCountExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("record-count-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.university.schedule.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class ScheduleGenerationJobConfig {
+
+    /**
+     * Dedicated executor for schedule generation jobs, so long generations never run on request threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor scheduleGenerationJobExecutor(
+        @Value("${schedule.generation.jobs.poolSize:1}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("schedule-generation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
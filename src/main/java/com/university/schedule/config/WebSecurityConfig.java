@@ -1,11 +1,20 @@
 package com.university.schedule.config;
 
+import com.university.schedule.dto.UserIdentity;
 import com.university.schedule.handler.CustomAdminAuthenticationSuccessHandler;
+import com.university.schedule.handler.CustomAuthenticationFailureHandler;
 import com.university.schedule.handler.CustomLogoutSuccessHandler;
 import com.university.schedule.handler.CustomUserAuthenticationSuccessHandler;
+import com.university.schedule.handler.IdentityTokenAuthenticationSuccessHandler;
+import com.university.schedule.security.IdentityTokenFilter;
+import com.university.schedule.security.IdentityTokenService;
 import com.university.schedule.service.AdminDetailsService;
+import com.university.schedule.service.DefaultUserDetailsPasswordService;
 import com.university.schedule.service.DefaultUserDetailsService;
+import com.university.schedule.service.UserIdentityService;
+import com.university.schedule.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -15,10 +24,12 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -32,11 +43,17 @@ public class WebSecurityConfig {
     private final AdminDetailsService adminDetailsService;
     private final CustomUserAuthenticationSuccessHandler customUserAuthenticationSuccessHandler;
     private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
+    private final PasswordEncoder passwordEncoder;
+    private final DefaultUserDetailsPasswordService defaultUserDetailsPasswordService;
+    private final IdentityTokenService identityTokenService;
+    private final UserIdentityService userIdentityService;
+    private final UserService userService;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    @Value("${security.password.rehashOnLogin:false}")
+    private boolean rehashOnLogin;
+
+    @Value("${security.token.enabled:false}")
+    private boolean tokenEnabled;
 
     @Bean
     public AuthenticationSuccessHandler adminAuthenticationSuccessHandler() {
@@ -47,7 +64,10 @@ public class WebSecurityConfig {
     public DaoAuthenticationProvider userAuthenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(defaultUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        if (rehashOnLogin) {
+            authProvider.setUserDetailsPasswordService(defaultUserDetailsPasswordService);
+        }
 
         return authProvider;
     }
@@ -56,7 +76,10 @@ public class WebSecurityConfig {
     public DaoAuthenticationProvider adminAuthenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(adminDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        if (rehashOnLogin) {
+            authProvider.setUserDetailsPasswordService(defaultUserDetailsPasswordService);
+        }
 
         return authProvider;
     }
@@ -65,26 +88,64 @@ public class WebSecurityConfig {
     @Bean
     @Order(2)
     public SecurityFilterChain userFilterChain(HttpSecurity http) throws Exception {
-        return http.csrf(AbstractHttpConfigurer::disable).authenticationProvider(userAuthenticationProvider())
+        http.csrf(AbstractHttpConfigurer::disable).authenticationProvider(userAuthenticationProvider())
             .authorizeHttpRequests(
                 authorizeRequests -> authorizeRequests.requestMatchers("/css/**", "/js/**", "/webjars/**", "/styles/**",
                         "/assets/**").permitAll().requestMatchers("/admin/login").permitAll()
                     .requestMatchers("/user/register").permitAll().anyRequest().authenticated()).securityMatcher("/**")
             .formLogin(
                 login -> login.loginPage("/user/login").usernameParameter("email").loginProcessingUrl("/user/login")
-                    .successHandler(customUserAuthenticationSuccessHandler).permitAll())
-            .logout(logout -> logout.logoutUrl("/logout").logoutSuccessHandler(customLogoutSuccessHandler)).build();
+                    .successHandler(getSuccessHandler(customUserAuthenticationSuccessHandler))
+                    .failureHandler(new CustomAuthenticationFailureHandler("/user/login?error")).permitAll())
+            .logout(logout -> logout.logoutUrl("/logout").logoutSuccessHandler(customLogoutSuccessHandler)
+                .addLogoutHandler((request, response, authentication) -> revokeTokens(authentication))
+                .deleteCookies(IdentityTokenService.COOKIE_NAME));
+        return configureTokenMode(http).build();
     }
 
     @Bean
     @Order(1)
     public SecurityFilterChain adminFilterChain(HttpSecurity http) throws Exception {
-        return http.csrf(AbstractHttpConfigurer::disable).authenticationProvider(adminAuthenticationProvider())
+        http.csrf(AbstractHttpConfigurer::disable).authenticationProvider(adminAuthenticationProvider())
             .authorizeHttpRequests(
                 authorizeRequests -> authorizeRequests.requestMatchers("/css/**", "/js/**", "/webjars/**", "/styles/**",
                     "/assets/**").permitAll().requestMatchers("/admin/**").hasRole("ADMIN"))
             .securityMatcher("/admin/**").formLogin(
                 login -> login.loginPage("/admin/login").usernameParameter("email").loginProcessingUrl("/admin/login")
-                    .successHandler(adminAuthenticationSuccessHandler()).permitAll()).build();
+                    .successHandler(getSuccessHandler(adminAuthenticationSuccessHandler()))
+                    .failureHandler(new CustomAuthenticationFailureHandler("/admin/login?error")).permitAll());
+        return configureTokenMode(http).build();
+    }
+
+    /**
+     * Token mode (security.token.enabled): no HTTP session is created, every request is authenticated from the
+     * signed identity cookie, so any instance can serve it. The filter runs before the LogoutFilter, so a logout
+     * knows the User whose tokens it revokes.
+     */
+    private HttpSecurity configureTokenMode(HttpSecurity http) throws Exception {
+        if (!tokenEnabled) {
+            return http;
+        }
+        return http.sessionManagement(
+                sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new IdentityTokenFilter(identityTokenService, userIdentityService), LogoutFilter.class);
+    }
+
+    /**
+     * Token mode: a deleted cookie could still be replayed until it expires, so logout also increments the token
+     * version of the User, which revokes every token issued to it.
+     */
+    private void revokeTokens(Authentication authentication) {
+        if (tokenEnabled && authentication != null && authentication.getPrincipal() instanceof UserIdentity identity) {
+            userService.revokeTokens(identity.userId());
+        }
+    }
+
+    private AuthenticationSuccessHandler getSuccessHandler(AuthenticationSuccessHandler authenticationSuccessHandler) {
+        if (!tokenEnabled) {
+            return authenticationSuccessHandler;
+        }
+        return new IdentityTokenAuthenticationSuccessHandler(identityTokenService, userIdentityService,
+            authenticationSuccessHandler);
     }
 }
@@ -1,6 +1,9 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.BuildingDTO;
+import com.university.schedule.model.Building;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.BuildingService;
 import com.university.schedule.utility.PaginationSortingUtility;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -26,16 +30,27 @@ public class BuildingRecordsController {
     private static final String UPDATE_FORM_TEMPLATE = "buildingsUpdateForm";
     private static final String INSERT_FORM_TEMPLATE = "buildingsInsertForm";
     private final BuildingService buildingService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_BUILDINGS")
     @GetMapping("/buildings")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<BuildingDTO> buildings = buildingService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<BuildingDTO> buildings;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            buildings = buildingService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<BuildingDTO> window = buildingService.scrollAsDTO(keysetPageRequest);
+            buildings = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", buildings);
+        model.addAttribute("totalCount", recordCountCache.get(Building.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -0,0 +1,72 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk import of users, groups, courses and enrollments from a CSV or JSON file, see {@link ImportType} for the
+ * columns. The upload is accepted as an ImportJob (202 with the job id) and imported in the background, the job
+ * resource shows its status and, once completed, the per-row report.
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/admin/import")
+public class BulkImportController {
+
+    private final ImportJobService importJobService;
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/{type}")
+    public ResponseEntity<Map<String, Long>> importFile(@PathVariable String type,
+                                                        @RequestParam("file") MultipartFile file) throws IOException {
+        ImportType importType = ImportType.of(type);
+        Long id;
+        try (InputStream inputStream = file.getInputStream()) {
+            id = importJobService.submit(importType, file.getOriginalFilename(), inputStream);
+        }
+        return ResponseEntity.accepted().location(
+                ServletUriComponentsBuilder.fromCurrentContextPath().path("/admin/import/jobs/{id}").build(id))
+            .body(Map.of("id", id));
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/jobs")
+    public List<ImportJobDTO> getAllJobs() {
+        return importJobService.findAllAsDTO();
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/jobs/{id}")
+    public ImportJobDTO getJobById(@PathVariable Long id) {
+        return importJobService.findByIdAsDTO(id);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleJobNotFoundException(JobNotFoundException jobNotFoundException) {
+        log.info(jobNotFoundException.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", jobNotFoundException.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<Map<String, String>> handleServiceException(ServiceException serviceException) {
+        log.info(serviceException.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", serviceException.getMessage()));
+    }
+}
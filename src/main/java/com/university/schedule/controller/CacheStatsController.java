@@ -0,0 +1,49 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.cache.RecordCountCache;
+import com.university.schedule.cache.ReferenceDataCache;
+import com.university.schedule.cache.RoleAuthoritiesCache;
+import com.university.schedule.cache.ScheduleWeekCache;
+import com.university.schedule.cache.UserIdentityCache;
+import com.university.schedule.dto.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/admin/caches")
+public class CacheStatsController {
+
+    private final ScheduleWeekCache scheduleWeekCache;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final RecordCountCache recordCountCache;
+
+    private final RoleAuthoritiesCache roleAuthoritiesCache;
+
+    private final UserIdentityCache userIdentityCache;
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping
+    public List<CacheStats> getAll() {
+        return List.of(scheduleWeekCache.getStats(), referenceDataCache.getStats(), recordCountCache.getStats(),
+            roleAuthoritiesCache.getStats(), userIdentityCache.getStats());
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/" + ScheduleWeekCache.NAME + "/invalidate")
+    public ResponseEntity<Void> invalidateScheduleWeeks() {
+        scheduleWeekCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
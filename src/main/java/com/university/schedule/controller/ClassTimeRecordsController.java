@@ -1,6 +1,9 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.ClassTimeDTO;
+import com.university.schedule.model.ClassTime;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.ClassTimeService;
 import com.university.schedule.utility.PaginationSortingUtility;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,17 +31,27 @@ public class ClassTimeRecordsController {
 
     private static final String INSERT_FORM_TEMPLATE = "classtimesInsertForm";
     private final ClassTimeService classTimeService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_CLASSTIMES")
     @GetMapping("/classtimes")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<ClassTimeDTO> classTimeDTOs = classTimeService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<ClassTimeDTO> classTimeDTOs;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            classTimeDTOs = classTimeService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<ClassTimeDTO> window = classTimeService.scrollAsDTO(keysetPageRequest);
+            classTimeDTOs = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", classTimeDTOs);
+        model.addAttribute("totalCount", recordCountCache.get(ClassTime.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
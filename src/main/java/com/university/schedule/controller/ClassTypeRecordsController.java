@@ -1,6 +1,9 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.ClassTypeDTO;
+import com.university.schedule.model.ClassType;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.ClassTypeService;
 import com.university.schedule.utility.PaginationSortingUtility;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,16 +31,27 @@ public class ClassTypeRecordsController {
 
     private static final String INSERT_FORM_TEMPLATE = "classtypesInsertForm";
     private final ClassTypeService classTypeService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_CLASSTYPES")
     @GetMapping("/classtypes")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<ClassTypeDTO> classTypeDTOList = classTypeService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<ClassTypeDTO> classTypeDTOList;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            classTypeDTOList = classTypeService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<ClassTypeDTO> window = classTypeService.scrollAsDTO(keysetPageRequest);
+            classTypeDTOList = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", classTypeDTOList);
+        model.addAttribute("totalCount", recordCountCache.get(ClassType.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
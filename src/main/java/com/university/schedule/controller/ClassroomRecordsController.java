@@ -1,7 +1,10 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.BuildingDTO;
 import com.university.schedule.dto.ClassroomDTO;
+import com.university.schedule.model.Classroom;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.BuildingService;
 import com.university.schedule.service.ClassroomService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -10,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -29,16 +33,27 @@ public class ClassroomRecordsController {
     private static final String INSERT_FORM_TEMPLATE = "classroomsInsertForm";
     private final ClassroomService classroomService;
     private final BuildingService buildingService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_CLASSROOMS")
     @GetMapping("/classrooms")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<ClassroomDTO> classroomDTOs = classroomService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<ClassroomDTO> classroomDTOs;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            classroomDTOs = classroomService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<ClassroomDTO> window = classroomService.scrollAsDTO(keysetPageRequest);
+            classroomDTOs = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", classroomDTOs);
+        model.addAttribute("totalCount", recordCountCache.get(Classroom.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -1,6 +1,7 @@
 package com.university.schedule.controller;
 
 import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.CourseService;
 import com.university.schedule.utility.PaginationSortingUtility;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -32,9 +34,18 @@ public class CourseRecordsController {
     @GetMapping("/courses")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort, Principal principal) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO(principal.getName(), pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort, Principal principal,
+                         @RequestParam(required = false) String after) {
+        List<CourseDTO> courseDTOList;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            courseDTOList = courseService.findAllAsDTO(principal.getName(), pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<CourseDTO> window = courseService.scrollAsDTO(principal.getName(), keysetPageRequest);
+            courseDTOList = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", courseDTOList);
         model.addAttribute("currentLimit", limit);
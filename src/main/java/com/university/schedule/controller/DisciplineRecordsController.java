@@ -1,6 +1,9 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.DisciplineDTO;
+import com.university.schedule.model.Discipline;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.DisciplineService;
 import com.university.schedule.utility.PaginationSortingUtility;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +11,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,17 +31,27 @@ public class DisciplineRecordsController {
 
     private static final String INSERT_FORM_TEMPLATE = "disciplinesInsertForm";
     private final DisciplineService disciplineService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_DISCIPLINES")
     @GetMapping("/disciplines")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<DisciplineDTO> disciplines = disciplineService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<DisciplineDTO> disciplines;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            disciplines = disciplineService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<DisciplineDTO> window = disciplineService.scrollAsDTO(keysetPageRequest);
+            disciplines = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", disciplines);
+        model.addAttribute("totalCount", recordCountCache.get(Discipline.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -1,9 +1,12 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.CourseDTO;
 import com.university.schedule.dto.DisciplineDTO;
 import com.university.schedule.dto.GroupDTO;
-import com.university.schedule.service.CourseService;
+import com.university.schedule.model.Group;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.DisciplineService;
 import com.university.schedule.service.GroupService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -12,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -32,17 +36,28 @@ public class GroupRecordsController {
     private static final String INSERT_FORM_TEMPLATE = "groupsInsertForm";
     private final GroupService groupService;
     private final DisciplineService disciplineService;
-    private final CourseService courseService;
+    private final ReferenceDataCache referenceDataCache;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_GROUPS")
     @GetMapping("/groups")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<GroupDTO> groupDTOs = groupService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<GroupDTO> groupDTOs;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            groupDTOs = groupService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<GroupDTO> window = groupService.scrollAsDTO(keysetPageRequest);
+            groupDTOs = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", groupDTOs);
+        model.addAttribute("totalCount", recordCountCache.get(Group.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -70,7 +85,7 @@ public class GroupRecordsController {
     public String getUpdateForm(@PathVariable(name = "id") Long id, Model model, GroupDTO groupDTO) {
         GroupDTO groupDTOToDisplay = groupService.findByIdAsDTO(id);
         List<DisciplineDTO> disciplines = disciplineService.findAllAsDTO();
-        List<CourseDTO> courseDTOListToSelect = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOListToSelect = referenceDataCache.getCourseDTOS();
         model.addAttribute("entity", groupDTOToDisplay);
         model.addAttribute("disciplineDTOList", disciplines);
         model.addAttribute("courseDTOList", courseDTOListToSelect);
@@ -91,7 +106,7 @@ public class GroupRecordsController {
 
         GroupDTO groupDTOToDisplay = groupService.findByIdAsDTO(id);
         List<DisciplineDTO> disciplines = disciplineService.findAllAsDTO();
-        List<CourseDTO> courseDTOListToSelect = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOListToSelect = referenceDataCache.getCourseDTOS();
         model.addAttribute("entity", groupDTOToDisplay);
         model.addAttribute("disciplineDTOList", disciplines);
         model.addAttribute("courseDTOList", courseDTOListToSelect);
@@ -103,7 +118,7 @@ public class GroupRecordsController {
     @GetMapping("/groups/insert")
     public String getInsertForm(Model model, GroupDTO groupDTO) {
         List<DisciplineDTO> disciplines = disciplineService.findAllAsDTO();
-        List<CourseDTO> courseDTOListToSelect = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOListToSelect = referenceDataCache.getCourseDTOS();
         model.addAttribute("disciplineDTOList", disciplines);
         model.addAttribute("courseDTOList", courseDTOListToSelect);
         return INSERT_FORM_TEMPLATE;
@@ -121,7 +136,7 @@ public class GroupRecordsController {
         }
 
         List<DisciplineDTO> disciplines = disciplineService.findAllAsDTO();
-        List<CourseDTO> courseDTOListToSelect = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOListToSelect = referenceDataCache.getCourseDTOS();
         model.addAttribute("disciplineDTOList", disciplines);
         model.addAttribute("courseDTOList", courseDTOListToSelect);
 
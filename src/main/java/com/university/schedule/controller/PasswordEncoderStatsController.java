@@ -0,0 +1,23 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.dto.PasswordEncoderStats;
+import com.university.schedule.security.BoundedPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/password-encoder")
+public class PasswordEncoderStatsController {
+
+    private final BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping
+    public PasswordEncoderStats getStats() {
+        return boundedPasswordEncoder.getStats();
+    }
+}
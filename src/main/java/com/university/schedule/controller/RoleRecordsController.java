@@ -1,7 +1,10 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.AuthorityDTO;
 import com.university.schedule.dto.RoleDTO;
+import com.university.schedule.model.Role;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.AuthorityService;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -10,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,16 +34,27 @@ public class RoleRecordsController {
     private static final String INSERT_FORM_TEMPLATE = "rolesInsertForm";
     private final RoleService roleService;
     private final AuthorityService authorityService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_ROLES")
     @GetMapping("/roles")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<RoleDTO> roleDTOS = roleService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<RoleDTO> roleDTOS;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            roleDTOS = roleService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<RoleDTO> window = roleService.scrollAsDTO(keysetPageRequest);
+            roleDTOS = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", roleDTOS);
+        model.addAttribute("totalCount", recordCountCache.get(Role.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -0,0 +1,116 @@
+package com.university.schedule.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.university.schedule.cache.ScheduleVersion;
+import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.service.ScheduleFilterItemService;
+import com.university.schedule.service.ScheduledClassService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Machine-readable schedule feed for integrations. The classes of the range are written to the response while they
+ * are read, so memory use doesn`t depend on the size of the range.
+ *
+ * <p>The ETag combines the {@link ScheduleVersion} with the resolved filter, a client repeating the request with
+ * If-None-Match gets 304 Not Modified until the schedule changes. The filter is resolved once here and passed on
+ * resolved to the service.
+ */
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduleApiController {
+
+    private final ScheduledClassService scheduledClassService;
+
+    private final ScheduleFilterItemService scheduleFilterItemService;
+
+    private final ScheduleVersion scheduleVersion;
+
+    private final ObjectMapper objectMapper;
+
+    @Secured("VIEW_SCHEDULE")
+    @GetMapping(value = "/api/schedule", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getSchedule(Principal principal,
+                                                             ScheduleFilterItem scheduleFilterItem,
+                                                             WebRequest webRequest) {
+        scheduleFilterItem.setEmail(principal.getName());
+        scheduleFilterItemService.processRawItem(scheduleFilterItem);
+
+        long version = scheduleVersion.get();
+        String eTag = getETag(version, scheduleFilterItem);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter objectWriter = objectMapper.writerFor(ScheduledClassDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeNumberField("version", version);
+                jsonGenerator.writeStringField("startDate", scheduleFilterItem.getStartDate().toString());
+                jsonGenerator.writeStringField("endDate", scheduleFilterItem.getEndDate().toString());
+                jsonGenerator.writeArrayFieldStart("classes");
+                int count = scheduledClassService.streamAsDTOByScheduleFilterItem(scheduleFilterItem,
+                    scheduledClassDTO -> write(objectWriter, jsonGenerator, scheduledClassDTO));
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeNumberField("count", count);
+                jsonGenerator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Strong ETag: the version and a SHA-256 digest of the canonical form of the resolved filter, the Group ids are
+     * sorted so their order in the request doesn`t produce a different tag.
+     */
+    private static String getETag(long version, ScheduleFilterItem scheduleFilterItem) {
+        List<Long> groupIdList = scheduleFilterItem.getGroupIdList() == null ? List.of() :
+            scheduleFilterItem.getGroupIdList().stream().sorted().toList();
+        String canonicalFilter = String.join("|", String.valueOf(scheduleFilterItem.getTeacherId()),
+            groupIdList.toString(), String.valueOf(scheduleFilterItem.getStartDate()),
+            String.valueOf(scheduleFilterItem.getEndDate()), String.valueOf(scheduleFilterItem.getClassTypeId()));
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(canonicalFilter.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        return "\"" + version + "-" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+    }
+
+    private static void write(ObjectWriter objectWriter, JsonGenerator jsonGenerator,
+                              ScheduledClassDTO scheduledClassDTO) {
+        try {
+            objectWriter.writeValue(jsonGenerator, scheduledClassDTO);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.service.ScheduleGenerationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/admin/generation/jobs")
+public class ScheduleGenerationJobController {
+
+    private final ScheduleGenerationJobService scheduleGenerationJobService;
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping
+    public List<ScheduleGenerationJobDTO> getAll() {
+        return scheduleGenerationJobService.findAllAsDTO();
+    }
+
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/{id}")
+    public ScheduleGenerationJobDTO getById(@PathVariable Long id) {
+        return scheduleGenerationJobService.findByIdAsDTO(id);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Void> cancel(@PathVariable Long id) {
+        scheduleGenerationJobService.cancel(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<Void> resume(@PathVariable Long id) {
+        scheduleGenerationJobService.resume(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleJobNotFoundException(JobNotFoundException jobNotFoundException) {
+        log.info(jobNotFoundException.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", jobNotFoundException.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<Map<String, String>> handleServiceException(ServiceException serviceException) {
+        log.info(serviceException.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", serviceException.getMessage()));
+    }
+}
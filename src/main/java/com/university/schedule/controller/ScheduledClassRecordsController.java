@@ -1,6 +1,10 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.*;
+import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.*;
 import com.university.schedule.utility.DateUtils;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -9,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -29,23 +34,29 @@ public class ScheduledClassRecordsController {
 
     private static final String INSERT_FORM_TEMPLATE = "classesInsertForm";
 
-    private final ClassroomService classroomService;
-    private final ClassTimeService classTimeService;
     private final ScheduledClassService scheduledClassService;
-    private final CourseService courseService;
-    private final TeacherService teacherService;
-    private final ClassTypeService classTypeService;
-    private final GroupService groupService;
+    private final ReferenceDataCache referenceDataCache;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_CLASSES")
     @GetMapping("/classes")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<ScheduledClassDTO> scheduledClassDTOs = scheduledClassService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<ScheduledClassDTO> scheduledClassDTOs;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            scheduledClassDTOs = scheduledClassService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<ScheduledClassDTO> window = scheduledClassService.scrollAsDTO(keysetPageRequest);
+            scheduledClassDTOs = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", scheduledClassDTOs);
+        model.addAttribute("totalCount", recordCountCache.get(ScheduledClass.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -61,24 +72,7 @@ public class ScheduledClassRecordsController {
 
         scheduleFilterItem = ScheduleFilterItem.builder().email(principal.getName()).build();
 
-        List<ScheduledClassDTO> scheduledClassDTOS =
-            scheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem);
-
-        List<TeacherDTO> teacherDTOS = teacherService.findAllAsDTO();
-        List<GroupDTO> groupDTOS = groupService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOS = classTypeService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOS = classTimeService.findAllAsDTO();
-        List<LocalDate> filteredDates =
-            DateUtils.getDatesBetween(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate());
-
-        model.addAttribute("filteredDates", filteredDates);
-        model.addAttribute("scheduledClassDTOS", scheduledClassDTOS);
-        model.addAttribute("teacherDTOS", teacherDTOS);
-        model.addAttribute("groupDTOS", groupDTOS);
-        model.addAttribute("classTypeDTOS", classTypeDTOS);
-        model.addAttribute("classTimeDTOS", classTimeDTOS);
-
-        model.addAttribute("scheduleFilterItem", scheduleFilterItem);
+        addScheduleAttributes(model, scheduleFilterItem);
 
         return "schedule";
     }
@@ -90,24 +84,7 @@ public class ScheduledClassRecordsController {
 
         scheduleFilterItem.setEmail(principal.getName());
 
-        List<ScheduledClassDTO> scheduledClassDTOS =
-            scheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem);
-
-        List<TeacherDTO> teacherDTOS = teacherService.findAllAsDTO();
-        List<GroupDTO> groupDTOS = groupService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOS = classTypeService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOS = classTimeService.findAllAsDTO();
-        List<LocalDate> filteredDates =
-            DateUtils.getDatesBetween(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate());
-
-        model.addAttribute("filteredDates", filteredDates);
-        model.addAttribute("scheduledClassDTOS", scheduledClassDTOS);
-        model.addAttribute("teacherDTOS", teacherDTOS);
-        model.addAttribute("groupDTOS", groupDTOS);
-        model.addAttribute("classTypeDTOS", classTypeDTOS);
-        model.addAttribute("classTimeDTOS", classTimeDTOS);
-
-        model.addAttribute("scheduleFilterItem", scheduleFilterItem);
+        addScheduleAttributes(model, scheduleFilterItem);
         model.addAttribute("filtered", true);
 
         return "schedule";
@@ -132,12 +109,12 @@ public class ScheduledClassRecordsController {
     public String getUpdateForm(@PathVariable(name = "id") Long id, Model model, ScheduledClassDTO scheduledClassDTO) {
         ScheduledClassDTO scheduledClassDTOToDisplay = scheduledClassService.findByIdAsDTO(id);
 
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
-        List<TeacherDTO> teacherDTOList = teacherService.findAllAsDTO();
-        List<ClassroomDTO> classroomDTOList = classroomService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOList = classTimeService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOList = classTypeService.findAllAsDTO();
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
+        List<TeacherDTO> teacherDTOList = referenceDataCache.getTeacherDTOS();
+        List<ClassroomDTO> classroomDTOList = referenceDataCache.getClassroomDTOS();
+        List<ClassTimeDTO> classTimeDTOList = referenceDataCache.getClassTimeDTOS();
+        List<ClassTypeDTO> classTypeDTOList = referenceDataCache.getClassTypeDTOS();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
 
         model.addAttribute("entity", scheduledClassDTOToDisplay);
         model.addAttribute("courseDTOList", courseDTOList);
@@ -164,12 +141,12 @@ public class ScheduledClassRecordsController {
 
         ScheduledClassDTO scheduledClassDTOToDisplay = scheduledClassService.findByIdAsDTO(id);
 
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
-        List<TeacherDTO> teacherDTOList = teacherService.findAllAsDTO();
-        List<ClassroomDTO> classroomDTOList = classroomService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOList = classTimeService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOList = classTypeService.findAllAsDTO();
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
+        List<TeacherDTO> teacherDTOList = referenceDataCache.getTeacherDTOS();
+        List<ClassroomDTO> classroomDTOList = referenceDataCache.getClassroomDTOS();
+        List<ClassTimeDTO> classTimeDTOList = referenceDataCache.getClassTimeDTOS();
+        List<ClassTypeDTO> classTypeDTOList = referenceDataCache.getClassTypeDTOS();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
 
         model.addAttribute("entity", scheduledClassDTOToDisplay);
         model.addAttribute("courseDTOList", courseDTOList);
@@ -185,12 +162,12 @@ public class ScheduledClassRecordsController {
     @Secured("INSERT_CLASSES")
     @GetMapping("/classes/insert")
     public String getInsertForm(Model model, ScheduledClassDTO scheduledClassDTO) {
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
-        List<TeacherDTO> teacherDTOList = teacherService.findAllAsDTO();
-        List<ClassroomDTO> classroomDTOList = classroomService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOList = classTimeService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOList = classTypeService.findAllAsDTO();
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
+        List<TeacherDTO> teacherDTOList = referenceDataCache.getTeacherDTOS();
+        List<ClassroomDTO> classroomDTOList = referenceDataCache.getClassroomDTOS();
+        List<ClassTimeDTO> classTimeDTOList = referenceDataCache.getClassTimeDTOS();
+        List<ClassTypeDTO> classTypeDTOList = referenceDataCache.getClassTypeDTOS();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
 
         model.addAttribute("courseDTOList", courseDTOList);
         model.addAttribute("teacherDTOList", teacherDTOList);
@@ -212,12 +189,12 @@ public class ScheduledClassRecordsController {
             return "redirect:/classes";
         }
 
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
-        List<TeacherDTO> teacherDTOList = teacherService.findAllAsDTO();
-        List<ClassroomDTO> classroomDTOList = classroomService.findAllAsDTO();
-        List<ClassTimeDTO> classTimeDTOList = classTimeService.findAllAsDTO();
-        List<ClassTypeDTO> classTypeDTOList = classTypeService.findAllAsDTO();
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
+        List<TeacherDTO> teacherDTOList = referenceDataCache.getTeacherDTOS();
+        List<ClassroomDTO> classroomDTOList = referenceDataCache.getClassroomDTOS();
+        List<ClassTimeDTO> classTimeDTOList = referenceDataCache.getClassTimeDTOS();
+        List<ClassTypeDTO> classTypeDTOList = referenceDataCache.getClassTypeDTOS();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
 
         model.addAttribute("courseDTOList", courseDTOList);
         model.addAttribute("teacherDTOList", teacherDTOList);
@@ -229,4 +206,24 @@ public class ScheduledClassRecordsController {
         return INSERT_FORM_TEMPLATE;
 
     }
+
+    private void addScheduleAttributes(Model model, ScheduleFilterItem scheduleFilterItem) {
+        List<ScheduledClassDTO> scheduledClassDTOS =
+            scheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem);
+
+        List<TeacherDTO> teacherDTOS = referenceDataCache.getTeacherDTOS();
+        List<GroupDTO> groupDTOS = referenceDataCache.getGroupDTOS();
+        List<ClassTypeDTO> classTypeDTOS = referenceDataCache.getClassTypeDTOS();
+        List<ClassTimeDTO> classTimeDTOS = referenceDataCache.getClassTimeDTOS();
+        List<LocalDate> filteredDates =
+            DateUtils.getDatesBetween(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate());
+
+        model.addAttribute("scheduleGrid", ScheduleGrid.of(filteredDates, classTimeDTOS, scheduledClassDTOS));
+        model.addAttribute("teacherDTOS", teacherDTOS);
+        model.addAttribute("groupDTOS", groupDTOS);
+        model.addAttribute("classTypeDTOS", classTypeDTOS);
+        model.addAttribute("classTimeDTOS", classTimeDTOS);
+
+        model.addAttribute("scheduleFilterItem", scheduleFilterItem);
+    }
 }
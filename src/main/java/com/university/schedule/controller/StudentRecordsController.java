@@ -1,9 +1,10 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.GroupDTO;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.StudentDTO;
-import com.university.schedule.service.GroupService;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.service.StudentService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -12,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -30,7 +32,7 @@ public class StudentRecordsController {
 
     private static final String UPDATE_FORM_TEMPLATE = "studentsUpdateForm";
     private final StudentService studentService;
-    private final GroupService groupService;
+    private final ReferenceDataCache referenceDataCache;
     private final RoleService roleService;
 
 
@@ -38,9 +40,18 @@ public class StudentRecordsController {
     @GetMapping("/students")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort, Principal principal) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<StudentDTO> studentDTOList = studentService.findAllAsDTO(principal.getName(), pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort, Principal principal,
+                         @RequestParam(required = false) String after) {
+        List<StudentDTO> studentDTOList;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            studentDTOList = studentService.findAllAsDTO(principal.getName(), pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<StudentDTO> window = studentService.scrollAsDTO(principal.getName(), keysetPageRequest);
+            studentDTOList = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", studentDTOList);
         model.addAttribute("currentLimit", limit);
@@ -69,7 +80,7 @@ public class StudentRecordsController {
     @GetMapping("/students/update/{id}")
     public String getUpdateForm(@PathVariable(name = "id") Long id, Model model, StudentDTO studentDTO) {
         StudentDTO studentDTOToDisplay = studentService.findByIdAsDTO(id);
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
         List<RoleDTO> roleDTOList = roleService.findAllAsDTO();
         model.addAttribute("entity", studentDTOToDisplay);
         model.addAttribute("groupDTOList", groupDTOList);
@@ -92,7 +103,7 @@ public class StudentRecordsController {
         }
 
         StudentDTO studentDTOToDisplay = studentService.findByIdAsDTO(id);
-        List<GroupDTO> groupDTOList = groupService.findAllAsDTO();
+        List<GroupDTO> groupDTOList = referenceDataCache.getGroupDTOS();
         List<RoleDTO> roleDTOList = roleService.findAllAsDTO();
         model.addAttribute("entity", studentDTOToDisplay);
         model.addAttribute("groupDTOList", groupDTOList);
@@ -1,9 +1,12 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.CourseDTO;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.TeacherDTO;
-import com.university.schedule.service.CourseService;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.service.TeacherService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -12,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -33,18 +37,30 @@ public class TeacherRecordsController {
 
     private final RoleService roleService;
 
-    private final CourseService courseService;
+    private final ReferenceDataCache referenceDataCache;
+
+    private final RecordCountCache recordCountCache;
 
 
     @Secured("VIEW_TEACHERS")
     @GetMapping("/teachers")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<TeacherDTO> teacherDTOs = teacherService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<TeacherDTO> teacherDTOs;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            teacherDTOs = teacherService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<TeacherDTO> window = teacherService.scrollAsDTO(keysetPageRequest);
+            teacherDTOs = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", teacherDTOs);
+        model.addAttribute("totalCount", recordCountCache.get(Teacher.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
@@ -72,7 +88,7 @@ public class TeacherRecordsController {
     @GetMapping("/teachers/update/{id}")
     public String getUpdateForm(@PathVariable(name = "id") Long id, Model model, TeacherDTO teacherDTO) {
         TeacherDTO teacherToDisplay = teacherService.findByIdAsDTO(id);
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
         List<RoleDTO> roleDTOList = roleService.findAllAsDTO();
         model.addAttribute("entity", teacherToDisplay);
         model.addAttribute("courseDTOList", courseDTOList);
@@ -95,7 +111,7 @@ public class TeacherRecordsController {
         }
 
         TeacherDTO teacherToDisplay = teacherService.findByIdAsDTO(id);
-        List<CourseDTO> courseDTOList = courseService.findAllAsDTO();
+        List<CourseDTO> courseDTOList = referenceDataCache.getCourseDTOS();
         List<RoleDTO> roleDTOList = roleService.findAllAsDTO();
         model.addAttribute("entity", teacherToDisplay);
         model.addAttribute("courseDTOList", courseDTOList);
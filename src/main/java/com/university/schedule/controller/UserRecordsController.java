@@ -1,7 +1,10 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.UserDTO;
+import com.university.schedule.model.User;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.service.UserService;
 import com.university.schedule.utility.PaginationSortingUtility;
@@ -10,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -28,16 +32,27 @@ public class UserRecordsController {
     private static final String UPDATE_FORM_TEMPLATE = "usersUpdateForm";
     private final UserService userService;
     private final RoleService roleService;
+    private final RecordCountCache recordCountCache;
 
     @Secured("VIEW_USERS")
     @GetMapping("/users")
     public String getAll(Model model, @RequestParam(defaultValue = "100") int limit,
                          @RequestParam(defaultValue = "0") int offset,
-                         @RequestParam(defaultValue = "id,asc") String[] sort) {
-        Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
-        List<UserDTO> userDTOList = userService.findAllAsDTO(pageable);
+                         @RequestParam(defaultValue = "id,asc") String[] sort,
+                         @RequestParam(required = false) String after) {
+        List<UserDTO> userDTOList;
+        if (after == null) {
+            Pageable pageable = PaginationSortingUtility.getPageable(limit, offset, sort);
+            userDTOList = userService.findAllAsDTO(pageable);
+        } else {
+            KeysetPageRequest keysetPageRequest = PaginationSortingUtility.getKeysetPageRequest(limit, after, sort);
+            Window<UserDTO> window = userService.scrollAsDTO(keysetPageRequest);
+            userDTOList = window.getContent();
+            model.addAttribute("nextCursor", PaginationSortingUtility.getNextCursor(window));
+        }
 
         model.addAttribute("entities", userDTOList);
+        model.addAttribute("totalCount", recordCountCache.get(User.class));
         model.addAttribute("currentLimit", limit);
         model.addAttribute("currentOffset", offset);
         model.addAttribute("sortField", sort[0]);
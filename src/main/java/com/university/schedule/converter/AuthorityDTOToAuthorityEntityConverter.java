@@ -1,24 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.AuthorityMapper;
 import com.university.schedule.dto.AuthorityDTO;
 import com.university.schedule.model.Authority;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-
 @Component
 public class AuthorityDTOToAuthorityEntityConverter implements Converter<AuthorityDTO, Authority> {
 
-    private final ModelMapper modelMapper;
-
-
-    public AuthorityDTOToAuthorityEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final AuthorityMapper authorityMapper = Mappers.getMapper(AuthorityMapper.class);
 
     @Override
     public Authority convert(AuthorityDTO source) {
-        return modelMapper.map(source, Authority.class);
+        if (source == null) {
+            throw new IllegalArgumentException("AuthorityDTO is null");
+        }
+        return authorityMapper.toEntity(source);
     }
-}
\ No newline at end of file
+}
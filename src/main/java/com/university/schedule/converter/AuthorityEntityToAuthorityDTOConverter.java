@@ -1,25 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.AuthorityMapper;
 import com.university.schedule.dto.AuthorityDTO;
 import com.university.schedule.model.Authority;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AuthorityEntityToAuthorityDTOConverter implements Converter<Authority, AuthorityDTO> {
 
-    private final ModelMapper modelMapper;
-
-
-    public AuthorityEntityToAuthorityDTOConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final AuthorityMapper authorityMapper = Mappers.getMapper(AuthorityMapper.class);
 
     @Override
     public AuthorityDTO convert(Authority source) {
-        return modelMapper.map(source, AuthorityDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("Authority is null");
+        }
+        return authorityMapper.toDTO(source);
     }
 }
-
-
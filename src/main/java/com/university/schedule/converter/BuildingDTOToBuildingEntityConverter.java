@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.BuildingMapper;
 import com.university.schedule.dto.BuildingDTO;
 import com.university.schedule.model.Building;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class BuildingDTOToBuildingEntityConverter implements Converter<BuildingDTO, Building> {
 
-    private final ModelMapper modelMapper;
-
-
-    public BuildingDTOToBuildingEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final BuildingMapper buildingMapper = Mappers.getMapper(BuildingMapper.class);
 
     @Override
     public Building convert(BuildingDTO source) {
-        return modelMapper.map(source, Building.class);
+        if (source == null) {
+            throw new IllegalArgumentException("BuildingDTO is null");
+        }
+        return buildingMapper.toEntity(source);
     }
 }
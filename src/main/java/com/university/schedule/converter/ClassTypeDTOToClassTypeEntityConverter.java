@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.ClassTypeMapper;
 import com.university.schedule.dto.ClassTypeDTO;
 import com.university.schedule.model.ClassType;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ClassTypeDTOToClassTypeEntityConverter implements Converter<ClassTypeDTO, ClassType> {
 
-    private final ModelMapper modelMapper;
-
-
-    public ClassTypeDTOToClassTypeEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final ClassTypeMapper classTypeMapper = Mappers.getMapper(ClassTypeMapper.class);
 
     @Override
     public ClassType convert(ClassTypeDTO source) {
-        return modelMapper.map(source, ClassType.class);
+        if (source == null) {
+            throw new IllegalArgumentException("ClassTypeDTO is null");
+        }
+        return classTypeMapper.toEntity(source);
     }
 }
@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.ClassTypeMapper;
 import com.university.schedule.dto.ClassTypeDTO;
 import com.university.schedule.model.ClassType;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ClassTypeEntityToClassTypeDTOConverter implements Converter<ClassType, ClassTypeDTO> {
 
-    private final ModelMapper modelMapper;
-
-
-    public ClassTypeEntityToClassTypeDTOConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final ClassTypeMapper classTypeMapper = Mappers.getMapper(ClassTypeMapper.class);
 
     @Override
     public ClassTypeDTO convert(ClassType source) {
-        return modelMapper.map(source, ClassTypeDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("ClassType is null");
+        }
+        return classTypeMapper.toDTO(source);
     }
 }
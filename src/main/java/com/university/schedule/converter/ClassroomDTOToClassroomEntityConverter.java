@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.ClassroomMapper;
 import com.university.schedule.dto.ClassroomDTO;
 import com.university.schedule.model.Classroom;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ClassroomDTOToClassroomEntityConverter implements Converter<ClassroomDTO, Classroom> {
 
-    private final ModelMapper modelMapper;
-
-
-    public ClassroomDTOToClassroomEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final ClassroomMapper classroomMapper = Mappers.getMapper(ClassroomMapper.class);
 
     @Override
     public Classroom convert(ClassroomDTO source) {
-        return modelMapper.map(source, Classroom.class);
+        if (source == null) {
+            throw new IllegalArgumentException("ClassroomDTO is null");
+        }
+        return classroomMapper.toEntity(source);
     }
 }
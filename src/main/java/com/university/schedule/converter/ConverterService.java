@@ -2,18 +2,30 @@ package com.university.schedule.converter;
 
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Generic class, contains all Entity -> DTO and DTO -> entity converters implementations
+ *
+ * <p>Besides the GenericConversionService registration, every converter is indexed by its (source class, target
+ * class) pair, so {@link #convert(Object, Class)} and {@link #convertAll(List, Class)} call it directly, without
+ * TypeDescriptor resolution. Pairs that aren`t registered (for example a Hibernate proxy as source) are resolved
+ * once through the source class hierarchy and remembered.
  */
 @Service
 public class ConverterService extends GenericConversionService {
 
+    private final Map<ConvertiblePair, Converter<Object, Object>> directConverters = new ConcurrentHashMap<>();
+
     @Autowired
     private List<Converter<?, ?>> _converters;
 
@@ -21,4 +33,77 @@ public class ConverterService extends GenericConversionService {
     public void init() {
         _converters.forEach(this::addConverter);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addConverter(Converter<?, ?> converter) {
+        super.addConverter(converter);
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(converter.getClass(), Converter.class);
+        if (typeArguments != null) {
+            directConverters.put(new ConvertiblePair(typeArguments[0], typeArguments[1]),
+                (Converter<Object, Object>) converter);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object source, Class<T> targetType) {
+        if (source == null) {
+            return super.convert(null, targetType);
+        }
+        Converter<Object, Object> converter = findDirectConverter(source.getClass(), targetType);
+        if (converter == null) {
+            return super.convert(source, targetType);
+        }
+        return (T) converter.convert(source);
+    }
+
+    /**
+     * Converts every element of the list, the converter is resolved once per source class instead of once per
+     * element.
+     *
+     * @param sources    elements to convert, null elements are converted to null.
+     * @param targetType class of the converted elements.
+     * @return converted elements in the order of the sources.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> convertAll(List<?> sources, Class<T> targetType) {
+        if (sources == null) {
+            throw new IllegalArgumentException("Sources is null");
+        }
+        if (targetType == null) {
+            throw new IllegalArgumentException("TargetType is null");
+        }
+        List<T> converted = new ArrayList<>(sources.size());
+        Class<?> sourceType = null;
+        Converter<Object, Object> converter = null;
+        for (Object source : sources) {
+            if (source == null) {
+                converted.add(null);
+                continue;
+            }
+            if (source.getClass() != sourceType) {
+                sourceType = source.getClass();
+                converter = findDirectConverter(sourceType, targetType);
+            }
+            converted.add(converter == null ? super.convert(source, targetType) : (T) converter.convert(source));
+        }
+        return converted;
+    }
+
+    private Converter<Object, Object> findDirectConverter(Class<?> sourceType, Class<?> targetType) {
+        ConvertiblePair convertiblePair = new ConvertiblePair(sourceType, targetType);
+        Converter<Object, Object> converter = directConverters.get(convertiblePair);
+        if (converter != null) {
+            return converter;
+        }
+        for (Class<?> type = sourceType.getSuperclass(); type != null; type = type.getSuperclass()) {
+            converter = directConverters.get(new ConvertiblePair(type, targetType));
+            if (converter != null) {
+                directConverters.put(convertiblePair, converter);
+                return converter;
+            }
+        }
+        return null;
+    }
 }
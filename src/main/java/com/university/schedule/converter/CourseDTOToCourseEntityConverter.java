@@ -1,24 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.CourseMapper;
 import com.university.schedule.dto.CourseDTO;
 import com.university.schedule.model.Course;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-
 @Component
 public class CourseDTOToCourseEntityConverter implements Converter<CourseDTO, Course> {
 
-    private final ModelMapper modelMapper;
-
-
-    public CourseDTOToCourseEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final CourseMapper courseMapper = Mappers.getMapper(CourseMapper.class);
 
     @Override
     public Course convert(CourseDTO source) {
-        return modelMapper.map(source, Course.class);
+        if (source == null) {
+            throw new IllegalArgumentException("CourseDTO is null");
+        }
+        return courseMapper.toEntity(source);
     }
 }
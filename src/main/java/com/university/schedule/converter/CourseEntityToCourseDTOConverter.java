@@ -1,24 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.CourseMapper;
 import com.university.schedule.dto.CourseDTO;
 import com.university.schedule.model.Course;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-
 @Component
 public class CourseEntityToCourseDTOConverter implements Converter<Course, CourseDTO> {
 
-    private final ModelMapper modelMapper;
-
-
-    public CourseEntityToCourseDTOConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final CourseMapper courseMapper = Mappers.getMapper(CourseMapper.class);
 
     @Override
     public CourseDTO convert(Course source) {
-        return modelMapper.map(source, CourseDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("Course is null");
+        }
+        return courseMapper.toDTO(source);
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.DisciplineMapper;
 import com.university.schedule.dto.DisciplineDTO;
 import com.university.schedule.model.Discipline;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DisciplineDTOToDisciplineEntityConverter implements Converter<DisciplineDTO, Discipline> {
 
-    private final ModelMapper modelMapper;
-
-
-    public DisciplineDTOToDisciplineEntityConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final DisciplineMapper disciplineMapper = Mappers.getMapper(DisciplineMapper.class);
 
     @Override
     public Discipline convert(DisciplineDTO source) {
-        return modelMapper.map(source, Discipline.class);
+        if (source == null) {
+            throw new IllegalArgumentException("DisciplineDTO is null");
+        }
+        return disciplineMapper.toEntity(source);
     }
 }
@@ -1,23 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.DisciplineMapper;
 import com.university.schedule.dto.DisciplineDTO;
 import com.university.schedule.model.Discipline;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DisciplineEntityToDisciplineDTOConverter implements Converter<Discipline, DisciplineDTO> {
 
-    private final ModelMapper modelMapper;
-
-
-    public DisciplineEntityToDisciplineDTOConverter() {
-        this.modelMapper = new ModelMapper();
-    }
+    private final DisciplineMapper disciplineMapper = Mappers.getMapper(DisciplineMapper.class);
 
     @Override
     public DisciplineDTO convert(Discipline source) {
-        return modelMapper.map(source, DisciplineDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("Discipline is null");
+        }
+        return disciplineMapper.toDTO(source);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.converter.mapper.ImportJobMapper;
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.model.ImportJob;
+import org.mapstruct.factory.Mappers;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobEntityToImportJobDTOConverter implements Converter<ImportJob, ImportJobDTO> {
+
+    private final ImportJobMapper importJobMapper = Mappers.getMapper(ImportJobMapper.class);
+
+    @Override
+    public ImportJobDTO convert(ImportJob source) {
+        if (source == null) {
+            throw new IllegalArgumentException("ImportJob is null");
+        }
+        return importJobMapper.toDTO(source);
+    }
+}
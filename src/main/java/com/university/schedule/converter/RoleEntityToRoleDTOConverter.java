@@ -1,42 +1,22 @@
 package com.university.schedule.converter;
 
-import com.university.schedule.dto.AuthorityDTO;
+import com.university.schedule.converter.mapper.RoleMapper;
 import com.university.schedule.dto.RoleDTO;
-import com.university.schedule.model.Authority;
 import com.university.schedule.model.Role;
-import org.modelmapper.Condition;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Set;
-
 @Component
 public class RoleEntityToRoleDTOConverter implements Converter<Role, RoleDTO> {
 
-    private final ModelMapper modelMapper;
-
-    private final AuthorityEntityToAuthorityDTOConverter authorityEntityToAuthorityDTOConverter;
-
-
-    public RoleEntityToRoleDTOConverter() {
-        this.modelMapper = new ModelMapper();
-        this.authorityEntityToAuthorityDTOConverter = new AuthorityEntityToAuthorityDTOConverter();
-
-        org.modelmapper.Converter<Set<Authority>, List<AuthorityDTO>> authoritiesListConverter =
-            courseList -> courseList.getSource().stream().map(authorityEntityToAuthorityDTOConverter::convert).toList();
-
-        Condition notNull = ctx -> ctx.getSource() != null;
-
-        modelMapper.typeMap(Role.class, RoleDTO.class).addMappings(modelMapper -> {
-            modelMapper.when(notNull).using(authoritiesListConverter)
-                .map(Role::getAuthorities, RoleDTO::setAuthorityDTOS);
-        });
-    }
+    private final RoleMapper roleMapper = Mappers.getMapper(RoleMapper.class);
 
     @Override
     public RoleDTO convert(Role source) {
-        return modelMapper.map(source, RoleDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("Role is null");
+        }
+        return roleMapper.toDTO(source);
     }
 }
@@ -0,0 +1,24 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.converter.mapper.ScheduleGenerationJobMapper;
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.model.ScheduleGenerationJob;
+import org.mapstruct.factory.Mappers;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleGenerationJobEntityToScheduleGenerationJobDTOConverter
+    implements Converter<ScheduleGenerationJob, ScheduleGenerationJobDTO> {
+
+    private final ScheduleGenerationJobMapper scheduleGenerationJobMapper =
+        Mappers.getMapper(ScheduleGenerationJobMapper.class);
+
+    @Override
+    public ScheduleGenerationJobDTO convert(ScheduleGenerationJob source) {
+        if (source == null) {
+            throw new IllegalArgumentException("ScheduleGenerationJob is null");
+        }
+        return scheduleGenerationJobMapper.toDTO(source);
+    }
+}
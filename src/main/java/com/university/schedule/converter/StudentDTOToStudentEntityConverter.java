@@ -1,24 +1,22 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.UserMapper;
 import com.university.schedule.dto.StudentDTO;
 import com.university.schedule.model.Student;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class StudentDTOToStudentEntityConverter implements Converter<StudentDTO, Student> {
 
-    private final ModelMapper modelMapper;
-
-    public StudentDTOToStudentEntityConverter() {
-        this.modelMapper = new ModelMapper();
-        modelMapper.typeMap(StudentDTO.class, Student.class)
-            .addMappings(modelMapper -> modelMapper.map(StudentDTO::isEnable, Student::setIsEnable));
-    }
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
 
     @Override
     public Student convert(StudentDTO source) {
-        return modelMapper.map(source, Student.class);
+        if (source == null) {
+            throw new IllegalArgumentException("StudentDTO is null");
+        }
+        return userMapper.toStudent(source);
     }
 }
@@ -1,45 +1,22 @@
 package com.university.schedule.converter;
 
-import com.university.schedule.dto.GroupDTO;
-import com.university.schedule.dto.RoleDTO;
+import com.university.schedule.converter.mapper.UserMapper;
 import com.university.schedule.dto.StudentDTO;
-import com.university.schedule.model.Group;
-import com.university.schedule.model.Role;
 import com.university.schedule.model.Student;
-import org.modelmapper.Condition;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class StudentEntityToStudentDTOConverter implements Converter<Student, StudentDTO> {
 
-    private final ModelMapper modelMapper;
-    private final RoleEntityToRoleDTOConverter roleEntityToRoleDTOConverter;
-    private final GroupEntityToGroupDTOConverter groupEntityToGroupDTOConverter;
-
-    public StudentEntityToStudentDTOConverter() {
-        this.modelMapper = new ModelMapper();
-        this.roleEntityToRoleDTOConverter = new RoleEntityToRoleDTOConverter();
-        this.groupEntityToGroupDTOConverter = new GroupEntityToGroupDTOConverter();
-
-        org.modelmapper.Converter<Role, RoleDTO> roleDTOConverter =
-            role -> roleEntityToRoleDTOConverter.convert(role.getSource());
-
-        org.modelmapper.Converter<Group, GroupDTO> groupDTOConverter =
-            group -> groupEntityToGroupDTOConverter.convert(group.getSource());
-
-        Condition notNull = ctx -> ctx.getSource() != null;
-
-        modelMapper.typeMap(Student.class, StudentDTO.class).addMappings(modelMapper -> {
-            modelMapper.map(Student::isEnable, StudentDTO::setIsEnable);
-            modelMapper.when(notNull).using(roleDTOConverter).map(Student::getRole, StudentDTO::setRoleDTO);
-            modelMapper.when(notNull).using(groupDTOConverter).map(Student::getGroup, StudentDTO::setGroupDTO);
-        });
-    }
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
 
     @Override
     public StudentDTO convert(Student source) {
-        return modelMapper.map(source, StudentDTO.class);
+        if (source == null) {
+            throw new IllegalArgumentException("Student is null");
+        }
+        return userMapper.toDTO(source);
     }
 }
@@ -1,25 +1,24 @@
 package com.university.schedule.converter;
 
+import com.university.schedule.converter.mapper.UserMapper;
 import com.university.schedule.dto.UserRegisterDTO;
 import com.university.schedule.model.User;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class UserRegisterDTOToUserEntityConverter implements Converter<UserRegisterDTO, User> {
 
-    private final ModelMapper modelMapper;
-
-    public UserRegisterDTOToUserEntityConverter() {
-        this.modelMapper = new ModelMapper();
-        modelMapper.typeMap(UserRegisterDTO.class, User.class);
-    }
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
 
     @Override
     public User convert(UserRegisterDTO source) {
-        User user = modelMapper.map(source, User.class);
+        if (source == null) {
+            throw new IllegalArgumentException("UserRegisterDTO is null");
+        }
+        User user = userMapper.toUser(source);
         user.setIsEnable(true);
         return user;
     }
-}
\ No newline at end of file
+}
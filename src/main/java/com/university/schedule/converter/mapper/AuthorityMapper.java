@@ -0,0 +1,13 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.AuthorityDTO;
+import com.university.schedule.model.Authority;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface AuthorityMapper {
+
+    AuthorityDTO toDTO(Authority authority);
+
+    Authority toEntity(AuthorityDTO authorityDTO);
+}
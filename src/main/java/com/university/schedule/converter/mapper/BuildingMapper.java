@@ -0,0 +1,13 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.BuildingDTO;
+import com.university.schedule.model.Building;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface BuildingMapper {
+
+    BuildingDTO toDTO(Building building);
+
+    Building toEntity(BuildingDTO buildingDTO);
+}
@@ -0,0 +1,26 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ClassTimeDTO;
+import com.university.schedule.model.ClassTime;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.time.Duration;
+
+@Mapper(config = MappingConfig.class)
+public interface ClassTimeMapper {
+
+    @Mapping(target = "durationMinutes", source = "duration")
+    ClassTimeDTO toDTO(ClassTime classTime);
+
+    @Mapping(target = "duration", source = "durationMinutes")
+    ClassTime toEntity(ClassTimeDTO classTimeDTO);
+
+    default Integer toMinutes(Duration duration) {
+        return duration == null ? null : Math.toIntExact(duration.toMinutes());
+    }
+
+    default Duration toDuration(Integer minutes) {
+        return minutes == null ? null : Duration.ofMinutes(minutes);
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ClassTypeDTO;
+import com.university.schedule.model.ClassType;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface ClassTypeMapper {
+
+    ClassTypeDTO toDTO(ClassType classType);
+
+    ClassType toEntity(ClassTypeDTO classTypeDTO);
+}
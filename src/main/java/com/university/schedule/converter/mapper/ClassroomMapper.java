@@ -0,0 +1,16 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ClassroomDTO;
+import com.university.schedule.model.Classroom;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class, uses = BuildingMapper.class)
+public interface ClassroomMapper {
+
+    @Mapping(target = "buildingDTO", source = "building")
+    ClassroomDTO toDTO(Classroom classroom);
+
+    @Mapping(target = "building", source = "buildingDTO")
+    Classroom toEntity(ClassroomDTO classroomDTO);
+}
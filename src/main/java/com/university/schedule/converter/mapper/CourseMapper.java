@@ -0,0 +1,13 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.model.Course;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface CourseMapper {
+
+    CourseDTO toDTO(Course course);
+
+    Course toEntity(CourseDTO courseDTO);
+}
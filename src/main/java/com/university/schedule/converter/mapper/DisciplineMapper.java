@@ -0,0 +1,13 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.DisciplineDTO;
+import com.university.schedule.model.Discipline;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface DisciplineMapper {
+
+    DisciplineDTO toDTO(Discipline discipline);
+
+    Discipline toEntity(DisciplineDTO disciplineDTO);
+}
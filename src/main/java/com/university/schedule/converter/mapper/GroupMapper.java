@@ -0,0 +1,18 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.GroupDTO;
+import com.university.schedule.model.Group;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class, uses = {DisciplineMapper.class, CourseMapper.class})
+public interface GroupMapper {
+
+    @Mapping(target = "disciplineDTO", source = "discipline")
+    @Mapping(target = "courseDTOS", source = "courses")
+    GroupDTO toDTO(Group group);
+
+    @Mapping(target = "discipline", source = "disciplineDTO")
+    @Mapping(target = "courses", source = "courseDTOS")
+    Group toEntity(GroupDTO groupDTO);
+}
@@ -0,0 +1,11 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.model.ImportJob;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface ImportJobMapper {
+
+    ImportJobDTO toDTO(ImportJob importJob);
+}
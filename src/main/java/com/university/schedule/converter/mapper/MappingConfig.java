@@ -0,0 +1,17 @@
+package com.university.schedule.converter.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared configuration of the generated mappers. Targets are filled through setters (the Lombok builders of the
+ * entity hierarchy don`t fit subclasses like Teacher), null source properties are skipped, so initialized
+ * collections of the targets stay empty, and properties without a counterpart are ignored, as they were with
+ * ModelMapper.
+ */
+@MapperConfig(builder = @Builder(disableBuilder = true), unmappedTargetPolicy = ReportingPolicy.IGNORE,
+              nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
+public interface MappingConfig {
+}
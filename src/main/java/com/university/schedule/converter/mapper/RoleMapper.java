@@ -0,0 +1,16 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.RoleDTO;
+import com.university.schedule.model.Role;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class, uses = AuthorityMapper.class)
+public interface RoleMapper {
+
+    @Mapping(target = "authorityDTOS", source = "authorities")
+    RoleDTO toDTO(Role role);
+
+    @Mapping(target = "authorities", source = "authorityDTOS")
+    Role toEntity(RoleDTO roleDTO);
+}
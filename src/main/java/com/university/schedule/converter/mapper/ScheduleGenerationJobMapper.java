@@ -0,0 +1,11 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.model.ScheduleGenerationJob;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface ScheduleGenerationJobMapper {
+
+    ScheduleGenerationJobDTO toDTO(ScheduleGenerationJob scheduleGenerationJob);
+}
@@ -0,0 +1,28 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.model.ScheduledClass;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class,
+        uses = {CourseMapper.class, UserMapper.class, ClassroomMapper.class, ClassTimeMapper.class,
+            ClassTypeMapper.class, GroupMapper.class})
+public interface ScheduledClassMapper {
+
+    @Mapping(target = "courseDTO", source = "course")
+    @Mapping(target = "teacherDTO", source = "teacher")
+    @Mapping(target = "classroomDTO", source = "classroom")
+    @Mapping(target = "classTimeDTO", source = "classTime")
+    @Mapping(target = "classTypeDTO", source = "classType")
+    @Mapping(target = "groupDTOS", source = "groups")
+    ScheduledClassDTO toDTO(ScheduledClass scheduledClass);
+
+    @Mapping(target = "course", source = "courseDTO")
+    @Mapping(target = "teacher", source = "teacherDTO")
+    @Mapping(target = "classroom", source = "classroomDTO")
+    @Mapping(target = "classTime", source = "classTimeDTO")
+    @Mapping(target = "classType", source = "classTypeDTO")
+    @Mapping(target = "groups", source = "groupDTOS")
+    ScheduledClass toEntity(ScheduledClassDTO scheduledClassDTO);
+}
@@ -0,0 +1,58 @@
+package com.university.schedule.converter.mapper;
+
+import com.university.schedule.dto.StudentDTO;
+import com.university.schedule.dto.TeacherDTO;
+import com.university.schedule.dto.UserDTO;
+import com.university.schedule.dto.UserRegisterDTO;
+import com.university.schedule.model.Student;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mappings of User and its subclasses. The source type is the declared one, a Teacher passed to
+ * {@link #toDTO(User)} is mapped as a plain User.
+ */
+@Mapper(config = MappingConfig.class, uses = {RoleMapper.class, GroupMapper.class, CourseMapper.class})
+public interface UserMapper {
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "roleDTO", source = "role")
+    UserDTO toDTO(User user);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "roleDTO", source = "role")
+    @Mapping(target = "courseDTOS", source = "courses")
+    TeacherDTO toDTO(Teacher teacher);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "roleDTO", source = "role")
+    @Mapping(target = "groupDTO", source = "group")
+    StudentDTO toDTO(Student student);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "role", source = "roleDTO")
+    User toUser(UserDTO userDTO);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "role", source = "roleDTO")
+    Teacher toTeacher(UserDTO userDTO);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "role", source = "roleDTO")
+    Student toStudent(UserDTO userDTO);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "role", source = "roleDTO")
+    @Mapping(target = "courses", source = "courseDTOS")
+    Teacher toTeacher(TeacherDTO teacherDTO);
+
+    @Mapping(target = "isEnable", source = "enable")
+    @Mapping(target = "role", source = "roleDTO")
+    @Mapping(target = "group", source = "groupDTO")
+    Student toStudent(StudentDTO studentDTO);
+
+    @Mapping(target = "role", source = "roleDTO")
+    User toUser(UserRegisterDTO userRegisterDTO);
+}
@@ -0,0 +1,21 @@
+package com.university.schedule.dto;
+
+/**
+ * Counters of an in-memory cache, exposed to admins.
+ *
+ * @param name          name of the cache.
+ * @param size          number of cached entries.
+ * @param maxSize       maximum number of entries, the least recently used entries are evicted above it.
+ * @param hits          lookups served from the cache.
+ * @param misses        lookups that loaded the value.
+ * @param evictions     entries removed because of the size limit or expired.
+ * @param invalidations entries removed because the underlying data changed.
+ */
+public record CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions,
+                         long invalidations) {
+
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
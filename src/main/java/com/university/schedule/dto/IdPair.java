@@ -0,0 +1,7 @@
+package com.university.schedule.dto;
+
+/**
+ * Pair of ids (for example Teacher id and Course id) selected from a join table.
+ */
+public record IdPair(Long ownerId, Long relatedId) {
+}
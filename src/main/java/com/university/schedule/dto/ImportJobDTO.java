@@ -0,0 +1,34 @@
+package com.university.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ImportJobDTO {
+
+    private Long id;
+
+    private String type;
+
+    private String filename;
+
+    private String status;
+
+    /**
+     * Per-row report, null until the import is completed.
+     */
+    private ImportReport report;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
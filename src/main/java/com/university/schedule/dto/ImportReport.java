@@ -0,0 +1,18 @@
+package com.university.schedule.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ *
+ * @param type            imported kind of rows.
+ * @param rows            data rows read from the file.
+ * @param imported        rows written to the database.
+ * @param failed          rows rejected or rolled back.
+ * @param errors          errors of the failed rows, at most the configured number.
+ * @param errorsTruncated whether more rows failed than {@code errors} lists.
+ * @param elapsedMillis   duration of the import.
+ */
+public record ImportReport(String type, long rows, long imported, long failed, List<ImportRowError> errors,
+                           boolean errorsTruncated, long elapsedMillis) {
+}
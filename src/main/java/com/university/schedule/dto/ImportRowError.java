@@ -0,0 +1,12 @@
+package com.university.schedule.dto;
+
+import java.util.List;
+
+/**
+ * Rejected row of a bulk import.
+ *
+ * @param row        1-based number of the data row in the file, the CSV header is not counted.
+ * @param violations reasons the row was rejected.
+ */
+public record ImportRowError(long row, List<String> violations) {
+}
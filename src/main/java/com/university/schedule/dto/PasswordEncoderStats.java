@@ -0,0 +1,15 @@
+package com.university.schedule.dto;
+
+/**
+ * Snapshot of the password encoder pool, times are averaged over every completed hash or verification.
+ *
+ * @param queueDepth      tasks waiting for a pool thread.
+ * @param completed       hashes and verifications run on the pool.
+ * @param rejected        tasks refused because the queue was full.
+ * @param timedOut        tasks whose caller gave up waiting.
+ * @param upgradeEncoding hashes found weaker than the configured work factor.
+ */
+public record PasswordEncoderStats(int threads, int queueDepth, int queueCapacity, long completed, long rejected,
+                                   long timedOut, long upgradeEncoding, double averageWaitMillis,
+                                   double averageRunMillis, double maxRunMillis) {
+}
@@ -0,0 +1,10 @@
+package com.university.schedule.dto;
+
+/**
+ * Total of a records listing.
+ *
+ * @param count     number of records.
+ * @param estimated true if the count is the planner estimate of a large table rather than an exact count.
+ */
+public record RecordCount(long count, boolean estimated) {
+}
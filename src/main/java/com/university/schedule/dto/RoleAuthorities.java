@@ -0,0 +1,11 @@
+package com.university.schedule.dto;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * @param grantedAuthorities authorities of the Role followed by its ROLE_ authority.
+ */
+public record RoleAuthorities(String roleName, List<SimpleGrantedAuthority> grantedAuthorities) {
+}
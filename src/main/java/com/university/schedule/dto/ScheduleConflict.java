@@ -0,0 +1,38 @@
+package com.university.schedule.dto;
+
+import com.university.schedule.model.DayScheduleItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Conflict between two DayScheduleItems scheduled at the same DayOfWeek and ClassTime.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ScheduleConflict {
+
+    private final Type type;
+
+    private final DayScheduleItem firstItem;
+
+    private final DayScheduleItem secondItem;
+
+    public String getMessage() {
+        return type.getMessage();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Type {
+        GROUP("There is conflict by Group ( at the same ClassTime and DayOfWeek, Group has at least two different " +
+            "classes )"),
+        TEACHER("There is conflict by Teacher ( at the same ClassTime and DayOfWeek, Teacher has at least two " +
+            "different classes )"),
+        CLASSROOM("There is conflict by Classroom ( at the same ClassTime and DayOfWeek, Classroom has at least " +
+            "two different classes )");
+
+        private final String message;
+    }
+}
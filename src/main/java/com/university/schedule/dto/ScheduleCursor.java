@@ -0,0 +1,13 @@
+package com.university.schedule.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Keyset position in the schedule ordered by (date, id), the next page starts right after it.
+ */
+public record ScheduleCursor(LocalDate date, Long id) {
+
+    public static ScheduleCursor of(ScheduledClassDTO scheduledClassDTO) {
+        return new ScheduleCursor(scheduledClassDTO.getDate(), scheduledClassDTO.getId());
+    }
+}
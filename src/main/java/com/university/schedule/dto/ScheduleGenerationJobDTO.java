@@ -0,0 +1,38 @@
+package com.university.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ScheduleGenerationJobDTO {
+
+    private Long id;
+
+    private String status;
+
+    private String phase;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalDate nextChunkDate;
+
+    private int generatedRows;
+
+    private int conflictsFound;
+
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
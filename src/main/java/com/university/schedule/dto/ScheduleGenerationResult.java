@@ -0,0 +1,43 @@
+package com.university.schedule.dto;
+
+import com.university.schedule.model.DayScheduleItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ScheduleGenerationResult {
+
+    private int generatedRows;
+
+    private Duration elapsed;
+
+    /**
+     * Number of partitions a parallel generation committed.
+     */
+    private int committedPartitions;
+
+    /**
+     * Items of the partitions a parallel generation rolled back. They share no Group, Teacher or Classroom with
+     * the committed partitions, so they can be generated again on their own once the cause is fixed.
+     */
+    @Builder.Default
+    private List<DayScheduleItem> failedItems = new ArrayList<>();
+
+    public boolean isComplete() {
+        return failedItems.isEmpty();
+    }
+
+    public double getRowsPerSecond() {
+        long elapsedNanos = elapsed == null ? 0 : elapsed.toNanos();
+        return elapsedNanos <= 0 ? 0 : generatedRows * 1_000_000_000d / elapsedNanos;
+    }
+}
@@ -0,0 +1,108 @@
+package com.university.schedule.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Schedule view laid out as the schedule page table: one Row per date of the range and one cell per ClassTime, every
+ * cell holds the ScheduledClassDTOs of its date and ClassTime order number.
+ *
+ * <p>The classes are bucketed in one pass, so rendering is proportional to the size of the table plus the number of
+ * classes instead of scanning all classes for every cell. Empty cells share one immutable list, which keeps month
+ * and semester ranges cheap.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScheduleGrid {
+
+    private final List<ClassTimeDTO> classTimeDTOS;
+
+    private final List<Row> rows;
+
+    /**
+     * Number of classes that have a cell.
+     */
+    private final int placedCount;
+
+    /**
+     * Builds the grid of the dates. Classes of other dates or with an order number of none of the ClassTimes have no
+     * cell and are left out.
+     *
+     * @param dates              rows of the grid, in the order to display.
+     * @param classTimeDTOS      columns of the grid, in the order to display.
+     * @param scheduledClassDTOS classes to place, a cell keeps their order.
+     * @return grid with a Row for every date.
+     */
+    public static ScheduleGrid of(List<LocalDate> dates, List<ClassTimeDTO> classTimeDTOS,
+                                  List<ScheduledClassDTO> scheduledClassDTOS) {
+        if (dates == null) {
+            throw new IllegalArgumentException("Dates is null");
+        }
+        if (classTimeDTOS == null) {
+            throw new IllegalArgumentException("ClassTimeDTOS is null");
+        }
+        if (scheduledClassDTOS == null) {
+            throw new IllegalArgumentException("ScheduledClassDTOS is null");
+        }
+        Map<LocalDate, Integer> rowIndexes = new HashMap<>(dates.size() * 2);
+        for (int row = 0; row < dates.size(); row++) {
+            rowIndexes.putIfAbsent(dates.get(row), row);
+        }
+        Map<Integer, Integer> columnIndexes = new HashMap<>(classTimeDTOS.size() * 2);
+        for (int column = 0; column < classTimeDTOS.size(); column++) {
+            columnIndexes.putIfAbsent(classTimeDTOS.get(column).getOrderNumber(), column);
+        }
+
+        int placedCount = 0;
+        List<List<List<ScheduledClassDTO>>> cells = new ArrayList<>(dates.size());
+        for (int row = 0; row < dates.size(); row++) {
+            cells.add(new ArrayList<>(Collections.nCopies(classTimeDTOS.size(), List.of())));
+        }
+        for (ScheduledClassDTO scheduledClassDTO : scheduledClassDTOS) {
+            if (scheduledClassDTO.getClassTimeDTO() == null) {
+                continue;
+            }
+            Integer row = rowIndexes.get(scheduledClassDTO.getDate());
+            Integer column = columnIndexes.get(scheduledClassDTO.getClassTimeDTO().getOrderNumber());
+            if (row == null || column == null) {
+                continue;
+            }
+            List<ScheduledClassDTO> cell = cells.get(row).get(column);
+            if (cell.isEmpty()) {
+                cell = new ArrayList<>(1);
+                cells.get(row).set(column, cell);
+            }
+            cell.add(scheduledClassDTO);
+            placedCount++;
+        }
+
+        List<Row> rows = new ArrayList<>(dates.size());
+        for (int row = 0; row < dates.size(); row++) {
+            rows.add(new Row(dates.get(row), cells.get(row)));
+        }
+        return new ScheduleGrid(classTimeDTOS, rows, placedCount);
+    }
+
+    /**
+     * @return true if no class has a cell, even if classes outside the grid were given.
+     */
+    public boolean isEmpty() {
+        return placedCount == 0;
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Row {
+
+        private final LocalDate date;
+
+        /**
+         * Cells in the order of the ClassTimeDTOS of the grid.
+         */
+        private final List<List<ScheduledClassDTO>> cells;
+    }
+}
@@ -0,0 +1,34 @@
+package com.university.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ScheduleRegenerationResult {
+
+    private int insertedRows;
+
+    private int updatedRows;
+
+    private int deletedRows;
+
+    private int unchangedRows;
+
+    /**
+     * Manually created rows of the date range, a regeneration never updates or deletes them.
+     */
+    private int keptRows;
+
+    private Duration elapsed;
+
+    public int getTouchedRows() {
+        return insertedRows + updatedRows + deletedRows;
+    }
+}
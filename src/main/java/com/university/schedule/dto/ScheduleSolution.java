@@ -0,0 +1,33 @@
+package com.university.schedule.dto;
+
+import com.university.schedule.model.CourseDemand;
+import com.university.schedule.model.DayScheduleItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ScheduleSolution {
+
+    private List<DayScheduleItem> dayScheduleItems;
+
+    /**
+     * CourseDemands that couldn`t be placed, once per missing weekly class.
+     */
+    private List<CourseDemand> unassignedDemands;
+
+    private int attempts;
+
+    private Duration elapsed;
+
+    public boolean isComplete() {
+        return unassignedDemands == null || unassignedDemands.isEmpty();
+    }
+}
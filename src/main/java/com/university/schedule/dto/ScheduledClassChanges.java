@@ -0,0 +1,57 @@
+package com.university.schedule.dto;
+
+import com.university.schedule.model.ScheduledClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Delta between the existing and the regenerated schedule of a date range.
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ScheduledClassChanges {
+
+    /**
+     * Not yet persisted ScheduledClasses.
+     */
+    private List<ScheduledClass> insertedClasses;
+
+    /**
+     * Persisted ScheduledClasses (ids set) with a changed Course, Classroom or ClassType.
+     */
+    private List<ScheduledClass> updatedClasses;
+
+    /**
+     * Persisted ScheduledClasses (ids set) with a changed set of Groups.
+     */
+    private List<ScheduledClass> regroupedClasses;
+
+    private List<Long> deletedIds;
+
+    /**
+     * Number of distinct occurrences in the regenerated schedule.
+     */
+    private int targetSize;
+
+    /**
+     * Number of occurrences of the regenerated schedule left out because a manually created ScheduledClass of the
+     * same Teacher takes their slot.
+     */
+    private int overriddenSize;
+
+    /**
+     * Number of manually created ScheduledClasses of the date range, they are kept as they are.
+     */
+    private int keptSize;
+
+    public boolean isEmpty() {
+        return insertedClasses.isEmpty() && updatedClasses.isEmpty() && regroupedClasses.isEmpty() &&
+            deletedIds.isEmpty();
+    }
+}
@@ -0,0 +1,9 @@
+package com.university.schedule.dto;
+
+import java.time.LocalDate;
+
+/**
+ * (date, classTime) of an already persisted ScheduledClass together with the id of one of its Groups.
+ */
+public record ScheduledClassGroupSlot(LocalDate date, Long classTimeId, Long groupId) {
+}
@@ -0,0 +1,14 @@
+package com.university.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Flat view of a persisted ScheduledClass row together with the ids of its Groups, used to diff the existing
+ * schedule against a regenerated one without loading entities.
+ *
+ * @param generated whether the row was written by the ScheduleGenerator, false for a manually created class.
+ */
+public record ScheduledClassRow(Long id, LocalDate date, Long classTimeId, Long teacherId, Long courseId,
+                                Long classroomId, Long classTypeId, Set<Long> groupIds, boolean generated) {
+}
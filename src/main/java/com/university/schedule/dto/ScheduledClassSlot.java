@@ -0,0 +1,9 @@
+package com.university.schedule.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Lightweight view of an already persisted ScheduledClass, used to check occupancy without loading entities.
+ */
+public record ScheduledClassSlot(Long id, LocalDate date, Long classTimeId, Long teacherId, Long classroomId) {
+}
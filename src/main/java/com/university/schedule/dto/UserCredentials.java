@@ -0,0 +1,7 @@
+package com.university.schedule.dto;
+
+/**
+ * Columns of a users row that authentication needs, selected without loading the User and its subclass tables.
+ */
+public record UserCredentials(String email, String password, Boolean isEnable, Long roleId) {
+}
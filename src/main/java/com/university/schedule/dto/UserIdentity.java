@@ -0,0 +1,30 @@
+package com.university.schedule.dto;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.List;
+
+/**
+ * What the request path needs to know about the logged-in User, so it can skip loading the User entity.
+ *
+ * @param teacherId    id of the Teacher, null unless kind is TEACHER.
+ * @param groupId      id of the Group of the Student, null if the User is not a Student or has no Group.
+ * @param tokenVersion version of the identity tokens of the User, a token of an older version is revoked.
+ */
+public record UserIdentity(Long userId, String email, Kind kind, String role, List<String> authorities,
+                           Long teacherId, Long groupId, boolean enabled, int tokenVersion)
+    implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public UserIdentity withTokenState(boolean enabled, int tokenVersion) {
+        return new UserIdentity(userId, email, kind, role, authorities, teacherId, groupId, enabled, tokenVersion);
+    }
+
+    public enum Kind {
+        TEACHER, STUDENT, USER
+    }
+}
@@ -0,0 +1,8 @@
+package com.university.schedule.dto;
+
+/**
+ * Columns of a users row that decide whether the identity tokens of the User are still valid, selected by the
+ * primary key without loading the User and its subclass tables.
+ */
+public record UserTokenState(Boolean isEnable, int tokenVersion) {
+}
@@ -0,0 +1,11 @@
+package com.university.schedule.event;
+
+/**
+ * Published after an entity shown in forms and schedule filters (Teachers, Groups, ClassTypes, ClassTimes,
+ * Classrooms, Courses and the Buildings, Disciplines and Users they refer to), a Student, a Role or an Authority is
+ * written.
+ *
+ * @param type class of the written entity.
+ */
+public record ReferenceDataChangedEvent(Class<?> type) {
+}
@@ -0,0 +1,67 @@
+package com.university.schedule.event;
+
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.RecurringClass;
+import com.university.schedule.model.ScheduledClass;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Published after ScheduledClasses or RecurringClasses are written, so cached schedule views can be invalidated.
+ * Every change describes the date range, Teacher and Groups whose schedule may look different, both before and
+ * after the write.
+ *
+ * @param changes affected parts of the schedule.
+ */
+public record ScheduleChangedEvent(List<Change> changes) {
+
+    public static ScheduleChangedEvent ofScheduledClasses(Collection<ScheduledClass> scheduledClasses,
+                                                          Collection<ScheduledClassRow> previousRows) {
+        List<Change> changes = new ArrayList<>(scheduledClasses.size() + previousRows.size());
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            changes.add(new Change(scheduledClass.getDate(), scheduledClass.getDate(),
+                scheduledClass.getTeacher() == null ? null : scheduledClass.getTeacher().getId(),
+                groupIds(scheduledClass.getGroups())));
+        }
+        for (ScheduledClassRow row : previousRows) {
+            changes.add(new Change(row.date(), row.date(), row.teacherId(), row.groupIds()));
+        }
+        return new ScheduleChangedEvent(changes);
+    }
+
+    public static ScheduleChangedEvent ofRecurringClasses(Collection<RecurringClass> recurringClasses) {
+        List<Change> changes = new ArrayList<>(recurringClasses.size());
+        for (RecurringClass recurringClass : recurringClasses) {
+            changes.add(new Change(recurringClass.getStartDate(), recurringClass.getEndDate(),
+                recurringClass.getTeacher() == null ? null : recurringClass.getTeacher().getId(),
+                groupIds(recurringClass.getGroups())));
+        }
+        return new ScheduleChangedEvent(changes);
+    }
+
+    /**
+     * Change whose previous state isn`t known, every schedule view is affected.
+     */
+    public static ScheduleChangedEvent ofAll() {
+        return new ScheduleChangedEvent(List.of(new Change(null, null, null, null)));
+    }
+
+    private static Set<Long> groupIds(Collection<Group> groups) {
+        Set<Long> groupIds = new HashSet<>();
+        if (groups != null) {
+            groups.stream().map(Group::getId).filter(Objects::nonNull).forEach(groupIds::add);
+        }
+        return groupIds;
+    }
+
+    /**
+     * @param startDate first affected date, null if unknown.
+     * @param endDate   last affected date (inclusive), null if unknown.
+     * @param teacherId affected Teacher, null if every Teacher is affected.
+     * @param groupIds  affected Groups, null if every Group is affected.
+     */
+    public record Change(LocalDate startDate, LocalDate endDate, Long teacherId, Set<Long> groupIds) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.university.schedule.event;
+
+/**
+ * Published after a User, Teacher or Student is saved or deleted.
+ *
+ * @param userId id of the written User.
+ */
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.university.schedule.exception;
+
+public class JobNotFoundException extends ServiceException {
+    public JobNotFoundException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,18 @@
+package com.university.schedule.exception;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when the password encoder pool is saturated, the login should be retried after the given delay.
+ */
+@Getter
+public class PasswordVerificationRejectedException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordVerificationRejectedException(String errorMessage, long retryAfterSeconds) {
+        super(errorMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,7 +1,16 @@
 package com.university.schedule.exception;
 
+import com.university.schedule.dto.ScheduleConflict;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
 public class ScheduleGenerationConflictException extends ScheduleGenerationException {
 
+    private List<ScheduleConflict> conflicts = new ArrayList<>();
+
     public ScheduleGenerationConflictException(String errorMessage) {
         super(errorMessage);
     }
@@ -9,4 +18,9 @@ public class ScheduleGenerationConflictException extends ScheduleGenerationExcep
     public ScheduleGenerationConflictException(String errorMessage, Throwable err) {
         super(errorMessage, err);
     }
-}
\ No newline at end of file
+
+    public ScheduleGenerationConflictException(String errorMessage, List<ScheduleConflict> conflicts) {
+        super(errorMessage);
+        this.conflicts = conflicts;
+    }
+}
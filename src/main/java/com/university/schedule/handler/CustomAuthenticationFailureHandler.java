@@ -0,0 +1,38 @@
+package com.university.schedule.handler;
+
+import com.university.schedule.exception.PasswordVerificationRejectedException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+import java.io.IOException;
+
+/**
+ * Answers a login rejected by the saturated password encoder with 503 and Retry-After, other failures redirect to
+ * the failure url.
+ */
+@Slf4j
+public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    public CustomAuthenticationFailureHandler(String defaultFailureUrl) {
+        super(defaultFailureUrl);
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        if (exception instanceof PasswordVerificationRejectedException rejectedException) {
+            log.debug("Login rejected, retry after {}s: {}", rejectedException.getRetryAfterSeconds(),
+                exception.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rejectedException.getRetryAfterSeconds()));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many logins, try again later");
+            return;
+        }
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
@@ -0,0 +1,38 @@
+package com.university.schedule.handler;
+
+import com.university.schedule.security.IdentityTokenService;
+import com.university.schedule.service.UserIdentityService;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+import java.io.IOException;
+
+/**
+ * Token mode: sets the signed identity cookie of the logged-in User, then hands over to the redirecting handler.
+ */
+@RequiredArgsConstructor
+public class IdentityTokenAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final IdentityTokenService identityTokenService;
+
+    private final UserIdentityService userIdentityService;
+
+    private final AuthenticationSuccessHandler delegate;
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException, ServletException {
+        String token = identityTokenService.issue(userIdentityService.findCurrentByEmail(authentication.getName()));
+        ResponseCookie cookie = ResponseCookie.from(IdentityTokenService.COOKIE_NAME, token).httpOnly(true)
+            .secure(request.isSecure()).sameSite("Lax").path("/").maxAge(identityTokenService.getTtlSeconds())
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        delegate.onAuthenticationSuccess(request, response, authentication);
+    }
+}
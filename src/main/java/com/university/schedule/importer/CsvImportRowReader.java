@@ -0,0 +1,114 @@
+package com.university.schedule.importer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader: comma separated, fields may be quoted with {@code "} and then contain commas, line breaks and
+ * doubled quotes. The first record is the header. Blank lines are skipped, missing trailing fields are absent from
+ * the row.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+
+    private final List<String> header;
+
+    private int lookahead = -2;
+
+    public CsvImportRowReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        if (peek() == BYTE_ORDER_MARK) {
+            read();
+        }
+        List<String> headerRecord = readRecord();
+        if (headerRecord == null) {
+            throw new IOException("CSV file has no header row");
+        }
+        this.header = headerRecord.stream().map(String::trim).toList();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> record = readRecord();
+        if (record == null) {
+            return null;
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < Math.min(header.size(), record.size()); i++) {
+            row.put(header.get(i), record.get(i));
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return fields of the next non blank record, null at the end of the file.
+     */
+    private List<String> readRecord() throws IOException {
+        while (peek() == '\r' || peek() == '\n') {
+            read();
+        }
+        if (peek() == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("CSV file ends inside a quoted field");
+                }
+                if (c == QUOTE && peek() == QUOTE) {
+                    field.append((char) read());
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == -2) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        lookahead = -2;
+        return c;
+    }
+}
@@ -0,0 +1,30 @@
+package com.university.schedule.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an uploaded import file one row at a time, so the file is never held in memory as a whole.
+ */
+public interface ImportRowReader extends Closeable {
+
+    /**
+     * @return values of the next row by column name, null after the last row.
+     * @throws IOException if the file can`t be read or is malformed.
+     */
+    Map<String, String> next() throws IOException;
+
+    /**
+     * Picks the reader by the extension of the file name, {@code .json} files are read as a JSON array of objects
+     * and every other file as CSV with a header row.
+     */
+    static ImportRowReader open(String filename, InputStream inputStream) throws IOException {
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return new JsonImportRowReader(inputStream);
+        }
+        return new CsvImportRowReader(inputStream);
+    }
+}
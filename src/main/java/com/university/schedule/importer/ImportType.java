@@ -0,0 +1,31 @@
+package com.university.schedule.importer;
+
+import com.university.schedule.exception.ServiceException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Kinds of rows the bulk import accepts. Columns (CSV header or JSON property names) of each kind:
+ * <ul>
+ *     <li>users: email, password, firstName, lastName, role (name), group (name, Students only, optional)</li>
+ *     <li>groups: name, discipline (name)</li>
+ *     <li>courses: name</li>
+ *     <li>enrollments: course (name) and either group (name) or teacher (email)</li>
+ * </ul>
+ */
+public enum ImportType {
+
+    USERS,
+    GROUPS,
+    COURSES,
+    ENROLLMENTS;
+
+    /**
+     * @param name lower case name of the type, as it appears in the import URL.
+     */
+    public static ImportType of(String name) {
+        return Arrays.stream(values()).filter(type -> type.name().toLowerCase(Locale.ROOT).equals(name)).findFirst()
+            .orElseThrow(() -> new ServiceException("Unknown import type = " + name));
+    }
+}
@@ -0,0 +1,41 @@
+package com.university.schedule.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Not entity
+@AllArgsConstructor
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Builder
+@ToString
+@Getter
+@Setter
+@EqualsAndHashCode
+public class CourseDemand {
+
+    @NonNull
+    @NotNull(message = "CourseDemand course must not be null")
+    private Course course;
+
+    @NonNull
+    @NotNull(message = "CourseDemand teacher must not be null")
+    private Teacher teacher;
+
+    @NonNull
+    @NotNull(message = "CourseDemand classType must not be null")
+    private ClassType classType;
+
+    @NonNull
+    @NotEmpty(message = "CourseDemand groups must not be empty")
+    @Builder.Default
+    private Set<Group> groups = new HashSet<>();
+
+    @Positive(message = "CourseDemand weeklyCount must be positive")
+    private int weeklyCount;
+}
@@ -0,0 +1,104 @@
+package com.university.schedule.model;
+
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.importer.ImportType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Bulk import running in the background. The per-row report is stored as JSON once the import is finished.
+ */
+@Setter
+@Getter
+@ToString
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "import_jobs")
+public class ImportJob {
+
+    public static final int ERROR_MESSAGE_MAX_LENGTH = 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_job_generator")
+    @SequenceGenerator(name = "import_job_generator", sequenceName = "import_jobs_seq", allocationSize = 1)
+    @Column(name = "import_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull(message = "ImportJob type must not be null")
+    private ImportType type;
+
+    private String filename;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull(message = "ImportJob status must not be null")
+    private Status status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @ToString.Exclude
+    private ImportReport report;
+
+    @Column(name = "error_message", length = ERROR_MESSAGE_MAX_LENGTH)
+    private String errorMessage;
+
+    /**
+     * Instance that accepted the upload and keeps its temporary file, see {@link #heartbeatAt}.
+     */
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+
+    /**
+     * Renewed by the owner instance while the job is queued or running.
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Longer messages are truncated to fit the column.
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage == null || errorMessage.length() <= ERROR_MESSAGE_MAX_LENGTH ? errorMessage
+            : errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = updatedAt;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        ImportJob that = (ImportJob) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,140 @@
+package com.university.schedule.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Weekly class stored as a rule (DayScheduleItem plus a date range and exception dates) instead of one
+ * ScheduledClass row per occurrence. Occurrences are expanded on read.
+ */
+@Setter
+@Getter
+@ToString
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "recurring_classes")
+public class RecurringClass {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_class_generator")
+    @SequenceGenerator(name = "recurring_class_generator", sequenceName = "recurring_classes_seq", allocationSize = 1)
+    @Column(name = "recurring_class_id")
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "course_id")
+    @NotNull(message = "RecurringClass course must not be null")
+    private Course course;
+
+    @ManyToOne
+    @JoinColumn(name = "teacher_id")
+    @NotNull(message = "RecurringClass teacher must not be null")
+    private Teacher teacher;
+
+    @ManyToOne
+    @JoinColumn(name = "classroom_id")
+    private Classroom classroom;
+
+    @ManyToOne
+    @JoinColumn(name = "class_time_id")
+    @NotNull(message = "RecurringClass classTime must not be null")
+    private ClassTime classTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week")
+    @NotNull(message = "RecurringClass dayOfWeek must not be null")
+    private DayOfWeek dayOfWeek;
+
+    @ManyToOne
+    @JoinColumn(name = "type_id")
+    @NotNull(message = "RecurringClass classType must not be null")
+    private ClassType classType;
+
+    /**
+     * First date of the rule (inclusive).
+     */
+    @Column(name = "start_date")
+    @NotNull(message = "RecurringClass startDate must not be null")
+    private LocalDate startDate;
+
+    /**
+     * Last date of the rule (inclusive).
+     */
+    @Column(name = "end_date")
+    @NotNull(message = "RecurringClass endDate must not be null")
+    private LocalDate endDate;
+
+    @ManyToMany
+    @JoinTable(name = "recurring_classes_groups", joinColumns = @JoinColumn(name = "recurring_class_id"),
+               inverseJoinColumns = @JoinColumn(name = "group_id"))
+    @ToString.Exclude
+    @NotEmpty(message = "RecurringClass groups must not be empty")
+    @Builder.Default
+    private Set<Group> groups = new HashSet<>();
+
+    /**
+     * Dates on which the class doesn`t take place.
+     */
+    @ElementCollection
+    @CollectionTable(name = "recurring_classes_exception_dates",
+                     joinColumns = @JoinColumn(name = "recurring_class_id"))
+    @Column(name = "exception_date")
+    @ToString.Exclude
+    @Builder.Default
+    private Set<LocalDate> exceptionDates = new HashSet<>();
+
+    public static RecurringClass of(DayScheduleItem dayScheduleItem, LocalDate startDate, LocalDate endDate) {
+        return RecurringClass.builder().course(dayScheduleItem.getCourse()).teacher(dayScheduleItem.getTeacher())
+            .classroom(dayScheduleItem.getClassroom()).classTime(dayScheduleItem.getClassTime())
+            .dayOfWeek(dayScheduleItem.getDayOfWeek()).classType(dayScheduleItem.getClassType())
+            .groups(new HashSet<>(dayScheduleItem.getGroups())).startDate(startDate).endDate(endDate)
+            .exceptionDates(new HashSet<>()).build();
+    }
+
+    /**
+     * Dates of the occurrences inside the given window (both inclusive), without exception dates.
+     */
+    public List<LocalDate> getOccurrenceDates(LocalDate windowStart, LocalDate windowEnd) {
+        LocalDate first = windowStart.isAfter(startDate) ? windowStart : startDate;
+        LocalDate last = windowEnd.isBefore(endDate) ? windowEnd : endDate;
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first.with(TemporalAdjusters.nextOrSame(dayOfWeek)); !date.isAfter(last);
+             date = date.plusWeeks(1)) {
+            if (exceptionDates == null || !exceptionDates.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Transient (not persisted) ScheduledClass for one occurrence of this rule.
+     */
+    public ScheduledClass toScheduledClass(LocalDate date) {
+        return ScheduledClass.builder().course(course).teacher(teacher).classroom(classroom).classTime(classTime)
+            .classType(classType).groups(groups).date(date).build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        RecurringClass that = (RecurringClass) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
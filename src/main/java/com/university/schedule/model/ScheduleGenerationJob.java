@@ -0,0 +1,119 @@
+package com.university.schedule.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Setter
+@Getter
+@ToString
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "schedule_generation_jobs")
+public class ScheduleGenerationJob {
+
+    public static final int ERROR_MESSAGE_MAX_LENGTH = 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_generation_job_generator")
+    @SequenceGenerator(name = "schedule_generation_job_generator", sequenceName = "schedule_generation_jobs_seq",
+                       allocationSize = 1)
+    @Column(name = "schedule_generation_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull(message = "ScheduleGenerationJob status must not be null")
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @NotNull(message = "ScheduleGenerationJob phase must not be null")
+    private Phase phase;
+
+    @Column(name = "start_date")
+    @NotNull(message = "ScheduleGenerationJob startDate must not be null")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    @NotNull(message = "ScheduleGenerationJob endDate must not be null")
+    private LocalDate endDate;
+
+    /**
+     * First date that is not generated yet, every date before it is committed. A resumed job continues from here.
+     */
+    @Column(name = "next_chunk_date")
+    @NotNull(message = "ScheduleGenerationJob nextChunkDate must not be null")
+    private LocalDate nextChunkDate;
+
+    @Column(name = "generated_rows")
+    private int generatedRows;
+
+    @Column(name = "conflicts_found")
+    private int conflictsFound;
+
+    @Column(name = "error_message", length = ERROR_MESSAGE_MAX_LENGTH)
+    private String errorMessage;
+
+    /**
+     * Instance executing the job, it renews {@link #heartbeatAt} while the job is queued or running there.
+     */
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * Cuts the message to the error_message column, e.g. a failed batch reports the whole statement.
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage == null || errorMessage.length() <= ERROR_MESSAGE_MAX_LENGTH ? errorMessage
+            : errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = updatedAt;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        ScheduleGenerationJob that = (ScheduleGenerationJob) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    public enum Phase {
+        PENDING, VALIDATING, GENERATING, DONE
+    }
+}
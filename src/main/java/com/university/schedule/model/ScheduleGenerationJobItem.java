@@ -0,0 +1,91 @@
+package com.university.schedule.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import java.time.DayOfWeek;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Persisted DayScheduleItem of a ScheduleGenerationJob, so that an interrupted job can be resumed without the
+ * request that submitted it.
+ */
+@Setter
+@Getter
+@ToString
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "schedule_generation_job_items")
+public class ScheduleGenerationJobItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_generation_job_item_generator")
+    @SequenceGenerator(name = "schedule_generation_job_item_generator",
+                       sequenceName = "schedule_generation_job_items_seq", allocationSize = 1)
+    @Column(name = "schedule_generation_job_item_id")
+    private Long id;
+
+    @Column(name = "schedule_generation_job_id")
+    private Long jobId;
+
+    @ManyToOne
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @ManyToOne
+    @JoinColumn(name = "teacher_id")
+    private Teacher teacher;
+
+    @ManyToOne
+    @JoinColumn(name = "classroom_id")
+    private Classroom classroom;
+
+    @ManyToOne
+    @JoinColumn(name = "class_time_id")
+    private ClassTime classTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week")
+    private DayOfWeek dayOfWeek;
+
+    @ManyToOne
+    @JoinColumn(name = "type_id")
+    private ClassType classType;
+
+    @ManyToMany
+    @JoinTable(name = "schedule_generation_job_items_groups",
+               joinColumns = @JoinColumn(name = "schedule_generation_job_item_id"),
+               inverseJoinColumns = @JoinColumn(name = "group_id"))
+    @ToString.Exclude
+    @Builder.Default
+    private Set<Group> groups = new HashSet<>();
+
+    public static ScheduleGenerationJobItem of(Long jobId, DayScheduleItem dayScheduleItem) {
+        return ScheduleGenerationJobItem.builder().jobId(jobId).course(dayScheduleItem.getCourse())
+            .teacher(dayScheduleItem.getTeacher()).classroom(dayScheduleItem.getClassroom())
+            .classTime(dayScheduleItem.getClassTime()).dayOfWeek(dayScheduleItem.getDayOfWeek())
+            .classType(dayScheduleItem.getClassType()).groups(new HashSet<>(dayScheduleItem.getGroups())).build();
+    }
+
+    public DayScheduleItem toDayScheduleItem() {
+        return new DayScheduleItem(course, teacher, classroom, classTime, dayOfWeek, classType, new HashSet<>(groups));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        ScheduleGenerationJobItem that = (ScheduleGenerationJobItem) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -17,12 +17,15 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "scheduled_classes")
+@Table(name = "scheduled_classes",
+       uniqueConstraints = {@UniqueConstraint(columnNames = {"class_date", "class_time_id", "teacher_id"}),
+           @UniqueConstraint(columnNames = {"class_date", "class_time_id", "classroom_id"})})
 public class ScheduledClass {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scheduled_class_generator")
-    @SequenceGenerator(name = "scheduled_class_generator", sequenceName = "scheduled_classes_seq", allocationSize = 1)
+    @SequenceGenerator(name = "scheduled_class_generator", sequenceName = "scheduled_classes_seq",
+                       allocationSize = 50)
     @Column(name = "scheduled_class_id")
     private Long id;
 
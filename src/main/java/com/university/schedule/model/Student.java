@@ -1,5 +1,6 @@
 package com.university.schedule.model;
 
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.visitor.UserPageableCourseVisitor;
 import com.university.schedule.visitor.UserPageableStudentVisitor;
 import jakarta.persistence.*;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Objects;
@@ -46,6 +48,15 @@ public class Student extends User {
         return visitor.performActionForStudent(this, pageable);
     }
 
+    @Override
+    public Window<Course> accept(UserPageableCourseVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForStudent(this, keysetPageRequest);
+    }
+
+    public Window<Student> accept(UserPageableStudentVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForStudent(this, keysetPageRequest);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
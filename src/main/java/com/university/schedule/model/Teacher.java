@@ -1,5 +1,6 @@
 package com.university.schedule.model;
 
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.visitor.UserPageableCourseVisitor;
 import com.university.schedule.visitor.UserPageableStudentVisitor;
 import jakarta.persistence.*;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.HashSet;
 import java.util.List;
@@ -49,6 +51,15 @@ public class Teacher extends User {
         return visitor.performActionForTeacher(pageable);
     }
 
+    @Override
+    public Window<Course> accept(UserPageableCourseVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForTeacher(this, keysetPageRequest);
+    }
+
+    public Window<Student> accept(UserPageableStudentVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForTeacher(keysetPageRequest);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,6 @@
 package com.university.schedule.model;
 
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.visitor.UserPageableCourseVisitor;
 import com.university.schedule.visitor.UserPageableStudentVisitor;
 import jakarta.persistence.*;
@@ -8,6 +9,7 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.Hibernate;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Objects;
@@ -55,6 +57,13 @@ public class User {
     @Getter(AccessLevel.NONE)
     private Boolean isEnable;
 
+    /**
+     * Version of the identity tokens issued to the User, only {@link
+     * com.university.schedule.repository.UserRepository#incrementTokenVersion(Long)} changes it.
+     */
+    @Column(name = "token_version", insertable = false, updatable = false)
+    private int tokenVersion;
+
     public User(Long id, String email, String password, String firstName, String lastName, Role role) {
         this(id, email, password, firstName, lastName, true, role);
     }
@@ -91,6 +100,14 @@ public class User {
         return visitor.performActionForUser(pageable);
     }
 
+    public Window<Course> accept(UserPageableCourseVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForUser(keysetPageRequest);
+    }
+
+    public Window<Student> accept(UserPageableStudentVisitor visitor, KeysetPageRequest keysetPageRequest) {
+        return visitor.performActionForUser(keysetPageRequest);
+    }
+
     public Boolean isEnable() {
         return this.isEnable;
     }
@@ -0,0 +1,180 @@
+package com.university.schedule.pageable;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) companion of {@link OffsetBasedPageRequest}. Instead of an offset the request carries an opaque
+ * cursor with the sort values and the id of the last record of the previous page, the next page is read with a
+ * {@code (sortField, id) > (:value, :id)} condition, so its cost doesn`t depend on how deep the page is.
+ *
+ * <p>The cursor is URL-safe Base64 of the typed key values. Only properties with String, number, Boolean, date, time
+ * or Duration values can be keys, so sorting by an association is not supported, and the values must not be null.
+ */
+public class KeysetPageRequest {
+
+    private static final String ID = "id";
+
+    private static final byte CURSOR_VERSION = 1;
+
+    private final int limit;
+
+    private final Sort sort;
+
+    private final KeysetScrollPosition scrollPosition;
+
+    protected KeysetPageRequest(int limit, Sort sort, KeysetScrollPosition scrollPosition) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one!");
+        }
+        Assert.notNull(sort, "Sort must not be null");
+        Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+        this.limit = limit;
+        this.sort = sort;
+        this.scrollPosition = scrollPosition;
+    }
+
+    /**
+     * @param cursor cursor of {@link #encodeCursor(ScrollPosition)}, null or blank for the first page.
+     * @throws IllegalArgumentException if the cursor is malformed or was made for another sort.
+     */
+    public static KeysetPageRequest of(int limit, Sort sort, String cursor) {
+        Assert.notNull(sort, "Sort must not be null");
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetPageRequest(limit, sort, ScrollPosition.keyset());
+        }
+        Map<String, Object> keys = decodeKeys(cursor);
+        Set<String> expectedKeys = new HashSet<>();
+        sort.forEach(order -> expectedKeys.add(order.getProperty()));
+        expectedKeys.add(ID);
+        if (!keys.keySet().equals(expectedKeys)) {
+            throw new IllegalArgumentException("Page cursor doesn`t match the sort " + sort);
+        }
+        return new KeysetPageRequest(limit, sort, ScrollPosition.forward(keys));
+    }
+
+    public static KeysetPageRequest of(int limit, Sort sort) {
+        return of(limit, sort, null);
+    }
+
+    /**
+     * @param scrollPosition position of the last record of a page, as returned by the repository.
+     * @return cursor of the page that follows the record.
+     * @throws IllegalArgumentException if a key value is null or of a type that can`t be a key.
+     */
+    public static String encodeCursor(ScrollPosition scrollPosition) {
+        if (!(scrollPosition instanceof KeysetScrollPosition keysetScrollPosition)) {
+            throw new IllegalArgumentException("ScrollPosition is not a keyset position");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(CURSOR_VERSION);
+            output.writeShort(keysetScrollPosition.getKeys().size());
+            for (Map.Entry<String, Object> key : keysetScrollPosition.getKeys().entrySet()) {
+                KeyType keyType = KeyType.of(key.getKey(), key.getValue());
+                output.writeUTF(key.getKey());
+                output.writeByte(keyType.tag);
+                output.writeUTF(key.getValue().toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static Map<String, Object> decodeKeys(String cursor) {
+        try (DataInputStream input = new DataInputStream(
+            new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII))))) {
+            if (input.readByte() != CURSOR_VERSION) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            int size = input.readShort();
+            Map<String, Object> keys = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String property = input.readUTF();
+                KeyType keyType = KeyType.of(input.readByte());
+                keys.put(property, keyType.parser.apply(input.readUTF()));
+            }
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return keys;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public KeysetScrollPosition getScrollPosition() {
+        return scrollPosition;
+    }
+
+    public boolean isFirst() {
+        return scrollPosition.isInitial();
+    }
+
+    private enum KeyType {
+        STRING('S', String.class, value -> value),
+        LONG('L', Long.class, Long::valueOf),
+        INTEGER('I', Integer.class, Integer::valueOf),
+        SHORT('H', Short.class, Short::valueOf),
+        DECIMAL('N', BigDecimal.class, BigDecimal::new),
+        BOOLEAN('B', Boolean.class, Boolean::valueOf),
+        DATE('D', LocalDate.class, LocalDate::parse),
+        TIME('T', LocalTime.class, LocalTime::parse),
+        DATE_TIME('X', LocalDateTime.class, LocalDateTime::parse),
+        DURATION('R', Duration.class, Duration::parse);
+
+        private final char tag;
+
+        private final Class<?> type;
+
+        private final Function<String, Object> parser;
+
+        KeyType(char tag, Class<?> type, Function<String, Object> parser) {
+            this.tag = tag;
+            this.type = type;
+            this.parser = parser;
+        }
+
+        private static KeyType of(String property, Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Keyset pagination doesn`t support null values of " + property);
+            }
+            for (KeyType keyType : values()) {
+                if (keyType.type == value.getClass()) {
+                    return keyType;
+                }
+            }
+            throw new IllegalArgumentException("Keyset pagination doesn`t support sorting by " + property);
+        }
+
+        private static KeyType of(byte tag) {
+            for (KeyType keyType : values()) {
+                if (keyType.tag == tag) {
+                    return keyType;
+                }
+            }
+            throw new IllegalArgumentException("Unknown key type " + tag);
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.university.schedule.repository;
 
 import com.university.schedule.model.Building;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface BuildingRepository extends JpaRepository<Building, Long> {
+public interface BuildingRepository extends JpaRepository<Building, Long>, KeysetScrollRepository<Building> {
     Optional<Building> findByName(String name);
 
     Optional<Building> findByAddress(String name);
-}
 
+    Slice<Building> findAllBy(Pageable pageable);
+}
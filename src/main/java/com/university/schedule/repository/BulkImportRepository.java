@@ -0,0 +1,205 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.model.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * JDBC based lookups and inserts of the bulk import. Lookups take the values of a whole chunk and run one query
+ * instead of one per row, inserts are sent in JDBC batches.
+ *
+ * <p>The users, groups and courses sequences are incremented by 1 (allocationSize of the entities), so the ids of
+ * a chunk are fetched with a single {@code nextval} over {@code generate_series} and stay compatible with the JPA
+ * writers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkImportRepository {
+
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (user_id, email, password, first_name, last_name, role_id, is_enable) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_STUDENT_SQL = "INSERT INTO students (student_id, group_id) VALUES (?, ?)";
+
+    private static final String INSERT_TEACHER_SQL = "INSERT INTO teachers (teacher_id) VALUES (?)";
+
+    private static final String INSERT_GROUP_SQL =
+        "INSERT INTO groups (group_id, name, discipline_id) VALUES (?, ?, ?)";
+
+    private static final String INSERT_COURSE_SQL = "INSERT INTO courses (course_id, name) VALUES (?, ?)";
+
+    private static final String INSERT_GROUP_COURSE_SQL =
+        "INSERT INTO groups_courses (group_id, course_id) VALUES (?, ?)";
+
+    private static final String INSERT_TEACHER_COURSE_SQL =
+        "INSERT INTO teachers_courses (teacher_id, course_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${imports.batchSize:500}")
+    private int batchSize;
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(new NamedParameterJdbcTemplate(jdbcTemplate).queryForList(
+            "SELECT email FROM users WHERE email IN (:values)", Map.of("values", emails), String.class));
+    }
+
+    public Map<String, Long> findRoleIdsByName() {
+        Map<String, Long> roleIds = new HashMap<>();
+        jdbcTemplate.query("SELECT name, role_id FROM roles",
+            (RowCallbackHandler) rs -> roleIds.put(rs.getString(1), rs.getLong(2)));
+        return roleIds;
+    }
+
+    public Map<String, Long> findDisciplineIdsByName(Collection<String> names) {
+        return queryNames("SELECT name, discipline_id FROM disciplines WHERE name IN (:values)", names);
+    }
+
+    public Map<String, Long> findGroupIdsByName(Collection<String> names) {
+        return queryNames("SELECT name, group_id FROM groups WHERE name IN (:values)", names);
+    }
+
+    public Map<String, Long> findCourseIdsByName(Collection<String> names) {
+        return queryNames("SELECT name, course_id FROM courses WHERE name IN (:values)", names);
+    }
+
+    public Map<String, Long> findTeacherIdsByEmail(Collection<String> emails) {
+        return queryNames("SELECT u.email, t.teacher_id FROM teachers t JOIN users u ON u.user_id = t.teacher_id " +
+            "WHERE u.email IN (:values)", emails);
+    }
+
+    /**
+     * @return Group id and Course id of the groups_courses rows of the given Courses.
+     */
+    public Set<IdPair> findGroupCourses(Collection<Long> courseIds) {
+        return queryPairs("SELECT group_id, course_id FROM groups_courses WHERE course_id IN (:values)", courseIds);
+    }
+
+    /**
+     * @return Teacher id and Course id of the teachers_courses rows of the given Courses.
+     */
+    public Set<IdPair> findTeacherCourses(Collection<Long> courseIds) {
+        return queryPairs("SELECT teacher_id, course_id FROM teachers_courses WHERE course_id IN (:values)",
+            courseIds);
+    }
+
+    /**
+     * Assigns ids to the given Users and inserts them, Students and Teachers also into their own tables.
+     *
+     * @return number of inserted users rows.
+     */
+    public int insertUsers(List<User> users) {
+        assignIds(users, "users_seq", User::setId);
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, batchSize, (ps, user) -> {
+            ps.setLong(1, user.getId());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getFirstName());
+            ps.setString(5, user.getLastName());
+            ps.setLong(6, user.getRole().getId());
+            ps.setBoolean(7, !Boolean.FALSE.equals(user.isEnable()));
+        });
+        List<Student> students = users.stream().filter(Student.class::isInstance).map(Student.class::cast).toList();
+        jdbcTemplate.batchUpdate(INSERT_STUDENT_SQL, students, batchSize, (ps, student) -> {
+            ps.setLong(1, student.getId());
+            if (student.getGroup() == null) {
+                ps.setNull(2, Types.INTEGER);
+            } else {
+                ps.setLong(2, student.getGroup().getId());
+            }
+        });
+        List<Teacher> teachers = users.stream().filter(Teacher.class::isInstance).map(Teacher.class::cast).toList();
+        jdbcTemplate.batchUpdate(INSERT_TEACHER_SQL, teachers, batchSize,
+            (ps, teacher) -> ps.setLong(1, teacher.getId()));
+        return users.size();
+    }
+
+    /**
+     * Assigns ids to the given Groups and inserts them.
+     */
+    public int insertGroups(List<Group> groups) {
+        assignIds(groups, "groups_seq", Group::setId);
+        jdbcTemplate.batchUpdate(INSERT_GROUP_SQL, groups, batchSize, (ps, group) -> {
+            ps.setLong(1, group.getId());
+            ps.setString(2, group.getName());
+            ps.setLong(3, group.getDiscipline().getId());
+        });
+        return groups.size();
+    }
+
+    /**
+     * Assigns ids to the given Courses and inserts them.
+     */
+    public int insertCourses(List<Course> courses) {
+        assignIds(courses, "courses_seq", Course::setId);
+        jdbcTemplate.batchUpdate(INSERT_COURSE_SQL, courses, batchSize, (ps, course) -> {
+            ps.setLong(1, course.getId());
+            ps.setString(2, course.getName());
+        });
+        return courses.size();
+    }
+
+    /**
+     * @param groupCourses Group id and Course id pairs.
+     */
+    public int insertGroupCourses(List<IdPair> groupCourses) {
+        return insertPairs(INSERT_GROUP_COURSE_SQL, groupCourses);
+    }
+
+    /**
+     * @param teacherCourses Teacher id and Course id pairs.
+     */
+    public int insertTeacherCourses(List<IdPair> teacherCourses) {
+        return insertPairs(INSERT_TEACHER_COURSE_SQL, teacherCourses);
+    }
+
+    private int insertPairs(String sql, List<IdPair> pairs) {
+        jdbcTemplate.batchUpdate(sql, pairs, batchSize, (ps, pair) -> {
+            ps.setLong(1, pair.ownerId());
+            ps.setLong(2, pair.relatedId());
+        });
+        return pairs.size();
+    }
+
+    private Map<String, Long> queryNames(String sql, Collection<String> values) {
+        Map<String, Long> ids = new HashMap<>();
+        if (values.isEmpty()) {
+            return ids;
+        }
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(sql, Map.of("values", values),
+            (RowCallbackHandler) rs -> ids.put(rs.getString(1), rs.getLong(2)));
+        return ids;
+    }
+
+    private Set<IdPair> queryPairs(String sql, Collection<Long> values) {
+        if (values.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(new NamedParameterJdbcTemplate(jdbcTemplate).query(sql, Map.of("values", values),
+            (rs, rowNum) -> new IdPair(rs.getLong(1), rs.getLong(2))));
+    }
+
+    private <T> void assignIds(List<T> entities, String sequence, BiConsumer<T, Long> idSetter) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT nextval('" + sequence + "') FROM generate_series(1, ?)",
+            Long.class, entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            idSetter.accept(entities.get(i), ids.get(i));
+        }
+    }
+}
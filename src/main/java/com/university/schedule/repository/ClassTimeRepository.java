@@ -1,12 +1,15 @@
 package com.university.schedule.repository;
 
 import com.university.schedule.model.ClassTime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface ClassTimeRepository extends JpaRepository<ClassTime, Long> {
+public interface ClassTimeRepository extends JpaRepository<ClassTime, Long>, KeysetScrollRepository<ClassTime> {
 
     Optional<ClassTime> findByOrderNumber(Integer order);
 
+    Slice<ClassTime> findAllBy(Pageable pageable);
 }
@@ -1,10 +1,14 @@
 package com.university.schedule.repository;
 
 import com.university.schedule.model.ClassType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface ClassTypeRepository extends JpaRepository<ClassType, Long> {
+public interface ClassTypeRepository extends JpaRepository<ClassType, Long>, KeysetScrollRepository<ClassType> {
     Optional<ClassType> findByName(String name);
+
+    Slice<ClassType> findAllBy(Pageable pageable);
 }
@@ -2,15 +2,18 @@ package com.university.schedule.repository;
 
 import com.university.schedule.model.Building;
 import com.university.schedule.model.Classroom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
+public interface ClassroomRepository extends JpaRepository<Classroom, Long>, KeysetScrollRepository<Classroom> {
 
     Optional<Classroom> findByNameAndBuilding(String name, Building building);
 
     List<Classroom> findByBuilding(Building building);
 
+    Slice<Classroom> findAllBy(Pageable pageable);
 }
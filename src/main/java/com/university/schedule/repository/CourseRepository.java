@@ -1,25 +1,38 @@
 package com.university.schedule.repository;
 
+import com.university.schedule.dto.IdPair;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Group;
 import com.university.schedule.model.Teacher;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, KeysetScrollRepository<Course> {
     Optional<Course> findByName(String name);
 
     List<Course> findByTeachers(Teacher teacher);
 
     List<Course> findByGroupsName(String groupName);
 
-    Page<Course> findByTeachers(Teacher teacher, Pageable pageable);
+    Slice<Course> findByTeachers(Teacher teacher, Pageable pageable);
 
-    Page<Course> findByGroups(Group group, Pageable pageable);
+    Slice<Course> findByGroups(Group group, Pageable pageable);
 
     List<Course> findByGroups(Group group);
+
+    @Query("SELECT new com.university.schedule.dto.IdPair(t.id, c.id) FROM Teacher t JOIN t.courses c " +
+        "WHERE t.id IN ?1")
+    List<IdPair> findTeacherCourseIds(Collection<Long> teacherIds);
+
+    @Query("SELECT new com.university.schedule.dto.IdPair(g.id, c.id) FROM Group g JOIN g.courses c " +
+        "WHERE g.id IN ?1")
+    List<IdPair> findGroupCourseIds(Collection<Long> groupIds);
+
+    Slice<Course> findAllBy(Pageable pageable);
 }
@@ -1,11 +1,15 @@
 package com.university.schedule.repository;
 
 import com.university.schedule.model.Discipline;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface DisciplineRepository extends JpaRepository<Discipline, Long> {
+public interface DisciplineRepository extends JpaRepository<Discipline, Long>, KeysetScrollRepository<Discipline> {
 
     Optional<Discipline> findByName(String name);
+
+    Slice<Discipline> findAllBy(Pageable pageable);
 }
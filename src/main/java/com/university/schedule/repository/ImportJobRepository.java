@@ -0,0 +1,33 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.model.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    List<ImportJob> findAllByStatusIn(Collection<ImportJob.Status> statuses);
+
+    /**
+     * Takes the lease of a job in one of the statuses if the instance owns it already or the lease expired.
+     *
+     * @return 1 if the lease was taken, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.ownerInstance = ?2, j.heartbeatAt = ?3 WHERE j.id = ?1 AND j.status IN ?5 " +
+        "AND (j.ownerInstance = ?2 OR j.heartbeatAt IS NULL OR j.heartbeatAt < ?4)")
+    int claimLease(Long id, String ownerInstance, LocalDateTime heartbeatAt, LocalDateTime expiredBefore,
+                   Collection<ImportJob.Status> statuses);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.heartbeatAt = ?3 WHERE j.id IN ?1 AND j.ownerInstance = ?2")
+    int renewLeases(Collection<Long> ids, String ownerInstance, LocalDateTime heartbeatAt);
+}
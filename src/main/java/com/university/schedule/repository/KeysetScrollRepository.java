@@ -0,0 +1,23 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.pageable.KeysetPageRequest;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Keyset pagination of the records pages. The id is appended to the sort of the request as the tie-breaker, so a
+ * page is an index range scan of {@code limit + 1} rows at any depth.
+ */
+public interface KeysetScrollRepository<T> extends JpaSpecificationExecutor<T> {
+
+    default Window<T> scroll(KeysetPageRequest keysetPageRequest) {
+        return scroll(Specification.where(null), keysetPageRequest);
+    }
+
+    default Window<T> scroll(Specification<T> specification, KeysetPageRequest keysetPageRequest) {
+        return findBy(specification,
+            query -> query.sortBy(keysetPageRequest.getSort()).limit(keysetPageRequest.getLimit())
+                .scroll(keysetPageRequest.getScrollPosition()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.university.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Exact and estimated row counts of the tables behind the records listings. Table names come from the {@code @Table}
+ * annotations of the entities, never from requests.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordCountRepository {
+
+    private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @return number of rows the planner estimated at the last VACUUM or ANALYZE, -1 if the table was never analyzed.
+     */
+    public long estimate(String table) {
+        List<Long> estimates = jdbcTemplate.query(ESTIMATE_SQL, (rs, rowNum) -> rs.getLong(1), table);
+        return estimates.isEmpty() ? -1 : estimates.get(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.model.RecurringClass;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RecurringClassRepository extends JpaRepository<RecurringClass, Long> {
+
+    /**
+     * Every association the occurrences are expanded and rendered with is fetch-joined, so the rules of a period are
+     * loaded in one statement.
+     */
+    @Query("SELECT DISTINCT r FROM RecurringClass r JOIN FETCH r.course JOIN FETCH r.teacher " +
+        "LEFT JOIN FETCH r.classroom JOIN FETCH r.classTime JOIN FETCH r.classType LEFT JOIN FETCH r.groups " +
+        "LEFT JOIN FETCH r.exceptionDates " +
+        "WHERE r.startDate <= ?2 AND r.endDate >= ?1 AND (?3 IS NULL OR r.classType.id = ?3) " +
+        "AND (?4 IS NULL OR r.teacher.id = ?4) AND (EXISTS (SELECT 1 FROM r.groups g WHERE g.id IN ?5))")
+    List<RecurringClass> findAllActive(LocalDate startDate, LocalDate endDate, Long classTypeId, Long teacherId,
+                                       List<Long> groupIds);
+
+    @Query("SELECT DISTINCT r FROM RecurringClass r JOIN FETCH r.course JOIN FETCH r.teacher " +
+        "LEFT JOIN FETCH r.classroom JOIN FETCH r.classTime JOIN FETCH r.classType LEFT JOIN FETCH r.groups " +
+        "LEFT JOIN FETCH r.exceptionDates " +
+        "WHERE r.startDate <= ?2 AND r.endDate >= ?1 AND (?3 IS NULL OR r.classType.id = ?3) " +
+        "AND (?4 IS NULL OR r.teacher.id = ?4)")
+    List<RecurringClass> findAllActive(LocalDate startDate, LocalDate endDate, Long classTypeId, Long teacherId);
+
+    /**
+     * Whether an occurrence of an active rule of another Teacher takes the Classroom at the date and ClassTime.
+     *
+     * @param teacherId Teacher whose own rules are ignored, null to check the rules of every Teacher.
+     */
+    @Query("SELECT COUNT(r) > 0 FROM RecurringClass r WHERE r.classroom.id = ?1 AND r.classTime.id = ?2 " +
+        "AND r.dayOfWeek = ?3 AND r.startDate <= ?4 AND r.endDate >= ?4 AND (?5 IS NULL OR r.teacher.id <> ?5) " +
+        "AND ?4 NOT MEMBER OF r.exceptionDates")
+    boolean existsOccurrenceInClassroom(Long classroomId, Long classTimeId, DayOfWeek dayOfWeek, LocalDate date,
+                                        Long teacherId);
+}
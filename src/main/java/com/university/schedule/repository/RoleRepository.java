@@ -1,11 +1,15 @@
 package com.university.schedule.repository;
 
 import com.university.schedule.model.Role;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface RoleRepository extends JpaRepository<Role, Long> {
+public interface RoleRepository extends JpaRepository<Role, Long>, KeysetScrollRepository<Role> {
 
     Optional<Role> findByName(String name);
+
+    Slice<Role> findAllBy(Pageable pageable);
 }
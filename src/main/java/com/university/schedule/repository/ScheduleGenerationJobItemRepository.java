@@ -0,0 +1,13 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.model.ScheduleGenerationJobItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ScheduleGenerationJobItemRepository extends JpaRepository<ScheduleGenerationJobItem, Long> {
+
+    @Query("SELECT DISTINCT i FROM ScheduleGenerationJobItem i LEFT JOIN FETCH i.groups WHERE i.jobId = ?1")
+    List<ScheduleGenerationJobItem> findAllByJobId(Long jobId);
+}
@@ -0,0 +1,30 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.model.ScheduleGenerationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleGenerationJobRepository extends JpaRepository<ScheduleGenerationJob, Long> {
+
+    List<ScheduleGenerationJob> findAllByStatusIn(Collection<ScheduleGenerationJob.Status> statuses);
+
+    /**
+     * Takes the lease of a job in one of the statuses if it is owned by the instance already or its lease expired.
+     *
+     * @return 1 if the lease was taken, 0 if another instance holds it or the job changed its status.
+     */
+    @Modifying
+    @Query("UPDATE ScheduleGenerationJob j SET j.ownerInstance = ?2, j.heartbeatAt = ?3 WHERE j.id = ?1 " +
+        "AND j.status IN ?5 AND (j.ownerInstance = ?2 OR j.heartbeatAt IS NULL OR j.heartbeatAt < ?4)")
+    int claimLease(Long id, String ownerInstance, LocalDateTime heartbeatAt, LocalDateTime expiredBefore,
+                   Collection<ScheduleGenerationJob.Status> statuses);
+
+    @Modifying
+    @Query("UPDATE ScheduleGenerationJob j SET j.heartbeatAt = ?3 WHERE j.id IN ?1 AND j.ownerInstance = ?2")
+    int renewLeases(Collection<Long> ids, String ownerInstance, LocalDateTime heartbeatAt);
+}
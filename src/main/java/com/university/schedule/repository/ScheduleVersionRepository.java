@@ -0,0 +1,25 @@
+package com.university.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The {@code schedule_version_seq} sequence. Sequences are not transactional: the increment takes effect at once,
+ * doesn`t wait for other writers and is kept even if the current transaction rolls back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long get() {
+        Long version = jdbcTemplate.queryForObject("SELECT last_value FROM schedule_version_seq", Long.class);
+        return version == null ? 0 : version;
+    }
+
+    public void increment() {
+        jdbcTemplate.queryForObject("SELECT nextval('schedule_version_seq')", Long.class);
+    }
+}
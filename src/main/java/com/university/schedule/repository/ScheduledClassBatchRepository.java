@@ -0,0 +1,220 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.ScheduledClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * JDBC based bulk reader and writer for ScheduledClass rows. It is used by the bulk generation and regeneration
+ * paths, where the per-row JPA save (with its own validation queries and single-row INSERT) is too slow.
+ *
+ * <p>Ids are allocated in blocks from scheduled_classes_seq, using the same "pooled" semantics Hibernate uses for
+ * {@link ScheduledClass} (each nextval value is the upper bound of a block of {@link #ID_ALLOCATION_SIZE} ids), so
+ * both writers can share the sequence safely.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledClassBatchRepository {
+
+    /**
+     * Must be equal to INCREMENT BY of scheduled_classes_seq and to the allocationSize of ScheduledClass id.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT nextval('scheduled_classes_seq')";
+
+    private static final String INSERT_SCHEDULED_CLASS_SQL =
+        "INSERT INTO scheduled_classes (scheduled_class_id, course_id, teacher_id, classroom_id, class_time_id, " +
+            "class_date, type_id, generated) VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)";
+
+    private static final String INSERT_SCHEDULED_CLASS_GROUP_SQL =
+        "INSERT INTO scheduled_classes_groups (scheduled_class_id, group_id) VALUES (?, ?)";
+
+    private static final String SELECT_ROWS_SQL =
+        "SELECT sc.scheduled_class_id, sc.class_date, sc.class_time_id, sc.teacher_id, sc.course_id, " +
+            "sc.classroom_id, sc.type_id, sc.generated, array_agg(scg.group_id) AS group_ids " +
+            "FROM scheduled_classes sc " +
+            "LEFT JOIN scheduled_classes_groups scg ON scg.scheduled_class_id = sc.scheduled_class_id " +
+            "WHERE sc.class_date BETWEEN ? AND ? GROUP BY sc.scheduled_class_id";
+
+    private static final String SELECT_ROWS_BY_IDS_SQL =
+        "SELECT sc.scheduled_class_id, sc.class_date, sc.class_time_id, sc.teacher_id, sc.course_id, " +
+            "sc.classroom_id, sc.type_id, sc.generated, array_agg(scg.group_id) AS group_ids " +
+            "FROM scheduled_classes sc " +
+            "LEFT JOIN scheduled_classes_groups scg ON scg.scheduled_class_id = sc.scheduled_class_id " +
+            "WHERE sc.scheduled_class_id IN (:ids) GROUP BY sc.scheduled_class_id";
+
+    private static final String RELEASE_CLASSROOM_SQL =
+        "UPDATE scheduled_classes SET classroom_id = NULL WHERE scheduled_class_id = ?";
+
+    private static final String UPDATE_SCHEDULED_CLASS_SQL =
+        "UPDATE scheduled_classes SET course_id = ?, classroom_id = ?, type_id = ? WHERE scheduled_class_id = ?";
+
+    private static final String DELETE_SCHEDULED_CLASS_SQL =
+        "DELETE FROM scheduled_classes WHERE scheduled_class_id = ?";
+
+    private static final String DELETE_SCHEDULED_CLASS_GROUPS_SQL =
+        "DELETE FROM scheduled_classes_groups WHERE scheduled_class_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schedule.generation.batchSize:500}")
+    private int batchSize;
+
+    /**
+     * Assigns ids to the given (not yet persisted) ScheduledClasses and inserts them together with their groups in
+     * JDBC batches. Must be called inside a transaction, so a failed batch rolls back the whole generation. The rows
+     * are marked as generated.
+     *
+     * @param scheduledClasses ScheduledClasses to insert, ids are set in place.
+     * @return number of inserted scheduled_classes rows.
+     */
+    public int insertAll(List<ScheduledClass> scheduledClasses) {
+        if (scheduledClasses.isEmpty()) {
+            return 0;
+        }
+        assignIds(scheduledClasses);
+
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULED_CLASS_SQL, scheduledClasses, batchSize, (ps, scheduledClass) -> {
+            ps.setLong(1, scheduledClass.getId());
+            ps.setLong(2, scheduledClass.getCourse().getId());
+            ps.setLong(3, scheduledClass.getTeacher().getId());
+            setNullableId(ps, 4, scheduledClass.getClassroom() == null ? null : scheduledClass.getClassroom().getId());
+            ps.setLong(5, scheduledClass.getClassTime().getId());
+            ps.setDate(6, Date.valueOf(scheduledClass.getDate()));
+            setNullableId(ps, 7, scheduledClass.getClassType() == null ? null : scheduledClass.getClassType().getId());
+        });
+        insertGroups(scheduledClasses);
+
+        return scheduledClasses.size();
+    }
+
+    /**
+     * Loads every ScheduledClass row of the date range with its Group ids in one query.
+     */
+    public List<ScheduledClassRow> findRowsByDateBetween(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_ROWS_SQL, (rs, rowNum) -> mapRow(rs), Date.valueOf(startDate),
+            Date.valueOf(endDate));
+    }
+
+    /**
+     * Loads the persisted state of the given ScheduledClasses with their Group ids, one query per
+     * {@code batchSize} ids. Unknown ids are skipped.
+     */
+    public List<ScheduledClassRow> findRowsByIds(Collection<Long> ids) {
+        List<ScheduledClassRow> rows = new ArrayList<>(ids.size());
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += batchSize) {
+            List<Long> idBatch = idList.subList(from, Math.min(from + batchSize, idList.size()));
+            rows.addAll(namedParameterJdbcTemplate.query(SELECT_ROWS_BY_IDS_SQL, Map.of("ids", idBatch),
+                (rs, rowNum) -> mapRow(rs)));
+        }
+        return rows;
+    }
+
+    /**
+     * Updates Course, Classroom and ClassType of persisted ScheduledClasses in JDBC batches. The Classrooms of the
+     * rows are released first: the (class_date, class_time_id, classroom_id) constraint is checked per statement, so
+     * two classes swapping their Classrooms would otherwise collide on the first update.
+     *
+     * @return number of updated rows.
+     */
+    public int updateAll(List<ScheduledClass> scheduledClasses) {
+        jdbcTemplate.batchUpdate(RELEASE_CLASSROOM_SQL, scheduledClasses, batchSize,
+            (ps, scheduledClass) -> ps.setLong(1, scheduledClass.getId()));
+        jdbcTemplate.batchUpdate(UPDATE_SCHEDULED_CLASS_SQL, scheduledClasses, batchSize, (ps, scheduledClass) -> {
+            ps.setLong(1, scheduledClass.getCourse().getId());
+            setNullableId(ps, 2, scheduledClass.getClassroom() == null ? null : scheduledClass.getClassroom().getId());
+            setNullableId(ps, 3, scheduledClass.getClassType() == null ? null : scheduledClass.getClassType().getId());
+            ps.setLong(4, scheduledClass.getId());
+        });
+        return scheduledClasses.size();
+    }
+
+    /**
+     * Replaces the Groups of persisted ScheduledClasses in JDBC batches.
+     */
+    public void replaceGroups(List<ScheduledClass> scheduledClasses) {
+        jdbcTemplate.batchUpdate(DELETE_SCHEDULED_CLASS_GROUPS_SQL, scheduledClasses, batchSize,
+            (ps, scheduledClass) -> ps.setLong(1, scheduledClass.getId()));
+        insertGroups(scheduledClasses);
+    }
+
+    /**
+     * Deletes ScheduledClasses (and their Group links, by cascade) in JDBC batches.
+     *
+     * @return number of deleted rows.
+     */
+    public int deleteAllById(List<Long> ids) {
+        jdbcTemplate.batchUpdate(DELETE_SCHEDULED_CLASS_SQL, ids, batchSize, (ps, id) -> ps.setLong(1, id));
+        return ids.size();
+    }
+
+    private void insertGroups(List<ScheduledClass> scheduledClasses) {
+        List<long[]> groupRows = new ArrayList<>(scheduledClasses.size());
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            for (Group group : scheduledClass.getGroups()) {
+                groupRows.add(new long[]{scheduledClass.getId(), group.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULED_CLASS_GROUP_SQL, groupRows, batchSize, (ps, groupRow) -> {
+            ps.setLong(1, groupRow[0]);
+            ps.setLong(2, groupRow[1]);
+        });
+    }
+
+    private static ScheduledClassRow mapRow(ResultSet rs) throws SQLException {
+        Set<Long> groupIds = new HashSet<>();
+        for (Object groupId : (Object[]) rs.getArray("group_ids").getArray()) {
+            if (groupId != null) {
+                groupIds.add(((Number) groupId).longValue());
+            }
+        }
+        return new ScheduledClassRow(rs.getLong("scheduled_class_id"), rs.getDate("class_date").toLocalDate(),
+            rs.getLong("class_time_id"), rs.getLong("teacher_id"), rs.getLong("course_id"),
+            rs.getObject("classroom_id", Long.class), rs.getObject("type_id", Long.class), groupIds,
+            rs.getBoolean("generated"));
+    }
+
+    private static void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setLong(index, id);
+        }
+    }
+
+    private void assignIds(List<ScheduledClass> scheduledClasses) {
+        long nextId = 0;
+        long blockEnd = -1;
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            if (nextId > blockEnd) {
+                blockEnd = nextIdBlockEnd();
+                nextId = blockEnd - ID_ALLOCATION_SIZE + 1;
+            }
+            scheduledClass.setId(nextId++);
+        }
+    }
+
+    private long nextIdBlockEnd() {
+        Long blockEnd = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+        if (blockEnd == null || blockEnd < ID_ALLOCATION_SIZE) {
+            throw new IllegalStateException("scheduled_classes_seq is not configured for pooled allocation");
+        }
+        return blockEnd;
+    }
+}
@@ -0,0 +1,168 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only projection of the schedule: one SQL query returns flat rows (with the Groups aggregated into arrays)
+ * that are assembled straight into ScheduledClassDTOs, without managed entities and without the ModelMapper
+ * converters.
+ *
+ * <p>Only the fields shown on the schedule page are filled: Teacher without Role and Courses, Groups without
+ * Discipline and Courses.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledClassProjectionRepository {
+
+    private static final String SELECT_SCHEDULE_SQL =
+        "SELECT sc.scheduled_class_id, sc.class_date, c.course_id, c.name AS course_name, u.user_id AS teacher_id, " +
+            "u.email AS teacher_email, u.first_name AS teacher_first_name, u.last_name AS teacher_last_name, " +
+            "u.is_enable AS teacher_is_enable, cr.classroom_id, cr.name AS classroom_name, b.building_id, " +
+            "b.name AS building_name, b.address AS building_address, ct.class_time_id, ct.order_number, " +
+            "ct.start_time, ct.duration_minutes, t.class_type_id, t.name AS class_type_name, " +
+            "array_agg(g.group_id ORDER BY g.name) AS group_ids, array_agg(g.name ORDER BY g.name) AS group_names " +
+            "FROM scheduled_classes sc " +
+            "JOIN courses c ON c.course_id = sc.course_id " +
+            "JOIN users u ON u.user_id = sc.teacher_id " +
+            "JOIN class_times ct ON ct.class_time_id = sc.class_time_id " +
+            "LEFT JOIN classrooms cr ON cr.classroom_id = sc.classroom_id " +
+            "LEFT JOIN buildings b ON b.building_id = cr.building_id " +
+            "LEFT JOIN class_types t ON t.class_type_id = sc.type_id " +
+            "LEFT JOIN scheduled_classes_groups scg ON scg.scheduled_class_id = sc.scheduled_class_id " +
+            "LEFT JOIN groups g ON g.group_id = scg.group_id " +
+            "WHERE sc.class_date BETWEEN :startDate AND :endDate";
+
+    private static final String GROUP_BY_SQL =
+        " GROUP BY sc.scheduled_class_id, c.course_id, u.user_id, cr.classroom_id, b.building_id, ct.class_time_id, " +
+            "t.class_type_id";
+
+    private static final String ORDER_BY_SQL = " ORDER BY sc.class_date, ct.order_number";
+
+    private static final String KEYSET_ORDER_BY_SQL = " ORDER BY sc.class_date, sc.scheduled_class_id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Classes in the date range, filtered by ClassType, Teacher and Groups; every null filter value is ignored.
+     *
+     * @param groupIds ids of the Groups, at least one of them must attend the class. If null, Groups aren`t
+     *                 filtered, if empty, nothing is found.
+     * @return ScheduledClassDTOs ordered by date and ClassTime order number.
+     */
+    public List<ScheduledClassDTO> findAllFiltered(LocalDate startDate, LocalDate endDate, Long classTypeId,
+                                                   Long teacherId, List<Long> groupIds) {
+        if (groupIds != null && groupIds.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_SQL);
+        MapSqlParameterSource parameters = appendFilters(sql, startDate, endDate, classTypeId, teacherId, groupIds);
+        sql.append(GROUP_BY_SQL).append(ORDER_BY_SQL);
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * Keyset page of {@link #findAllFiltered(LocalDate, LocalDate, Long, Long, List)}: the classes ordered by
+     * (date, id) that follow the cursor. Both seek columns are in scheduled_classes, so the seek and the order are
+     * served by the (class_date, scheduled_class_id) index and reading the next page costs the same as the first
+     * one, whatever the position in the date range. The classes of a day are not in ClassTime order.
+     *
+     * @param after position of the last class of the previous page, null for the first page.
+     * @param limit maximum number of classes of the page.
+     * @return ScheduledClassDTOs ordered by date and id.
+     */
+    public List<ScheduledClassDTO> findPageFiltered(LocalDate startDate, LocalDate endDate, Long classTypeId,
+                                                    Long teacherId, List<Long> groupIds, ScheduleCursor after,
+                                                    int limit) {
+        if (groupIds != null && groupIds.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(SELECT_SCHEDULE_SQL);
+        MapSqlParameterSource parameters =
+            appendFilters(sql, startDate, endDate, classTypeId, teacherId, groupIds).addValue("limit", limit);
+        if (after != null) {
+            sql.append(" AND (sc.class_date, sc.scheduled_class_id) > (:afterDate, :afterId)");
+            parameters.addValue("afterDate", Date.valueOf(after.date())).addValue("afterId", after.id());
+        }
+        sql.append(GROUP_BY_SQL).append(KEYSET_ORDER_BY_SQL);
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, (rs, rowNum) -> mapRow(rs));
+    }
+
+    private static MapSqlParameterSource appendFilters(StringBuilder sql, LocalDate startDate, LocalDate endDate,
+                                                       Long classTypeId, Long teacherId, List<Long> groupIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource().addValue("startDate", Date.valueOf(startDate))
+            .addValue("endDate", Date.valueOf(endDate));
+        if (classTypeId != null) {
+            sql.append(" AND sc.type_id = :classTypeId");
+            parameters.addValue("classTypeId", classTypeId);
+        }
+        if (teacherId != null) {
+            sql.append(" AND sc.teacher_id = :teacherId");
+            parameters.addValue("teacherId", teacherId);
+        }
+        if (groupIds != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM scheduled_classes_groups f WHERE f.scheduled_class_id = " +
+                "sc.scheduled_class_id AND f.group_id IN (:groupIds))");
+            parameters.addValue("groupIds", groupIds);
+        }
+        return parameters;
+    }
+
+    private static ScheduledClassDTO mapRow(ResultSet rs) throws SQLException {
+        ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
+        scheduledClassDTO.setId(rs.getLong("scheduled_class_id"));
+        scheduledClassDTO.setDate(rs.getDate("class_date").toLocalDate());
+        scheduledClassDTO.setCourseDTO(
+            CourseDTO.builder().id(rs.getLong("course_id")).name(rs.getString("course_name")).build());
+
+        TeacherDTO teacherDTO = new TeacherDTO();
+        teacherDTO.setId(rs.getLong("teacher_id"));
+        teacherDTO.setEmail(rs.getString("teacher_email"));
+        teacherDTO.setFirstName(rs.getString("teacher_first_name"));
+        teacherDTO.setLastName(rs.getString("teacher_last_name"));
+        teacherDTO.setIsEnable(rs.getBoolean("teacher_is_enable"));
+        scheduledClassDTO.setTeacherDTO(teacherDTO);
+
+        Long classroomId = rs.getObject("classroom_id", Long.class);
+        if (classroomId != null) {
+            scheduledClassDTO.setClassroomDTO(ClassroomDTO.builder().id(classroomId)
+                .name(rs.getString("classroom_name")).buildingDTO(
+                    BuildingDTO.builder().id(rs.getLong("building_id")).name(rs.getString("building_name"))
+                        .address(rs.getString("building_address")).build()).build());
+        }
+        scheduledClassDTO.setClassTimeDTO(ClassTimeDTO.builder().id(rs.getLong("class_time_id"))
+            .orderNumber(rs.getInt("order_number")).startTime(rs.getTime("start_time").toLocalTime())
+            .durationMinutes(rs.getInt("duration_minutes")).build());
+        Long classTypeId = rs.getObject("class_type_id", Long.class);
+        if (classTypeId != null) {
+            scheduledClassDTO.setClassTypeDTO(
+                ClassTypeDTO.builder().id(classTypeId).name(rs.getString("class_type_name")).build());
+        }
+        scheduledClassDTO.setGroupDTOS(mapGroups(rs.getArray("group_ids"), rs.getArray("group_names")));
+        return scheduledClassDTO;
+    }
+
+    private static List<GroupDTO> mapGroups(Array groupIds, Array groupNames) throws SQLException {
+        Object[] ids = (Object[]) groupIds.getArray();
+        Object[] names = (Object[]) groupNames.getArray();
+        List<GroupDTO> groupDTOS = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            // a class without Groups is aggregated into {NULL}
+            if (ids[i] != null) {
+                groupDTOS.add(GroupDTO.builder().id(((Number) ids[i]).longValue()).name((String) names[i]).build());
+            }
+        }
+        return groupDTOS;
+    }
+}
@@ -2,13 +2,17 @@ package com.university.schedule.repository;
 
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Teacher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, KeysetScrollRepository<Teacher> {
     Optional<Teacher> findByEmail(String email);
 
     List<Teacher> findByCourses(Course course);
+
+    Slice<Teacher> findAllBy(Pageable pageable);
 }
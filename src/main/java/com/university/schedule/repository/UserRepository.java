@@ -1,10 +1,34 @@
 package com.university.schedule.repository;
 
+import com.university.schedule.dto.UserCredentials;
+import com.university.schedule.dto.UserTokenState;
 import com.university.schedule.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, KeysetScrollRepository<User> {
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT new com.university.schedule.dto.UserCredentials(u.email, u.password, u.isEnable, u.role.id) " +
+        "FROM User u WHERE u.email = ?1")
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    @Query("SELECT new com.university.schedule.dto.UserTokenState(u.isEnable, u.tokenVersion) FROM User u " +
+        "WHERE u.id = ?1")
+    Optional<UserTokenState> findTokenStateById(Long id);
+
+    @Modifying
+    @Query(value = "UPDATE users SET password = ?2 WHERE email = ?1", nativeQuery = true)
+    int updatePasswordByEmail(String email, String password);
+
+    @Modifying
+    @Query(value = "UPDATE users SET token_version = token_version + 1 WHERE user_id = ?1", nativeQuery = true)
+    int incrementTokenVersion(Long id);
+
+    Slice<User> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,150 @@
+package com.university.schedule.security;
+
+import com.university.schedule.dto.PasswordEncoderStats;
+import com.university.schedule.exception.PasswordVerificationRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs the hashing and verification of the delegate on a bounded pool instead of the request thread, so a burst of
+ * logins can't occupy every servlet thread with BCrypt.
+ *
+ * <p>A task is rejected with {@link PasswordVerificationRejectedException} when the queue of the pool is full or
+ * the caller waited longer than the timeout. The retry hint of the exception is the time the pool needs to drain
+ * its current queue.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    private final LongAdder upgradeEncoding = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final LongAdder runNanos = new LongAdder();
+
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, long timeoutMillis) {
+        this(delegate, executor, TimeUnit.MILLISECONDS.toNanos(timeoutMillis), System::nanoTime);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, long timeoutNanos,
+                           LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutNanos = timeoutNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        boolean upgrade = delegate.upgradeEncoding(encodedPassword);
+        if (upgrade) {
+            upgradeEncoding.increment();
+        }
+        return upgrade;
+    }
+
+    public PasswordEncoderStats getStats() {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        long completedCount = completed.sum();
+        return new PasswordEncoderStats(executor.getMaximumPoolSize(), queue.size(),
+            queue.size() + queue.remainingCapacity(), completedCount, rejected.sum(), timedOut.sum(),
+            upgradeEncoding.sum(), toAverageMillis(waitNanos.sum(), completedCount),
+            toAverageMillis(runNanos.sum(), completedCount), maxRunNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * @return seconds the pool needs to run the queued tasks at the average run time, at least 1.
+     */
+    long getRetryAfterSeconds() {
+        long completedCount = completed.sum();
+        if (completedCount == 0) {
+            return 1;
+        }
+        long averageRunNanos = runNanos.sum() / completedCount;
+        long drainNanos = (executor.getQueue().size() + executor.getMaximumPoolSize()) * averageRunNanos /
+            executor.getMaximumPoolSize();
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(drainNanos) + 1));
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        long submittedAt = nanoClock.getAsLong();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = nanoClock.getAsLong();
+                waitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    long runTime = nanoClock.getAsLong() - startedAt;
+                    runNanos.add(runTime);
+                    maxRunNanos.accumulateAndGet(runTime, Math::max);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.debug("Password encoder queue is full, {} tasks waiting", executor.getQueue().size());
+            throw new PasswordVerificationRejectedException("Password encoder is busy", getRetryAfterSeconds());
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.debug("Password encoder task timed out, {} tasks waiting", executor.getQueue().size());
+            throw new PasswordVerificationRejectedException("Password encoder timed out", getRetryAfterSeconds());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordVerificationRejectedException("Interrupted while waiting for the password encoder",
+                getRetryAfterSeconds());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static double toAverageMillis(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / 1_000_000.0 / count;
+    }
+}
@@ -0,0 +1,81 @@
+package com.university.schedule.security;
+
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.service.UserIdentityService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates the request from the {@link IdentityTokenService#COOKIE_NAME} cookie, without a session. The
+ * principal is the cached identity of the token's User, so Role, authorities and Group changes apply as soon as the
+ * cache entry is evicted. The enabled flag and the token version are read from the users row on every request: a
+ * disabled User or a revoked token version leaves the request unauthenticated, like a missing or invalid token.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdentityTokenFilter extends OncePerRequestFilter {
+
+    private final IdentityTokenService identityTokenService;
+
+    private final UserIdentityService userIdentityService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            getToken(request).flatMap(identityTokenService::verify).flatMap(this::resolve)
+                .ifPresent(this::authenticate);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<UserIdentity> resolve(IdentityTokenService.Claims claims) {
+        UserIdentity userIdentity;
+        try {
+            userIdentity = userIdentityService.findCurrentByEmail(claims.email());
+        } catch (ServiceException e) {
+            log.debug("Rejected token of unknown User {}", claims.email());
+            return Optional.empty();
+        }
+        if (!userIdentity.userId().equals(claims.userId()) || !userIdentity.enabled() ||
+            userIdentity.tokenVersion() != claims.tokenVersion()) {
+            log.debug("Rejected revoked token of {}", claims.email());
+            return Optional.empty();
+        }
+        return Optional.of(userIdentity);
+    }
+
+    private void authenticate(UserIdentity userIdentity) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(userIdentity, null,
+            AuthorityUtils.createAuthorityList(userIdentity.authorities())));
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    private Optional<String> getToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (IdentityTokenService.COOKIE_NAME.equals(cookie.getName())) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,139 @@
+package com.university.schedule.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.schedule.dto.UserIdentity;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Issues and verifies the session token of the stateless mode: {@code base64url(payload).base64url(HMAC-SHA256)},
+ * where the payload is the JSON of the User id, email, token version and expiry. Any instance sharing the secret
+ * accepts the token, so no session has to be stored or replicated.
+ *
+ * <p>Role, authorities, Teacher and Group are not part of the token: {@link IdentityTokenFilter} takes them from the
+ * cached {@link UserIdentity}, which is evicted when the User changes. It also rejects the token once the User is
+ * disabled or the version was incremented ({@link com.university.schedule.service.UserService#revokeTokens(Long)},
+ * on logout).
+ */
+@Slf4j
+@Component
+public class IdentityTokenService {
+
+    public static final String COOKIE_NAME = "SCHEDULE_TOKEN";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper =
+        new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final SecretKeySpec secretKey;
+
+    @Getter
+    private final long ttlSeconds;
+
+    private final LongSupplier epochSecondClock;
+
+    @Autowired
+    public IdentityTokenService(@Value("${security.token.enabled:false}") boolean enabled,
+                                @Value("${security.token.secret:}") String secret,
+                                @Value("${security.token.ttlSeconds:28800}") long ttlSeconds) {
+        this(enabled ? secret : null, ttlSeconds, () -> System.currentTimeMillis() / 1000);
+    }
+
+    IdentityTokenService(String secret, long ttlSeconds, LongSupplier epochSecondClock) {
+        if (secret != null && secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                "security.token.secret must be at least " + MIN_SECRET_LENGTH + " bytes in token mode");
+        }
+        this.secretKey = secret == null ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        this.epochSecondClock = epochSecondClock;
+    }
+
+    public String issue(UserIdentity userIdentity) {
+        if (userIdentity == null) {
+            throw new IllegalArgumentException("UserIdentity is null");
+        }
+        Payload payload = new Payload(userIdentity.userId(), userIdentity.email(), userIdentity.tokenVersion(),
+            epochSecondClock.getAsLong() + ttlSeconds);
+        try {
+            String encodedPayload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+            return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write token payload", e);
+        }
+    }
+
+    /**
+     * @return claims of the token, empty if the token is malformed, its signature doesn't match or it expired.
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(encodedPayload), signature)) {
+                log.debug("Rejected token with a wrong signature");
+                return Optional.empty();
+            }
+            Payload payload = objectMapper.readValue(DECODER.decode(encodedPayload), Payload.class);
+            if (payload.exp() <= epochSecondClock.getAsLong()) {
+                log.debug("Rejected expired token of {}", payload.sub());
+                return Optional.empty();
+            }
+            return Optional.of(new Claims(payload.uid(), payload.sub(), payload.ver()));
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("Rejected malformed token", e);
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        if (secretKey == null) {
+            throw new IllegalStateException("Token mode is disabled");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+    }
+
+    /**
+     * What a verified token says about its User, to be checked against the current {@link UserIdentity}.
+     */
+    public record Claims(Long userId, String email, int tokenVersion) {
+    }
+
+    private record Payload(Long uid, String sub, int ver, long exp) {
+    }
+}
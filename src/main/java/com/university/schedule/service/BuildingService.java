@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.BuildingDTO;
 import com.university.schedule.model.Building;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -24,5 +26,7 @@ public interface BuildingService {
 
     List<BuildingDTO> findAllAsDTO(Pageable pageable);
 
+    Window<BuildingDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     void deleteById(Long id);
 }
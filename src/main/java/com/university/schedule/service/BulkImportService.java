@@ -0,0 +1,11 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.importer.ImportType;
+
+import java.io.InputStream;
+
+public interface BulkImportService {
+
+    ImportReport importFile(ImportType type, String filename, InputStream inputStream);
+}
@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.ClassTimeDTO;
 import com.university.schedule.model.ClassTime;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -20,5 +22,7 @@ public interface ClassTimeService {
 
     List<ClassTimeDTO> findAllAsDTO(Pageable pageable);
 
+    Window<ClassTimeDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     void deleteById(Long id);
 }
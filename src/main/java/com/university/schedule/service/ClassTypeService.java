@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.ClassTypeDTO;
 import com.university.schedule.model.ClassType;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -20,5 +22,7 @@ public interface ClassTypeService {
 
     List<ClassTypeDTO> findAllAsDTO(Pageable pageable);
 
+    Window<ClassTypeDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     void deleteById(Long id);
 }
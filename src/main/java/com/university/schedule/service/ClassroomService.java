@@ -3,7 +3,9 @@ package com.university.schedule.service;
 import com.university.schedule.dto.ClassroomDTO;
 import com.university.schedule.model.Building;
 import com.university.schedule.model.Classroom;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -21,5 +23,7 @@ public interface ClassroomService {
 
     List<ClassroomDTO> findAllAsDTO(Pageable pageable);
 
+    Window<ClassroomDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     void deleteById(Long id);
 }
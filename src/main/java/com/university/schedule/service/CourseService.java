@@ -1,11 +1,15 @@
 package com.university.schedule.service;
 
 import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.dto.IdPair;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Group;
 import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourseService {
@@ -25,8 +29,14 @@ public interface CourseService {
 
     List<Course> findByTeacher(Teacher teacher);
 
+    List<IdPair> findTeacherCourseIds(Collection<Long> teacherIds);
+
+    List<IdPair> findGroupCourseIds(Collection<Long> groupIds);
+
     List<CourseDTO> findAllAsDTO(String email, Pageable pageable);
 
+    Window<CourseDTO> scrollAsDTO(String email, KeysetPageRequest keysetPageRequest);
+
     void deleteById(Long id);
 
 
@@ -1,11 +1,12 @@
 package com.university.schedule.service;
 
 import com.university.schedule.model.*;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.PropertySources;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -44,7 +45,7 @@ public class DataGenerationService {
 
     private final AuthorityService authorityService;
 
-    private final ScheduleGenerator scheduleGenerator;
+    private final ScheduleGenerationJobService scheduleGenerationJobService;
     @Value("#{'${data.disciplines.names}'.split('${config.separator}')}")
     private List<String> disciplinesNames;
 
@@ -111,8 +112,12 @@ public class DataGenerationService {
         this.dataSchemaService = dataSchemaService;
     }
 
-    @PostConstruct
-    private void postConstruct() {
+    /**
+     * Runs when the application is ready rather than in bean initialization: the generated schedule is submitted as a
+     * ScheduleGenerationJob, which must not start on the job executor while the context is still being created.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
         if (generationOnStartup) {
             // prepare database for insertion
             dataSchemaService.clean();
@@ -160,7 +165,7 @@ public class DataGenerationService {
         log.info("Courses assigned to Teachers");
 
         generateScheduledClass();
-        log.info("Schedule Generated");
+        log.info("Schedule generation submitted");
 
 
     }
@@ -361,7 +366,7 @@ public class DataGenerationService {
 
         dayScheduleItemList.add(dayScheduleItem);
 
-        scheduleGenerator.generate(LocalDate.of(2023, 9, 1), LocalDate.of(2023, 12, 20), dayScheduleItemList);
+        scheduleGenerationJobService.submit(LocalDate.of(2023, 9, 1), LocalDate.of(2023, 12, 20), dayScheduleItemList);
     }
 
     private void persistAdmin() {
@@ -2,6 +2,7 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.AuthorityDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Authority;
@@ -10,6 +11,7 @@ import com.university.schedule.repository.AuthorityRepository;
 import com.university.schedule.validation.AuthorityEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,6 +31,8 @@ public class DefaultAuthorityService implements AuthorityService {
 
     private final AuthorityEntityValidator authorityEntityValidator;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     @Transactional
     public Long save(Authority authority) {
@@ -36,6 +40,7 @@ public class DefaultAuthorityService implements AuthorityService {
             authorityEntityValidator.validate(authority);
             authorityRepository.save(authority);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Authority.class));
         log.info("saved {}", authority);
         return authority.getId();
     }
@@ -107,6 +112,7 @@ public class DefaultAuthorityService implements AuthorityService {
             }
             authorityRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Authority.class));
         log.info("Deleted id = {}", id);
 
     }
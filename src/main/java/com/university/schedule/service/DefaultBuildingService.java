@@ -2,15 +2,19 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.BuildingDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Building;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.BuildingRepository;
 import com.university.schedule.validation.BuildingEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,8 @@ public class DefaultBuildingService implements BuildingService {
 
     private final BuildingEntityValidator buildingValidationService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     @Transactional
     public Long save(Building building) {
@@ -35,6 +41,7 @@ public class DefaultBuildingService implements BuildingService {
             buildingValidationService.validate(building);
             buildingRepository.save(building);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Building.class));
         log.info("saved {}", building);
         return building.getId();
     }
@@ -47,6 +54,7 @@ public class DefaultBuildingService implements BuildingService {
             buildingValidationService.validate(building);
             buildingRepository.save(building);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Building.class));
         log.info("saved {}", building);
         return building.getId();
     }
@@ -96,11 +104,22 @@ public class DefaultBuildingService implements BuildingService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<BuildingDTO> buildingDTOList =
-            execute(() -> buildingRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> buildingRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Buildings", buildingDTOList.size());
         return buildingDTOList;
     }
 
+    @Override
+    public Window<BuildingDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<BuildingDTO> buildingDTOWindow =
+            execute(() -> buildingRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Buildings", buildingDTOWindow.size());
+        return buildingDTOWindow;
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -110,6 +129,7 @@ public class DefaultBuildingService implements BuildingService {
             }
             buildingRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Building.class));
         log.info("Deleted id = {}", id);
     }
 
@@ -0,0 +1,444 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.dto.ImportRowError;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.importer.ImportRowReader;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.model.*;
+import com.university.schedule.repository.BulkImportRepository;
+import com.university.schedule.validation.PasswordFieldValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Imports the rows of an uploaded file in chunks of {@code imports.chunkSize} rows. For every chunk:
+ * <ol>
+ *     <li>rows are checked against the entity constraints, references (Roles, Disciplines, Groups, Courses,
+ *     Teachers) and already stored rows are looked up with one query per column, duplicates within the file are
+ *     found with the keys of the accepted rows;</li>
+ *     <li>passwords of the accepted Users are hashed in parallel on the import pool;</li>
+ *     <li>accepted rows are inserted in JDBC batches in one transaction.</li>
+ * </ol>
+ * Rejected rows are skipped and reported. A chunk failing in the database is rolled back and all its rows are
+ * reported, committed chunks stay imported. Importing a fixed file again reports its imported rows as existing.
+ *
+ * <p>Passwords are hashed by an own BCrypt encoder with the login strength: the login encoder queues a few
+ * dozen tasks only and would reject the rows of a chunk.
+ */
+@Slf4j
+@Service
+public class DefaultBulkImportService implements BulkImportService {
+
+    private static final String TEACHER_ROLE = "Teacher";
+
+    private static final String STUDENT_ROLE = "Student";
+
+    private static final String PASSWORD_MESSAGE = "Minimum 4 characters, at least 1 letter and 1 number";
+
+    private static final PasswordFieldValidator PASSWORD_VALIDATOR = new PasswordFieldValidator();
+
+    private final BulkImportRepository bulkImportRepository;
+
+    private final Validator validator;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final TransactionOperations transactionOperations;
+
+    private final Executor executor;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final int chunkSize;
+
+    private final int maxReportedErrors;
+
+    @Autowired
+    public DefaultBulkImportService(BulkImportRepository bulkImportRepository, Validator validator,
+                                    ApplicationEventPublisher applicationEventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    @Qualifier("bulkImportExecutor") Executor executor,
+                                    @Value("${security.password.bcryptStrength:10}") int bcryptStrength,
+                                    @Value("${imports.chunkSize:1000}") int chunkSize,
+                                    @Value("${imports.maxReportedErrors:1000}") int maxReportedErrors) {
+        this(bulkImportRepository, validator, applicationEventPublisher, new TransactionTemplate(transactionManager),
+            executor, new BCryptPasswordEncoder(bcryptStrength), chunkSize, maxReportedErrors);
+    }
+
+    DefaultBulkImportService(BulkImportRepository bulkImportRepository, Validator validator,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             TransactionOperations transactionOperations, Executor executor,
+                             PasswordEncoder passwordEncoder, int chunkSize, int maxReportedErrors) {
+        this.bulkImportRepository = bulkImportRepository;
+        this.validator = validator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.executor = executor;
+        this.passwordEncoder = passwordEncoder;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReport importFile(ImportType type, String filename, InputStream inputStream) {
+        if (type == null || inputStream == null) {
+            throw new IllegalArgumentException("Import arguments must not be null");
+        }
+        long startedAt = System.nanoTime();
+        ImportContext context = new ImportContext(type, maxReportedErrors);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try (ImportRowReader reader = ImportRowReader.open(filename, inputStream)) {
+            Map<String, String> values;
+            while ((values = reader.next()) != null) {
+                chunk.add(new ImportRow(++context.rows, values));
+                if (chunk.size() == chunkSize) {
+                    importChunk(context, chunk);
+                    chunk.clear();
+                }
+            }
+            importChunk(context, chunk);
+            chunk.clear();
+        } catch (IOException e) {
+            log.info("Import of {} stopped at row {}: {}", filename, context.rows + 1, e.getMessage());
+            importChunk(context, chunk);
+            context.reject(++context.rows, List.of("File is malformed: " + e.getMessage()));
+        } finally {
+            context.changedTypes.forEach(
+                changedType -> applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(changedType)));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Imported {} of {} {} rows from {} in {} ms", context.imported, context.rows, type, filename,
+            elapsedMillis);
+        context.errors.sort(Comparator.comparingLong(ImportRowError::row));
+        return new ImportReport(type.name().toLowerCase(Locale.ROOT), context.rows, context.imported, context.failed,
+            List.copyOf(context.errors), context.failed > context.errors.size(), elapsedMillis);
+    }
+
+    private void importChunk(ImportContext context, List<ImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        switch (context.type) {
+            case USERS -> importUsers(context, chunk);
+            case GROUPS -> importGroups(context, chunk);
+            case COURSES -> importCourses(context, chunk);
+            case ENROLLMENTS -> importEnrollments(context, chunk);
+        }
+    }
+
+    private void importUsers(ImportContext context, List<ImportRow> chunk) {
+        if (context.roleIds == null) {
+            context.roleIds = execute(bulkImportRepository::findRoleIdsByName);
+        }
+        Set<String> storedEmails = execute(() -> bulkImportRepository.findExistingEmails(values(chunk, "email")));
+        Map<String, Long> groupIds = execute(() -> bulkImportRepository.findGroupIdsByName(values(chunk, "group")));
+
+        List<AcceptedRow<User>> acceptedRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            List<String> violations = new ArrayList<>();
+            User user = createUser(row, context.roleIds, groupIds, violations);
+            violations.addAll(constraintViolations(user));
+            if (user.getPassword() != null && !PASSWORD_VALIDATOR.isValid(user.getPassword(), null)) {
+                violations.add(PASSWORD_MESSAGE);
+            }
+            String email = user.getEmail();
+            checkUnique(context, email, "User with email = " + email, storedEmails.contains(email), violations);
+            accept(context, row, email, user, violations, acceptedRows);
+        }
+
+        List<CompletableFuture<Void>> hashes = acceptedRows.stream().map(AcceptedRow::entity).map(
+                user -> CompletableFuture.runAsync(() -> user.setPassword(passwordEncoder.encode(user.getPassword())),
+                    executor)).toList();
+        CompletableFuture.allOf(hashes.toArray(CompletableFuture[]::new)).join();
+
+        List<User> users = entities(acceptedRows);
+        Set<Class<?>> changedTypes = new HashSet<>();
+        users.forEach(user -> changedTypes.add(user.getClass()));
+        write(context, acceptedRows, () -> bulkImportRepository.insertUsers(users), changedTypes);
+    }
+
+    private User createUser(ImportRow row, Map<String, Long> roleIds, Map<String, Long> groupIds,
+                            List<String> violations) {
+        String roleName = row.get("role");
+        Role role = null;
+        if (roleName == null) {
+            violations.add("User role must not be blank");
+        } else if (!roleIds.containsKey(roleName)) {
+            violations.add(String.format("Role with name = %s not found", roleName));
+        } else {
+            role = new Role(roleIds.get(roleName), roleName);
+        }
+
+        String email = row.get("email");
+        String password = row.get("password");
+        String firstName = row.get("firstName");
+        String lastName = row.get("lastName");
+        String groupName = row.get("group");
+        if (TEACHER_ROLE.equals(roleName)) {
+            return new Teacher(email, password, firstName, lastName, role);
+        }
+        if (!STUDENT_ROLE.equals(roleName)) {
+            if (groupName != null) {
+                violations.add("Only Students can have a group");
+            }
+            return new User(email, password, firstName, lastName, role);
+        }
+        Student student = new Student(email, password, firstName, lastName, role);
+        if (groupName != null) {
+            if (groupIds.containsKey(groupName)) {
+                student.setGroup(new Group(groupIds.get(groupName), groupName, null));
+            } else {
+                violations.add(String.format("Group with name = %s not found", groupName));
+            }
+        }
+        return student;
+    }
+
+    private void importGroups(ImportContext context, List<ImportRow> chunk) {
+        Map<String, Long> disciplineIds =
+            execute(() -> bulkImportRepository.findDisciplineIdsByName(values(chunk, "discipline")));
+        Set<String> storedNames = execute(() -> bulkImportRepository.findGroupIdsByName(values(chunk, "name")))
+            .keySet();
+
+        List<AcceptedRow<Group>> acceptedRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            List<String> violations = new ArrayList<>();
+            String name = row.get("name");
+            String disciplineName = row.get("discipline");
+            Discipline discipline = null;
+            if (disciplineName != null) {
+                discipline = new Discipline(disciplineIds.get(disciplineName), disciplineName);
+                if (discipline.getId() == null) {
+                    violations.add(String.format("Discipline with name = %s not found", disciplineName));
+                }
+            }
+            Group group = new Group(name, discipline);
+            violations.addAll(constraintViolations(group));
+            checkUnique(context, name, "Group with name = " + name, storedNames.contains(name), violations);
+            accept(context, row, name, group, violations, acceptedRows);
+        }
+
+        List<Group> groups = entities(acceptedRows);
+        write(context, acceptedRows, () -> bulkImportRepository.insertGroups(groups), Set.of(Group.class));
+    }
+
+    private void importCourses(ImportContext context, List<ImportRow> chunk) {
+        Set<String> storedNames = execute(() -> bulkImportRepository.findCourseIdsByName(values(chunk, "name")))
+            .keySet();
+
+        List<AcceptedRow<Course>> acceptedRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            String name = row.get("name");
+            Course course = new Course(name);
+            List<String> violations = new ArrayList<>(constraintViolations(course));
+            checkUnique(context, name, "Course with name = " + name, storedNames.contains(name), violations);
+            accept(context, row, name, course, violations, acceptedRows);
+        }
+
+        List<Course> courses = entities(acceptedRows);
+        write(context, acceptedRows, () -> bulkImportRepository.insertCourses(courses), Set.of(Course.class));
+    }
+
+    /**
+     * Enrollment rows link a Course to a Group (groups_courses) or to a Teacher (teachers_courses).
+     */
+    private void importEnrollments(ImportContext context, List<ImportRow> chunk) {
+        Map<String, Long> courseIds = execute(() -> bulkImportRepository.findCourseIdsByName(values(chunk, "course")));
+        Map<String, Long> groupIds = execute(() -> bulkImportRepository.findGroupIdsByName(values(chunk, "group")));
+        Map<String, Long> teacherIds =
+            execute(() -> bulkImportRepository.findTeacherIdsByEmail(values(chunk, "teacher")));
+        Set<IdPair> storedGroupCourses = execute(() -> bulkImportRepository.findGroupCourses(courseIds.values()));
+        Set<IdPair> storedTeacherCourses = execute(() -> bulkImportRepository.findTeacherCourses(courseIds.values()));
+
+        List<AcceptedRow<IdPair>> groupRows = new ArrayList<>();
+        List<AcceptedRow<IdPair>> teacherRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            List<String> violations = new ArrayList<>();
+            String courseName = row.get("course");
+            String groupName = row.get("group");
+            String teacherEmail = row.get("teacher");
+            if (courseName == null) {
+                violations.add("Enrollment course must not be blank");
+            } else if (!courseIds.containsKey(courseName)) {
+                violations.add(String.format("Course with name = %s not found", courseName));
+            }
+            if ((groupName == null) == (teacherEmail == null)) {
+                violations.add("Enrollment must have either a group or a teacher");
+            } else if (groupName != null && !groupIds.containsKey(groupName)) {
+                violations.add(String.format("Group with name = %s not found", groupName));
+            } else if (teacherEmail != null && !teacherIds.containsKey(teacherEmail)) {
+                violations.add(String.format("Teacher with email = %s not found", teacherEmail));
+            }
+            if (!violations.isEmpty()) {
+                context.reject(row.number(), violations);
+            } else if (groupName != null) {
+                IdPair groupCourse = new IdPair(groupIds.get(groupName), courseIds.get(courseName));
+                checkUnique(context, List.of(Group.class, groupCourse),
+                    "Enrollment of Group = " + groupName + " in Course = " + courseName,
+                    storedGroupCourses.contains(groupCourse), violations);
+                accept(context, row, List.of(Group.class, groupCourse), groupCourse, violations, groupRows);
+            } else {
+                IdPair teacherCourse = new IdPair(teacherIds.get(teacherEmail), courseIds.get(courseName));
+                checkUnique(context, List.of(Teacher.class, teacherCourse),
+                    "Enrollment of Teacher = " + teacherEmail + " in Course = " + courseName,
+                    storedTeacherCourses.contains(teacherCourse), violations);
+                accept(context, row, List.of(Teacher.class, teacherCourse), teacherCourse, violations, teacherRows);
+            }
+        }
+
+        List<AcceptedRow<IdPair>> acceptedRows = new ArrayList<>(groupRows);
+        acceptedRows.addAll(teacherRows);
+        List<IdPair> groupCourses = entities(groupRows);
+        List<IdPair> teacherCourses = entities(teacherRows);
+        write(context, acceptedRows, () -> {
+            bulkImportRepository.insertGroupCourses(groupCourses);
+            bulkImportRepository.insertTeacherCourses(teacherCourses);
+        }, Set.of(Group.class, Teacher.class, Course.class));
+    }
+
+    /**
+     * Adds a violation if the key was accepted in an earlier row of the file or is already stored.
+     */
+    private static void checkUnique(ImportContext context, Object key, String description, boolean stored,
+                                    List<String> violations) {
+        if (key == null) {
+            return;
+        }
+        Long firstRow = context.acceptedKeys.get(key);
+        if (firstRow != null) {
+            violations.add(String.format("%s is a duplicate of row %d", description, firstRow));
+        } else if (stored) {
+            violations.add(description + ", already exists");
+        }
+    }
+
+    private static <T> void accept(ImportContext context, ImportRow row, Object key, T entity, List<String> violations,
+                                   List<AcceptedRow<T>> acceptedRows) {
+        if (!violations.isEmpty()) {
+            context.reject(row.number(), violations);
+            return;
+        }
+        context.acceptedKeys.put(key, row.number());
+        acceptedRows.add(new AcceptedRow<>(row.number(), key, entity));
+    }
+
+    private void write(ImportContext context, List<? extends AcceptedRow<?>> acceptedRows, Runnable insert,
+                       Set<Class<?>> changedTypes) {
+        if (acceptedRows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionOperations.executeWithoutResult(status -> insert.run());
+        } catch (DataAccessException e) {
+            log.warn("Rolled back an import chunk of {} rows", acceptedRows.size(), e);
+            List<String> violations = List.of("Rolled back with its chunk: " + e.getMostSpecificCause().getMessage());
+            acceptedRows.forEach(acceptedRow -> {
+                context.acceptedKeys.remove(acceptedRow.key());
+                context.reject(acceptedRow.row(), violations);
+            });
+            return;
+        }
+        context.imported += acceptedRows.size();
+        context.changedTypes.addAll(changedTypes);
+    }
+
+    private List<String> constraintViolations(Object entity) {
+        return validator.validate(entity).stream().map(ConstraintViolation::getMessage).sorted().toList();
+    }
+
+    private static Set<String> values(List<ImportRow> chunk, String column) {
+        Set<String> values = new HashSet<>();
+        for (ImportRow row : chunk) {
+            String value = row.get(column);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static <T> List<T> entities(List<AcceptedRow<T>> acceptedRows) {
+        return acceptedRows.stream().map(AcceptedRow::entity).toList();
+    }
+
+    private <T> T execute(Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (DataAccessException e) {
+            throw new ServiceException("DAO operation failed", e);
+        }
+    }
+
+    private record ImportRow(long number, Map<String, String> values) {
+
+        /**
+         * @return trimmed value of the column, null if it is missing or blank.
+         */
+        String get(String column) {
+            String value = values.get(column);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    private record AcceptedRow<T>(long row, Object key, T entity) {
+    }
+
+    private static final class ImportContext {
+
+        private final ImportType type;
+
+        private final int maxReportedErrors;
+
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        /**
+         * Key (email, name or enrollment) of every accepted row with the number of the row.
+         */
+        private final Map<Object, Long> acceptedKeys = new HashMap<>();
+
+        private final Set<Class<?>> changedTypes = new HashSet<>();
+
+        private Map<String, Long> roleIds;
+
+        private long rows;
+
+        private long imported;
+
+        private long failed;
+
+        private ImportContext(ImportType type, int maxReportedErrors) {
+            this.type = type;
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(long row, List<String> violations) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowError(row, List.copyOf(violations)));
+            }
+        }
+    }
+}
@@ -2,15 +2,19 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.ClassTimeDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.ClassTime;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.ClassTimeRepository;
 import com.university.schedule.validation.ClassTimeEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,8 @@ public class DefaultClassTimeService implements ClassTimeService {
 
     private final ConverterService converterService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     @Transactional
     public Long save(ClassTime classTime) {
@@ -35,6 +41,7 @@ public class DefaultClassTimeService implements ClassTimeService {
             classTimeValidationService.validate(classTime);
             classTimeRepository.save(classTime);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassTime.class));
         log.info("saved {}", classTime);
         return classTime.getId();
     }
@@ -47,6 +54,7 @@ public class DefaultClassTimeService implements ClassTimeService {
             classTimeValidationService.validate(classTime);
             classTimeRepository.save(classTime);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassTime.class));
         log.info("saved {}", classTime);
         return classTime.getId();
     }
@@ -72,11 +80,22 @@ public class DefaultClassTimeService implements ClassTimeService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<ClassTimeDTO> classTimeDTOList =
-            execute(() -> classTimeRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> classTimeRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} ClassTimes", classTimeDTOList.size());
         return classTimeDTOList;
     }
 
+    @Override
+    public Window<ClassTimeDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<ClassTimeDTO> classTimeDTOWindow =
+            execute(() -> classTimeRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} ClassTimes", classTimeDTOWindow.size());
+        return classTimeDTOWindow;
+    }
+
     public List<ClassTimeDTO> findAllAsDTO() {
         List<ClassTimeDTO> classTimeDTOList =
             execute(() -> classTimeRepository.findAll()).stream().map(this::convertToDTO).toList();
@@ -93,6 +112,7 @@ public class DefaultClassTimeService implements ClassTimeService {
             }
             classTimeRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassTime.class));
         log.info("Deleted id = {}", id);
     }
 
@@ -2,15 +2,19 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.ClassTypeDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.ClassType;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.ClassTypeRepository;
 import com.university.schedule.validation.ClassTypeEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,8 @@ public class DefaultClassTypeService implements ClassTypeService {
 
     private final ClassTypeEntityValidator classTypeEntityValidator;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
 
     @Override
     @Transactional
@@ -37,6 +43,7 @@ public class DefaultClassTypeService implements ClassTypeService {
             classTypeEntityValidator.validate(classType);
             classTypeRepository.save(classType);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassType.class));
         log.info("saved {}", classType);
         return classType.getId();
     }
@@ -48,6 +55,7 @@ public class DefaultClassTypeService implements ClassTypeService {
             classTypeEntityValidator.validate(classType);
             classTypeRepository.save(classType);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassType.class));
         log.info("saved {}", classType);
         return classType.getId();
     }
@@ -83,11 +91,22 @@ public class DefaultClassTypeService implements ClassTypeService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<ClassTypeDTO> classTypeDTOList =
-            execute(() -> classTypeRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> classTypeRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} ClassTypes", classTypeDTOList.size());
         return classTypeDTOList;
     }
 
+    @Override
+    public Window<ClassTypeDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<ClassTypeDTO> classTypeDTOWindow =
+            execute(() -> classTypeRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} ClassTypes", classTypeDTOWindow.size());
+        return classTypeDTOWindow;
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -97,6 +116,7 @@ public class DefaultClassTypeService implements ClassTypeService {
             }
             classTypeRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(ClassType.class));
         log.info("Deleted id = {}", id);
     }
 
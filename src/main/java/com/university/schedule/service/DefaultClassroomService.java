@@ -2,16 +2,20 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.ClassroomDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Building;
 import com.university.schedule.model.Classroom;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.ClassroomRepository;
 import com.university.schedule.validation.ClassroomEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,8 @@ public class DefaultClassroomService implements ClassroomService {
 
     private final ConverterService converterService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     @Transactional
     public Long save(Classroom classroom) {
@@ -36,6 +42,7 @@ public class DefaultClassroomService implements ClassroomService {
             classroomValidationService.validate(classroom);
             classroomRepository.save(classroom);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Classroom.class));
         log.info("saved {}", classroom);
         return classroom.getId();
     }
@@ -48,6 +55,7 @@ public class DefaultClassroomService implements ClassroomService {
             classroomValidationService.validate(classroom);
             classroomRepository.save(classroom);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Classroom.class));
         log.info("saved {}", classroom);
         return classroom.getId();
     }
@@ -81,11 +89,22 @@ public class DefaultClassroomService implements ClassroomService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<ClassroomDTO> classroomDTOList =
-            execute(() -> classroomRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> classroomRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Classrooms", classroomDTOList.size());
         return classroomDTOList;
     }
 
+    @Override
+    public Window<ClassroomDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<ClassroomDTO> classroomDTOWindow =
+            execute(() -> classroomRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Classrooms", classroomDTOWindow.size());
+        return classroomDTOWindow;
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -95,6 +114,7 @@ public class DefaultClassroomService implements ClassroomService {
             }
             classroomRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Classroom.class));
         log.info("Deleted id = {}", id);
     }
 
@@ -2,22 +2,28 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Group;
 import com.university.schedule.model.Teacher;
 import com.university.schedule.model.User;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.CourseRepository;
 import com.university.schedule.validation.CourseEntityValidator;
 import com.university.schedule.visitor.UserPageableCourseVisitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -34,7 +40,9 @@ public class DefaultCourseService implements CourseService {
 
     private final UserPageableCourseVisitor userPageableCourseVisitor;
 
-    private final UserService userService;
+    private final UserIdentityService userIdentityService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     @Transactional
@@ -43,6 +51,7 @@ public class DefaultCourseService implements CourseService {
             courseEntityValidator.validate(course);
             courseRepository.save(course);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Course.class));
         log.info("saved {}", course);
         return course.getId();
     }
@@ -55,6 +64,7 @@ public class DefaultCourseService implements CourseService {
             courseEntityValidator.validate(course);
             courseRepository.save(course);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Course.class));
         log.info("saved {}", course);
         return course.getId();
     }
@@ -87,13 +97,25 @@ public class DefaultCourseService implements CourseService {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable is null");
         }
-        User user = userService.findByEmail(email);
+        User user = userIdentityService.findReferenceByEmail(email);
         List<Course> coursePage = execute(() -> user.accept(userPageableCourseVisitor, pageable));
         List<CourseDTO> courseDTOS = coursePage.stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Courses", courseDTOS.size());
         return courseDTOS;
     }
 
+    @Override
+    public Window<CourseDTO> scrollAsDTO(String email, KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null || email == null) {
+            throw new IllegalArgumentException("KeysetPageRequest or email is null");
+        }
+        User user = userIdentityService.findReferenceByEmail(email);
+        Window<CourseDTO> courseDTOWindow =
+            execute(() -> user.accept(userPageableCourseVisitor, keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Courses", courseDTOWindow.size());
+        return courseDTOWindow;
+    }
+
 
     @Override
     public List<Course> findByTeacher(Teacher teacher) {
@@ -110,6 +132,20 @@ public class DefaultCourseService implements CourseService {
     }
 
 
+    @Override
+    public List<IdPair> findTeacherCourseIds(Collection<Long> teacherIds) {
+        List<IdPair> teacherCourseIds = execute(() -> courseRepository.findTeacherCourseIds(teacherIds));
+        log.debug("Retrieved All {} Teacher-Course pairs", teacherCourseIds.size());
+        return teacherCourseIds;
+    }
+
+    @Override
+    public List<IdPair> findGroupCourseIds(Collection<Long> groupIds) {
+        List<IdPair> groupCourseIds = execute(() -> courseRepository.findGroupCourseIds(groupIds));
+        log.debug("Retrieved All {} Group-Course pairs", groupCourseIds.size());
+        return groupCourseIds;
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -119,6 +155,7 @@ public class DefaultCourseService implements CourseService {
             }
             courseRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Course.class));
         log.info("Deleted id = {}", id);
     }
 
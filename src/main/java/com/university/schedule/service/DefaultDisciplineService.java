@@ -2,15 +2,19 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.DisciplineDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Discipline;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.DisciplineRepository;
 import com.university.schedule.validation.DisciplineEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +32,8 @@ public class DefaultDisciplineService implements DisciplineService {
 
     private final ConverterService converterService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<Discipline> findAll() {
         List<Discipline> disciplines = execute(() -> disciplineRepository.findAll());
@@ -49,11 +55,22 @@ public class DefaultDisciplineService implements DisciplineService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<DisciplineDTO> disciplineDTOList =
-            execute(() -> disciplineRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> disciplineRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Discipline", disciplineDTOList.size());
         return disciplineDTOList;
     }
 
+    @Override
+    public Window<DisciplineDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<DisciplineDTO> disciplineDTOWindow =
+            execute(() -> disciplineRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Disciplines", disciplineDTOWindow.size());
+        return disciplineDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(Discipline discipline) {
@@ -61,6 +78,7 @@ public class DefaultDisciplineService implements DisciplineService {
             disciplineEntityValidator.validate(discipline);
             disciplineRepository.save(discipline);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Discipline.class));
         log.info("saved {}", discipline);
         return discipline.getId();
     }
@@ -73,6 +91,7 @@ public class DefaultDisciplineService implements DisciplineService {
             disciplineEntityValidator.validate(discipline);
             disciplineRepository.save(discipline);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Discipline.class));
         log.info("saved {}", discipline);
         return discipline.getId();
     }
@@ -94,6 +113,7 @@ public class DefaultDisciplineService implements DisciplineService {
             }
             disciplineRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Discipline.class));
         log.info("Deleted id = {}", id);
     }
 
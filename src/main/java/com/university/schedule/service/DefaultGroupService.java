@@ -2,16 +2,20 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.GroupDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Discipline;
 import com.university.schedule.model.Group;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.GroupRepository;
 import com.university.schedule.validation.GroupEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,8 @@ public class DefaultGroupService implements GroupService {
 
     private final ConverterService converterService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<Group> findAll() throws ServiceException {
         List<Group> groups = execute(() -> groupRepository.findAll());
@@ -50,11 +56,22 @@ public class DefaultGroupService implements GroupService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<GroupDTO> groupDTOSList =
-            execute(() -> groupRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> groupRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Groups", groupDTOSList.size());
         return groupDTOSList;
     }
 
+    @Override
+    public Window<GroupDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<GroupDTO> groupDTOWindow =
+            execute(() -> groupRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Groups", groupDTOWindow.size());
+        return groupDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(Group group) {
@@ -62,6 +79,7 @@ public class DefaultGroupService implements GroupService {
             groupEntityValidator.validate(group);
             groupRepository.save(group);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Group.class));
         log.info("saved {}", group);
         return group.getId();
     }
@@ -74,6 +92,7 @@ public class DefaultGroupService implements GroupService {
             groupEntityValidator.validate(group);
             groupRepository.save(group);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Group.class));
         log.info("saved {}", group);
         return group.getId();
     }
@@ -95,6 +114,7 @@ public class DefaultGroupService implements GroupService {
             }
             groupRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Group.class));
         log.info("Deleted id = {}", id);
     }
 
@@ -0,0 +1,224 @@
+package com.university.schedule.service;
+
+import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.model.ImportJob;
+import com.university.schedule.model.ImportJob.Status;
+import com.university.schedule.repository.ImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs bulk imports in the background like {@link DefaultScheduleGenerationJobService} runs schedule generation. The
+ * upload is copied to a temporary file, because the multipart file is deleted when the request ends, and imported
+ * on the dedicated importJobExecutor by the {@link BulkImportService}. Status and report are kept in the import_jobs
+ * table.
+ *
+ * <p>The temporary file lives only as long as its job and only on the instance that accepted the upload. That
+ * instance holds the job lease and renews it every {@code imports.jobs.heartbeatMillis}; a queued or running import
+ * whose lease is older than {@code imports.jobs.leaseSeconds} was interrupted by a stopped instance, it is marked as
+ * failed and the file has to be uploaded again.
+ */
+@Slf4j
+@Service
+public class DefaultImportJobService implements ImportJobService {
+
+    private static final List<Status> ACTIVE_STATUSES = List.of(Status.QUEUED, Status.RUNNING);
+
+    private final ImportJobRepository importJobRepository;
+
+    private final BulkImportService bulkImportService;
+
+    private final ConverterService converterService;
+
+    private final Executor executor;
+
+    /**
+     * Jobs submitted to the executor of this instance and not finished yet.
+     */
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${imports.jobs.instanceId:${random.uuid}}")
+    private String instanceId = UUID.randomUUID().toString();
+
+    @Value("${imports.jobs.leaseSeconds:120}")
+    private long leaseSeconds = 120;
+
+    public DefaultImportJobService(ImportJobRepository importJobRepository, BulkImportService bulkImportService,
+                                   ConverterService converterService,
+                                   @Qualifier("importJobExecutor") Executor executor) {
+        this.importJobRepository = importJobRepository;
+        this.bulkImportService = bulkImportService;
+        this.converterService = converterService;
+        this.executor = executor;
+    }
+
+    /**
+     * Fails the imports of stopped instances. Imports running here and imports whose lease another live instance
+     * renews are skipped; the lease of every failed job is taken first, so a job is failed by one instance only.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minusSeconds(leaseSeconds);
+        List<ImportJob> interruptedJobs = execute(() -> importJobRepository.findAllByStatusIn(ACTIVE_STATUSES))
+            .stream().filter(job -> !runningJobIds.contains(job.getId()))
+            .filter(job -> instanceId.equals(job.getOwnerInstance()) || job.getHeartbeatAt() == null ||
+                job.getHeartbeatAt().isBefore(expiredBefore))
+            .filter(job -> execute(() -> importJobRepository.claimLease(job.getId(), instanceId, now, expiredBefore,
+                ACTIVE_STATUSES)) == 1).toList();
+        if (interruptedJobs.isEmpty()) {
+            return;
+        }
+        interruptedJobs.forEach(job -> {
+            job.setStatus(Status.FAILED);
+            job.setErrorMessage("Interrupted by a stopped instance, the file has to be uploaded again");
+            job.setOwnerInstance(instanceId);
+            job.setHeartbeatAt(now);
+        });
+        execute(() -> importJobRepository.saveAll(interruptedJobs));
+        log.info("Marked {} interrupted ImportJobs as failed", interruptedJobs.size());
+    }
+
+    /**
+     * Renews the leases of the imports running here and fails the imports of stopped instances.
+     */
+    @Scheduled(initialDelayString = "${imports.jobs.heartbeatMillis:30000}",
+        fixedDelayString = "${imports.jobs.heartbeatMillis:30000}")
+    public void maintainLeases() {
+        List<Long> ownJobIds = List.copyOf(runningJobIds);
+        if (!ownJobIds.isEmpty()) {
+            execute(() -> importJobRepository.renewLeases(ownJobIds, instanceId, LocalDateTime.now()));
+        }
+        failInterruptedJobs();
+    }
+
+    @Override
+    public Long submit(ImportType type, String filename, InputStream inputStream) {
+        if (type == null || inputStream == null) {
+            throw new IllegalArgumentException("Import arguments must not be null");
+        }
+        Path file;
+        try {
+            file = Files.createTempFile("import-", ".upload");
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ServiceException("Can`t store the uploaded file", e);
+        }
+        ImportJob job;
+        try {
+            job = execute(() -> importJobRepository.save(
+                ImportJob.builder().type(type).filename(filename).status(Status.QUEUED).ownerInstance(instanceId)
+                    .heartbeatAt(LocalDateTime.now()).build()));
+        } catch (RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+        log.info("submitted {}", job);
+        Long id = job.getId();
+        runningJobIds.add(id);
+        try {
+            executor.execute(() -> run(id, file));
+        } catch (RejectedExecutionException e) {
+            runningJobIds.remove(id);
+            delete(file);
+            finish(id, Status.FAILED, null, "Rejected by the import executor");
+            throw new ServiceException("Can`t start the import, the import executor rejected it", e);
+        }
+        return id;
+    }
+
+    @Override
+    public ImportJobDTO findByIdAsDTO(Long id) {
+        ImportJob job = findById(id);
+        log.debug("Retrieved {}", job);
+        return converterService.convert(job, ImportJobDTO.class);
+    }
+
+    @Override
+    public List<ImportJobDTO> findAllAsDTO() {
+        List<ImportJobDTO> jobDTOs = execute(() -> importJobRepository.findAll()).stream()
+            .map(job -> converterService.convert(job, ImportJobDTO.class)).toList();
+        log.debug("Retrieved All {} ImportJobs", jobDTOs.size());
+        return jobDTOs;
+    }
+
+    private void run(Long id, Path file) {
+        try {
+            ImportJob queuedJob = findById(id);
+            queuedJob.setStatus(Status.RUNNING);
+            ImportJob job = execute(() -> importJobRepository.save(queuedJob));
+            ImportReport report;
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                report = bulkImportService.importFile(job.getType(), job.getFilename(), inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            finish(id, Status.COMPLETED, report, null);
+        } catch (RuntimeException e) {
+            log.error("ImportJob with id = {} failed", id, e);
+            finish(id, Status.FAILED, null, e.getMessage());
+        } finally {
+            delete(file);
+            runningJobIds.remove(id);
+        }
+    }
+
+    private void finish(Long id, Status status, ImportReport report, String errorMessage) {
+        ImportJob job = findById(id);
+        job.setStatus(status);
+        job.setReport(report);
+        job.setErrorMessage(errorMessage);
+        log.info("finished {}", execute(() -> importJobRepository.save(job)));
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Can`t delete the uploaded file {}", file, e);
+        }
+    }
+
+    private ImportJob findById(Long id) {
+        return execute(() -> importJobRepository.findById(id)).orElseThrow(
+            () -> new JobNotFoundException("ImportJob not found"));
+    }
+
+    private <T> T execute(DaoSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (DataAccessException e) {
+            throw new ServiceException("DAO operation failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface DaoSupplier<T> {
+        T get();
+    }
+}
@@ -0,0 +1,133 @@
+package com.university.schedule.service;
+
+import com.university.schedule.event.ScheduleChangedEvent;
+import com.university.schedule.exception.DeletionFailedException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.model.RecurringClass;
+import com.university.schedule.repository.RecurringClassRepository;
+import com.university.schedule.validation.RecurringClassEntityValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class DefaultRecurringClassService implements RecurringClassService {
+
+    private final RecurringClassRepository recurringClassRepository;
+
+    private final RecurringClassEntityValidator recurringClassEntityValidator;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Saves the RecurringClass. An update of a persisted rule invalidates every cached schedule view, because its
+     * previous dates, Teacher and Groups aren`t known.
+     */
+    @Override
+    @Transactional
+    public Long save(RecurringClass recurringClass) {
+        boolean update = recurringClass != null && recurringClass.getId() != null;
+        execute(() -> {
+            recurringClassEntityValidator.validate(recurringClass);
+            recurringClassRepository.save(recurringClass);
+        });
+        applicationEventPublisher.publishEvent(update ? ScheduleChangedEvent.ofAll() :
+            ScheduleChangedEvent.ofRecurringClasses(List.of(recurringClass)));
+        log.info("saved {}", recurringClass);
+        return recurringClass.getId();
+    }
+
+    @Override
+    @Transactional
+    public int saveAll(List<RecurringClass> recurringClasses) {
+        if (recurringClasses == null) {
+            throw new IllegalArgumentException("RecurringClasses list is null");
+        }
+        execute(() -> {
+            recurringClassEntityValidator.validateAll(recurringClasses);
+            recurringClassRepository.saveAll(recurringClasses);
+        });
+        applicationEventPublisher.publishEvent(ScheduleChangedEvent.ofRecurringClasses(recurringClasses));
+        log.info("saved {} RecurringClasses", recurringClasses.size());
+        return recurringClasses.size();
+    }
+
+    /**
+     * Finds the RecurringClasses with at least one day inside the given window, with their Groups and exception
+     * dates fetched.
+     */
+    @Override
+    public List<RecurringClass> findAllActive(LocalDate startDate, LocalDate endDate, Long classTypeId,
+                                              Long teacherId, List<Long> groupIds) {
+        List<RecurringClass> recurringClasses;
+        if (groupIds == null) {
+            recurringClasses = execute(
+                () -> recurringClassRepository.findAllActive(startDate, endDate, classTypeId, teacherId));
+        } else {
+            recurringClasses = execute(
+                () -> recurringClassRepository.findAllActive(startDate, endDate, classTypeId, teacherId, groupIds));
+        }
+        log.debug("Retrieved All {} RecurringClasses", recurringClasses.size());
+        return recurringClasses;
+    }
+
+    /**
+     * Cancels a single occurrence of the RecurringClass.
+     */
+    @Override
+    @Transactional
+    public void addExceptionDate(Long id, LocalDate date) {
+        RecurringClass recurringClass = execute(() -> recurringClassRepository.findById(id)).orElseThrow(
+            () -> new ServiceException("RecurringClass not found"));
+        recurringClass.getExceptionDates().add(date);
+        execute(() -> recurringClassRepository.save(recurringClass));
+        applicationEventPublisher.publishEvent(ScheduleChangedEvent.ofScheduledClasses(
+            List.of(recurringClass.toScheduledClass(date)), List.of()));
+        log.info("added exception date {} to {}", date, recurringClass);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        RecurringClass recurringClass = execute(() -> recurringClassRepository.findById(id)).orElseThrow(
+            () -> new DeletionFailedException("There is no RecurringClass to delete with id = " + id));
+        execute(() -> recurringClassRepository.deleteById(id));
+        applicationEventPublisher.publishEvent(ScheduleChangedEvent.ofRecurringClasses(List.of(recurringClass)));
+        log.info("Deleted id = {}", id);
+    }
+
+    private <T> T execute(DaoSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (DataAccessException e) {
+            throw new ServiceException("DAO operation failed", e);
+        }
+    }
+
+    private void execute(DaoProcessor processor) {
+        try {
+            processor.process();
+        } catch (DataAccessException e) {
+            throw new ServiceException("DAO operation failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface DaoSupplier<T> {
+        T get();
+    }
+
+    @FunctionalInterface
+    public interface DaoProcessor {
+        void process();
+    }
+}
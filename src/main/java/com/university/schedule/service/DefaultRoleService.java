@@ -2,15 +2,19 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.RoleDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Role;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.RoleRepository;
 import com.university.schedule.validation.RoleEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,8 @@ public class DefaultRoleService implements RoleService {
 
     private final RoleEntityValidator roleEntityValidator;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<RoleDTO> findAllAsDTO() {
         List<RoleDTO> roleDTOList = execute(() -> roleRepository.findAll()).stream().map(this::convertToDTO).toList();
@@ -50,11 +56,22 @@ public class DefaultRoleService implements RoleService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<RoleDTO> roleDTOS =
-            execute(() -> roleRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> roleRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Role", roleDTOS.size());
         return roleDTOS;
     }
 
+    @Override
+    public Window<RoleDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<RoleDTO> roleDTOWindow =
+            execute(() -> roleRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Roles", roleDTOWindow.size());
+        return roleDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(Role role) {
@@ -62,6 +79,7 @@ public class DefaultRoleService implements RoleService {
             roleEntityValidator.validate(role);
             roleRepository.save(role);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Role.class));
         log.info("saved {}", role);
         return role.getId();
     }
@@ -74,6 +92,7 @@ public class DefaultRoleService implements RoleService {
             roleEntityValidator.validate(role);
             roleRepository.save(role);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Role.class));
         log.info("saved {}", role);
         return role.getId();
     }
@@ -111,6 +130,7 @@ public class DefaultRoleService implements RoleService {
             }
             roleRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Role.class));
         log.info("Deleted id = {}", id);
     }
 
@@ -0,0 +1,341 @@
+package com.university.schedule.service;
+
+import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ScheduleConflict;
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.dto.ScheduleGenerationResult;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ScheduleGenerationDateException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.model.DayScheduleItem;
+import com.university.schedule.model.ScheduleGenerationJob;
+import com.university.schedule.model.ScheduleGenerationJobItem;
+import com.university.schedule.model.ScheduleGenerationJob.Phase;
+import com.university.schedule.model.ScheduleGenerationJob.Status;
+import com.university.schedule.repository.ScheduleGenerationJobItemRepository;
+import com.university.schedule.repository.ScheduleGenerationJobRepository;
+import com.university.schedule.validation.ScheduleValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs schedule generation in the background. A submitted job is persisted and executed on the dedicated
+ * scheduleGenerationJobExecutor; its status, phase and progress are kept in the schedule_generation_jobs table.
+ *
+ * <p>The date range is generated in chunks of {@code schedule.generation.jobs.chunkWeeks} weeks. Every chunk is
+ * written together with the job progress in one transaction, so after a cancellation or a failure the job can be
+ * resumed from the first uncommitted chunk.
+ *
+ * <p>The DayScheduleItems of a job are persisted with it in schedule_generation_job_items, so a job doesn`t depend on
+ * the instance that accepted it. The instance executing a job holds its lease: it renews the job heartbeat every
+ * {@code schedule.generation.jobs.heartbeatMillis}, and other instances take over a queued or running job only after
+ * its heartbeat is older than {@code schedule.generation.jobs.leaseSeconds}, i.e. its instance stopped.
+ */
+@Slf4j
+@Service
+public class DefaultScheduleGenerationJobService implements ScheduleGenerationJobService {
+
+    private static final String DATE_EXCEPTION_MSG = "startDate can`t be after endDate";
+
+    private static final List<Status> ACTIVE_STATUSES = List.of(Status.QUEUED, Status.RUNNING);
+
+    private final ScheduleGenerationJobRepository scheduleGenerationJobRepository;
+
+    private final ScheduleGenerationJobItemRepository scheduleGenerationJobItemRepository;
+
+    private final ScheduleGenerator scheduleGenerator;
+
+    private final ScheduleValidator scheduleValidator;
+
+    private final ConverterService converterService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor executor;
+
+    private final Map<Long, JobHandle> jobHandles = new ConcurrentHashMap<>();
+
+    @Value("${schedule.generation.jobs.chunkWeeks:1}")
+    private int chunkWeeks = 1;
+
+    @Value("${schedule.generation.jobs.instanceId:${random.uuid}}")
+    private String instanceId = UUID.randomUUID().toString();
+
+    @Value("${schedule.generation.jobs.leaseSeconds:120}")
+    private long leaseSeconds = 120;
+
+    public DefaultScheduleGenerationJobService(ScheduleGenerationJobRepository scheduleGenerationJobRepository,
+                                               ScheduleGenerationJobItemRepository scheduleGenerationJobItemRepository,
+                                               ScheduleGenerator scheduleGenerator,
+                                               ScheduleValidator scheduleValidator,
+                                               ConverterService converterService,
+                                               PlatformTransactionManager transactionManager,
+                                               @Qualifier("scheduleGenerationJobExecutor") Executor executor) {
+        this.scheduleGenerationJobRepository = scheduleGenerationJobRepository;
+        this.scheduleGenerationJobItemRepository = scheduleGenerationJobItemRepository;
+        this.scheduleGenerator = scheduleGenerator;
+        this.scheduleValidator = scheduleValidator;
+        this.converterService = converterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    /**
+     * Jobs that were queued or running on an instance that stopped are queued again and continue from their first
+     * uncommitted chunk. Started only when the application is ready, so the executor doesn`t run jobs during the
+     * context startup. Jobs already submitted by this instance (e.g. by another ApplicationReadyEvent listener) and
+     * jobs whose lease is held by another live instance are skipped; the lease of every resumed job is taken by one
+     * conditional update, so two instances never resume the same job.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minusSeconds(leaseSeconds);
+        List<Long> interruptedJobIds = execute(() -> scheduleGenerationJobRepository.findAllByStatusIn(ACTIVE_STATUSES))
+            .stream().filter(job -> !jobHandles.containsKey(job.getId()))
+            .filter(job -> instanceId.equals(job.getOwnerInstance()) || job.getHeartbeatAt() == null ||
+                job.getHeartbeatAt().isBefore(expiredBefore))
+            .map(ScheduleGenerationJob::getId)
+            .filter(id -> claimLease(id, now, expiredBefore)).toList();
+        if (interruptedJobIds.isEmpty()) {
+            return;
+        }
+        log.info("Resuming {} ScheduleGenerationJobs interrupted by a stopped instance", interruptedJobIds.size());
+        interruptedJobIds.forEach(id -> {
+            updateJob(id, job -> {
+                job.setStatus(Status.QUEUED);
+                job.setOwnerInstance(instanceId);
+                job.setHeartbeatAt(now);
+            });
+            start(id, new JobHandle());
+        });
+    }
+
+    /**
+     * Renews the leases of the jobs queued or running on this instance and takes over the jobs of stopped instances.
+     */
+    @Scheduled(initialDelayString = "${schedule.generation.jobs.heartbeatMillis:30000}",
+        fixedDelayString = "${schedule.generation.jobs.heartbeatMillis:30000}")
+    public void maintainLeases() {
+        List<Long> ownJobIds = List.copyOf(jobHandles.keySet());
+        if (!ownJobIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> execute(
+                () -> scheduleGenerationJobRepository.renewLeases(ownJobIds, instanceId, LocalDateTime.now())));
+        }
+        resumeInterruptedJobs();
+    }
+
+    @Override
+    public Long submit(LocalDate startDate, LocalDate endDate, List<DayScheduleItem> dayScheduleItems) {
+        if (startDate == null || endDate == null || dayScheduleItems == null) {
+            throw new IllegalArgumentException("Job arguments must not be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new ScheduleGenerationDateException(DATE_EXCEPTION_MSG);
+        }
+        ScheduleGenerationJob job = transactionTemplate.execute(status -> {
+            ScheduleGenerationJob savedJob = execute(() -> scheduleGenerationJobRepository.save(
+                ScheduleGenerationJob.builder().status(Status.QUEUED).phase(Phase.PENDING).startDate(startDate)
+                    .endDate(endDate).nextChunkDate(startDate).ownerInstance(instanceId)
+                    .heartbeatAt(LocalDateTime.now()).build()));
+            List<ScheduleGenerationJobItem> jobItems = dayScheduleItems.stream()
+                .map(dayScheduleItem -> ScheduleGenerationJobItem.of(savedJob.getId(), dayScheduleItem)).toList();
+            execute(() -> scheduleGenerationJobItemRepository.saveAll(jobItems));
+            return savedJob;
+        });
+        log.info("submitted {} with {} DayScheduleItems", job, dayScheduleItems.size());
+        start(job.getId(), new JobHandle());
+        return job.getId();
+    }
+
+    @Override
+    public ScheduleGenerationJobDTO findByIdAsDTO(Long id) {
+        ScheduleGenerationJob job = findById(id);
+        log.debug("Retrieved {}", job);
+        return converterService.convert(job, ScheduleGenerationJobDTO.class);
+    }
+
+    @Override
+    public List<ScheduleGenerationJobDTO> findAllAsDTO() {
+        List<ScheduleGenerationJobDTO> jobDTOs = execute(() -> scheduleGenerationJobRepository.findAll()).stream()
+            .map(job -> converterService.convert(job, ScheduleGenerationJobDTO.class)).toList();
+        log.debug("Retrieved All {} ScheduleGenerationJobs", jobDTOs.size());
+        return jobDTOs;
+    }
+
+    /**
+     * Requests cancellation. A running job stops before its next chunk, chunks committed so far are kept.
+     */
+    @Override
+    public void cancel(Long id) {
+        ScheduleGenerationJob job = findById(id);
+        if (job.isFinished()) {
+            throw new ServiceException(String.format("ScheduleGenerationJob with id = %d is already %s", id,
+                job.getStatus()));
+        }
+        JobHandle jobHandle = jobHandles.get(id);
+        if (jobHandle != null) {
+            jobHandle.cancelled = true;
+        } else {
+            updateJob(id, updatedJob -> updatedJob.setStatus(Status.CANCELLED));
+        }
+        log.info("Cancellation of ScheduleGenerationJob with id = {} requested", id);
+    }
+
+    /**
+     * Restarts a cancelled or failed job from its first uncommitted chunk. The job must not be running anymore, a
+     * job cancelled during a chunk can be resumed once that chunk is finished.
+     */
+    @Override
+    public void resume(Long id) {
+        ScheduleGenerationJob job = findById(id);
+        if (job.getStatus() != Status.CANCELLED && job.getStatus() != Status.FAILED || jobHandles.containsKey(id)) {
+            throw new ServiceException(String.format("ScheduleGenerationJob with id = %d can`t be resumed", id));
+        }
+        updateJob(id, updatedJob -> {
+            updatedJob.setStatus(Status.QUEUED);
+            updatedJob.setErrorMessage(null);
+            updatedJob.setOwnerInstance(instanceId);
+            updatedJob.setHeartbeatAt(LocalDateTime.now());
+        });
+        log.info("Resuming ScheduleGenerationJob with id = {} from {}", id, job.getNextChunkDate());
+        start(id, new JobHandle());
+    }
+
+    private void start(Long id, JobHandle jobHandle) {
+        if (jobHandles.putIfAbsent(id, jobHandle) != null) {
+            return;
+        }
+        executor.execute(() -> run(id, jobHandle));
+    }
+
+    private boolean claimLease(Long id, LocalDateTime now, LocalDateTime expiredBefore) {
+        Integer claimed = transactionTemplate.execute(status -> execute(
+            () -> scheduleGenerationJobRepository.claimLease(id, instanceId, now, expiredBefore, ACTIVE_STATUSES)));
+        return claimed != null && claimed == 1;
+    }
+
+    private void run(Long id, JobHandle jobHandle) {
+        try {
+            if (jobHandle.cancelled) {
+                finish(id, Status.CANCELLED, null);
+                return;
+            }
+            updateJob(id, job -> {
+                job.setStatus(Status.RUNNING);
+                job.setPhase(Phase.VALIDATING);
+            });
+            List<DayScheduleItem> dayScheduleItems = loadDayScheduleItems(id);
+            List<ScheduleConflict> conflicts = scheduleValidator.findConflicts(dayScheduleItems);
+            if (!conflicts.isEmpty()) {
+                updateJob(id, job -> job.setConflictsFound(conflicts.size()));
+                finish(id, Status.FAILED, conflicts.get(0).getMessage());
+                return;
+            }
+
+            ScheduleGenerationJob job = updateJob(id, updatedJob -> updatedJob.setPhase(Phase.GENERATING));
+            LocalDate chunkStart = job.getNextChunkDate();
+            while (chunkStart.isBefore(job.getEndDate())) {
+                if (jobHandle.cancelled) {
+                    finish(id, Status.CANCELLED, null);
+                    return;
+                }
+                if (!instanceId.equals(findById(id).getOwnerInstance())) {
+                    log.warn("Lease of ScheduleGenerationJob with id = {} was taken over, stopping", id);
+                    return;
+                }
+                LocalDate chunkEnd = chunkStart.plusWeeks(chunkWeeks);
+                LocalDate chunkEndDate = chunkEnd.isBefore(job.getEndDate()) ? chunkEnd : job.getEndDate();
+                LocalDate chunkStartDate = chunkStart;
+                transactionTemplate.executeWithoutResult(status -> {
+                    ScheduleGenerationResult result =
+                        scheduleGenerator.generateValidatedInBatches(chunkStartDate, chunkEndDate, dayScheduleItems);
+                    updateJob(id, updatedJob -> {
+                        updatedJob.setGeneratedRows(updatedJob.getGeneratedRows() + result.getGeneratedRows());
+                        updatedJob.setNextChunkDate(chunkEndDate);
+                        updatedJob.setHeartbeatAt(LocalDateTime.now());
+                    });
+                });
+                chunkStart = chunkEndDate;
+            }
+            updateJob(id, updatedJob -> updatedJob.setPhase(Phase.DONE));
+            finish(id, Status.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("ScheduleGenerationJob with id = {} failed", id, e);
+            finish(id, Status.FAILED, e.getMessage());
+        } finally {
+            jobHandles.remove(id, jobHandle);
+        }
+    }
+
+    /**
+     * The items are read in a transaction of their own, so their lazy associations are loaded before generation.
+     */
+    private List<DayScheduleItem> loadDayScheduleItems(Long id) {
+        return transactionTemplate.execute(
+            status -> execute(() -> scheduleGenerationJobItemRepository.findAllByJobId(id)).stream()
+                .map(ScheduleGenerationJobItem::toDayScheduleItem).toList());
+    }
+
+    private void finish(Long id, Status status, String errorMessage) {
+        ScheduleGenerationJob job = updateJob(id, updatedJob -> {
+            updatedJob.setStatus(status);
+            updatedJob.setErrorMessage(errorMessage);
+        });
+        log.info("finished {}", job);
+    }
+
+    private ScheduleGenerationJob updateJob(Long id, JobUpdate jobUpdate) {
+        ScheduleGenerationJob job = findById(id);
+        jobUpdate.apply(job);
+        return execute(() -> scheduleGenerationJobRepository.save(job));
+    }
+
+    private ScheduleGenerationJob findById(Long id) {
+        return execute(() -> scheduleGenerationJobRepository.findById(id)).orElseThrow(
+            () -> new JobNotFoundException("ScheduleGenerationJob not found"));
+    }
+
+    private <T> T execute(DaoSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (DataAccessException e) {
+            throw new ServiceException("DAO operation failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface DaoSupplier<T> {
+        T get();
+    }
+
+    @FunctionalInterface
+    private interface JobUpdate {
+        void apply(ScheduleGenerationJob job);
+    }
+
+    /**
+     * In-memory part of a queued or running job: the cancellation flag checked between chunks. Removed when the job
+     * reaches any final status.
+     */
+    private static class JobHandle {
+
+        private volatile boolean cancelled;
+    }
+}
@@ -1,21 +1,35 @@
 package com.university.schedule.service;
 
+import com.university.schedule.cache.ScheduleWeekCache;
 import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ScheduleCursor;
 import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassChanges;
 import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.event.ScheduleChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
+import com.university.schedule.model.RecurringClass;
 import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.pageable.KeysetPageRequest;
+import com.university.schedule.repository.ScheduledClassBatchRepository;
+import com.university.schedule.repository.ScheduledClassProjectionRepository;
 import com.university.schedule.repository.ScheduledClassRepository;
 import com.university.schedule.validation.ScheduledClassEntityValidator;
+import com.university.schedule.validation.ScheduledClassValidationContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
 
 
 @Slf4j
@@ -24,21 +38,35 @@ import java.util.List;
 @Service
 public class DefaultScheduledClassService implements ScheduledClassService {
 
+    static final int STREAM_PAGE_SIZE = 500;
+
     private final ScheduledClassRepository scheduledClassRepository;
 
+    private final ScheduledClassBatchRepository scheduledClassBatchRepository;
+
+    private final ScheduledClassProjectionRepository scheduledClassProjectionRepository;
+
     private final ScheduleFilterItemService scheduleFilterItemService;
 
     private final ConverterService converterService;
 
     private final ScheduledClassEntityValidator scheduledClassEntityValidator;
 
+    private final RecurringClassService recurringClassService;
+
+    private final ScheduleWeekCache scheduleWeekCache;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     @Transactional
     public Long save(ScheduledClass scheduledClass) {
+        List<ScheduledClassRow> previousRows = findPreviousRows(scheduledClass);
         execute(() -> {
             scheduledClassEntityValidator.validate(scheduledClass);
             scheduledClassRepository.save(scheduledClass);
         });
+        publishChanged(List.of(scheduledClass), previousRows);
         log.info("saved {}", scheduledClass);
         return scheduledClass.getId();
     }
@@ -47,14 +75,108 @@ public class DefaultScheduledClassService implements ScheduledClassService {
     @Transactional
     public Long save(ScheduledClassDTO scheduledClassDTO) {
         ScheduledClass scheduledClass = convertToEntity(scheduledClassDTO);
+        List<ScheduledClassRow> previousRows = findPreviousRows(scheduledClass);
         execute(() -> {
             scheduledClassEntityValidator.validate(scheduledClass);
             scheduledClassRepository.save(scheduledClass);
         });
+        publishChanged(List.of(scheduledClass), previousRows);
         log.info("saved {}", scheduledClass);
         return scheduledClass.getId();
     }
 
+    /**
+     * Inserts not yet persisted ScheduledClasses in JDBC batches. The whole set is validated against one
+     * preloaded validation context instead of running the per-row validation queries of
+     * {@link #save(ScheduledClass)}.
+     */
+    @Override
+    @Transactional
+    public int saveAll(List<ScheduledClass> scheduledClasses) {
+        if (scheduledClasses == null) {
+            throw new IllegalArgumentException("ScheduledClasses list is null");
+        }
+        int savedRows = execute(() -> {
+            scheduledClassEntityValidator.validateAll(scheduledClasses);
+            return scheduledClassBatchRepository.insertAll(scheduledClasses);
+        });
+        publishChanged(scheduledClasses, List.of());
+        log.info("saved {} ScheduledClasses in batches", savedRows);
+        return savedRows;
+    }
+
+    /**
+     * Same as {@link #saveAll(List)}, validated against a context created beforehand by
+     * {@link #createValidationContext(List)}, so parallel writers don`t each load the occupancy of the whole range.
+     */
+    @Override
+    @Transactional
+    public int saveAll(List<ScheduledClass> scheduledClasses, ScheduledClassValidationContext context) {
+        if (scheduledClasses == null || context == null) {
+            throw new IllegalArgumentException("ScheduledClasses list or validation context is null");
+        }
+        int savedRows = execute(() -> {
+            scheduledClassEntityValidator.validateAll(scheduledClasses, context);
+            return scheduledClassBatchRepository.insertAll(scheduledClasses);
+        });
+        publishChanged(scheduledClasses, List.of());
+        log.info("saved {} ScheduledClasses in batches", savedRows);
+        return savedRows;
+    }
+
+    @Override
+    public ScheduledClassValidationContext createValidationContext(List<ScheduledClass> scheduledClasses) {
+        if (scheduledClasses == null) {
+            throw new IllegalArgumentException("ScheduledClasses list is null");
+        }
+        return execute(() -> scheduledClassEntityValidator.createValidationContext(scheduledClasses));
+    }
+
+    @Override
+    public List<ScheduledClassRow> findRowsByDateBetween(LocalDate startDate, LocalDate endDate) {
+        List<ScheduledClassRow> scheduledClassRows =
+            execute(() -> scheduledClassBatchRepository.findRowsByDateBetween(startDate, endDate));
+        log.debug("Retrieved All {} ScheduledClass rows", scheduledClassRows.size());
+        return scheduledClassRows;
+    }
+
+    /**
+     * Applies a schedule delta in JDBC batches: deletes first, so freed slots can be reused, then updates and
+     * inserts. Inserted and rewritten classes are validated as one set, with the deleted and rewritten rows released
+     * from the occupancy.
+     */
+    @Override
+    @Transactional
+    public void applyChanges(ScheduledClassChanges scheduledClassChanges) {
+        if (scheduledClassChanges == null) {
+            throw new IllegalArgumentException("ScheduledClassChanges is null");
+        }
+        Set<Long> releasedIds = new HashSet<>(scheduledClassChanges.getDeletedIds());
+        scheduledClassChanges.getUpdatedClasses().forEach(scheduledClass -> releasedIds.add(scheduledClass.getId()));
+        List<ScheduledClass> validatedClasses = new ArrayList<>(scheduledClassChanges.getInsertedClasses());
+        validatedClasses.addAll(scheduledClassChanges.getUpdatedClasses());
+        scheduledClassChanges.getRegroupedClasses().stream()
+            .filter(scheduledClass -> !releasedIds.contains(scheduledClass.getId())).forEach(validatedClasses::add);
+        Set<Long> changedIds = new HashSet<>(releasedIds);
+        scheduledClassChanges.getRegroupedClasses().forEach(scheduledClass -> changedIds.add(scheduledClass.getId()));
+        List<ScheduledClassRow> previousRows =
+            changedIds.isEmpty() ? List.of() : execute(() -> scheduledClassBatchRepository.findRowsByIds(changedIds));
+        execute(() -> {
+            scheduledClassEntityValidator.validateAll(validatedClasses, releasedIds);
+            scheduledClassBatchRepository.deleteAllById(scheduledClassChanges.getDeletedIds());
+            scheduledClassBatchRepository.updateAll(scheduledClassChanges.getUpdatedClasses());
+            scheduledClassBatchRepository.replaceGroups(scheduledClassChanges.getRegroupedClasses());
+            scheduledClassBatchRepository.insertAll(scheduledClassChanges.getInsertedClasses());
+        });
+        List<ScheduledClass> changedClasses = new ArrayList<>(scheduledClassChanges.getInsertedClasses());
+        changedClasses.addAll(scheduledClassChanges.getUpdatedClasses());
+        changedClasses.addAll(scheduledClassChanges.getRegroupedClasses());
+        publishChanged(changedClasses, previousRows);
+        log.info("applied ScheduledClass changes: {} inserted, {} updated, {} regrouped, {} deleted",
+            scheduledClassChanges.getInsertedClasses().size(), scheduledClassChanges.getUpdatedClasses().size(),
+            scheduledClassChanges.getRegroupedClasses().size(), scheduledClassChanges.getDeletedIds().size());
+    }
+
     @Override
     public ScheduledClassDTO findByIdAsDTO(Long id) {
         ScheduledClass scheduledClass = execute(() -> scheduledClassRepository.findById(id)).orElseThrow(
@@ -73,7 +195,7 @@ public class DefaultScheduledClassService implements ScheduledClassService {
     @Override
     public List<ScheduledClassDTO> findAllAsDTO() {
         List<ScheduledClassDTO> scheduledClassDTOList =
-            execute(() -> scheduledClassRepository.findAll()).stream().map(this::convertToDTO).toList();
+            converterService.convertAll(execute(() -> scheduledClassRepository.findAll()), ScheduledClassDTO.class);
         log.debug("Retrieved All {} ScheduledClasses", scheduledClassDTOList.size());
         return scheduledClassDTOList;
     }
@@ -81,23 +203,122 @@ public class DefaultScheduledClassService implements ScheduledClassService {
     @Override
     public List<ScheduledClassDTO> findAllAsDTOByScheduleFilterItem(ScheduleFilterItem scheduleFilterItem) {
         scheduleFilterItemService.processRawItem(scheduleFilterItem);
-        List<ScheduledClassDTO> scheduledClassDTOList;
-        if (scheduleFilterItem.getGroupIdList() == null) {
-            scheduledClassDTOList = execute(
-                () -> scheduledClassRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
-                    scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(),
-                    scheduleFilterItem.getTeacherId())).stream().map(this::convertToDTO).toList();
-        } else {
-            scheduledClassDTOList = execute(
-                () -> scheduledClassRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
-                    scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(),
-                    scheduleFilterItem.getTeacherId(), scheduleFilterItem.getGroupIdList())).stream()
-                .map(this::convertToDTO).toList();
-        }
+        return scheduleWeekCache.get(scheduleFilterItem, () -> loadAsDTOByScheduleFilterItem(scheduleFilterItem));
+    }
+
+    private List<ScheduledClassDTO> loadAsDTOByScheduleFilterItem(ScheduleFilterItem scheduleFilterItem) {
+        List<ScheduledClassDTO> scheduledClassDTOList = execute(
+            () -> scheduledClassProjectionRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
+                scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(),
+                scheduleFilterItem.getTeacherId(), scheduleFilterItem.getGroupIdList()));
+        List<RecurringClass> recurringClasses =
+            recurringClassService.findAllActive(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
+                scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
+                scheduleFilterItem.getGroupIdList());
+        scheduledClassDTOList = merge(scheduledClassDTOList, recurringClasses, scheduleFilterItem.getStartDate(),
+            scheduleFilterItem.getEndDate());
         log.debug("Retrieved All {} ScheduledClasses", scheduledClassDTOList.size());
         return scheduledClassDTOList;
     }
 
+    @Override
+    public int streamAsDTOByScheduleFilterItem(ScheduleFilterItem scheduleFilterItem,
+                                               Consumer<ScheduledClassDTO> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer is null");
+        }
+        if (scheduleFilterItem == null) {
+            throw new IllegalArgumentException("ScheduleFilterItem is null");
+        }
+        LocalDate startDate = scheduleFilterItem.getStartDate();
+        LocalDate endDate = scheduleFilterItem.getEndDate();
+        List<RecurringClass> recurringClasses =
+            recurringClassService.findAllActive(startDate, endDate, scheduleFilterItem.getClassTypeId(),
+                scheduleFilterItem.getTeacherId(), scheduleFilterItem.getGroupIdList());
+
+        int streamed = 0;
+        LocalDate nextDate = startDate;
+        List<ScheduledClassDTO> dayDTOList = new ArrayList<>();
+        ScheduleCursor cursor = null;
+        List<ScheduledClassDTO> page;
+        do {
+            ScheduleCursor after = cursor;
+            page = execute(() -> scheduledClassProjectionRepository.findPageFiltered(startDate, endDate,
+                scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
+                scheduleFilterItem.getGroupIdList(), after, STREAM_PAGE_SIZE));
+            for (ScheduledClassDTO scheduledClassDTO : page) {
+                LocalDate dayDate = dayDTOList.isEmpty() ? null : dayDTOList.get(0).getDate();
+                if (dayDate != null && !dayDate.equals(scheduledClassDTO.getDate())) {
+                    streamed += streamDays(dayDTOList, recurringClasses, nextDate, dayDate, consumer);
+                    nextDate = dayDate.plusDays(1);
+                    dayDTOList.clear();
+                }
+                dayDTOList.add(scheduledClassDTO);
+            }
+            if (!page.isEmpty()) {
+                cursor = ScheduleCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+        streamed += streamDays(dayDTOList, recurringClasses, nextDate, endDate, consumer);
+        log.debug("Streamed {} ScheduledClasses", streamed);
+        return streamed;
+    }
+
+    /**
+     * Passes the classes of the dates from startDate to endDate to the consumer, the persisted ScheduledClasses of one
+     * of the dates merged with the occurrences of the RecurringClasses. The pages come in (date, id) order, so the
+     * persisted classes of the day are put into ClassTime order here.
+     */
+    private int streamDays(List<ScheduledClassDTO> dayDTOList, List<RecurringClass> recurringClasses,
+                           LocalDate startDate, LocalDate endDate, Consumer<ScheduledClassDTO> consumer) {
+        dayDTOList.sort(Comparator.comparing(
+                (ScheduledClassDTO scheduledClassDTO) -> scheduledClassDTO.getClassTimeDTO().getStartTime(),
+                Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ScheduledClassDTO::getId));
+        if (recurringClasses.isEmpty()) {
+            dayDTOList.forEach(consumer);
+            return dayDTOList.size();
+        }
+        int streamed = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            List<ScheduledClassDTO> persistedDTOList =
+                !dayDTOList.isEmpty() && dayDTOList.get(0).getDate().equals(date) ? dayDTOList : List.of();
+            List<ScheduledClassDTO> mergedDTOList = merge(persistedDTOList, recurringClasses, date, date);
+            mergedDTOList.forEach(consumer);
+            streamed += mergedDTOList.size();
+        }
+        return streamed;
+    }
+
+    /**
+     * Expands the RecurringClasses into ScheduledClassDTOs inside the window and merges them with the persisted
+     * ScheduledClasses. A persisted ScheduledClass with the same date, ClassTime and Teacher overrides the
+     * occurrence of the rule.
+     */
+    private List<ScheduledClassDTO> merge(List<ScheduledClassDTO> scheduledClassDTOList,
+                                          List<RecurringClass> recurringClasses, LocalDate startDate,
+                                          LocalDate endDate) {
+        if (recurringClasses.isEmpty()) {
+            return scheduledClassDTOList;
+        }
+        Set<OccurrenceKey> overriddenKeys = new HashSet<>(scheduledClassDTOList.size() * 2);
+        for (ScheduledClassDTO scheduledClassDTO : scheduledClassDTOList) {
+            overriddenKeys.add(new OccurrenceKey(scheduledClassDTO.getDate(),
+                scheduledClassDTO.getClassTimeDTO().getId(), scheduledClassDTO.getTeacherDTO().getId()));
+        }
+        List<ScheduledClassDTO> mergedDTOList = new ArrayList<>(scheduledClassDTOList);
+        for (RecurringClass recurringClass : recurringClasses) {
+            for (LocalDate date : recurringClass.getOccurrenceDates(startDate, endDate)) {
+                if (!overriddenKeys.contains(new OccurrenceKey(date, recurringClass.getClassTime().getId(),
+                    recurringClass.getTeacher().getId()))) {
+                    mergedDTOList.add(convertToDTO(recurringClass.toScheduledClass(date)));
+                }
+            }
+        }
+        mergedDTOList.sort(Comparator.comparing(ScheduledClassDTO::getDate)
+            .thenComparing(scheduledClassDTO -> scheduledClassDTO.getClassTimeDTO().getOrderNumber()));
+        return mergedDTOList;
+    }
 
     @Override
     public List<ScheduledClassDTO> findAllAsDTO(Pageable pageable) {
@@ -105,23 +326,55 @@ public class DefaultScheduledClassService implements ScheduledClassService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<ScheduledClassDTO> scheduledClassDTOList =
-            execute(() -> scheduledClassRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            converterService.convertAll(execute(() -> scheduledClassRepository.findAllBy(pageable)).getContent(),
+                ScheduledClassDTO.class);
         log.debug("Retrieved All {} ScheduledClasses", scheduledClassDTOList.size());
         return scheduledClassDTOList;
     }
 
+    @Override
+    public Window<ScheduledClassDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<ScheduledClass> scheduledClassWindow = execute(() -> scheduledClassRepository.scroll(keysetPageRequest));
+        List<ScheduledClassDTO> scheduledClassDTOList =
+            converterService.convertAll(scheduledClassWindow.getContent(), ScheduledClassDTO.class);
+        log.debug("Retrieved {} ScheduledClasses", scheduledClassDTOList.size());
+        return Window.from(scheduledClassDTOList, scheduledClassWindow::positionAt, scheduledClassWindow.hasNext());
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
+        List<ScheduledClassRow> previousRows =
+            execute(() -> scheduledClassBatchRepository.findRowsByIds(List.of(id)));
         execute(() -> {
-            if (!scheduledClassRepository.existsById(id)) {
+            if (previousRows.isEmpty()) {
                 throw new DeletionFailedException("There is no ScheduledClass to delete with id = " + id);
             }
             scheduledClassRepository.deleteById(id);
         });
+        publishChanged(List.of(), previousRows);
         log.info("Deleted id = {}", id);
     }
 
+    /**
+     * Loads the persisted state of an updated ScheduledClass, before the update is flushed, so the schedule views
+     * showing it at its old date, Teacher or Groups are invalidated too.
+     */
+    private List<ScheduledClassRow> findPreviousRows(ScheduledClass scheduledClass) {
+        if (scheduledClass == null || scheduledClass.getId() == null) {
+            return List.of();
+        }
+        return execute(() -> scheduledClassBatchRepository.findRowsByIds(List.of(scheduledClass.getId())));
+    }
+
+    private void publishChanged(Collection<ScheduledClass> scheduledClasses,
+                                Collection<ScheduledClassRow> previousRows) {
+        applicationEventPublisher.publishEvent(ScheduleChangedEvent.ofScheduledClasses(scheduledClasses, previousRows));
+    }
+
     private ScheduledClassDTO convertToDTO(ScheduledClass source) {
         return converterService.convert(source, ScheduledClassDTO.class);
     }
@@ -155,4 +408,7 @@ public class DefaultScheduledClassService implements ScheduledClassService {
     public interface DaoProcessor {
         void process();
     }
+
+    private record OccurrenceKey(LocalDate date, Long classTimeId, Long teacherId) {
+    }
 }
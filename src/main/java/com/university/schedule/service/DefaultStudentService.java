@@ -2,17 +2,22 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.StudentDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Student;
 import com.university.schedule.model.User;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.StudentRepository;
 import com.university.schedule.validation.StudentEntityValidator;
 import com.university.schedule.visitor.UserPageableStudentVisitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +32,7 @@ public class DefaultStudentService implements StudentService {
 
     private final StudentRepository studentRepository;
 
-    private final UserService userService;
+    private final UserIdentityService userIdentityService;
 
     private final ConverterService converterService;
 
@@ -35,6 +40,8 @@ public class DefaultStudentService implements StudentService {
 
     private final UserPageableStudentVisitor userPageableStudentVisitor;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<Student> findAll() {
         List<Student> students = execute(() -> studentRepository.findAll());
@@ -56,23 +63,46 @@ public class DefaultStudentService implements StudentService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<StudentDTO> studentDTOList =
-            execute(() -> studentRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> studentRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Students", studentDTOList.size());
         return studentDTOList;
     }
 
+    @Override
+    public Window<StudentDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<StudentDTO> studentDTOWindow =
+            execute(() -> studentRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Students", studentDTOWindow.size());
+        return studentDTOWindow;
+    }
+
     @Override
     public List<StudentDTO> findAllAsDTO(String email, Pageable pageable) {
         if (pageable == null || email == null) {
             throw new IllegalArgumentException("Pageable or email is null");
         }
-        User user = userService.findByEmail(email);
+        User user = userIdentityService.findReferenceByEmail(email);
         List<Student> studentPage = execute(() -> user.accept(userPageableStudentVisitor, pageable));
         List<StudentDTO> studentDTOList = studentPage.stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Students", studentDTOList.size());
         return studentDTOList;
     }
 
+    @Override
+    public Window<StudentDTO> scrollAsDTO(String email, KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null || email == null) {
+            throw new IllegalArgumentException("KeysetPageRequest or email is null");
+        }
+        User user = userIdentityService.findReferenceByEmail(email);
+        Window<StudentDTO> studentDTOWindow =
+            execute(() -> user.accept(userPageableStudentVisitor, keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Students", studentDTOWindow.size());
+        return studentDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(Student student) {
@@ -80,6 +110,8 @@ public class DefaultStudentService implements StudentService {
             studentEntityValidator.validate(student);
             studentRepository.save(student);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Student.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(student.getId()));
         log.info("saved {}", student);
         return student.getId();
     }
@@ -95,6 +127,8 @@ public class DefaultStudentService implements StudentService {
             studentEntityValidator.validate(studentToSave);
             studentRepository.save(studentToSave);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Student.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(studentToSave.getId()));
         log.info("saved {}", studentToSave);
         return studentToSave.getId();
     }
@@ -124,6 +158,8 @@ public class DefaultStudentService implements StudentService {
             }
             studentRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Student.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("Deleted id = {}", id);
     }
 
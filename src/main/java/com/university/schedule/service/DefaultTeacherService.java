@@ -2,16 +2,21 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.TeacherDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.TeacherRepository;
 import com.university.schedule.validation.TeacherEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +34,8 @@ public class DefaultTeacherService implements TeacherService {
 
     private final TeacherEntityValidator teacherEntityValidator;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<Teacher> findAll() {
         List<Teacher> teachers = execute(() -> teacherRepository.findAll());
@@ -50,11 +57,22 @@ public class DefaultTeacherService implements TeacherService {
             throw new IllegalArgumentException("Pageable is null");
         }
         List<TeacherDTO> teacherDTOList =
-            execute(() -> teacherRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> teacherRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Teachers", teacherDTOList.size());
         return teacherDTOList;
     }
 
+    @Override
+    public Window<TeacherDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<TeacherDTO> teacherDTOWindow =
+            execute(() -> teacherRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Teachers", teacherDTOWindow.size());
+        return teacherDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(Teacher teacher) {
@@ -62,6 +80,8 @@ public class DefaultTeacherService implements TeacherService {
             teacherEntityValidator.validate(teacher);
             teacherRepository.save(teacher);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Teacher.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(teacher.getId()));
         log.info("saved {}", teacher);
         return teacher.getId();
     }
@@ -77,6 +97,8 @@ public class DefaultTeacherService implements TeacherService {
             teacherEntityValidator.validate(teacherToSave);
             teacherRepository.save(teacherToSave);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Teacher.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(teacherToSave.getId()));
         log.info("saved {}", teacherToSave);
         return teacherToSave.getId();
     }
@@ -105,6 +127,8 @@ public class DefaultTeacherService implements TeacherService {
             }
             teacherRepository.deleteById(id);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(Teacher.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("Deleted id = {}", id);
     }
 
@@ -0,0 +1,31 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.DefaultUserDetails;
+import com.university.schedule.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores the hash that was recomputed at login because the stored one uses a lower BCrypt work factor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DefaultUserDetailsPasswordService implements UserDetailsPasswordService {
+
+    private final UserService userService;
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            userService.updatePassword(user.getUsername(), newPassword);
+        } catch (ServiceException e) {
+            log.warn("Failed to store the upgraded password hash of {}", user.getUsername(), e);
+            return user;
+        }
+        return new DefaultUserDetails(user.getUsername(), newPassword, user.getAuthorities(), user.isEnabled());
+    }
+}
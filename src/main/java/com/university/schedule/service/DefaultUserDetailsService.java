@@ -1,8 +1,9 @@
 package com.university.schedule.service;
 
+import com.university.schedule.cache.RoleAuthoritiesCache;
 import com.university.schedule.converter.UserDetailsMapper;
+import com.university.schedule.dto.UserCredentials;
 import com.university.schedule.exception.ServiceException;
-import com.university.schedule.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,19 +18,24 @@ public class DefaultUserDetailsService implements UserDetailsService {
 
     private final UserDetailsMapper userDetailsMapper;
 
+    private final RoleAuthoritiesCache roleAuthoritiesCache;
+
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user;
+        UserCredentials userCredentials;
+        String roleName;
         try {
-            user = userService.findByEmail(username);
+            userCredentials = userService.findCredentialsByEmail(username);
+            roleName = userCredentials.roleId() == null ? null :
+                roleAuthoritiesCache.get(userCredentials.roleId()).roleName();
         } catch (ServiceException e) {
             throw new UsernameNotFoundException("No user found with email = " + username, e);
         }
-        if ("Admin".equals(user.getRole().getName())) {
+        if ("Admin".equals(roleName)) {
             throw new UsernameNotFoundException("User has Admin role, " + username);
         }
-        return userDetailsMapper.convertToUserDetails(user);
+        return userDetailsMapper.convertToUserDetails(userCredentials);
 
     }
 }
@@ -1,18 +1,25 @@
 package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.UserCredentials;
 import com.university.schedule.dto.UserDTO;
+import com.university.schedule.dto.UserTokenState;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Student;
 import com.university.schedule.model.Teacher;
 import com.university.schedule.model.User;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.UserRepository;
 import com.university.schedule.validation.UserEntityValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +39,8 @@ public class DefaultUserService implements UserService {
 
     private final RoleService roleService;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public List<User> findAll() {
         List<User> users = execute(() -> userRepository.findAll());
@@ -49,11 +58,22 @@ public class DefaultUserService implements UserService {
     @Override
     public List<UserDTO> findAllAsDTO(Pageable pageable) {
         List<UserDTO> userDTOList =
-            execute(() -> userRepository.findAll(pageable)).stream().map(this::convertToDTO).toList();
+            execute(() -> userRepository.findAllBy(pageable)).stream().map(this::convertToDTO).toList();
         log.debug("Retrieved All {} Users", userDTOList.size());
         return userDTOList;
     }
 
+    @Override
+    public Window<UserDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest) {
+        if (keysetPageRequest == null) {
+            throw new IllegalArgumentException("KeysetPageRequest is null");
+        }
+        Window<UserDTO> userDTOWindow =
+            execute(() -> userRepository.scroll(keysetPageRequest)).map(this::convertToDTO);
+        log.debug("Retrieved {} Users", userDTOWindow.size());
+        return userDTOWindow;
+    }
+
     @Override
     @Transactional
     public Long save(User user) {
@@ -61,6 +81,8 @@ public class DefaultUserService implements UserService {
             userEntityValidator.validate(user);
             userRepository.save(user);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(User.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         log.info("saved {}", user);
         return user.getId();
     }
@@ -73,6 +95,8 @@ public class DefaultUserService implements UserService {
             userEntityValidator.validate(userToSave);
             userRepository.save(userToSave);
         });
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(User.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userToSave.getId()));
         log.info("saved {}", userToSave);
         return userToSave.getId();
     }
@@ -100,6 +124,55 @@ public class DefaultUserService implements UserService {
         return user;
     }
 
+    @Override
+    public UserCredentials findCredentialsByEmail(String email) {
+        UserCredentials userCredentials = execute(() -> userRepository.findCredentialsByEmail(email)).orElseThrow(
+            () -> new ServiceException("User not found"));
+        log.debug("Retrieved credentials of {}", email);
+        return userCredentials;
+    }
+
+    @Override
+    public UserTokenState findTokenStateById(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("User id is null");
+        }
+        UserTokenState userTokenState = execute(() -> userRepository.findTokenStateById(id)).orElseThrow(
+            () -> new ServiceException("User not found"));
+        log.debug("Retrieved token state of User id = {}", id);
+        return userTokenState;
+    }
+
+    @Override
+    @Transactional
+    public void updatePassword(String email, String encodedPassword) {
+        if (email == null || encodedPassword == null) {
+            throw new IllegalArgumentException("Email or encoded password is null");
+        }
+        int updated = execute(() -> userRepository.updatePasswordByEmail(email, encodedPassword));
+        if (updated == 0) {
+            throw new ServiceException("User not found");
+        }
+        log.info("Updated password hash of {}", email);
+    }
+
+    /**
+     * Invalidates every identity token issued to the User so far (token mode), for example on logout.
+     */
+    @Override
+    @Transactional
+    public void revokeTokens(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("User id is null");
+        }
+        int updated = execute(() -> userRepository.incrementTokenVersion(id));
+        if (updated == 0) {
+            throw new ServiceException("User not found");
+        }
+        applicationEventPublisher.publishEvent(new UserChangedEvent(id));
+        log.info("Revoked tokens of User id = {}", id);
+    }
+
     @Override
     public UserDTO findByEmailAsDTO(String email) {
         User user =
@@ -117,6 +190,8 @@ public class DefaultUserService implements UserService {
             throw new DeletionFailedException("There is no User to delete with id = " + id);
         }
         execute(() -> userRepository.deleteById(id));
+        applicationEventPublisher.publishEvent(new ReferenceDataChangedEvent(User.class));
+        applicationEventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("Deleted id = {}", id);
     }
 
@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.DisciplineDTO;
 import com.university.schedule.model.Discipline;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -14,6 +16,8 @@ public interface DisciplineService {
 
     List<DisciplineDTO> findAllAsDTO(Pageable pageable);
 
+    Window<DisciplineDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     Long save(Discipline discipline);
 
     Long save(DisciplineDTO disciplineDTO);
@@ -3,7 +3,9 @@ package com.university.schedule.service;
 import com.university.schedule.dto.GroupDTO;
 import com.university.schedule.model.Discipline;
 import com.university.schedule.model.Group;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -15,6 +17,8 @@ public interface GroupService {
 
     List<GroupDTO> findAllAsDTO(Pageable pageable);
 
+    Window<GroupDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     Long save(Group group);
 
     Long save(GroupDTO groupDTO);
@@ -0,0 +1,21 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.importer.ImportType;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ImportJobService {
+
+    /**
+     * Stores the uploaded file and queues its import.
+     *
+     * @return id of the ImportJob to poll for the status and the report.
+     */
+    Long submit(ImportType type, String filename, InputStream inputStream);
+
+    ImportJobDTO findByIdAsDTO(Long id);
+
+    List<ImportJobDTO> findAllAsDTO();
+}
@@ -0,0 +1,20 @@
+package com.university.schedule.service;
+
+import com.university.schedule.model.RecurringClass;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RecurringClassService {
+
+    Long save(RecurringClass recurringClass);
+
+    int saveAll(List<RecurringClass> recurringClasses);
+
+    List<RecurringClass> findAllActive(LocalDate startDate, LocalDate endDate, Long classTypeId, Long teacherId,
+                                       List<Long> groupIds);
+
+    void addExceptionDate(Long id, LocalDate date);
+
+    void deleteById(Long id);
+}
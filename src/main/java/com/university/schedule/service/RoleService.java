@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.model.Role;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -14,6 +16,8 @@ public interface RoleService {
 
     List<RoleDTO> findAllAsDTO(Pageable pageable);
 
+    Window<RoleDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     Role findByName(String name);
 
     Long save(Role role);
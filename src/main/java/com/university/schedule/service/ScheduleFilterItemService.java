@@ -1,10 +1,8 @@
 package com.university.schedule.service;
 
 import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.UserIdentity;
 import com.university.schedule.exception.ServiceException;
-import com.university.schedule.model.Student;
-import com.university.schedule.model.Teacher;
-import com.university.schedule.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,7 +18,7 @@ import java.util.List;
 @Service
 public class ScheduleFilterItemService {
 
-    private final UserService userService;
+    private final UserIdentityService userIdentityService;
 
     public void processRawItem(ScheduleFilterItem scheduleFilterItem) {
         if (scheduleFilterItem == null) {
@@ -31,13 +29,13 @@ public class ScheduleFilterItemService {
     }
 
     private void replaceForUserByEmail(ScheduleFilterItem scheduleFilterItem) {
-        User user = userService.findByEmail(scheduleFilterItem.getEmail());
-        if (user instanceof Teacher) {
-            scheduleFilterItem.setTeacherId(user.getId());
-        } else if (user instanceof Student student) {
+        UserIdentity userIdentity = userIdentityService.findByEmail(scheduleFilterItem.getEmail());
+        if (userIdentity.kind() == UserIdentity.Kind.TEACHER) {
+            scheduleFilterItem.setTeacherId(userIdentity.teacherId());
+        } else if (userIdentity.kind() == UserIdentity.Kind.STUDENT) {
             List<Long> groupDTOS = new ArrayList<>();
-            if (student.getGroup() != null) {
-                groupDTOS.add(student.getGroup().getId());
+            if (userIdentity.groupId() != null) {
+                groupDTOS.add(userIdentity.groupId());
             }
             scheduleFilterItem.setGroupIdList(groupDTOS);
         } else {
@@ -0,0 +1,20 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.model.DayScheduleItem;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ScheduleGenerationJobService {
+
+    Long submit(LocalDate startDate, LocalDate endDate, List<DayScheduleItem> dayScheduleItems);
+
+    ScheduleGenerationJobDTO findByIdAsDTO(Long id);
+
+    List<ScheduleGenerationJobDTO> findAllAsDTO();
+
+    void cancel(Long id);
+
+    void resume(Long id);
+}
@@ -1,15 +1,33 @@
 package com.university.schedule.service;
 
+import com.university.schedule.dto.ScheduleGenerationResult;
+import com.university.schedule.dto.ScheduleRegenerationResult;
+import com.university.schedule.dto.ScheduleSolution;
+import com.university.schedule.dto.ScheduledClassChanges;
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.exception.ScheduleGenerationException;
 import com.university.schedule.exception.ServiceException;
-import com.university.schedule.model.DayScheduleItem;
-import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.model.*;
+import com.university.schedule.utility.EntityKeys;
 import com.university.schedule.validation.ScheduleValidator;
+import com.university.schedule.validation.ScheduledClassValidationContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * The ScheduleGenerator class is responsible for generating and saving scheduled classes for a given time period,
@@ -18,7 +36,14 @@ import java.util.List;
  *
  * <p>Dependencies:
  * - The class uses the ScheduleValidator to check for conflicts in the provided schedule items.
- * - It relies on the ScheduledClassService to save the generated scheduled classes to the database.
+ * - It relies on the ScheduledClassService to save the generated scheduled classes to the database, either one by
+ * one or in JDBC batches.
+ * - Parallel generation writes independent partitions of the items in separate transactions, using the
+ * PlatformTransactionManager.
+ * - The ScheduleSolver is used to build the DayScheduleItems from CourseDemands when the weekly timetable isn`t
+ * given.
+ * - The RecurringClassService is used to store the weekly classes as recurring rules instead of one row per
+ * occurrence.
  * <p>
  */
 @Slf4j
@@ -36,6 +61,24 @@ public class ScheduleGenerator {
      */
     private final ScheduledClassService scheduledClassService;
 
+    /**
+     * The ScheduleSolver instance used to build the weekly timetable from CourseDemands.
+     */
+    private final ScheduleSolver scheduleSolver;
+
+    /**
+     * The transaction manager used to write every partition of a parallel generation in its own transaction.
+     */
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * The RecurringClassService instance used to save weekly classes as recurring rules.
+     */
+    private final RecurringClassService recurringClassService;
+
+    @Value("${schedule.generation.workers:4}")
+    private int workers = 4;
+
     /**
      * Generates and saves scheduled classes for a specified time period, based on the provided list of DayScheduleItems.
      * It checks for conflicts in the schedule using the ScheduleValidator before generating the classes.
@@ -54,26 +97,445 @@ public class ScheduleGenerator {
     public void generate(LocalDate startDate, LocalDate endDate, List<DayScheduleItem> dayScheduleItems) {
         scheduleValidator.validate(startDate, endDate, dayScheduleItems);
 
-        ScheduledClass scheduledClass;
+        long startNanos = System.nanoTime();
+        List<ScheduledClass> scheduledClasses = expand(startDate, endDate, dayScheduleItems);
         try {
-            for (DayScheduleItem dayScheduleItem : dayScheduleItems) {
-                log.debug("Generation schedule from {} to {}, for {}", dayScheduleItem, startDate, endDate);
-                LocalDate date = startDate;
-                while (date.isBefore(endDate)) {
-                    if (date.getDayOfWeek() == dayScheduleItem.getDayOfWeek()) {
-                        scheduledClass = ScheduledClass.builder().groups(dayScheduleItem.getGroups())
-                            .classroom(dayScheduleItem.getClassroom()).teacher(dayScheduleItem.getTeacher())
-                            .course(dayScheduleItem.getCourse()).classType(dayScheduleItem.getClassType())
-                            .classTime(dayScheduleItem.getClassTime()).date(date).build();
-                        scheduledClassService.save(scheduledClass);
-                        date = date.plusWeeks(1);
-                        continue;
-                    }
-                    date = date.plusDays(1);
-                }
+            for (ScheduledClass scheduledClass : scheduledClasses) {
+                scheduledClassService.save(scheduledClass);
             }
         } catch (ServiceException e) {
             throw new ServiceException("Can't generate schedule due to data access issues");
         }
+        logThroughput("per-row", toResult(scheduledClasses.size(), startNanos));
+    }
+
+    /**
+     * Bulk variant of {@link #generate(LocalDate, LocalDate, List)}. All occurrences are collected first and then
+     * written by {@link ScheduledClassService#saveAll(List)} in JDBC batches inside one transaction, so either the
+     * whole schedule is generated or nothing is.
+     *
+     * <p>Generated classes are validated as one set against a preloaded validation context, so the number of
+     * validation queries doesn`t grow with the number of generated rows.
+     *
+     * @param startDate        The start date from which to generate the scheduled classes.
+     * @param endDate          The end date until which to generate the scheduled classes.
+     * @param dayScheduleItems The list of DayScheduleItems containing information about the classes to schedule.
+     * @return ScheduleGenerationResult with the number of generated rows and the generation throughput.
+     * @throws ServiceException If there are conflicts in the dayScheduleItems, the start/end dates are invalid or the
+     *                          rows can`t be written.
+     */
+    @Transactional
+    public ScheduleGenerationResult generateInBatches(LocalDate startDate, LocalDate endDate,
+                                                      List<DayScheduleItem> dayScheduleItems) {
+        scheduleValidator.validate(startDate, endDate, dayScheduleItems);
+        return generateValidatedInBatches(startDate, endDate, dayScheduleItems);
+    }
+
+    /**
+     * {@link #generateInBatches(LocalDate, LocalDate, List)} without the ScheduleValidator check, for callers that
+     * generate already validated items range by range (e.g. the chunks of a ScheduleGenerationJob). The generated
+     * classes are still validated against the persisted schedule.
+     *
+     * @param startDate        The start date from which to generate the scheduled classes, not after endDate.
+     * @param endDate          The end date until which to generate the scheduled classes.
+     * @param dayScheduleItems DayScheduleItems without conflicts between each other.
+     * @return ScheduleGenerationResult with the number of generated rows and the generation throughput.
+     * @throws ServiceException If the rows can`t be written.
+     */
+    @Transactional
+    public ScheduleGenerationResult generateValidatedInBatches(LocalDate startDate, LocalDate endDate,
+                                                               List<DayScheduleItem> dayScheduleItems) {
+        long startNanos = System.nanoTime();
+        List<ScheduledClass> scheduledClasses = expand(startDate, endDate, dayScheduleItems);
+        int generatedRows;
+        try {
+            generatedRows = scheduledClassService.saveAll(scheduledClasses);
+        } catch (ServiceException e) {
+            throw new ServiceException("Can't generate schedule due to data access issues", e);
+        }
+        ScheduleGenerationResult result = toResult(generatedRows, startNanos);
+        logThroughput("batch", result);
+        return result;
+    }
+
+    /**
+     * Parallel variant of {@link #generateInBatches(LocalDate, LocalDate, List)} with the configured number of
+     * workers.
+     *
+     * @see #generateInParallel(LocalDate, LocalDate, List, int)
+     */
+    public ScheduleGenerationResult generateInParallel(LocalDate startDate, LocalDate endDate,
+                                                       List<DayScheduleItem> dayScheduleItems) {
+        return generateInParallel(startDate, endDate, dayScheduleItems, workers);
+    }
+
+    /**
+     * Parallel variant of {@link #generateInBatches(LocalDate, LocalDate, List)}. The items are split into
+     * partitions by Discipline: items whose Groups share a Group or a Discipline always end up in the same
+     * partition. Teachers and Classrooms are usually shared between Disciplines, so they don`t join partitions.
+     * Partitions are expanded and written by a bounded pool of workers, each partition in its own transaction with
+     * its own JDBC batches.
+     *
+     * <p>The occupancy of the range and the Course assignments are loaded once for all partitions, every partition
+     * is validated against the slice of its Teachers and Classrooms. Before writing, a partition claims the
+     * (date, ClassTime) slots of its Teachers and Classrooms in an index shared by all workers, so two partitions
+     * can`t take the same slot of a shared Teacher or Classroom: the partition that claims second fails.
+     *
+     * <p>The whole item list is checked by the ScheduleValidator before any partition is written. Partitions are
+     * committed independently: if one of them fails, the others are kept and the items of the failed ones are
+     * returned in {@link ScheduleGenerationResult#getFailedItems()}. Only those items must be generated again, the
+     * whole list would conflict with the committed rows.
+     *
+     * @param startDate        The start date from which to generate the scheduled classes.
+     * @param endDate          The end date until which to generate the scheduled classes.
+     * @param dayScheduleItems The list of DayScheduleItems containing information about the classes to schedule.
+     * @param workers          Maximal number of partitions written at the same time.
+     * @return ScheduleGenerationResult with the number of generated rows, the committed partitions, the items of the
+     * failed partitions and the generation throughput.
+     * @throws ServiceException If there are conflicts in the dayScheduleItems, the start/end dates are invalid or the
+     *                          generation is interrupted.
+     */
+    public ScheduleGenerationResult generateInParallel(LocalDate startDate, LocalDate endDate,
+                                                       List<DayScheduleItem> dayScheduleItems, int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        scheduleValidator.validate(startDate, endDate, dayScheduleItems);
+
+        long startNanos = System.nanoTime();
+        List<List<DayScheduleItem>> partitions = partition(dayScheduleItems);
+        List<List<ScheduledClass>> partitionClasses =
+            partitions.stream().map(partition -> expand(startDate, endDate, partition)).toList();
+        ScheduledClassValidationContext context = scheduledClassService.createValidationContext(
+            partitionClasses.stream().flatMap(List::stream).toList());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<SlotClaim, Integer> claimedSlots = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, partitions.size())));
+        int generatedRows = 0;
+        int failedPartitions = 0;
+        List<DayScheduleItem> failedItems = new ArrayList<>();
+        try {
+            List<Future<Integer>> results = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitionClasses.size(); i++) {
+                int partition = i;
+                List<ScheduledClass> scheduledClasses = partitionClasses.get(partition);
+                ScheduledClassValidationContext partitionContext = context.slice(scheduledClasses);
+                results.add(executor.submit(() -> {
+                    claimSlots(claimedSlots, partition, scheduledClasses);
+                    return transactionTemplate.execute(
+                        status -> scheduledClassService.saveAll(scheduledClasses, partitionContext));
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    generatedRows += results.get(i).get();
+                } catch (ExecutionException e) {
+                    log.warn("Can't generate schedule partition of {} items", partitions.get(i).size(), e.getCause());
+                    failedPartitions++;
+                    failedItems.addAll(partitions.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Schedule generation was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        int committedPartitions = partitions.size() - failedPartitions;
+        if (failedPartitions > 0) {
+            log.warn("{} of {} schedule partitions failed, {} ScheduledClasses generated", failedPartitions,
+                partitions.size(), generatedRows);
+        }
+
+        ScheduleGenerationResult result = toResult(generatedRows, startNanos);
+        result.setCommittedPartitions(committedPartitions);
+        result.setFailedItems(failedItems);
+        logThroughput(String.format("%d partitions, %d workers", partitions.size(), workers), result);
+        return result;
+    }
+
+    /**
+     * Solver mode: builds the weekly timetable for the given CourseDemands with the ScheduleSolver (assigning
+     * DayOfWeek, ClassTime and Classroom to every weekly class) and generates it like
+     * {@link #generateInBatches(LocalDate, LocalDate, List)}.
+     *
+     * @param startDate     The start date from which to generate the scheduled classes.
+     * @param endDate       The end date until which to generate the scheduled classes.
+     * @param courseDemands CourseDemands to place.
+     * @param classTimes    ClassTimes the solver can use every day.
+     * @param classrooms    Classrooms the solver can use.
+     * @return ScheduleGenerationResult with the number of generated rows and the generation throughput.
+     * @throws ScheduleGenerationException If not every weekly class can be placed within the solver time budget.
+     * @throws ServiceException            If the start/end dates are invalid or the rows can`t be written.
+     */
+    @Transactional
+    public ScheduleGenerationResult generateFromDemands(LocalDate startDate, LocalDate endDate,
+                                                        List<CourseDemand> courseDemands, List<ClassTime> classTimes,
+                                                        List<Classroom> classrooms) {
+        ScheduleSolution solution = scheduleSolver.solve(courseDemands, classTimes, classrooms);
+        if (!solution.isComplete()) {
+            throw new ScheduleGenerationException(
+                String.format("Can't place %d class(es) into the timetable, first one: %s",
+                    solution.getUnassignedDemands().size(), solution.getUnassignedDemands().get(0)));
+        }
+        return generateInBatches(startDate, endDate, solution.getDayScheduleItems());
+    }
+
+    /**
+     * Incremental variant of {@link #generateInBatches(LocalDate, LocalDate, List)} for a date range that may already
+     * have a schedule. The target occurrences are diffed against the existing rows of the range (loaded in one
+     * query) by their (date, ClassTime, Teacher) key, and only the delta is written: new occurrences are inserted,
+     * occurrences with another Course, Classroom, ClassType or Groups are updated in place, and rows that are not part
+     * of the target schedule anymore are deleted.
+     *
+     * <p>Only rows written by the generator are updated or deleted. Manually created ScheduledClasses of the range
+     * are kept: one taking the slot of a target occurrence overrides it, like it overrides an occurrence of a
+     * RecurringClass.
+     *
+     * <p>The DayScheduleItems must reference persisted entities, the diff is done by ids.
+     *
+     * @param startDate        The start date from which to regenerate the scheduled classes.
+     * @param endDate          The end date until which to regenerate the scheduled classes.
+     * @param dayScheduleItems The list of DayScheduleItems containing information about the classes to schedule.
+     * @return ScheduleRegenerationResult with the number of inserted, updated, deleted, unchanged and kept rows.
+     * @throws ServiceException If there are conflicts in the dayScheduleItems, the start/end dates are invalid or the
+     *                          rows can`t be written.
+     */
+    @Transactional
+    public ScheduleRegenerationResult regenerate(LocalDate startDate, LocalDate endDate,
+                                                 List<DayScheduleItem> dayScheduleItems) {
+        scheduleValidator.validate(startDate, endDate, dayScheduleItems);
+
+        long startNanos = System.nanoTime();
+        List<ScheduledClass> scheduledClasses = expand(startDate, endDate, dayScheduleItems);
+        ScheduledClassChanges changes;
+        try {
+            // expand() doesn`t generate classes on the endDate, so rows on it are left as they are
+            changes = diff(scheduledClasses,
+                scheduledClassService.findRowsByDateBetween(startDate, endDate.minusDays(1)));
+            if (!changes.isEmpty()) {
+                scheduledClassService.applyChanges(changes);
+            }
+        } catch (ServiceException e) {
+            throw new ServiceException("Can't regenerate schedule due to data access issues", e);
+        }
+
+        Set<ScheduledClass> updatedClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+        updatedClasses.addAll(changes.getUpdatedClasses());
+        updatedClasses.addAll(changes.getRegroupedClasses());
+        ScheduleRegenerationResult result = ScheduleRegenerationResult.builder()
+            .insertedRows(changes.getInsertedClasses().size()).updatedRows(updatedClasses.size())
+            .deletedRows(changes.getDeletedIds().size())
+            .unchangedRows(changes.getTargetSize() - changes.getOverriddenSize() - changes.getInsertedClasses().size() -
+                updatedClasses.size()).keptRows(changes.getKeptSize())
+            .elapsed(Duration.ofNanos(System.nanoTime() - startNanos)).build();
+        log.info(
+            "Regenerated schedule from {} to {}: {} inserted, {} updated, {} deleted, {} unchanged, {} kept in {} ms",
+            startDate, endDate, result.getInsertedRows(), result.getUpdatedRows(), result.getDeletedRows(),
+            result.getUnchangedRows(), result.getKeptRows(), result.getElapsed().toMillis());
+        return result;
+    }
+
+    /**
+     * Storage-light variant of {@link #generateInBatches(LocalDate, LocalDate, List)}: every DayScheduleItem is saved
+     * as one RecurringClass covering the period, instead of one ScheduledClass per week. Occurrences are expanded
+     * when the schedule is read, and single occurrences can be cancelled with exception dates or overridden by a
+     * concrete ScheduledClass.
+     *
+     * @param startDate        The start date from which the classes take place.
+     * @param endDate          The end date until which the classes take place (exclusive, like in the other
+     *                         generation modes).
+     * @param dayScheduleItems The list of DayScheduleItems containing information about the classes to schedule.
+     * @return number of saved RecurringClasses.
+     * @throws ServiceException If there are conflicts in the dayScheduleItems, the start/end dates are invalid or the
+     *                          rules can`t be written.
+     */
+    @Transactional
+    public int generateRecurring(LocalDate startDate, LocalDate endDate, List<DayScheduleItem> dayScheduleItems) {
+        scheduleValidator.validate(startDate, endDate, dayScheduleItems);
+
+        LocalDate lastDate = endDate.minusDays(1);
+        if (lastDate.isBefore(startDate)) {
+            return 0;
+        }
+        List<RecurringClass> recurringClasses = dayScheduleItems.stream()
+            .map(dayScheduleItem -> RecurringClass.of(dayScheduleItem, startDate, lastDate)).toList();
+        int savedRules;
+        try {
+            savedRules = recurringClassService.saveAll(recurringClasses);
+        } catch (ServiceException e) {
+            throw new ServiceException("Can't generate schedule due to data access issues", e);
+        }
+        log.info("Generated {} RecurringClasses from {} to {}", savedRules, startDate, endDate);
+        return savedRules;
+    }
+
+    private ScheduledClassChanges diff(List<ScheduledClass> scheduledClasses, List<ScheduledClassRow> existingRows) {
+        Map<OccurrenceKey, ScheduledClassRow> existingRowsByKey = new HashMap<>(existingRows.size() * 2);
+        for (ScheduledClassRow row : existingRows) {
+            existingRowsByKey.put(new OccurrenceKey(row.date(), row.classTimeId(), row.teacherId()), row);
+        }
+
+        List<ScheduledClass> insertedClasses = new ArrayList<>();
+        List<ScheduledClass> updatedClasses = new ArrayList<>();
+        List<ScheduledClass> regroupedClasses = new ArrayList<>();
+        Set<OccurrenceKey> targetKeys = new HashSet<>(scheduledClasses.size() * 2);
+        int overriddenSize = 0;
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            OccurrenceKey key = new OccurrenceKey(scheduledClass.getDate(), scheduledClass.getClassTime().getId(),
+                scheduledClass.getTeacher().getId());
+            if (!targetKeys.add(key)) {
+                // identical DayScheduleItems produce the same occurrence
+                continue;
+            }
+            ScheduledClassRow row = existingRowsByKey.remove(key);
+            if (row == null) {
+                insertedClasses.add(scheduledClass);
+                continue;
+            }
+            if (!row.generated()) {
+                overriddenSize++;
+                continue;
+            }
+            scheduledClass.setId(row.id());
+            if (!Objects.equals(scheduledClass.getCourse().getId(), row.courseId()) ||
+                !Objects.equals(idOf(scheduledClass.getClassroom()), row.classroomId()) ||
+                !Objects.equals(idOf(scheduledClass.getClassType()), row.classTypeId())) {
+                updatedClasses.add(scheduledClass);
+            }
+            Set<Long> groupIds = new HashSet<>();
+            scheduledClass.getGroups().forEach(group -> groupIds.add(group.getId()));
+            if (!groupIds.equals(row.groupIds())) {
+                regroupedClasses.add(scheduledClass);
+            }
+        }
+        List<Long> deletedIds = existingRowsByKey.values().stream().filter(ScheduledClassRow::generated)
+            .map(ScheduledClassRow::id).toList();
+        int keptSize = (int) existingRows.stream().filter(row -> !row.generated()).count();
+
+        return ScheduledClassChanges.builder().insertedClasses(insertedClasses).updatedClasses(updatedClasses)
+            .regroupedClasses(regroupedClasses).deletedIds(deletedIds).targetSize(targetKeys.size())
+            .overriddenSize(overriddenSize).keptSize(keptSize).build();
+    }
+
+    /**
+     * Claims the Teacher and Classroom slots of the ScheduledClasses of a partition. Slots claimed by the partition
+     * itself are checked by its validation context.
+     *
+     * @throws ServiceException if another partition already claimed one of the slots.
+     */
+    private static void claimSlots(Map<SlotClaim, Integer> claimedSlots, int partition,
+                                   List<ScheduledClass> scheduledClasses) {
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            LocalDate date = scheduledClass.getDate();
+            Object classTimeKey = EntityKeys.of(scheduledClass.getClassTime().getId(), scheduledClass.getClassTime());
+            List<SlotClaim> slotClaims = new ArrayList<>(2);
+            slotClaims.add(new SlotClaim(Teacher.class, date, classTimeKey,
+                EntityKeys.of(scheduledClass.getTeacher().getId(), scheduledClass.getTeacher())));
+            if (scheduledClass.getClassroom() != null) {
+                slotClaims.add(new SlotClaim(Classroom.class, date, classTimeKey,
+                    EntityKeys.of(scheduledClass.getClassroom().getId(), scheduledClass.getClassroom())));
+            }
+            for (SlotClaim slotClaim : slotClaims) {
+                Integer claimant = claimedSlots.putIfAbsent(slotClaim, partition);
+                if (claimant != null && claimant != partition) {
+                    throw new ServiceException(String.format("%s is already taken by another partition", slotClaim));
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the items into connected components of the "shares a Group or a Discipline" relation (union-find over
+     * item indexes). Components don`t share Groups, shared Teachers and Classrooms are guarded by the slot claims.
+     */
+    private static List<List<DayScheduleItem>> partition(List<DayScheduleItem> dayScheduleItems) {
+        int[] parents = new int[dayScheduleItems.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        Map<Resource, Integer> firstItemByResource = new HashMap<>();
+        for (int i = 0; i < dayScheduleItems.size(); i++) {
+            DayScheduleItem dayScheduleItem = dayScheduleItems.get(i);
+            List<Resource> resources = new ArrayList<>();
+            for (Group group : dayScheduleItem.getGroups()) {
+                resources.add(new Resource(Group.class, EntityKeys.of(group.getId(), group)));
+                Discipline discipline = group.getDiscipline();
+                if (discipline != null) {
+                    resources.add(new Resource(Discipline.class, EntityKeys.of(discipline.getId(), discipline)));
+                }
+            }
+            for (Resource resource : resources) {
+                Integer firstItem = firstItemByResource.putIfAbsent(resource, i);
+                if (firstItem != null) {
+                    union(parents, firstItem, i);
+                }
+            }
+        }
+
+        Map<Integer, List<DayScheduleItem>> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < dayScheduleItems.size(); i++) {
+            partitions.computeIfAbsent(find(parents, i), root -> new ArrayList<>()).add(dayScheduleItems.get(i));
+        }
+        return new ArrayList<>(partitions.values());
+    }
+
+    private static int find(int[] parents, int item) {
+        while (parents[item] != item) {
+            parents[item] = parents[parents[item]];
+            item = parents[item];
+        }
+        return item;
+    }
+
+    private static void union(int[] parents, int first, int second) {
+        int firstRoot = find(parents, first);
+        int secondRoot = find(parents, second);
+        if (firstRoot != secondRoot) {
+            parents[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+        }
+    }
+
+    private static Long idOf(Classroom classroom) {
+        return classroom == null ? null : classroom.getId();
+    }
+
+    private static Long idOf(ClassType classType) {
+        return classType == null ? null : classType.getId();
+    }
+
+    private List<ScheduledClass> expand(LocalDate startDate, LocalDate endDate,
+                                        List<DayScheduleItem> dayScheduleItems) {
+        List<ScheduledClass> scheduledClasses = new ArrayList<>();
+        for (DayScheduleItem dayScheduleItem : dayScheduleItems) {
+            log.debug("Generation schedule from {} to {}, for {}", dayScheduleItem, startDate, endDate);
+            LocalDate date = startDate.with(TemporalAdjusters.nextOrSame(dayScheduleItem.getDayOfWeek()));
+            for (; date.isBefore(endDate); date = date.plusWeeks(1)) {
+                scheduledClasses.add(ScheduledClass.builder().groups(dayScheduleItem.getGroups())
+                    .classroom(dayScheduleItem.getClassroom()).teacher(dayScheduleItem.getTeacher())
+                    .course(dayScheduleItem.getCourse()).classType(dayScheduleItem.getClassType())
+                    .classTime(dayScheduleItem.getClassTime()).date(date).build());
+            }
+        }
+        return scheduledClasses;
+    }
+
+    private ScheduleGenerationResult toResult(int generatedRows, long startNanos) {
+        return ScheduleGenerationResult.builder().generatedRows(generatedRows)
+            .elapsed(Duration.ofNanos(System.nanoTime() - startNanos)).build();
+    }
+
+    private void logThroughput(String mode, ScheduleGenerationResult result) {
+        log.info("Generated {} ScheduledClasses ({}) in {} ms, {} rows/sec", result.getGeneratedRows(), mode,
+            result.getElapsed().toMillis(), String.format("%.1f", result.getRowsPerSecond()));
+    }
+
+    private record OccurrenceKey(LocalDate date, Long classTimeId, Long teacherId) {
+    }
+
+    private record Resource(Class<?> type, Object key) {
+    }
+
+    private record SlotClaim(Class<?> type, LocalDate date, Object classTimeKey, Object occupantKey) {
     }
 }
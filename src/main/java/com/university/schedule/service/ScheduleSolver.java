@@ -0,0 +1,324 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ScheduleSolution;
+import com.university.schedule.model.*;
+import com.university.schedule.utility.EntityKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds a weekly timetable (the DayScheduleItems consumed by ScheduleGenerator) from CourseDemands, assigning a
+ * DayOfWeek, ClassTime and Classroom to every weekly class of every demand.
+ *
+ * <p>A week is a set of slots (DayOfWeek x ClassTime). Occupancy is kept in bitsets: one bitset of slots per Teacher
+ * and per Group, and one bitset of Classrooms per slot. A class can be placed into a slot that is free for its
+ * Teacher and all its Groups and still has a free Classroom, so the teacher, group and classroom constraints of
+ * ScheduleValidator hold by construction.
+ *
+ * <p>Every attempt places classes greedily, most constrained first, spreading the classes of one demand over
+ * different days when possible. Attempts use randomized orders and slot choices and run in parallel on a
+ * ForkJoinPool until a complete timetable is found or the time budget is spent; the best attempt so far (fewest
+ * unplaced classes) is returned.
+ */
+@Slf4j
+@Service
+public class ScheduleSolver {
+
+    public static final Set<DayOfWeek> WORKING_DAYS =
+        EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
+    @Value("${schedule.solver.timeBudget:PT30S}")
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    @Value("${schedule.solver.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * Solves the given demands for the working days with the configured time budget.
+     *
+     * @see #solve(List, List, List, Set, Duration)
+     */
+    public ScheduleSolution solve(List<CourseDemand> courseDemands, List<ClassTime> classTimes,
+                                  List<Classroom> classrooms) {
+        return solve(courseDemands, classTimes, classrooms, WORKING_DAYS, timeBudget);
+    }
+
+    /**
+     * Assigns a DayOfWeek, ClassTime and Classroom to every weekly class of the given CourseDemands.
+     *
+     * @param courseDemands CourseDemands to place.
+     * @param classTimes    ClassTimes available every day.
+     * @param classrooms    Classrooms available in every slot.
+     * @param days          days of the week that can be used.
+     * @param timeBudget    time after which the best timetable found so far is returned.
+     * @return ScheduleSolution with the placed DayScheduleItems and the classes that couldn`t be placed.
+     * @throws IllegalArgumentException if any argument is null or a CourseDemand has a non-positive weeklyCount.
+     */
+    public ScheduleSolution solve(List<CourseDemand> courseDemands, List<ClassTime> classTimes,
+                                  List<Classroom> classrooms, Set<DayOfWeek> days, Duration timeBudget) {
+        if (courseDemands == null || classTimes == null || classrooms == null || days == null || timeBudget == null) {
+            throw new IllegalArgumentException("Solver arguments must not be null");
+        }
+        long startNanos = System.nanoTime();
+        Problem problem = new Problem(courseDemands, classTimes, classrooms, new ArrayList<>(new TreeSet<>(days)));
+
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        long deadline = startNanos + timeBudget.toNanos();
+        AtomicInteger attemptCounter = new AtomicInteger();
+        AtomicReference<Attempt> best = new AtomicReference<>();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                tasks.add(pool.submit(() -> {
+                    Attempt currentBest;
+                    do {
+                        Attempt attempt = problem.attempt(attemptCounter.getAndIncrement());
+                        currentBest = best.accumulateAndGet(attempt, Attempt::better);
+                    } while (currentBest.unassigned() > 0 && System.nanoTime() < deadline);
+                }));
+            }
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+
+        ScheduleSolution solution = problem.toSolution(best.get(), attemptCounter.get(),
+            Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Solved {} CourseDemands in {} ms, {} attempt(s), {} class(es) unplaced", courseDemands.size(),
+            solution.getElapsed().toMillis(), solution.getAttempts(), solution.getUnassignedDemands().size());
+        return solution;
+    }
+
+    /**
+     * Result of one attempt: slot and Classroom index of every class (-1 if the class wasn`t placed).
+     */
+    private record Attempt(int number, int[] slotByLesson, int[] classroomByLesson, int unassigned) {
+
+        static Attempt better(Attempt first, Attempt second) {
+            if (first == null) {
+                return second;
+            }
+            if (first.unassigned != second.unassigned) {
+                return first.unassigned < second.unassigned ? first : second;
+            }
+            return first.number <= second.number ? first : second;
+        }
+    }
+
+    /**
+     * Immutable, index-based view of the input shared by all attempts. Every weekly class of a demand is a lesson.
+     */
+    private static class Problem {
+
+        private final List<CourseDemand> courseDemands;
+
+        private final List<ClassTime> classTimes;
+
+        private final List<Classroom> classrooms;
+
+        private final List<DayOfWeek> days;
+
+        private final int slotCount;
+
+        private final int teacherCount;
+
+        private final int groupCount;
+
+        private final int[] demandByLesson;
+
+        private final int[] teacherByDemand;
+
+        private final int[][] groupsByDemand;
+
+        private final int[] weightByLesson;
+
+        Problem(List<CourseDemand> courseDemands, List<ClassTime> classTimes, List<Classroom> classrooms,
+                List<DayOfWeek> days) {
+            this.courseDemands = courseDemands;
+            this.classTimes = classTimes;
+            this.classrooms = classrooms;
+            this.days = days;
+            this.slotCount = days.size() * classTimes.size();
+
+            Map<Object, Integer> teacherIndexes = new HashMap<>();
+            Map<Object, Integer> groupIndexes = new HashMap<>();
+            teacherByDemand = new int[courseDemands.size()];
+            groupsByDemand = new int[courseDemands.size()][];
+            int lessonCount = 0;
+            for (int demand = 0; demand < courseDemands.size(); demand++) {
+                CourseDemand courseDemand = courseDemands.get(demand);
+                if (courseDemand.getWeeklyCount() <= 0) {
+                    throw new IllegalArgumentException("CourseDemand weeklyCount must be positive: " + courseDemand);
+                }
+                Teacher teacher = courseDemand.getTeacher();
+                teacherByDemand[demand] =
+                    teacherIndexes.computeIfAbsent(EntityKeys.of(teacher.getId(), teacher), k -> teacherIndexes.size());
+                groupsByDemand[demand] = courseDemand.getGroups().stream()
+                    .mapToInt(group -> groupIndexes.computeIfAbsent(EntityKeys.of(group.getId(), group),
+                        k -> groupIndexes.size())).toArray();
+                lessonCount += courseDemand.getWeeklyCount();
+            }
+            teacherCount = teacherIndexes.size();
+            groupCount = groupIndexes.size();
+
+            // a lesson is as hard to place as the load of its Teacher and Groups
+            int[] teacherLoad = new int[teacherCount];
+            int[] groupLoad = new int[groupCount];
+            demandByLesson = new int[lessonCount];
+            int lesson = 0;
+            for (int demand = 0; demand < courseDemands.size(); demand++) {
+                int weeklyCount = courseDemands.get(demand).getWeeklyCount();
+                teacherLoad[teacherByDemand[demand]] += weeklyCount;
+                for (int group : groupsByDemand[demand]) {
+                    groupLoad[group] += weeklyCount;
+                }
+                Arrays.fill(demandByLesson, lesson, lesson + weeklyCount, demand);
+                lesson += weeklyCount;
+            }
+            weightByLesson = new int[lessonCount];
+            for (lesson = 0; lesson < lessonCount; lesson++) {
+                int demand = demandByLesson[lesson];
+                int weight = teacherLoad[teacherByDemand[demand]];
+                for (int group : groupsByDemand[demand]) {
+                    weight += groupLoad[group];
+                }
+                weightByLesson[lesson] = weight;
+            }
+        }
+
+        Attempt attempt(int number) {
+            Random random = new Random(number);
+            int lessonCount = demandByLesson.length;
+            BitSet[] teacherBusy = newBitSets(teacherCount);
+            BitSet[] groupBusy = newBitSets(groupCount);
+            BitSet[] classroomBusyBySlot = newBitSets(slotCount);
+            BitSet fullSlots = new BitSet(slotCount);
+            BitSet[] daysByDemand = new BitSet[courseDemands.size()];
+            int[] slotByLesson = new int[lessonCount];
+            int[] classroomByLesson = new int[lessonCount];
+            Arrays.fill(slotByLesson, -1);
+            Arrays.fill(classroomByLesson, -1);
+
+            if (classrooms.isEmpty()) {
+                fullSlots.set(0, slotCount);
+            }
+            int unassigned = 0;
+            BitSet blockedSlots = new BitSet(slotCount);
+            for (int lesson : order(random, number)) {
+                int demand = demandByLesson[lesson];
+                int teacher = teacherByDemand[demand];
+                blockedSlots.clear();
+                blockedSlots.or(fullSlots);
+                blockedSlots.or(teacherBusy[teacher]);
+                for (int group : groupsByDemand[demand]) {
+                    blockedSlots.or(groupBusy[group]);
+                }
+                if (daysByDemand[demand] == null) {
+                    daysByDemand[demand] = new BitSet(days.size());
+                }
+                int start = number == 0 || slotCount == 0 ? 0 : random.nextInt(slotCount);
+                int slot = pickSlot(blockedSlots, daysByDemand[demand], start);
+                if (slot < 0) {
+                    unassigned++;
+                    continue;
+                }
+                int classroom = classroomBusyBySlot[slot].nextClearBit(0);
+                classroomBusyBySlot[slot].set(classroom);
+                if (classroom + 1 >= classrooms.size()) {
+                    fullSlots.set(slot);
+                }
+                teacherBusy[teacher].set(slot);
+                for (int group : groupsByDemand[demand]) {
+                    groupBusy[group].set(slot);
+                }
+                daysByDemand[demand].set(slot / classTimes.size());
+                slotByLesson[lesson] = slot;
+                classroomByLesson[lesson] = classroom;
+            }
+            return new Attempt(number, slotByLesson, classroomByLesson, unassigned);
+        }
+
+        ScheduleSolution toSolution(Attempt attempt, int attempts, Duration elapsed) {
+            List<DayScheduleItem> dayScheduleItems = new ArrayList<>();
+            List<CourseDemand> unassignedDemands = new ArrayList<>();
+            for (int lesson = 0; lesson < demandByLesson.length; lesson++) {
+                CourseDemand courseDemand = courseDemands.get(demandByLesson[lesson]);
+                int slot = attempt.slotByLesson()[lesson];
+                if (slot < 0) {
+                    unassignedDemands.add(courseDemand);
+                    continue;
+                }
+                dayScheduleItems.add(DayScheduleItem.builder().course(courseDemand.getCourse())
+                    .teacher(courseDemand.getTeacher()).groups(courseDemand.getGroups())
+                    .classType(courseDemand.getClassType()).dayOfWeek(days.get(slot / classTimes.size()))
+                    .classTime(classTimes.get(slot % classTimes.size()))
+                    .classroom(classrooms.get(attempt.classroomByLesson()[lesson])).build());
+            }
+            return ScheduleSolution.builder().dayScheduleItems(dayScheduleItems).unassignedDemands(unassignedDemands)
+                .attempts(attempts).elapsed(elapsed).build();
+        }
+
+        /**
+         * The first attempt places the most constrained lessons first; later attempts perturb the weights, so
+         * they explore different orders.
+         */
+        private int[] order(Random random, int number) {
+            int lessonCount = demandByLesson.length;
+            long[] keyed = new long[lessonCount];
+            for (int lesson = 0; lesson < lessonCount; lesson++) {
+                long weight = weightByLesson[lesson] * 4L;
+                if (number > 0) {
+                    weight += random.nextInt(weightByLesson[lesson] + 1);
+                }
+                // descending weight in the high bits, lesson index in the low bits
+                keyed[lesson] = (-weight << 32) | lesson;
+            }
+            Arrays.sort(keyed);
+            int[] order = new int[lessonCount];
+            for (int i = 0; i < lessonCount; i++) {
+                order[i] = (int) keyed[i];
+            }
+            return order;
+        }
+
+        /**
+         * Picks the first free slot starting from the given one, preferring days the demand doesn`t use yet.
+         *
+         * @return slot index or -1 if every slot is blocked.
+         */
+        private int pickSlot(BitSet blockedSlots, BitSet usedDays, int start) {
+            int fallback = -1;
+            for (int i = 0; i < slotCount; i++) {
+                int slot = (start + i) % slotCount;
+                if (blockedSlots.get(slot)) {
+                    continue;
+                }
+                if (!usedDays.get(slot / classTimes.size())) {
+                    return slot;
+                }
+                if (fallback < 0) {
+                    fallback = slot;
+                }
+            }
+            return fallback;
+        }
+
+        private static BitSet[] newBitSets(int count) {
+            BitSet[] bitSets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                bitSets[i] = new BitSet();
+            }
+            return bitSets;
+        }
+    }
+}
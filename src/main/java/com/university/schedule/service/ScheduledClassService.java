@@ -1,11 +1,18 @@
 package com.university.schedule.service;
 
 import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassChanges;
 import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.dto.ScheduledClassRow;
 import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.pageable.KeysetPageRequest;
+import com.university.schedule.validation.ScheduledClassValidationContext;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ScheduledClassService {
 
@@ -13,6 +20,16 @@ public interface ScheduledClassService {
 
     Long save(ScheduledClassDTO ScheduledClassDTO);
 
+    int saveAll(List<ScheduledClass> scheduledClasses);
+
+    int saveAll(List<ScheduledClass> scheduledClasses, ScheduledClassValidationContext context);
+
+    ScheduledClassValidationContext createValidationContext(List<ScheduledClass> scheduledClasses);
+
+    List<ScheduledClassRow> findRowsByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    void applyChanges(ScheduledClassChanges scheduledClassChanges);
+
     ScheduledClassDTO findByIdAsDTO(Long id);
 
     List<ScheduledClass> findAll();
@@ -21,7 +38,19 @@ public interface ScheduledClassService {
 
     List<ScheduledClassDTO> findAllAsDTO(Pageable pageable);
 
+    Window<ScheduledClassDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     List<ScheduledClassDTO> findAllAsDTOByScheduleFilterItem(ScheduleFilterItem scheduleFilterItem);
 
+    /**
+     * Passes the schedule of the filter to the consumer ordered by date, without loading the whole range: the
+     * ScheduledClasses are read in keyset pages and only one day is held in memory.
+     *
+     * @param scheduleFilterItem filter already resolved by {@link ScheduleFilterItemService#processRawItem}, the
+     *                           caller needs it resolved itself (e.g. for the ETag), so it is not resolved again.
+     * @return number of ScheduledClassDTOs passed to the consumer.
+     */
+    int streamAsDTOByScheduleFilterItem(ScheduleFilterItem scheduleFilterItem, Consumer<ScheduledClassDTO> consumer);
+
     void deleteById(Long id);
 }
@@ -2,7 +2,9 @@ package com.university.schedule.service;
 
 import com.university.schedule.dto.StudentDTO;
 import com.university.schedule.model.Student;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -14,8 +16,12 @@ public interface StudentService {
 
     List<StudentDTO> findAllAsDTO(Pageable pageable);
 
+    Window<StudentDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     List<StudentDTO> findAllAsDTO(String email, Pageable pageable);
 
+    Window<StudentDTO> scrollAsDTO(String email, KeysetPageRequest keysetPageRequest);
+
     Long save(Student student);
 
     Long update(StudentDTO studentDTO);
@@ -3,7 +3,9 @@ package com.university.schedule.service;
 import com.university.schedule.dto.TeacherDTO;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -15,6 +17,8 @@ public interface TeacherService {
 
     List<TeacherDTO> findAllAsDTO(Pageable pageable);
 
+    Window<TeacherDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     Long save(Teacher teacher);
 
     Long update(TeacherDTO teacherDTO);
@@ -0,0 +1,100 @@
+package com.university.schedule.service;
+
+import com.university.schedule.cache.RoleAuthoritiesCache;
+import com.university.schedule.cache.UserIdentityCache;
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.dto.UserTokenState;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.Student;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class UserIdentityService {
+
+    private final UserService userService;
+
+    private final RoleAuthoritiesCache roleAuthoritiesCache;
+
+    private final UserIdentityCache userIdentityCache;
+
+    /**
+     * Returns the cached identity of the email or resolves it from the User. The cache entry is evicted when the
+     * User, its Group or Role changes.
+     */
+    public UserIdentity findByEmail(String email) {
+        if (email == null) {
+            throw new IllegalArgumentException("Email is null");
+        }
+        return userIdentityCache.get(email, () -> {
+            UserIdentity userIdentity = convertToIdentity(userService.findByEmail(email));
+            log.debug("Resolved {}", userIdentity);
+            return userIdentity;
+        });
+    }
+
+    /**
+     * Returns the cached identity of the email with the enabled flag and the token version read from the users row
+     * by primary key. Issuing and checking a token use this, so a disabled User or a revoked token is rejected by
+     * every instance at once, not only after their identity cache entry expires.
+     */
+    public UserIdentity findCurrentByEmail(String email) {
+        UserIdentity userIdentity = findByEmail(email);
+        UserTokenState userTokenState = userService.findTokenStateById(userIdentity.userId());
+        return userIdentity.withTokenState(Boolean.TRUE.equals(userTokenState.isEnable()),
+            userTokenState.tokenVersion());
+    }
+
+    /**
+     * Returns an unmanaged User of the email with only the id (and for a Student the Group id) set, which is what
+     * the pageable visitors bind, so the listings don't load the User.
+     */
+    public User findReferenceByEmail(String email) {
+        UserIdentity userIdentity = findByEmail(email);
+        return switch (userIdentity.kind()) {
+            case TEACHER -> {
+                Teacher teacher = new Teacher();
+                teacher.setId(userIdentity.teacherId());
+                yield teacher;
+            }
+            case STUDENT -> {
+                Student student = new Student();
+                student.setId(userIdentity.userId());
+                if (userIdentity.groupId() != null) {
+                    Group group = new Group();
+                    group.setId(userIdentity.groupId());
+                    student.setGroup(group);
+                }
+                yield student;
+            }
+            case USER -> User.builder().id(userIdentity.userId()).build();
+        };
+    }
+
+    private UserIdentity convertToIdentity(User user) {
+        String role = user.getRole() == null ? null : user.getRole().getName();
+        boolean enabled = Boolean.TRUE.equals(user.isEnable());
+        List<String> authorities = user.getRole() == null || user.getRole().getId() == null ? List.of() :
+            roleAuthoritiesCache.get(user.getRole().getId()).grantedAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).toList();
+        if (user instanceof Teacher) {
+            return new UserIdentity(user.getId(), user.getEmail(), UserIdentity.Kind.TEACHER, role, authorities,
+                user.getId(), null, enabled, user.getTokenVersion());
+        }
+        if (user instanceof Student student) {
+            Long groupId = student.getGroup() == null ? null : student.getGroup().getId();
+            return new UserIdentity(user.getId(), user.getEmail(), UserIdentity.Kind.STUDENT, role, authorities,
+                null, groupId, enabled, user.getTokenVersion());
+        }
+        return new UserIdentity(user.getId(), user.getEmail(), UserIdentity.Kind.USER, role, authorities, null,
+            null, enabled, user.getTokenVersion());
+    }
+}
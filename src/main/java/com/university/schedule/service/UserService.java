@@ -1,8 +1,12 @@
 package com.university.schedule.service;
 
+import com.university.schedule.dto.UserCredentials;
 import com.university.schedule.dto.UserDTO;
+import com.university.schedule.dto.UserTokenState;
 import com.university.schedule.model.User;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -14,6 +18,8 @@ public interface UserService {
 
     List<UserDTO> findAllAsDTO(Pageable pageable);
 
+    Window<UserDTO> scrollAsDTO(KeysetPageRequest keysetPageRequest);
+
     Long save(User user);
 
     Long update(UserDTO userDTO);
@@ -22,6 +28,14 @@ public interface UserService {
 
     User findByEmail(String email);
 
+    UserCredentials findCredentialsByEmail(String email);
+
+    UserTokenState findTokenStateById(Long id);
+
+    void updatePassword(String email, String encodedPassword);
+
+    void revokeTokens(Long id);
+
     UserDTO findByEmailAsDTO(String email);
 
     void deleteById(Long id);
@@ -0,0 +1,12 @@
+package com.university.schedule.utility;
+
+/**
+ * Map keys for entities. Entities use a constant hashCode, so persisted entities are indexed by id. Transient
+ * entities (no id yet) are indexed by themselves, their equals is identity based.
+ */
+public class EntityKeys {
+
+    public static Object of(Long id, Object entity) {
+        return id != null ? id : entity;
+    }
+}
@@ -1,12 +1,35 @@
 package com.university.schedule.utility;
 
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.pageable.OffsetBasedPageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 public class PaginationSortingUtility {
 
     public static Pageable getPageable(int limit, int offset, String[] sort) {
+        return OffsetBasedPageRequest.of(limit, offset, getSort(sort));
+    }
+
+    /**
+     * @param after cursor of the page, empty for the first page.
+     */
+    public static KeysetPageRequest getKeysetPageRequest(int limit, String after, String[] sort) {
+        return KeysetPageRequest.of(limit, getSort(sort), after);
+    }
+
+    /**
+     * @return cursor of the page after the window, null if the window is the last page.
+     */
+    public static String getNextCursor(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        return KeysetPageRequest.encodeCursor(window.positionAt(window.size() - 1));
+    }
+
+    private static Sort getSort(String[] sort) {
         if (sort == null || sort.length < 2) {
             throw new IllegalArgumentException("Sort array must contain at least two elements.");
         }
@@ -19,8 +42,6 @@ public class PaginationSortingUtility {
         }
 
         Sort.Direction direction = sortDirection.equals("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Sort.Order order = new Sort.Order(direction, sortField);
-
-        return OffsetBasedPageRequest.of(limit, offset, Sort.by(order));
+        return Sort.by(new Sort.Order(direction, sortField));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,203 @@
+package com.university.schedule.validation;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ScheduledClassGroupSlot;
+import com.university.schedule.dto.ScheduledClassSlot;
+import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.RecurringClass;
+import com.university.schedule.repository.RecurringClassRepository;
+import com.university.schedule.repository.ScheduledClassRepository;
+import com.university.schedule.service.CourseService;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+@Component
+public class RecurringClassEntityValidator extends EntityValidator<RecurringClass> {
+
+    private final RecurringClassRepository recurringClassRepository;
+
+    private final ScheduledClassRepository scheduledClassRepository;
+
+    private final CourseService courseService;
+
+    public RecurringClassEntityValidator(RecurringClassRepository recurringClassRepository,
+                                         ScheduledClassRepository scheduledClassRepository, CourseService courseService,
+                                         Validator validator) {
+        super(validator);
+        this.recurringClassRepository = recurringClassRepository;
+        this.scheduledClassRepository = scheduledClassRepository;
+        this.courseService = courseService;
+    }
+
+    @Override
+    public void validate(RecurringClass recurringClass) {
+        if (recurringClass == null) {
+            throw new IllegalArgumentException("RecurringClass is null");
+        }
+        validateAll(List.of(recurringClass));
+    }
+
+    /**
+     * Validates the RecurringClasses and checks every occurrence against the persisted ScheduledClasses and the
+     * occurrences of the other active RecurringClasses (the validated ones included): a Teacher, a Classroom or a
+     * Group can`t take two classes at the same date and ClassTime. The Teacher and the Groups must be assigned to
+     * the Course. The occupancy of the whole period and the Course assignments are loaded once.
+     *
+     * @param recurringClasses RecurringClasses to validate, persisted ones are checked against their new state.
+     * @throws ValidationException with the violations of every invalid RecurringClass.
+     */
+    public void validateAll(Collection<RecurringClass> recurringClasses) {
+        List<String> violations = new ArrayList<>();
+        for (RecurringClass recurringClass : recurringClasses) {
+            violations.addAll(validateConstraints(recurringClass));
+        }
+        throwIfInvalid(violations);
+        if (recurringClasses.isEmpty()) {
+            return;
+        }
+
+        LocalDate startDate = recurringClasses.stream().map(RecurringClass::getStartDate).min(Comparator.naturalOrder())
+            .orElseThrow();
+        LocalDate endDate = recurringClasses.stream().map(RecurringClass::getEndDate).max(Comparator.naturalOrder())
+            .orElseThrow();
+        Set<Slot> teacherSlots = new HashSet<>();
+        Set<Slot> classroomSlots = new HashSet<>();
+        for (ScheduledClassSlot slot : scheduledClassRepository.findSlotsByDateBetween(startDate, endDate)) {
+            teacherSlots.add(new Slot(slot.date(), slot.classTimeId(), slot.teacherId()));
+            if (slot.classroomId() != null) {
+                classroomSlots.add(new Slot(slot.date(), slot.classTimeId(), slot.classroomId()));
+            }
+        }
+        Set<Long> teacherIds = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        for (RecurringClass recurringClass : recurringClasses) {
+            teacherIds.add(recurringClass.getTeacher().getId());
+            recurringClass.getGroups().stream().map(Group::getId).forEach(groupIds::add);
+        }
+        Set<Slot> groupSlots = new HashSet<>();
+        for (ScheduledClassGroupSlot slot : scheduledClassRepository.findGroupSlotsByDateBetween(startDate, endDate,
+            groupIds)) {
+            groupSlots.add(new Slot(slot.date(), slot.classTimeId(), slot.groupId()));
+        }
+        Set<IdPair> teacherCourses = new HashSet<>(courseService.findTeacherCourseIds(teacherIds));
+        Set<IdPair> groupCourses = new HashSet<>(courseService.findGroupCourseIds(groupIds));
+        Set<Long> validatedIds = new HashSet<>();
+        recurringClasses.stream().map(RecurringClass::getId).filter(Objects::nonNull).forEach(validatedIds::add);
+        Map<RuleKey, List<RecurringClass>> activeRules = new HashMap<>();
+        for (RecurringClass activeRule : recurringClassRepository.findAllActive(startDate, endDate, null, null)) {
+            if (!validatedIds.contains(activeRule.getId())) {
+                activeRules.computeIfAbsent(RuleKey.of(activeRule), key -> new ArrayList<>()).add(activeRule);
+            }
+        }
+
+        for (RecurringClass recurringClass : recurringClasses) {
+            Long courseId = recurringClass.getCourse().getId();
+            if (!teacherCourses.contains(new IdPair(recurringClass.getTeacher().getId(), courseId))) {
+                violations.add(String.format("%s can`t be assigned to class with %s", recurringClass.getTeacher(),
+                    recurringClass.getCourse()));
+            }
+            if (!recurringClass.getGroups().stream()
+                .allMatch(group -> groupCourses.contains(new IdPair(group.getId(), courseId)))) {
+                violations.add(String.format("%s can`t be assigned to class with %s", recurringClass.getGroups(),
+                    recurringClass.getCourse()));
+            }
+            Long classTimeId = recurringClass.getClassTime().getId();
+            Long classroomId = recurringClass.getClassroom() == null ? null : recurringClass.getClassroom().getId();
+            for (LocalDate date : recurringClass.getOccurrenceDates(recurringClass.getStartDate(),
+                recurringClass.getEndDate())) {
+                if (teacherSlots.contains(new Slot(date, classTimeId, recurringClass.getTeacher().getId())) ||
+                    classroomId != null && classroomSlots.contains(new Slot(date, classTimeId, classroomId)) ||
+                    recurringClass.getGroups().stream()
+                        .anyMatch(group -> groupSlots.contains(new Slot(date, classTimeId, group.getId())))) {
+                    violations.add(String.format(
+                        "RecurringClass with %s, %s, %s, %s, %s conflicts with a ScheduledClass",
+                        recurringClass.getTeacher(), recurringClass.getClassroom(), recurringClass.getGroups(), date,
+                        recurringClass.getClassTime()));
+                    break;
+                }
+            }
+            List<RecurringClass> sameSlotRules =
+                activeRules.computeIfAbsent(RuleKey.of(recurringClass), key -> new ArrayList<>());
+            for (RecurringClass activeRule : sameSlotRules) {
+                if (sharesOccupant(recurringClass, activeRule) && overlaps(recurringClass, activeRule)) {
+                    violations.add(String.format("RecurringClass with %s, %s, %s, %s conflicts with %s",
+                        recurringClass.getTeacher(), recurringClass.getClassroom(), recurringClass.getGroups(),
+                        recurringClass.getClassTime(), activeRule));
+                }
+            }
+            sameSlotRules.add(recurringClass);
+        }
+        throwIfInvalid(violations);
+    }
+
+    private List<String> validateConstraints(RecurringClass recurringClass) {
+        List<String> violations = new ArrayList<>();
+        try {
+            super.validate(recurringClass);
+        } catch (ValidationException e) {
+            violations = new ArrayList<>(e.getViolations());
+        }
+
+        if (recurringClass.getStartDate() != null && recurringClass.getEndDate() != null &&
+            recurringClass.getStartDate().isAfter(recurringClass.getEndDate())) {
+            violations.add(String.format("RecurringClass startDate %s is after endDate %s",
+                recurringClass.getStartDate(), recurringClass.getEndDate()));
+        }
+        return violations;
+    }
+
+    private void throwIfInvalid(List<String> violations) {
+        if (!violations.isEmpty()) {
+            throw new ValidationException("RecurringClass is not valid", violations);
+        }
+    }
+
+    private static boolean sharesOccupant(RecurringClass recurringClass, RecurringClass other) {
+        if (Objects.equals(recurringClass.getTeacher().getId(), other.getTeacher().getId()) ||
+            recurringClass.getClassroom() != null && other.getClassroom() != null &&
+                Objects.equals(recurringClass.getClassroom().getId(), other.getClassroom().getId())) {
+            return true;
+        }
+        Set<Long> otherGroupIds = new HashSet<>();
+        other.getGroups().stream().map(Group::getId).forEach(otherGroupIds::add);
+        return recurringClass.getGroups().stream().map(Group::getId).anyMatch(otherGroupIds::contains);
+    }
+
+    /**
+     * Both rules are on the same DayOfWeek, so they overlap if an occurrence of the common period is cancelled by
+     * neither of them.
+     */
+    private static boolean overlaps(RecurringClass recurringClass, RecurringClass other) {
+        LocalDate startDate = recurringClass.getStartDate().isAfter(other.getStartDate()) ?
+            recurringClass.getStartDate() : other.getStartDate();
+        LocalDate endDate =
+            recurringClass.getEndDate().isBefore(other.getEndDate()) ? recurringClass.getEndDate() : other.getEndDate();
+        if (startDate.isAfter(endDate)) {
+            return false;
+        }
+        List<LocalDate> otherDates = other.getOccurrenceDates(startDate, endDate);
+        return recurringClass.getOccurrenceDates(startDate, endDate).stream().anyMatch(otherDates::contains);
+    }
+
+    /**
+     * (date, classTime) of a persisted ScheduledClass together with the id of the Teacher, Classroom or Group
+     * occupying it.
+     */
+    private record Slot(LocalDate date, Long classTimeId, Long occupantId) {
+    }
+
+    /**
+     * Weekly slot of a RecurringClass, only rules with the same key can take the same dates.
+     */
+    private record RuleKey(DayOfWeek dayOfWeek, Long classTimeId) {
+
+        static RuleKey of(RecurringClass recurringClass) {
+            return new RuleKey(recurringClass.getDayOfWeek(), recurringClass.getClassTime().getId());
+        }
+    }
+}
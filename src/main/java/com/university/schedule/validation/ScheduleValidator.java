@@ -1,79 +1,130 @@
 package com.university.schedule.validation;
 
+import com.university.schedule.dto.ScheduleConflict;
 import com.university.schedule.exception.ScheduleGenerationConflictException;
 import com.university.schedule.exception.ScheduleGenerationDateException;
 import com.university.schedule.exception.ScheduleGenerationException;
 import com.university.schedule.model.DayScheduleItem;
 import com.university.schedule.model.Group;
+import com.university.schedule.utility.EntityKeys;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
+/**
+ * Checks a list of DayScheduleItems for conflicts before the schedule is generated.
+ *
+ * <p>Items are bucketed by (DayOfWeek, ClassTime) and every bucket keeps Teacher, Group and Classroom occupancy
+ * maps, so each item is only compared with the items that share its slot and its Teacher, Classroom or one of its
+ * Groups. Validation is linear in the number of items for realistic templates.
+ */
 @Component
 public class ScheduleValidator {
 
     private static final String DATE_EXCEPTION_MSG = "startDate can`t be after endDate";
-    private static final String GROUP_CONFLICT_EXCEPTION_MSG =
-        "There is conflict by Group ( at the same ClassTime and DayOfWeek, Group has at least two different classes )";
-    private static final String TEACHER_CONFLICT_EXCEPTION_MSG =
-        "There is conflict by Teacher ( at the same ClassTime and DayOfWeek, Teacher has at least two different classes )";
 
     public void validate(LocalDate startDate, LocalDate endDate, List<DayScheduleItem> dayScheduleItems)
         throws ScheduleGenerationException {
         if (startDate.isAfter(endDate)) {
             throw new ScheduleGenerationDateException(DATE_EXCEPTION_MSG);
         }
-        for (DayScheduleItem dayScheduleItem : dayScheduleItems) {
-            if (hasConflictByGroup(dayScheduleItems, dayScheduleItem)) {
-                throw new ScheduleGenerationConflictException(GROUP_CONFLICT_EXCEPTION_MSG);
-            }
-            if (hasConflictByTeacher(dayScheduleItems, dayScheduleItem)) {
-                throw new ScheduleGenerationConflictException(TEACHER_CONFLICT_EXCEPTION_MSG);
-            }
+        List<ScheduleConflict> conflicts = findConflicts(dayScheduleItems);
+        if (!conflicts.isEmpty()) {
+            String message = conflicts.stream().map(ScheduleConflict::getMessage).distinct()
+                .collect(Collectors.joining("; ", "", String.format(", %d conflict(s) found", conflicts.size())));
+            throw new ScheduleGenerationConflictException(message, conflicts);
         }
     }
 
-    private boolean hasConflictByGroup(List<DayScheduleItem> dayScheduleItems, DayScheduleItem currentItem) {
+    /**
+     * Finds every conflict in the given items. Each conflicting pair is reported once per conflict type.
+     *
+     * @param dayScheduleItems items to check.
+     * @return found conflicts, empty list if there are none.
+     */
+    public List<ScheduleConflict> findConflicts(List<DayScheduleItem> dayScheduleItems) {
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        Map<Slot, SlotOccupancy> occupancyBySlot = new HashMap<>();
         for (DayScheduleItem dayScheduleItem : dayScheduleItems) {
-            if (dayScheduleItem != currentItem && dayScheduleItem.getDayOfWeek() == currentItem.getDayOfWeek() &&
-                // check Time
-                dayScheduleItem.getClassTime().equals(currentItem.getClassTime()) && // check Time
-                hasCommonGroup(dayScheduleItem.getGroups(), currentItem.getGroups()) && // check for the same Group
-                (!dayScheduleItem.getCourse().equals(currentItem.getCourse()) ||
-                    !dayScheduleItem.getTeacher().equals(currentItem.getTeacher()) ||
-                    !dayScheduleItem.getClassroom().equals(currentItem.getClassroom()) ||
-                    !dayScheduleItem.getClassType().equals(currentItem.getClassType()))) {
-                return true; // Conflicting found
-            }
+            SlotOccupancy slotOccupancy = occupancyBySlot.computeIfAbsent(Slot.of(dayScheduleItem),
+                slot -> new SlotOccupancy());
+            slotOccupancy.checkAndOccupy(dayScheduleItem, conflicts);
         }
-        return false; // No conflicting found
+        return conflicts;
     }
 
-    private boolean hasConflictByTeacher(List<DayScheduleItem> dayScheduleItems, DayScheduleItem currentItem) {
-        for (DayScheduleItem dayScheduleItem : dayScheduleItems) {
-            if (dayScheduleItem != currentItem && dayScheduleItem.getDayOfWeek() == currentItem.getDayOfWeek() &&
-                // check Time
-                dayScheduleItem.getClassTime().equals(currentItem.getClassTime()) && // check Time
-                dayScheduleItem.getTeacher().equals(currentItem.getTeacher()) && // check for the same Teacher
-                (!dayScheduleItem.getCourse().equals(currentItem.getCourse()) ||
-                    !dayScheduleItem.getGroups().equals(currentItem.getGroups()) ||
-                    !dayScheduleItem.getClassroom().equals(currentItem.getClassroom()) ||
-                    !dayScheduleItem.getClassType().equals(currentItem.getClassType()))) {
-                return true; // Conflicting found
-            }
+    private static boolean hasConflictByGroup(DayScheduleItem dayScheduleItem, DayScheduleItem currentItem) {
+        return !dayScheduleItem.getCourse().equals(currentItem.getCourse()) ||
+            !dayScheduleItem.getTeacher().equals(currentItem.getTeacher()) ||
+            !dayScheduleItem.getClassroom().equals(currentItem.getClassroom()) ||
+            !dayScheduleItem.getClassType().equals(currentItem.getClassType());
+    }
+
+    private static boolean hasConflictByTeacher(DayScheduleItem dayScheduleItem, DayScheduleItem currentItem) {
+        return !dayScheduleItem.getCourse().equals(currentItem.getCourse()) ||
+            !dayScheduleItem.getGroups().equals(currentItem.getGroups()) ||
+            !dayScheduleItem.getClassroom().equals(currentItem.getClassroom()) ||
+            !dayScheduleItem.getClassType().equals(currentItem.getClassType());
+    }
+
+    private static boolean hasConflictByClassroom(DayScheduleItem dayScheduleItem, DayScheduleItem currentItem) {
+        return !dayScheduleItem.getCourse().equals(currentItem.getCourse()) ||
+            !dayScheduleItem.getTeacher().equals(currentItem.getTeacher()) ||
+            !dayScheduleItem.getGroups().equals(currentItem.getGroups()) ||
+            !dayScheduleItem.getClassType().equals(currentItem.getClassType());
+    }
+
+    private record Slot(DayOfWeek dayOfWeek, Object classTimeKey) {
+
+        static Slot of(DayScheduleItem dayScheduleItem) {
+            return new Slot(dayScheduleItem.getDayOfWeek(),
+                EntityKeys.of(dayScheduleItem.getClassTime().getId(), dayScheduleItem.getClassTime()));
         }
-        return false; // No conflicting found
     }
 
-    private boolean hasCommonGroup(Set<Group> groups1, Set<Group> groups2) {
-        for (Group group : groups1) {
-            if (groups2.contains(group)) {
-                return true;
+    private static class SlotOccupancy {
+
+        private final Map<Object, List<DayScheduleItem>> itemsByTeacher = new HashMap<>();
+
+        private final Map<Object, List<DayScheduleItem>> itemsByGroup = new HashMap<>();
+
+        private final Map<Object, List<DayScheduleItem>> itemsByClassroom = new HashMap<>();
+
+        void checkAndOccupy(DayScheduleItem currentItem, List<ScheduleConflict> conflicts) {
+            Object teacherKey = EntityKeys.of(currentItem.getTeacher().getId(), currentItem.getTeacher());
+            List<DayScheduleItem> teacherItems = itemsByTeacher.computeIfAbsent(teacherKey, k -> new ArrayList<>());
+            for (DayScheduleItem dayScheduleItem : teacherItems) {
+                if (hasConflictByTeacher(dayScheduleItem, currentItem)) {
+                    conflicts.add(new ScheduleConflict(ScheduleConflict.Type.TEACHER, dayScheduleItem, currentItem));
+                }
+            }
+            teacherItems.add(currentItem);
+
+            Object classroomKey = EntityKeys.of(currentItem.getClassroom().getId(), currentItem.getClassroom());
+            List<DayScheduleItem> classroomItems =
+                itemsByClassroom.computeIfAbsent(classroomKey, k -> new ArrayList<>());
+            for (DayScheduleItem dayScheduleItem : classroomItems) {
+                if (hasConflictByClassroom(dayScheduleItem, currentItem)) {
+                    conflicts.add(new ScheduleConflict(ScheduleConflict.Type.CLASSROOM, dayScheduleItem, currentItem));
+                }
+            }
+            classroomItems.add(currentItem);
+
+            // items sharing several Groups with the current one are reported once
+            Set<DayScheduleItem> checkedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Group group : currentItem.getGroups()) {
+                List<DayScheduleItem> groupItems =
+                    itemsByGroup.computeIfAbsent(EntityKeys.of(group.getId(), group), k -> new ArrayList<>());
+                for (DayScheduleItem dayScheduleItem : groupItems) {
+                    if (checkedItems.add(dayScheduleItem) && hasConflictByGroup(dayScheduleItem, currentItem)) {
+                        conflicts.add(new ScheduleConflict(ScheduleConflict.Type.GROUP, dayScheduleItem, currentItem));
+                    }
+                }
+                groupItems.add(currentItem);
             }
         }
-        return false;
     }
-
 }
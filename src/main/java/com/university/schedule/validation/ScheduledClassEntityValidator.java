@@ -1,65 +1,244 @@
 package com.university.schedule.validation;
 
+import com.university.schedule.dto.ScheduledClassSlot;
 import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.RecurringClass;
 import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.repository.RecurringClassRepository;
 import com.university.schedule.repository.ScheduledClassRepository;
 import com.university.schedule.service.CourseService;
 import jakarta.validation.Validator;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDate;
+import java.util.*;
 
 @Component
 public class ScheduledClassEntityValidator extends EntityValidator<ScheduledClass> {
 
     private final ScheduledClassRepository scheduledClassRepository;
 
+    private final RecurringClassRepository recurringClassRepository;
+
     private final CourseService courseService;
 
 
-    public ScheduledClassEntityValidator(ScheduledClassRepository scheduledClassRepository, CourseService courseService,
+    public ScheduledClassEntityValidator(ScheduledClassRepository scheduledClassRepository,
+                                         RecurringClassRepository recurringClassRepository, CourseService courseService,
                                          Validator validator) {
         super(validator);
         this.scheduledClassRepository = scheduledClassRepository;
+        this.recurringClassRepository = recurringClassRepository;
         this.courseService = courseService;
     }
 
     @Override
     public void validate(ScheduledClass scheduledClass) {
-        List<String> violations = new ArrayList<>();
-        try {
-            super.validate(scheduledClass);
-        } catch (ValidationException e) {
-            violations = e.getViolations();
-        }
+        List<String> violations = validateConstraints(scheduledClass);
 
         // Teacher, Date, ClassTime
         Optional<ScheduledClass> scheduledClassToCheck =
             scheduledClassRepository.findByDateAndClassTimeAndTeacher(scheduledClass.getDate(),
                 scheduledClass.getClassTime(), scheduledClass.getTeacher());
         if (scheduledClassToCheck.isPresent() && !scheduledClass.equals(scheduledClassToCheck.get())) {
-            violations.add(String.format("ScheduledClass with %s, %s, %s, already exists", scheduledClass.getTeacher(),
-                scheduledClass.getDate(), scheduledClass.getClassTime()));
+            violations.add(teacherOccupiedViolation(scheduledClass));
+        }
+        // Classroom, Date, ClassTime
+        if (scheduledClass.getClassroom() != null) {
+            Optional<ScheduledClass> classroomScheduledClass =
+                scheduledClassRepository.findByDateAndClassTimeAndClassroom(scheduledClass.getDate(),
+                    scheduledClass.getClassTime(), scheduledClass.getClassroom());
+            if (classroomScheduledClass.isPresent() && !scheduledClass.equals(classroomScheduledClass.get())) {
+                violations.add(classroomOccupiedViolation(scheduledClass));
+            } else if (isClassroomOccupiedByRecurringClass(scheduledClass)) {
+                violations.add(classroomOccupiedViolation(scheduledClass));
+            }
         }
         if (scheduledClass.getCourse() != null) {
             // Teacher can`t be assigned to class with this Course
             if (!courseService.findByTeacher(scheduledClass.getTeacher()).contains(scheduledClass.getCourse())) {
-                violations.add(String.format("%s can`t be assigned to class with %s", scheduledClass.getTeacher(),
-                    scheduledClass.getCourse()));
+                violations.add(teacherCourseViolation(scheduledClass));
             }
             // Group can`t be assigned to class with this Course
             if (!scheduledClass.getGroups().stream()
                 .allMatch(group -> courseService.findByGroup(group).contains(scheduledClass.getCourse()))) {
-                violations.add(String.format("%s can`t be assigned to class with %s", scheduledClass.getGroups(),
-                    scheduledClass.getCourse()));
+                violations.add(groupCourseViolation(scheduledClass));
+            }
+        }
+
+        throwIfInvalid(violations);
+    }
+
+    /**
+     * Validates a whole set of ScheduledClasses (for example one generation run) against a single
+     * ScheduledClassValidationContext, so the number of queries doesn`t depend on the set size.
+     *
+     * @param scheduledClasses ScheduledClasses to validate.
+     * @throws ValidationException with the violations of every invalid ScheduledClass.
+     */
+    public void validateAll(Collection<ScheduledClass> scheduledClasses) {
+        validateAll(scheduledClasses, Set.of());
+    }
+
+    /**
+     * Same as {@link #validateAll(Collection)}, but the persisted rows with the given ids don`t occupy their slots,
+     * because they are deleted or rewritten together with the validated set.
+     *
+     * @param scheduledClasses ScheduledClasses to validate.
+     * @param releasedIds      ids of persisted ScheduledClasses that are deleted or updated in the same change.
+     * @throws ValidationException with the violations of every invalid ScheduledClass.
+     */
+    public void validateAll(Collection<ScheduledClass> scheduledClasses, Set<Long> releasedIds) {
+        validateAll(scheduledClasses, createValidationContext(scheduledClasses, releasedIds));
+    }
+
+    /**
+     * Same as {@link #validateAll(Collection)}, against a context created beforehand, for example a
+     * {@link ScheduledClassValidationContext#slice(Collection)} of a context shared by parallel writers.
+     *
+     * @param scheduledClasses ScheduledClasses to validate.
+     * @param context          context covering the dates, Teachers, Classrooms and Groups of the ScheduledClasses.
+     * @throws ValidationException with the violations of every invalid ScheduledClass.
+     */
+    public void validateAll(Collection<ScheduledClass> scheduledClasses, ScheduledClassValidationContext context) {
+        List<String> violations = new ArrayList<>();
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            try {
+                validate(scheduledClass, context);
+            } catch (ValidationException e) {
+                violations.addAll(e.getViolations());
             }
         }
+        throwIfInvalid(violations);
+    }
 
+    /**
+     * Preloads the occupancy of the date range covered by the given ScheduledClasses (persisted rows and occurrences
+     * of the active RecurringClasses) and the Course assignments of their Teachers and Groups.
+     *
+     * @param scheduledClasses ScheduledClasses that will be validated with the created context.
+     * @return ScheduledClassValidationContext to pass to {@link #validate(ScheduledClass,
+     * ScheduledClassValidationContext)}.
+     */
+    public ScheduledClassValidationContext createValidationContext(Collection<ScheduledClass> scheduledClasses) {
+        return createValidationContext(scheduledClasses, Set.of());
+    }
+
+    private ScheduledClassValidationContext createValidationContext(Collection<ScheduledClass> scheduledClasses,
+                                                                    Set<Long> releasedIds) {
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        Set<Long> teacherIds = new HashSet<>();
+        Set<Long> groupIds = new HashSet<>();
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            LocalDate date = scheduledClass.getDate();
+            if (date != null) {
+                startDate = startDate == null || date.isBefore(startDate) ? date : startDate;
+                endDate = endDate == null || date.isAfter(endDate) ? date : endDate;
+            }
+            if (scheduledClass.getTeacher() != null && scheduledClass.getTeacher().getId() != null) {
+                teacherIds.add(scheduledClass.getTeacher().getId());
+            }
+            if (scheduledClass.getGroups() != null) {
+                scheduledClass.getGroups().stream().map(Group::getId).filter(Objects::nonNull).forEach(groupIds::add);
+            }
+        }
+        if (startDate == null) {
+            return ScheduledClassValidationContext.empty();
+        }
+        List<ScheduledClassSlot> occupiedSlots = scheduledClassRepository.findSlotsByDateBetween(startDate, endDate);
+        if (!releasedIds.isEmpty()) {
+            occupiedSlots = occupiedSlots.stream().filter(slot -> !releasedIds.contains(slot.id())).toList();
+        }
+        List<ScheduledClassSlot> recurringSlots = new ArrayList<>();
+        for (RecurringClass recurringClass : recurringClassRepository.findAllActive(startDate, endDate, null, null)) {
+            for (LocalDate date : recurringClass.getOccurrenceDates(startDate, endDate)) {
+                recurringSlots.add(new ScheduledClassSlot(null, date, recurringClass.getClassTime().getId(),
+                    recurringClass.getTeacher().getId(),
+                    recurringClass.getClassroom() == null ? null : recurringClass.getClassroom().getId()));
+            }
+        }
+        return new ScheduledClassValidationContext(occupiedSlots, recurringSlots,
+            teacherIds.isEmpty() ? List.of() : courseService.findTeacherCourseIds(teacherIds),
+            groupIds.isEmpty() ? List.of() : courseService.findGroupCourseIds(groupIds));
+    }
+
+    /**
+     * Same checks as {@link #validate(ScheduledClass)}, but resolved against the preloaded context without any
+     * queries. A valid ScheduledClass occupies its slot in the context.
+     */
+    public void validate(ScheduledClass scheduledClass, ScheduledClassValidationContext context) {
+        List<String> violations = validateConstraints(scheduledClass);
+
+        if (context.isTeacherOccupied(scheduledClass)) {
+            violations.add(teacherOccupiedViolation(scheduledClass));
+        }
+        if (context.isClassroomOccupied(scheduledClass)) {
+            violations.add(classroomOccupiedViolation(scheduledClass));
+        }
+        if (scheduledClass.getCourse() != null) {
+            Long courseId = scheduledClass.getCourse().getId();
+            Long teacherId = scheduledClass.getTeacher() == null ? null : scheduledClass.getTeacher().getId();
+            if (!context.isTeacherAssignedToCourse(teacherId, courseId)) {
+                violations.add(teacherCourseViolation(scheduledClass));
+            }
+            if (!scheduledClass.getGroups().stream()
+                .allMatch(group -> context.isGroupAssignedToCourse(group.getId(), courseId))) {
+                violations.add(groupCourseViolation(scheduledClass));
+            }
+        }
+
+        throwIfInvalid(violations);
+        context.occupy(scheduledClass);
+    }
+
+    /**
+     * An occurrence of another Teacher`s RecurringClass takes the Classroom. An occurrence of the same Teacher is
+     * overridden by the ScheduledClass.
+     */
+    private boolean isClassroomOccupiedByRecurringClass(ScheduledClass scheduledClass) {
+        if (scheduledClass.getDate() == null || scheduledClass.getClassTime() == null) {
+            return false;
+        }
+        return recurringClassRepository.existsOccurrenceInClassroom(scheduledClass.getClassroom().getId(),
+            scheduledClass.getClassTime().getId(), scheduledClass.getDate().getDayOfWeek(), scheduledClass.getDate(),
+            scheduledClass.getTeacher() == null ? null : scheduledClass.getTeacher().getId());
+    }
+
+    private List<String> validateConstraints(ScheduledClass scheduledClass) {
+        List<String> violations = new ArrayList<>();
+        try {
+            super.validate(scheduledClass);
+        } catch (ValidationException e) {
+            violations = new ArrayList<>(e.getViolations());
+        }
+        return violations;
+    }
+
+    private void throwIfInvalid(List<String> violations) {
         if (!violations.isEmpty()) {
             throw new ValidationException("ScheduleClass is not valid", violations);
         }
+    }
+
+    private String teacherOccupiedViolation(ScheduledClass scheduledClass) {
+        return String.format("ScheduledClass with %s, %s, %s, already exists", scheduledClass.getTeacher(),
+            scheduledClass.getDate(), scheduledClass.getClassTime());
+    }
+
+    private String classroomOccupiedViolation(ScheduledClass scheduledClass) {
+        return String.format("ScheduledClass with %s, %s, %s, already exists", scheduledClass.getClassroom(),
+            scheduledClass.getDate(), scheduledClass.getClassTime());
+    }
+
+    private String teacherCourseViolation(ScheduledClass scheduledClass) {
+        return String.format("%s can`t be assigned to class with %s", scheduledClass.getTeacher(),
+            scheduledClass.getCourse());
+    }
 
+    private String groupCourseViolation(ScheduledClass scheduledClass) {
+        return String.format("%s can`t be assigned to class with %s", scheduledClass.getGroups(),
+            scheduledClass.getCourse());
     }
 }
@@ -0,0 +1,216 @@
+package com.university.schedule.validation;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ScheduledClassSlot;
+import com.university.schedule.model.ScheduledClass;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Generation-scoped snapshot of the data ScheduledClassEntityValidator needs to validate a set of ScheduledClasses,
+ * so every candidate is checked with hash lookups instead of database queries.
+ *
+ * <p>Holds the (date, classTime, teacher) and (date, classTime, classroom) occupancy of the validated date
+ * range and the Teacher -> Course and Group -> Course assignments (as bitsets of Course ids). Classes accepted by
+ * {@link ScheduledClassEntityValidator#validate(ScheduledClass, ScheduledClassValidationContext)} are registered
+ * in the occupancy, so conflicts inside the validated set are detected as well.
+ *
+ * <p>Occurrences of active RecurringClasses occupy their Classroom as well. An occurrence doesn`t block its own
+ * Teacher: a ScheduledClass with the same date, ClassTime and Teacher overrides it and releases its Classroom.
+ *
+ * <p>Works with persisted reference entities only (ids must be set) and is not thread-safe. Writers running in
+ * parallel each validate against their own {@link #slice(Collection)}, a slice doesn`t see the classes occupied
+ * in the other slices.
+ */
+public class ScheduledClassValidationContext {
+
+    private final Map<Slot, Long> teacherOccupancy;
+
+    private final Map<Slot, Long> classroomOccupancy;
+
+    /**
+     * Classroom slot of a RecurringClass occurrence -> id of the Teacher of the rule.
+     */
+    private final Map<Slot, Long> recurringClassroomOccupancy;
+
+    /**
+     * Teacher slot of a RecurringClass occurrence -> its Classroom slot, to release it when the occurrence is
+     * overridden.
+     */
+    private final Map<Slot, Slot> recurringClassroomSlots;
+
+    private final Map<Long, BitSet> teacherCourses;
+
+    private final Map<Long, BitSet> groupCourses;
+
+    ScheduledClassValidationContext(List<ScheduledClassSlot> occupiedSlots, List<ScheduledClassSlot> recurringSlots,
+                                    List<IdPair> teacherCourseIds, List<IdPair> groupCourseIds) {
+        this.teacherOccupancy = new HashMap<>(Math.max(16, occupiedSlots.size() * 2));
+        this.classroomOccupancy = new HashMap<>(Math.max(16, occupiedSlots.size() * 2));
+        for (ScheduledClassSlot slot : occupiedSlots) {
+            teacherOccupancy.put(new Slot(slot.date(), slot.classTimeId(), slot.teacherId()), slot.id());
+            if (slot.classroomId() != null) {
+                classroomOccupancy.put(new Slot(slot.date(), slot.classTimeId(), slot.classroomId()), slot.id());
+            }
+        }
+        this.recurringClassroomOccupancy = new HashMap<>();
+        this.recurringClassroomSlots = new HashMap<>();
+        for (ScheduledClassSlot slot : recurringSlots) {
+            Slot teacherSlot = new Slot(slot.date(), slot.classTimeId(), slot.teacherId());
+            // a persisted ScheduledClass of the same Teacher already overrides the occurrence
+            if (slot.classroomId() != null && !teacherOccupancy.containsKey(teacherSlot)) {
+                Slot classroomSlot = new Slot(slot.date(), slot.classTimeId(), slot.classroomId());
+                recurringClassroomOccupancy.put(classroomSlot, slot.teacherId());
+                recurringClassroomSlots.put(teacherSlot, classroomSlot);
+            }
+        }
+        this.teacherCourses = toBitSets(teacherCourseIds);
+        this.groupCourses = toBitSets(groupCourseIds);
+    }
+
+    private ScheduledClassValidationContext(Map<Slot, Long> teacherOccupancy, Map<Slot, Long> classroomOccupancy,
+                                            Map<Slot, Long> recurringClassroomOccupancy,
+                                            Map<Slot, Slot> recurringClassroomSlots, Map<Long, BitSet> teacherCourses,
+                                            Map<Long, BitSet> groupCourses) {
+        this.teacherOccupancy = teacherOccupancy;
+        this.classroomOccupancy = classroomOccupancy;
+        this.recurringClassroomOccupancy = recurringClassroomOccupancy;
+        this.recurringClassroomSlots = recurringClassroomSlots;
+        this.teacherCourses = teacherCourses;
+        this.groupCourses = groupCourses;
+    }
+
+    static ScheduledClassValidationContext empty() {
+        return new ScheduledClassValidationContext(List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Creates a context holding only the occupancy of the Teachers and Classrooms of the given ScheduledClasses,
+     * including the RecurringClass occurrences in their Classrooms or of their Teachers. The occupancy is copied
+     * and the Course assignments are shared read-only, so slices of one context can be used by different threads.
+     * Slices sharing a Teacher or Classroom don`t see each other's classes, the caller has to guard those slots.
+     */
+    public ScheduledClassValidationContext slice(Collection<ScheduledClass> scheduledClasses) {
+        Set<Long> teacherIds = new HashSet<>();
+        Set<Long> classroomIds = new HashSet<>();
+        for (ScheduledClass scheduledClass : scheduledClasses) {
+            if (scheduledClass.getTeacher() != null) {
+                teacherIds.add(scheduledClass.getTeacher().getId());
+            }
+            if (scheduledClass.getClassroom() != null) {
+                classroomIds.add(scheduledClass.getClassroom().getId());
+            }
+        }
+        Map<Slot, Long> recurringOccupancy = new HashMap<>();
+        Map<Slot, Slot> recurringSlots = new HashMap<>();
+        recurringClassroomSlots.forEach((teacherSlot, classroomSlot) -> {
+            if (teacherIds.contains(teacherSlot.occupantId()) || classroomIds.contains(classroomSlot.occupantId())) {
+                recurringOccupancy.put(classroomSlot, teacherSlot.occupantId());
+                recurringSlots.put(teacherSlot, classroomSlot);
+            }
+        });
+        return new ScheduledClassValidationContext(filter(teacherOccupancy, teacherIds),
+            filter(classroomOccupancy, classroomIds), recurringOccupancy, recurringSlots, teacherCourses,
+            groupCourses);
+    }
+
+    boolean isTeacherOccupied(ScheduledClass scheduledClass) {
+        return isOccupied(teacherOccupancy, Slot.ofTeacher(scheduledClass), scheduledClass);
+    }
+
+    boolean isClassroomOccupied(ScheduledClass scheduledClass) {
+        Slot classroomSlot = Slot.ofClassroom(scheduledClass);
+        if (isOccupied(classroomOccupancy, classroomSlot, scheduledClass)) {
+            return true;
+        }
+        Long recurringTeacherId = classroomSlot == null ? null : recurringClassroomOccupancy.get(classroomSlot);
+        return recurringTeacherId != null && (scheduledClass.getTeacher() == null ||
+            !recurringTeacherId.equals(scheduledClass.getTeacher().getId()));
+    }
+
+    boolean isTeacherAssignedToCourse(Long teacherId, Long courseId) {
+        return contains(teacherCourses, teacherId, courseId);
+    }
+
+    boolean isGroupAssignedToCourse(Long groupId, Long courseId) {
+        return contains(groupCourses, groupId, courseId);
+    }
+
+    void occupy(ScheduledClass scheduledClass) {
+        Slot teacherSlot = Slot.ofTeacher(scheduledClass);
+        if (teacherSlot != null) {
+            teacherOccupancy.put(teacherSlot, scheduledClass.getId());
+            Slot overriddenClassroomSlot = recurringClassroomSlots.remove(teacherSlot);
+            if (overriddenClassroomSlot != null) {
+                recurringClassroomOccupancy.remove(overriddenClassroomSlot);
+            }
+        }
+        Slot classroomSlot = Slot.ofClassroom(scheduledClass);
+        if (classroomSlot != null) {
+            classroomOccupancy.put(classroomSlot, scheduledClass.getId());
+        }
+    }
+
+    private static Map<Slot, Long> filter(Map<Slot, Long> occupancy, Set<Long> occupantIds) {
+        Map<Slot, Long> filtered = new HashMap<>();
+        occupancy.forEach((slot, id) -> {
+            if (occupantIds.contains(slot.occupantId())) {
+                filtered.put(slot, id);
+            }
+        });
+        return filtered;
+    }
+
+    private static boolean isOccupied(Map<Slot, Long> occupancy, Slot slot, ScheduledClass scheduledClass) {
+        if (slot == null || !occupancy.containsKey(slot)) {
+            return false;
+        }
+        Long occupantId = occupancy.get(slot);
+        return occupantId == null || !occupantId.equals(scheduledClass.getId());
+    }
+
+    private static Map<Long, BitSet> toBitSets(List<IdPair> idPairs) {
+        Map<Long, BitSet> bitSets = new HashMap<>();
+        for (IdPair idPair : idPairs) {
+            bitSets.computeIfAbsent(idPair.ownerId(), id -> new BitSet())
+                .set(Math.toIntExact(idPair.relatedId()));
+        }
+        return bitSets;
+    }
+
+    private static boolean contains(Map<Long, BitSet> bitSets, Long ownerId, Long relatedId) {
+        if (ownerId == null || relatedId == null) {
+            return false;
+        }
+        BitSet relatedIds = bitSets.get(ownerId);
+        return relatedIds != null && relatedIds.get(Math.toIntExact(relatedId));
+    }
+
+    /**
+     * (date, classTime) of a ScheduledClass together with the id of the Teacher or Classroom occupying it.
+     */
+    private record Slot(LocalDate date, Long classTimeId, Long occupantId) {
+
+        static Slot ofTeacher(ScheduledClass scheduledClass) {
+            if (scheduledClass.getTeacher() == null) {
+                return null;
+            }
+            return of(scheduledClass, scheduledClass.getTeacher().getId());
+        }
+
+        static Slot ofClassroom(ScheduledClass scheduledClass) {
+            if (scheduledClass.getClassroom() == null) {
+                return null;
+            }
+            return of(scheduledClass, scheduledClass.getClassroom().getId());
+        }
+
+        private static Slot of(ScheduledClass scheduledClass, Long occupantId) {
+            if (scheduledClass.getDate() == null || scheduledClass.getClassTime() == null) {
+                return null;
+            }
+            return new Slot(scheduledClass.getDate(), scheduledClass.getClassTime().getId(), occupantId);
+        }
+    }
+}
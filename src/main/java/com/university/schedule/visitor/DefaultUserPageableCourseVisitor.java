@@ -3,9 +3,11 @@ package com.university.schedule.visitor;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Student;
 import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -28,6 +30,25 @@ public class DefaultUserPageableCourseVisitor implements UserPageableCourseVisit
 
     @Override
     public List<Course> performActionForUser(Pageable pageable) {
-        return courseRepository.findAll(pageable).toList();
+        return courseRepository.findAllBy(pageable).toList();
+    }
+
+    @Override
+    public Window<Course> performActionForTeacher(Teacher teacher, KeysetPageRequest keysetPageRequest) {
+        return courseRepository.scroll(
+            (root, query, criteriaBuilder) -> criteriaBuilder.isMember(teacher, root.get("teachers")),
+            keysetPageRequest);
+    }
+
+    @Override
+    public Window<Course> performActionForStudent(Student student, KeysetPageRequest keysetPageRequest) {
+        return courseRepository.scroll(
+            (root, query, criteriaBuilder) -> criteriaBuilder.isMember(student.getGroup(), root.get("groups")),
+            keysetPageRequest);
+    }
+
+    @Override
+    public Window<Course> performActionForUser(KeysetPageRequest keysetPageRequest) {
+        return courseRepository.scroll(keysetPageRequest);
     }
 }
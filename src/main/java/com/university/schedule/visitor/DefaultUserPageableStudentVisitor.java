@@ -1,9 +1,11 @@
 package com.university.schedule.visitor;
 
 import com.university.schedule.model.Student;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -16,7 +18,7 @@ public class DefaultUserPageableStudentVisitor implements UserPageableStudentVis
 
     @Override
     public List<Student> performActionForTeacher(Pageable pageable) {
-        return studentRepository.findAll(pageable).toList();
+        return studentRepository.findAllBy(pageable).toList();
     }
 
     @Override
@@ -26,6 +28,23 @@ public class DefaultUserPageableStudentVisitor implements UserPageableStudentVis
 
     @Override
     public List<Student> performActionForUser(Pageable pageable) {
-        return studentRepository.findAll(pageable).toList();
+        return studentRepository.findAllBy(pageable).toList();
+    }
+
+    @Override
+    public Window<Student> performActionForTeacher(KeysetPageRequest keysetPageRequest) {
+        return studentRepository.scroll(keysetPageRequest);
+    }
+
+    @Override
+    public Window<Student> performActionForStudent(Student student, KeysetPageRequest keysetPageRequest) {
+        return studentRepository.scroll(
+            (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("group"), student.getGroup()),
+            keysetPageRequest);
+    }
+
+    @Override
+    public Window<Student> performActionForUser(KeysetPageRequest keysetPageRequest) {
+        return studentRepository.scroll(keysetPageRequest);
     }
 }
@@ -3,7 +3,9 @@ package com.university.schedule.visitor;
 import com.university.schedule.model.Course;
 import com.university.schedule.model.Student;
 import com.university.schedule.model.Teacher;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -14,4 +16,10 @@ public interface UserPageableCourseVisitor {
     List<Course> performActionForStudent(Student student, Pageable pageable);
 
     List<Course> performActionForUser(Pageable pageable);
+
+    Window<Course> performActionForTeacher(Teacher teacher, KeysetPageRequest keysetPageRequest);
+
+    Window<Course> performActionForStudent(Student student, KeysetPageRequest keysetPageRequest);
+
+    Window<Course> performActionForUser(KeysetPageRequest keysetPageRequest);
 }
@@ -1,7 +1,9 @@
 package com.university.schedule.visitor;
 
 import com.university.schedule.model.Student;
+import com.university.schedule.pageable.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -12,4 +14,10 @@ public interface UserPageableStudentVisitor {
     List<Student> performActionForStudent(Student student, Pageable pageable);
 
     List<Student> performActionForUser(Pageable pageable);
+
+    Window<Student> performActionForTeacher(KeysetPageRequest keysetPageRequest);
+
+    Window<Student> performActionForStudent(Student student, KeysetPageRequest keysetPageRequest);
+
+    Window<Student> performActionForUser(KeysetPageRequest keysetPageRequest);
 }
@@ -0,0 +1,2 @@
+-- keyset pages of the schedule stream seek on (class_date, scheduled_class_id)
+CREATE INDEX scheduled_classes_date_id_index ON scheduled_classes (class_date, scheduled_class_id);
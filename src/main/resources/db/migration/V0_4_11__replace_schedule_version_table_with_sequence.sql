@@ -0,0 +1,7 @@
+-- the version is bumped with nextval after the commit of a schedule change, which takes no row lock, so concurrent
+-- writers no longer serialize on the single schedule_version row
+CREATE SEQUENCE schedule_version_seq START WITH 1;
+
+SELECT setval('schedule_version_seq', (SELECT version FROM schedule_version));
+
+DROP TABLE schedule_version;
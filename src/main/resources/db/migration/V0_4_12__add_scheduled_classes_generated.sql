@@ -0,0 +1,9 @@
+-- TRUE for rows written by the ScheduleGenerator, only those are updated or deleted by a regeneration. Rows saved
+-- through the ScheduledClass forms keep the default FALSE.
+ALTER TABLE scheduled_classes
+    ADD COLUMN generated BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- rows written so far can`t be told apart: they are treated as generated, so regenerating an existing schedule
+-- keeps working as before
+UPDATE scheduled_classes
+SET generated = TRUE;
@@ -0,0 +1,5 @@
+-- lease of a queued or running job: the instance executing it renews heartbeat_at, other instances take the job over
+-- only once the lease expired
+ALTER TABLE schedule_generation_jobs
+    ADD COLUMN owner_instance VARCHAR(64),
+    ADD COLUMN heartbeat_at   TIMESTAMP;
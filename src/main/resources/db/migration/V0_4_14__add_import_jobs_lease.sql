@@ -0,0 +1,5 @@
+-- an import reads a temporary file of the instance that accepted it, the lease tells other instances whether that
+-- instance is still alive
+ALTER TABLE import_jobs
+    ADD COLUMN owner_instance VARCHAR(64),
+    ADD COLUMN heartbeat_at   TIMESTAMP;
@@ -0,0 +1,4 @@
+ALTER SEQUENCE scheduled_classes_seq INCREMENT BY 50;
+
+-- every nextval value is the upper bound of a block of 50 ids, move past already used ids
+SELECT setval('scheduled_classes_seq', (SELECT COALESCE(MAX(scheduled_class_id), 0) FROM scheduled_classes) + 50);
@@ -0,0 +1,16 @@
+-- a Classroom can host only one class per date and ClassTime, rows without a Classroom (NULL) are not affected
+
+-- existing double bookings would fail the constraint: the oldest class (lowest id) keeps the Classroom, the others
+-- lose it (NULL, like after a Classroom deletion) and have to be placed again
+UPDATE scheduled_classes
+SET classroom_id = NULL
+WHERE scheduled_class_id IN (SELECT scheduled_class_id
+                             FROM (SELECT scheduled_class_id,
+                                          row_number() OVER (PARTITION BY class_date, class_time_id, classroom_id
+                                              ORDER BY scheduled_class_id) AS booking_number
+                                   FROM scheduled_classes
+                                   WHERE classroom_id IS NOT NULL) AS bookings
+                             WHERE booking_number > 1);
+
+ALTER TABLE scheduled_classes
+    ADD CONSTRAINT scheduled_classes_classroom_slot_unique UNIQUE (class_date, class_time_id, classroom_id);
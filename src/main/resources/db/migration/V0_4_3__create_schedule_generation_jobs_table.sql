@@ -0,0 +1,16 @@
+CREATE TABLE schedule_generation_jobs
+(
+    schedule_generation_job_id INT PRIMARY KEY,
+    status                     VARCHAR(32) NOT NULL,
+    phase                      VARCHAR(32) NOT NULL,
+    start_date                 DATE        NOT NULL,
+    end_date                   DATE        NOT NULL,
+    next_chunk_date            DATE        NOT NULL,
+    generated_rows             INT         NOT NULL DEFAULT 0,
+    conflicts_found            INT         NOT NULL DEFAULT 0,
+    error_message              VARCHAR(1024),
+    created_at                 TIMESTAMP   NOT NULL,
+    updated_at                 TIMESTAMP   NOT NULL
+);
+
+CREATE SEQUENCE schedule_generation_jobs_seq START 1;
@@ -0,0 +1,31 @@
+CREATE TABLE recurring_classes
+(
+    recurring_class_id INT PRIMARY KEY,
+    course_id          INT         NOT NULL REFERENCES courses (course_id) ON DELETE CASCADE,
+    teacher_id         INT         NOT NULL REFERENCES teachers (teacher_id) ON DELETE CASCADE,
+    classroom_id       INT REFERENCES classrooms (classroom_id) ON DELETE SET NULL,
+    class_time_id      INT         NOT NULL REFERENCES class_times (class_time_id) ON DELETE CASCADE,
+    day_of_week        VARCHAR(16) NOT NULL,
+    type_id            INT REFERENCES class_types (class_type_id) ON DELETE SET NULL,
+    start_date         DATE        NOT NULL,
+    end_date           DATE        NOT NULL,
+    CHECK (start_date <= end_date)
+);
+
+CREATE INDEX recurring_classes_dates_index ON recurring_classes (start_date, end_date);
+
+CREATE TABLE recurring_classes_groups
+(
+    recurring_class_id INT REFERENCES recurring_classes (recurring_class_id) ON DELETE CASCADE,
+    group_id           INT REFERENCES groups (group_id) ON DELETE CASCADE,
+    UNIQUE (recurring_class_id, group_id)
+);
+
+CREATE TABLE recurring_classes_exception_dates
+(
+    recurring_class_id INT  NOT NULL REFERENCES recurring_classes (recurring_class_id) ON DELETE CASCADE,
+    exception_date     DATE NOT NULL,
+    UNIQUE (recurring_class_id, exception_date)
+);
+
+CREATE SEQUENCE recurring_classes_seq START 1;
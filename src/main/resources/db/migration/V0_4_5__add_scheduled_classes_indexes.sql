@@ -0,0 +1,9 @@
+-- student-week: the Group filter of findAllFiltered resolves ScheduledClass ids by group_id
+CREATE INDEX scheduled_classes_groups_group_index ON scheduled_classes_groups (group_id, scheduled_class_id);
+
+-- teacher-week: one Teacher in a date range
+CREATE INDEX scheduled_classes_teacher_date_index ON scheduled_classes (teacher_id, class_date);
+
+-- date range scans are served by the (class_date, class_time_id, teacher_id) unique index
+
+CREATE INDEX recurring_classes_groups_group_index ON recurring_classes_groups (group_id, recurring_class_id);
@@ -0,0 +1,3 @@
+-- incremented to revoke the identity tokens issued to the User (logout, token mode)
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- single row, incremented in the transaction of every schedule change, so all instances answer with the same version
+CREATE TABLE schedule_version
+(
+    version BIGINT NOT NULL
+);
+
+INSERT INTO schedule_version (version)
+VALUES (1);
@@ -0,0 +1,25 @@
+-- input of a ScheduleGenerationJob, kept so that the job can be resumed after a restart
+CREATE TABLE schedule_generation_job_items
+(
+    schedule_generation_job_item_id INT PRIMARY KEY,
+    schedule_generation_job_id      INT         NOT NULL
+        REFERENCES schedule_generation_jobs (schedule_generation_job_id) ON DELETE CASCADE,
+    course_id                       INT         NOT NULL REFERENCES courses (course_id) ON DELETE CASCADE,
+    teacher_id                      INT         NOT NULL REFERENCES teachers (teacher_id) ON DELETE CASCADE,
+    classroom_id                    INT         NOT NULL REFERENCES classrooms (classroom_id) ON DELETE CASCADE,
+    class_time_id                   INT         NOT NULL REFERENCES class_times (class_time_id) ON DELETE CASCADE,
+    day_of_week                     VARCHAR(16) NOT NULL,
+    type_id                         INT         NOT NULL REFERENCES class_types (class_type_id) ON DELETE CASCADE
+);
+
+CREATE INDEX schedule_generation_job_items_job_index ON schedule_generation_job_items (schedule_generation_job_id);
+
+CREATE TABLE schedule_generation_job_items_groups
+(
+    schedule_generation_job_item_id INT REFERENCES schedule_generation_job_items (schedule_generation_job_item_id)
+        ON DELETE CASCADE,
+    group_id                        INT REFERENCES groups (group_id) ON DELETE CASCADE,
+    UNIQUE (schedule_generation_job_item_id, group_id)
+);
+
+CREATE SEQUENCE schedule_generation_job_items_seq START 1;
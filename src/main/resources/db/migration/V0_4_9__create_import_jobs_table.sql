@@ -0,0 +1,13 @@
+CREATE TABLE import_jobs
+(
+    import_job_id INT PRIMARY KEY,
+    type          VARCHAR(32) NOT NULL,
+    filename      VARCHAR(255),
+    status        VARCHAR(32) NOT NULL,
+    report        JSONB,
+    error_message VARCHAR(1024),
+    created_at    TIMESTAMP   NOT NULL,
+    updated_at    TIMESTAMP   NOT NULL
+);
+
+CREATE SEQUENCE import_jobs_seq START 1;
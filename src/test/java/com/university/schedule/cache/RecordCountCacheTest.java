@@ -0,0 +1,151 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.RecordCount;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.ScheduleChangedEvent;
+import com.university.schedule.model.Building;
+import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.model.User;
+import com.university.schedule.repository.RecordCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class RecordCountCacheTest {
+
+    private static final long ESTIMATE_THRESHOLD = 100_000;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private RecordCountRepository recordCountRepository;
+
+    private RecordCountCache recordCountCache;
+
+    @BeforeEach
+    public void setUp() {
+        recordCountRepository = mock(RecordCountRepository.class);
+        when(recordCountRepository.estimate(anyString())).thenReturn(-1L);
+        recordCountCache = new RecordCountCache(recordCountRepository, tasks::add, ESTIMATE_THRESHOLD,
+            TimeUnit.MINUTES.toNanos(1), nanoClock::get);
+    }
+
+    private void runTasks() {
+        List<Runnable> pending = new ArrayList<>(tasks);
+        tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    @Test
+    public void get_whenMissing_countOnce() {
+        when(recordCountRepository.count("buildings")).thenReturn(12L);
+
+        assertEquals(new RecordCount(12, false), recordCountCache.get(Building.class));
+        assertEquals(new RecordCount(12, false), recordCountCache.get(Building.class));
+
+        verify(recordCountRepository).count("buildings");
+        assertTrue(tasks.isEmpty());
+        CacheStats cacheStats = recordCountCache.getStats();
+        assertEquals(1, cacheStats.hits());
+        assertEquals(1, cacheStats.misses());
+    }
+
+    @Test
+    public void get_whenEstimateReachesThreshold_returnEstimateWithoutCount() {
+        when(recordCountRepository.estimate("scheduled_classes")).thenReturn(2_500_000L);
+
+        assertEquals(new RecordCount(2_500_000, true), recordCountCache.get(ScheduledClass.class));
+
+        verify(recordCountRepository, never()).count(anyString());
+    }
+
+    @Test
+    public void get_whenExpired_serveOldTotalAndRecountInBackground() {
+        when(recordCountRepository.count("buildings")).thenReturn(12L, 13L);
+        recordCountCache.get(Building.class);
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertEquals(new RecordCount(12, false), recordCountCache.get(Building.class));
+        assertEquals(new RecordCount(12, false), recordCountCache.get(Building.class));
+        assertEquals(1, tasks.size());
+
+        runTasks();
+
+        assertEquals(new RecordCount(13, false), recordCountCache.get(Building.class));
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void onReferenceDataChanged_recountTypeAndItsSupertypes() {
+        when(recordCountRepository.count(anyString())).thenReturn(5L);
+        recordCountCache.get(User.class);
+        recordCountCache.get(Teacher.class);
+        recordCountCache.get(Building.class);
+
+        recordCountCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Teacher.class));
+        recordCountCache.get(User.class);
+        recordCountCache.get(Teacher.class);
+        recordCountCache.get(Building.class);
+        runTasks();
+
+        verify(recordCountRepository, times(2)).count("users");
+        verify(recordCountRepository, times(2)).count("teachers");
+        verify(recordCountRepository, times(1)).count("buildings");
+        assertEquals(2, recordCountCache.getStats().invalidations());
+    }
+
+    @Test
+    public void onScheduleChanged_recountScheduledClasses() {
+        when(recordCountRepository.count("scheduled_classes")).thenReturn(100L, 101L);
+        recordCountCache.get(ScheduledClass.class);
+
+        recordCountCache.onScheduleChanged(ScheduleChangedEvent.ofAll());
+        recordCountCache.get(ScheduledClass.class);
+        runTasks();
+
+        assertEquals(new RecordCount(101, false), recordCountCache.get(ScheduledClass.class));
+    }
+
+    @Test
+    public void get_whenChangedDuringCount_stayStale() {
+        when(recordCountRepository.count("buildings")).thenAnswer(invocation -> {
+            recordCountCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Building.class));
+            return 12L;
+        });
+        recordCountCache.get(Building.class);
+
+        recordCountCache.get(Building.class);
+
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void get_whenRecountIsRejected_serveOldTotal() {
+        RecordCountCache rejectingCache = new RecordCountCache(recordCountRepository, task -> {
+            throw new RejectedExecutionException();
+        }, ESTIMATE_THRESHOLD, 0, nanoClock::get);
+        when(recordCountRepository.count("buildings")).thenReturn(12L);
+        rejectingCache.get(Building.class);
+        nanoClock.incrementAndGet();
+
+        assertEquals(new RecordCount(12, false), rejectingCache.get(Building.class));
+        assertEquals(new RecordCount(12, false), rejectingCache.get(Building.class));
+    }
+
+    @Test
+    public void get_whenTypeHasNoTable_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> recordCountCache.get(String.class));
+    }
+}
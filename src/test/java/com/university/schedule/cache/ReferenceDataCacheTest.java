@@ -0,0 +1,91 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.dto.GroupDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.model.Course;
+import com.university.schedule.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class ReferenceDataCacheTest {
+
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private ClassTypeService classTypeService;
+
+    @Mock
+    private ClassTimeService classTimeService;
+
+    @Mock
+    private ClassroomService classroomService;
+
+    @Mock
+    private CourseService courseService;
+
+    @BeforeEach
+    public void setUp() {
+        referenceDataCache =
+            new ReferenceDataCache(teacherService, groupService, classTypeService, classTimeService, classroomService,
+                courseService);
+    }
+
+    @Test
+    public void getCourseDTOS_whenReadTwice_loadOnce() {
+        List<CourseDTO> courseDTOS = List.of(new CourseDTO(1L, "courseName"));
+        when(courseService.findAllAsDTO()).thenReturn(courseDTOS);
+
+        assertEquals(courseDTOS, referenceDataCache.getCourseDTOS());
+        assertEquals(courseDTOS, referenceDataCache.getCourseDTOS());
+
+        verify(courseService, times(1)).findAllAsDTO();
+        verify(groupService, times(1)).findAllAsDTO();
+        CacheStats cacheStats = referenceDataCache.getStats();
+        assertEquals(1, cacheStats.hits());
+        assertEquals(1, cacheStats.misses());
+        assertEquals(1, cacheStats.size());
+    }
+
+    @Test
+    public void onReferenceDataChanged_rebuildSnapshotOnNextRead() {
+        List<GroupDTO> groupDTOS = List.of(GroupDTO.builder().id(1L).name("groupName").build());
+        List<GroupDTO> updatedGroupDTOS = List.of(GroupDTO.builder().id(1L).name("updatedGroupName").build());
+        when(groupService.findAllAsDTO()).thenReturn(groupDTOS, updatedGroupDTOS);
+        long version = referenceDataCache.getSnapshot().version();
+
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Course.class));
+
+        assertEquals(0, referenceDataCache.getStats().size());
+        ReferenceDataSnapshot snapshot = referenceDataCache.getSnapshot();
+        assertEquals(version + 1, snapshot.version());
+        assertEquals(updatedGroupDTOS, snapshot.groupDTOS());
+        verify(groupService, times(2)).findAllAsDTO();
+        assertEquals(1, referenceDataCache.getStats().invalidations());
+    }
+
+    @Test
+    public void getSnapshot_returnUnmodifiableLists() {
+        when(courseService.findAllAsDTO()).thenReturn(new ArrayList<>(List.of(new CourseDTO())));
+
+        assertThrows(UnsupportedOperationException.class,
+            () -> referenceDataCache.getCourseDTOS().add(new CourseDTO()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.RoleAuthorities;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.model.Authority;
+import com.university.schedule.model.Building;
+import com.university.schedule.model.Role;
+import com.university.schedule.service.AuthorityService;
+import com.university.schedule.service.RoleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class RoleAuthoritiesCacheTest {
+
+    private RoleAuthoritiesCache roleAuthoritiesCache;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private AuthorityService authorityService;
+
+    private final Role role = new Role(1L, "Teacher");
+
+    @BeforeEach
+    public void setUp() {
+        roleAuthoritiesCache = new RoleAuthoritiesCache(roleService, authorityService);
+        when(roleService.findById(1L)).thenReturn(role);
+        when(authorityService.findByRole(role)).thenReturn(List.of(new Authority("VIEW_SCHEDULE")));
+    }
+
+    @Test
+    public void get_whenReadTwice_loadOnce() {
+        RoleAuthorities expected = new RoleAuthorities("Teacher",
+            List.of(new SimpleGrantedAuthority("VIEW_SCHEDULE"), new SimpleGrantedAuthority("ROLE_TEACHER")));
+
+        assertEquals(expected, roleAuthoritiesCache.get(1L));
+        assertEquals(expected, roleAuthoritiesCache.get(1L));
+
+        verify(roleService, times(1)).findById(1L);
+        verify(authorityService, times(1)).findByRole(role);
+        assertEquals(1, roleAuthoritiesCache.getStats().hits());
+    }
+
+    @Test
+    public void onReferenceDataChanged_whenRoleOrAuthorityChanged_reload() {
+        roleAuthoritiesCache.get(1L);
+
+        roleAuthoritiesCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Authority.class));
+        roleAuthoritiesCache.get(1L);
+        roleAuthoritiesCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Role.class));
+        roleAuthoritiesCache.get(1L);
+
+        verify(roleService, times(3)).findById(1L);
+        assertEquals(2, roleAuthoritiesCache.getStats().invalidations());
+    }
+
+    @Test
+    public void onReferenceDataChanged_whenOtherTypeChanged_keepEntries() {
+        roleAuthoritiesCache.get(1L);
+
+        roleAuthoritiesCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Building.class));
+        roleAuthoritiesCache.get(1L);
+
+        verify(roleService, times(1)).findById(1L);
+    }
+
+    @Test
+    public void get_whenChangedDuringLoad_notCache() {
+        when(authorityService.findByRole(role)).thenAnswer(invocation -> {
+            roleAuthoritiesCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Role.class));
+            return List.of();
+        });
+
+        roleAuthoritiesCache.get(1L);
+        roleAuthoritiesCache.get(1L);
+
+        verify(roleService, times(2)).findById(1L);
+    }
+
+    @Test
+    public void get_whenRoleNotFound_throwServiceException() {
+        when(roleService.findById(2L)).thenThrow(new ServiceException("Role not found"));
+
+        assertThrows(ServiceException.class, () -> roleAuthoritiesCache.get(2L));
+        assertEquals(0, roleAuthoritiesCache.getStats().size());
+    }
+
+    @Test
+    public void get_whenRoleIdIsNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> roleAuthoritiesCache.get(null));
+    }
+}
@@ -0,0 +1,187 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.CacheStats;
+import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.event.ScheduleChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleWeekCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2023, 1, 2);
+
+    private static final LocalDate SUNDAY = LocalDate.of(2023, 1, 8);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ScheduleWeekCache scheduleWeekCache;
+
+    @BeforeEach
+    public void setUp() {
+        scheduleWeekCache = new ScheduleWeekCache(2, TimeUnit.MINUTES.toNanos(5), 100, nanoClock::get);
+    }
+
+    private static ScheduleFilterItem groupWeek(long groupId) {
+        return ScheduleFilterItem.builder().groupIdList(List.of(groupId)).startDate(MONDAY).endDate(SUNDAY).build();
+    }
+
+    private static ScheduleFilterItem teacherWeek(long teacherId) {
+        return ScheduleFilterItem.builder().teacherId(teacherId).startDate(MONDAY).endDate(SUNDAY).build();
+    }
+
+    private List<ScheduledClassDTO> load() {
+        loads.incrementAndGet();
+        return List.of(new ScheduledClassDTO());
+    }
+
+    @Test
+    public void get_whenCached_loadOnce() {
+        List<ScheduledClassDTO> first = scheduleWeekCache.get(groupWeek(1L), this::load);
+        List<ScheduledClassDTO> second = scheduleWeekCache.get(groupWeek(1L), this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        CacheStats cacheStats = scheduleWeekCache.getStats();
+        assertEquals(1, cacheStats.hits());
+        assertEquals(1, cacheStats.misses());
+        assertEquals(0.5, cacheStats.getHitRate());
+    }
+
+    @Test
+    public void get_whenTtlExpired_reload() {
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(5) + 1);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, scheduleWeekCache.getStats().evictions());
+    }
+
+    @Test
+    public void get_whenMaxSizeExceeded_evictLeastRecentlyUsed() {
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(groupWeek(2L), this::load);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(groupWeek(3L), this::load);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(2, scheduleWeekCache.getStats().size());
+        assertEquals(1, scheduleWeekCache.getStats().evictions());
+        scheduleWeekCache.get(groupWeek(2L), this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void get_whenLoaderThrowsException_doNotCache() {
+        assertThrows(IllegalStateException.class, () -> scheduleWeekCache.get(groupWeek(1L), () -> {
+            throw new IllegalStateException();
+        }));
+
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_whenConcurrentMisses_loadOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<ScheduledClassDTO>> first =
+                executorService.submit(() -> scheduleWeekCache.get(groupWeek(1L), () -> {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load();
+                }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<List<ScheduledClassDTO>> second =
+                executorService.submit(() -> scheduleWeekCache.get(groupWeek(1L), this::load));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void onScheduleChanged_invalidateOnlyAffectedViews() {
+        scheduleWeekCache = new ScheduleWeekCache(10, TimeUnit.MINUTES.toNanos(5), 100, nanoClock::get);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(groupWeek(2L), this::load);
+        scheduleWeekCache.get(teacherWeek(7L), this::load);
+        scheduleWeekCache.get(teacherWeek(8L), this::load);
+
+        scheduleWeekCache.onScheduleChanged(new ScheduleChangedEvent(
+            List.of(new ScheduleChangedEvent.Change(MONDAY.plusDays(2), MONDAY.plusDays(2), 7L, Set.of(1L)),
+                new ScheduleChangedEvent.Change(SUNDAY.plusDays(1), SUNDAY.plusDays(1), 8L, Set.of(2L)))));
+
+        assertEquals(2, scheduleWeekCache.getStats().invalidations());
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(groupWeek(2L), this::load);
+        scheduleWeekCache.get(teacherWeek(7L), this::load);
+        scheduleWeekCache.get(teacherWeek(8L), this::load);
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    public void onScheduleChanged_whenPreviousStateIsUnknown_invalidateAll() {
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(teacherWeek(7L), this::load);
+
+        scheduleWeekCache.onScheduleChanged(ScheduleChangedEvent.ofAll());
+
+        assertEquals(0, scheduleWeekCache.getStats().size());
+        assertEquals(2, scheduleWeekCache.getStats().invalidations());
+    }
+
+    @Test
+    public void onScheduleChanged_whenManyChangesOfOneTeacher_invalidateItsViewsOnly() {
+        scheduleWeekCache = new ScheduleWeekCache(10, TimeUnit.MINUTES.toNanos(5), 100, nanoClock::get);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(teacherWeek(7L), this::load);
+        scheduleWeekCache.get(teacherWeek(8L), this::load);
+
+        List<ScheduleChangedEvent.Change> changes = new ArrayList<>();
+        for (int week = 0; week < 1000; week++) {
+            changes.add(new ScheduleChangedEvent.Change(MONDAY.plusWeeks(week), MONDAY.plusWeeks(week), 7L,
+                Set.of(2L)));
+        }
+        scheduleWeekCache.onScheduleChanged(new ScheduleChangedEvent(changes));
+
+        assertEquals(2, scheduleWeekCache.getStats().size());
+        assertEquals(1, scheduleWeekCache.getStats().invalidations());
+    }
+
+    @Test
+    public void onScheduleChanged_whenMoreTeachersAndGroupsThanThreshold_invalidateAll() {
+        scheduleWeekCache = new ScheduleWeekCache(10, TimeUnit.MINUTES.toNanos(5), 3, nanoClock::get);
+        scheduleWeekCache.get(groupWeek(1L), this::load);
+        scheduleWeekCache.get(teacherWeek(7L), this::load);
+
+        scheduleWeekCache.onScheduleChanged(new ScheduleChangedEvent(
+            List.of(new ScheduleChangedEvent.Change(SUNDAY.plusDays(1), SUNDAY.plusDays(1), 8L, Set.of(2L)),
+                new ScheduleChangedEvent.Change(SUNDAY.plusDays(1), SUNDAY.plusDays(1), 9L, Set.of(3L)))));
+
+        assertEquals(0, scheduleWeekCache.getStats().size());
+    }
+}
@@ -0,0 +1,134 @@
+package com.university.schedule.cache;
+
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
+import com.university.schedule.model.Building;
+import com.university.schedule.model.Group;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserIdentityCacheTest {
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private final UserIdentityCache userIdentityCache =
+        new UserIdentityCache(2, TimeUnit.MINUTES.toNanos(5), nanoClock::get);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static UserIdentity studentIdentity(Long userId, String email) {
+        return new UserIdentity(userId, email, UserIdentity.Kind.STUDENT, "Student", List.of(), null, 1L, true, 0);
+    }
+
+    private Supplier<UserIdentity> loader(Long userId, String email) {
+        return () -> {
+            loads.incrementAndGet();
+            return studentIdentity(userId, email);
+        };
+    }
+
+    @Test
+    public void get_whenReadTwice_loadOnce() {
+        assertEquals(studentIdentity(1L, "a@example.com"), userIdentityCache.get("a@example.com",
+            loader(1L, "a@example.com")));
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, userIdentityCache.getStats().hits());
+    }
+
+    @Test
+    public void get_whenExpired_reload() {
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_whenFull_evictLeastRecentlyUsed() {
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.get("b@example.com", loader(2L, "b@example.com"));
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.get("c@example.com", loader(3L, "c@example.com"));
+
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.get("b@example.com", loader(2L, "b@example.com"));
+
+        assertEquals(4, loads.get());
+        assertTrue(userIdentityCache.getStats().evictions() >= 1);
+    }
+
+    @Test
+    public void onUserChanged_evictOnlyThatUser() {
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.get("b@example.com", loader(2L, "b@example.com"));
+
+        userIdentityCache.onUserChanged(new UserChangedEvent(1L));
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.get("b@example.com", loader(2L, "b@example.com"));
+
+        assertEquals(3, loads.get());
+        assertEquals(1, userIdentityCache.getStats().invalidations());
+    }
+
+    @Test
+    public void onUserChanged_whenEmailChanged_evictByUserId() {
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+
+        userIdentityCache.onUserChanged(new UserChangedEvent(1L));
+        userIdentityCache.get("new@example.com", loader(1L, "new@example.com"));
+        userIdentityCache.onUserChanged(new UserChangedEvent(1L));
+        userIdentityCache.get("new@example.com", loader(1L, "new@example.com"));
+
+        assertEquals(3, loads.get());
+        assertEquals(2, userIdentityCache.getStats().invalidations());
+    }
+
+    @Test
+    public void get_whenFull_trimToMaxSize() {
+        UserIdentityCache largeCache = new UserIdentityCache(100, TimeUnit.MINUTES.toNanos(5), nanoClock::get);
+        for (long userId = 0; userId < 1_000; userId++) {
+            largeCache.get(userId + "@example.com", loader(userId, userId + "@example.com"));
+        }
+
+        assertTrue(largeCache.getStats().size() <= 100);
+        assertEquals(1_000 - largeCache.getStats().size(), largeCache.getStats().evictions());
+    }
+
+    @Test
+    public void onReferenceDataChanged_whenGroupChanged_evictAll() {
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        userIdentityCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Building.class));
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+        assertEquals(1, loads.get());
+
+        userIdentityCache.onReferenceDataChanged(new ReferenceDataChangedEvent(Group.class));
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_whenUserChangedDuringLoad_notCache() {
+        userIdentityCache.get("a@example.com", () -> {
+            userIdentityCache.onUserChanged(new UserChangedEvent(1L));
+            return studentIdentity(1L, "a@example.com");
+        });
+
+        userIdentityCache.get("a@example.com", loader(1L, "a@example.com"));
+
+        assertEquals(1, loads.get());
+        assertEquals(0, userIdentityCache.getStats().hits());
+    }
+}
@@ -1,10 +1,14 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.BuildingDTO;
+import com.university.schedule.dto.RecordCount;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.Building;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.BuildingService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -13,6 +17,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,7 +26,10 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -41,6 +50,8 @@ public class BuildingRecordsControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private BuildingService buildingService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
@@ -78,6 +89,45 @@ public class BuildingRecordsControllerTest {
             argThat(pageable -> pageable.getOffset() == offset && pageable.getPageSize() == limit));
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
+    public void getAll_addCachedTotalCount() throws Exception {
+        List<BuildingDTO> buildingList = List.of(new BuildingDTO(1L, "Building A", "Address A"));
+        RecordCount recordCount = new RecordCount(250_000, true);
+
+        when(buildingService.findAllAsDTO(any())).thenReturn(buildingList);
+        when(recordCountCache.get(Building.class)).thenReturn(recordCount);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/buildings?limit=1")).andExpect(status().is2xxSuccessful())
+            .andExpect(model().attribute("totalCount", recordCount))
+            .andExpect(content().string(containsString("~250000 records")))
+            .andExpect(content().string(containsString("offset=1")));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
+    public void getAll_whenAfterArgIsEmpty_scrollFirstPage() throws Exception {
+        List<BuildingDTO> buildingList = List.of(new BuildingDTO(1L, "Building A", "Address A"));
+
+        when(buildingService.scrollAsDTO(any())).thenReturn(
+            Window.from(buildingList, index -> ScrollPosition.forward(Map.of("id", 1L)), false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/buildings?after=")).andExpect(status().is2xxSuccessful())
+            .andExpect(view().name("buildings")).andExpect(model().attribute("entities", buildingList))
+            .andExpect(model().attribute("nextCursor", nullValue()));
+
+        verify(buildingService).scrollAsDTO(argThat(KeysetPageRequest::isFirst));
+        verify(buildingService, never()).findAllAsDTO(any());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
+    public void getAll_whenAfterArgIsMalformed_returnErrorView() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/buildings?after=malformed")).andExpect(view().name("error"));
+
+        verifyNoInteractions(buildingService);
+    }
+
     @Test
     @WithMockUser(username = USERNAME, authorities = EDIT_AUTHORITY)
     public void delete_happyPath() throws Exception {
@@ -0,0 +1,94 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.dto.ImportRowError;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.service.ImportJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = BulkImportController.class)
+@Import(WebTestConfig.class)
+@ActiveProfiles(value = "test")
+public class BulkImportControllerTest {
+
+    public static final String USERNAME = "testUsername";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+    public static final String ROLE_TEACHER = "ROLE_TEACHER";
+    @Autowired
+    MockMvc mockMvc;
+    @MockBean
+    ImportJobService importJobService;
+
+    private final MockMultipartFile file =
+        new MockMultipartFile("file", "students.csv", "text/csv", "email\na@example.com\n".getBytes());
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void importFile_happyPath() throws Exception {
+        when(importJobService.submit(eq(ImportType.USERS), eq("students.csv"), any())).thenReturn(3L);
+
+        mockMvc.perform(multipart("/admin/import/users").file(file)).andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/admin/import/jobs/3"))
+            .andExpect(jsonPath("$.id").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void getJobById_whenJobIsCompleted_returnReport() throws Exception {
+        when(importJobService.findByIdAsDTO(3L)).thenReturn(ImportJobDTO.builder().id(3L).status("COMPLETED").report(
+            new ImportReport("users", 1, 0, 1, List.of(new ImportRowError(1, List.of("invalid"))), false, 5)).build());
+
+        mockMvc.perform(get("/admin/import/jobs/3")).andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED")).andExpect(jsonPath("$.report.failed").value(1))
+            .andExpect(jsonPath("$.report.errors[0].row").value(1))
+            .andExpect(jsonPath("$.report.errors[0].violations[0]").value("invalid"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void getJobById_whenJobIsMissing_returnNotFound() throws Exception {
+        when(importJobService.findByIdAsDTO(3L)).thenThrow(new JobNotFoundException("ImportJob not found"));
+
+        mockMvc.perform(get("/admin/import/jobs/3")).andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("ImportJob not found"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void importFile_whenTypeIsUnknown_returnBadRequest() throws Exception {
+        mockMvc.perform(multipart("/admin/import/buildings").file(file)).andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Unknown import type = buildings"));
+
+        verifyNoInteractions(importJobService);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_TEACHER)
+    public void importFile_whenAccessDenied_processError() throws Exception {
+        mockMvc.perform(multipart("/admin/import/users").file(file))
+            .andExpect(model().attributeExists("exceptionMessage"));
+
+        verifyNoInteractions(importJobService);
+    }
+}
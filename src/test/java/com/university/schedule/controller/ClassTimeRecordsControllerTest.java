@@ -1,5 +1,6 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.ClassTimeDTO;
 import com.university.schedule.exception.DeletionFailedException;
@@ -42,6 +43,8 @@ public class ClassTimeRecordsControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private ClassTimeService classTimeService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
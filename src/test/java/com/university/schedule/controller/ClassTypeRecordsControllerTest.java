@@ -1,5 +1,6 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.ClassTypeDTO;
 import com.university.schedule.exception.DeletionFailedException;
@@ -41,6 +42,8 @@ public class ClassTypeRecordsControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private ClassTypeService classTypeService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
@@ -1,5 +1,6 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.BuildingDTO;
 import com.university.schedule.dto.ClassroomDTO;
@@ -47,6 +48,8 @@ public class ClassroomRecordsControllerTest {
 
     @MockBean
     private BuildingService buildingService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
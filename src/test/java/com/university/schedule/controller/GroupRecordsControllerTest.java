@@ -1,12 +1,13 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.DisciplineDTO;
 import com.university.schedule.dto.GroupDTO;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
-import com.university.schedule.service.CourseService;
 import com.university.schedule.service.DisciplineService;
 import com.university.schedule.service.GroupService;
 import org.junit.jupiter.api.Test;
@@ -50,7 +51,9 @@ public class GroupRecordsControllerTest {
     private DisciplineService disciplineService;
 
     @MockBean
-    private CourseService courseService;
+    private ReferenceDataCache referenceDataCache;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
@@ -143,7 +146,7 @@ public class GroupRecordsControllerTest {
 
         verify(groupService, times(1)).findByIdAsDTO(groupId);
         verify(disciplineService, times(1)).findAllAsDTO();
-        verify(courseService, times(1)).findAllAsDTO();
+        verify(referenceDataCache, times(1)).getCourseDTOS();
     }
 
 
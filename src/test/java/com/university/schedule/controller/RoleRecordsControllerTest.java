@@ -1,5 +1,6 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.exception.DeletionFailedException;
@@ -47,6 +48,8 @@ public class RoleRecordsControllerTest {
 
     @MockBean
     private AuthorityService authorityService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
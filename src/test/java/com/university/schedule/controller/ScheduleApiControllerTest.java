@@ -0,0 +1,147 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.cache.ScheduleVersion;
+import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.dto.*;
+import com.university.schedule.service.ScheduleFilterItemService;
+import com.university.schedule.service.ScheduledClassService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ScheduleApiController.class)
+@Import(WebTestConfig.class)
+@ActiveProfiles("test")
+public class ScheduleApiControllerTest {
+
+    private static final String USERNAME = "testUsername";
+    private static final String VIEW_SCHEDULE = "VIEW_SCHEDULE";
+    private static final LocalDate START_DATE = LocalDate.of(2023, 9, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2023, 12, 31);
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private ScheduledClassService scheduledClassService;
+    @MockBean
+    private ScheduleFilterItemService scheduleFilterItemService;
+    @MockBean
+    private ScheduleVersion scheduleVersion;
+
+    private static ScheduledClassDTO scheduledClass(long id, LocalDate date) {
+        return new ScheduledClassDTO(id, new CourseDTO(1L, "Course A"), new TeacherDTO(),
+            new ClassroomDTO(1L, "Classroom A", new BuildingDTO(1L, "Building A", "Address A")),
+            new ClassTimeDTO(1L, 1, LocalTime.of(9, 0), 90), date, new ClassTypeDTO(1L, "Lecture"),
+            List.of(GroupDTO.builder().id(1L).name("Group A").build()));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            ScheduleFilterItem scheduleFilterItem = invocation.getArgument(0);
+            scheduleFilterItem.setGroupIdList(List.of(1L));
+            return null;
+        }).when(scheduleFilterItemService).processRawItem(any());
+        when(scheduledClassService.streamAsDTOByScheduleFilterItem(any(), any())).thenAnswer(invocation -> {
+            Consumer<ScheduledClassDTO> consumer = invocation.getArgument(1);
+            consumer.accept(scheduledClass(1L, START_DATE));
+            consumer.accept(scheduledClass(2L, END_DATE));
+            return 2;
+        });
+        when(scheduleVersion.get()).thenReturn(7L);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_SCHEDULE)
+    public void getSchedule_streamClassesWithETag() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+                get("/api/schedule").param("startDate", START_DATE.toString()).param("endDate", END_DATE.toString()))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.version").value(7)).andExpect(jsonPath("$.startDate").value("2023-09-01"))
+            .andExpect(jsonPath("$.classes.length()").value(2)).andExpect(jsonPath("$.classes[1].id").value(2))
+            .andExpect(jsonPath("$.classes[1].date").value("2023-12-31")).andExpect(jsonPath("$.count").value(2));
+
+        verify(scheduleFilterItemService).processRawItem(
+            ScheduleFilterItem.builder().email(USERNAME).groupIdList(List.of(1L)).startDate(START_DATE)
+                .endDate(END_DATE).build());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_SCHEDULE)
+    public void getSchedule_whenETagMatches_returnNotModified() throws Exception {
+        String eTag = getETag();
+        clearInvocations(scheduledClassService);
+
+        mockMvc.perform(get("/api/schedule").param("startDate", START_DATE.toString())
+                .param("endDate", END_DATE.toString()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified()).andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(scheduledClassService, never()).streamAsDTOByScheduleFilterItem(any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_SCHEDULE)
+    public void getSchedule_whenVersionChanged_changeETag() throws Exception {
+        String eTag = getETag();
+        when(scheduleVersion.get()).thenReturn(8L);
+
+        assertNotEquals(eTag, getETag());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_SCHEDULE)
+    public void getSchedule_whenGroupOrderDiffers_keepETag() throws Exception {
+        doNothing().when(scheduleFilterItemService).processRawItem(any());
+
+        assertEquals(getETag("1,2"), getETag("2,1"));
+        assertNotEquals(getETag("1,2"), getETag("1,3"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = "VIEW_CLASSES")
+    public void getSchedule_whenNoAuthority_returnErrorView() throws Exception {
+        mockMvc.perform(get("/api/schedule")).andExpect(view().name("error"));
+
+        verifyNoInteractions(scheduledClassService);
+    }
+
+    private String getETag() throws Exception {
+        return getETag(null);
+    }
+
+    private String getETag(String groupIdList) throws Exception {
+        MockHttpServletRequestBuilder requestBuilder =
+            get("/api/schedule").param("startDate", START_DATE.toString()).param("endDate", END_DATE.toString());
+        if (groupIdList != null) {
+            requestBuilder.param("groupIdList", groupIdList);
+        }
+        MvcResult mvcResult = mockMvc.perform(requestBuilder).andReturn();
+        // waits until the response is streamed
+        mvcResult.getAsyncResult();
+        return mvcResult.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,92 @@
+package com.university.schedule.controller;
+
+import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.service.ScheduleGenerationJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = ScheduleGenerationJobController.class)
+@Import(WebTestConfig.class)
+@ActiveProfiles(value = "test")
+public class ScheduleGenerationJobControllerTest {
+
+    public static final String USERNAME = "testUsername";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+    public static final String ROLE_TEACHER = "ROLE_TEACHER";
+    @Autowired
+    MockMvc mockMvc;
+    @MockBean
+    ScheduleGenerationJobService scheduleGenerationJobService;
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void getAll_happyPath() throws Exception {
+        when(scheduleGenerationJobService.findAllAsDTO()).thenReturn(
+            List.of(ScheduleGenerationJobDTO.builder().id(1L).status("RUNNING").generatedRows(40).build()));
+
+        mockMvc.perform(get("/admin/generation/jobs")).andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1)).andExpect(jsonPath("$[0].status").value("RUNNING"))
+            .andExpect(jsonPath("$[0].generatedRows").value(40));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void getById_happyPath() throws Exception {
+        when(scheduleGenerationJobService.findByIdAsDTO(1L)).thenReturn(
+            ScheduleGenerationJobDTO.builder().id(1L).status("COMPLETED").phase("DONE").build());
+
+        mockMvc.perform(get("/admin/generation/jobs/1")).andExpect(status().isOk())
+            .andExpect(jsonPath("$.phase").value("DONE"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void getById_whenJobIsMissing_returnNotFound() throws Exception {
+        when(scheduleGenerationJobService.findByIdAsDTO(1L)).thenThrow(
+            new JobNotFoundException("ScheduleGenerationJob not found"));
+
+        mockMvc.perform(get("/admin/generation/jobs/1")).andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("ScheduleGenerationJob not found"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void cancel_happyPath() throws Exception {
+        mockMvc.perform(post("/admin/generation/jobs/1/cancel")).andExpect(status().isAccepted());
+
+        verify(scheduleGenerationJobService).cancel(1L);
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_ADMIN)
+    public void resume_whenServiceThrowsServiceException_returnBadRequest() throws Exception {
+        doThrow(new ServiceException("can`t be resumed")).when(scheduleGenerationJobService).resume(1L);
+
+        mockMvc.perform(post("/admin/generation/jobs/1/resume")).andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("can`t be resumed"));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, authorities = ROLE_TEACHER)
+    public void getAll_whenAccessDenied_processError() throws Exception {
+        mockMvc.perform(get("/admin/generation/jobs")).andExpect(model().attributeExists("exceptionMessage"));
+
+        verifyNoInteractions(scheduleGenerationJobService);
+    }
+}
@@ -1,12 +1,15 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.*;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
-import com.university.schedule.service.*;
+import com.university.schedule.service.ScheduledClassService;
 import com.university.schedule.utility.DateUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -28,12 +31,14 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
+@Slf4j
 @WebMvcTest(ScheduledClassRecordsController.class)
 @Import(WebTestConfig.class)
 @ActiveProfiles("test")
@@ -47,19 +52,11 @@ public class ScheduledClassRecordsControllerTest {
     @Autowired
     private MockMvc mockMvc;
     @MockBean
-    private ClassroomService classroomService;
-    @MockBean
-    private ClassTimeService classTimeService;
-    @MockBean
     private ScheduledClassService scheduledClassService;
     @MockBean
-    private CourseService courseService;
-    @MockBean
-    private TeacherService teacherService;
-    @MockBean
-    private ClassTypeService classTypeService;
+    private ReferenceDataCache referenceDataCache;
     @MockBean
-    private GroupService groupService;
+    private RecordCountCache recordCountCache;
 
     @Mock
     private DateUtils dateUtils;
@@ -296,7 +293,8 @@ public class ScheduledClassRecordsControllerTest {
                 .thenReturn(List.of(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 2)));
 
             mockMvc.perform(MockMvcRequestBuilders.get("/schedule", scheduledClassId))
-                .andExpect(model().attribute("scheduledClassDTOS", scheduledClassDTOS))
+                .andExpect(model().attributeExists("scheduleGrid"))
+                .andExpect(model().attributeDoesNotExist("scheduledClassDTOS"))
                 .andExpect(status().is2xxSuccessful()).andExpect(view().name("schedule"));
 
         }
@@ -318,7 +316,8 @@ public class ScheduledClassRecordsControllerTest {
 
         mockMvc.perform(MockMvcRequestBuilders.post("/schedule", scheduledClassId)
                 .flashAttr("scheduleFilterItem", scheduleFilterItem)).andExpect(status().is2xxSuccessful())
-            .andExpect(view().name("schedule")).andExpect(model().attribute("scheduledClassDTOS", scheduledClassDTOS))
+            .andExpect(view().name("schedule")).andExpect(model().attributeExists("scheduleGrid"))
+            .andExpect(model().attributeDoesNotExist("scheduledClassDTOS"))
             .andExpect(model().attribute("filtered", true));
 
         verify(scheduledClassService, times(1)).findAllAsDTOByScheduleFilterItem(scheduleFilterItem);
@@ -351,4 +350,43 @@ public class ScheduledClassRecordsControllerTest {
             .andExpect(model().attribute("exceptionMessage", exceptionMessage));
     }
 
+    /**
+     * Renders the schedule page of a 30 day range with 2,000 classes and logs the time of one request.
+     */
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_SCHEDULE)
+    public void getScheduleFiltered_whenMonthOfClasses_renderGrid() throws Exception {
+        LocalDate startDate = LocalDate.of(2023, 10, 1);
+        List<ClassTimeDTO> classTimeDTOS = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            classTimeDTOS.add(new ClassTimeDTO((long) i, i, LocalTime.of(7 + i, 0), 90));
+        }
+        List<ScheduledClassDTO> scheduledClassDTOS = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            scheduledClassDTOS.add(new ScheduledClassDTO((long) i, new CourseDTO(1L, "Course A"),
+                new TeacherDTO(1L, "teacher@example.com", "John", "Doe", new RoleDTO(), true, new ArrayList<>()),
+                new ClassroomDTO(1L, "Classroom A", new BuildingDTO(1L, "Building A", "Address A")),
+                classTimeDTOS.get(i % 6), startDate.plusDays(i % 30), new ClassTypeDTO(1L, "Lecture"),
+                List.of(GroupDTO.builder().id(1L).name("Group A").build())));
+        }
+        when(scheduledClassService.findAllAsDTOByScheduleFilterItem(any())).thenReturn(scheduledClassDTOS);
+        when(referenceDataCache.getClassTimeDTOS()).thenReturn(classTimeDTOS);
+
+        for (int i = 0; i < 5; i++) {
+            postSchedule(startDate);
+        }
+        long startNanos = System.nanoTime();
+        String content = postSchedule(startDate);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        log.info("Schedule page of 30 days and 2000 classes rendered in {} ms", elapsedMillis);
+        assertEquals(2_000, content.split("Classroom A, Building A", -1).length - 1);
+    }
+
+    private String postSchedule(LocalDate startDate) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post("/schedule").with(csrf())
+                .param("startDate", startDate.toString()).param("endDate", startDate.plusDays(29).toString()))
+            .andExpect(status().isOk()).andExpect(view().name("schedule"))
+            .andExpect(model().attributeExists("scheduleGrid")).andReturn().getResponse().getContentAsString();
+    }
 }
@@ -1,13 +1,14 @@
 package com.university.schedule.controller;
 
 import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.GroupDTO;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.StudentDTO;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
-import com.university.schedule.service.GroupService;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.service.StudentService;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,7 +27,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -44,7 +49,7 @@ public class StudentRecordsControllerTest {
     @MockBean
     private StudentService studentService;
     @MockBean
-    private GroupService groupService;
+    private ReferenceDataCache referenceDataCache;
     @MockBean
     private RoleService roleService;
 
@@ -88,6 +93,30 @@ public class StudentRecordsControllerTest {
         verify(studentService, times(1)).findAllAsDTO(assertArg(passedString -> passedString.equals(USERNAME)), any());
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
+    public void getAll_whenAfterArg_scrollByKeyset() throws Exception {
+        List<StudentDTO> studentDTOList = new ArrayList<>();
+        studentDTOList.add(
+            new StudentDTO(1L, "student1@example.com", "John", "Doe", new RoleDTO(), true, new GroupDTO()));
+        String after = KeysetPageRequest.encodeCursor(ScrollPosition.forward(Map.of("lastName", "Adams", "id", 9L)));
+        ScrollPosition nextPosition = ScrollPosition.forward(Map.of("lastName", "Doe", "id", 1L));
+
+        when(studentService.scrollAsDTO(anyString(), any())).thenReturn(
+            Window.from(studentDTOList, index -> nextPosition, true));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/students").param("limit", "1").param("sort", "lastName,asc")
+                .param("after", after)).andExpect(status().is2xxSuccessful()).andExpect(view().name("students"))
+            .andExpect(model().attribute("entities", studentDTOList))
+            .andExpect(model().attribute("nextCursor", KeysetPageRequest.encodeCursor(nextPosition)));
+
+        verify(studentService).scrollAsDTO(eq(USERNAME), assertArg(keysetPageRequest -> {
+            assertEquals(1, keysetPageRequest.getLimit());
+            assertEquals(Map.of("lastName", "Adams", "id", 9L), keysetPageRequest.getScrollPosition().getKeys());
+        }));
+        verify(studentService, never()).findAllAsDTO(anyString(), any());
+    }
+
 
     @Test
     @WithMockUser(username = USERNAME, authorities = EDIT_AUTHORITY)
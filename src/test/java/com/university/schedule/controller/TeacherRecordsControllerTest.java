@@ -1,12 +1,13 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
+import com.university.schedule.cache.ReferenceDataCache;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.TeacherDTO;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
-import com.university.schedule.service.CourseService;
 import com.university.schedule.service.RoleService;
 import com.university.schedule.service.TeacherService;
 import org.junit.jupiter.api.Test;
@@ -46,7 +47,9 @@ public class TeacherRecordsControllerTest {
     private RoleService roleService;
 
     @MockBean
-    private CourseService courseService;
+    private ReferenceDataCache referenceDataCache;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
@@ -1,5 +1,6 @@
 package com.university.schedule.controller;
 
+import com.university.schedule.cache.RecordCountCache;
 import com.university.schedule.config.WebTestConfig;
 import com.university.schedule.dto.RoleDTO;
 import com.university.schedule.dto.UserDTO;
@@ -44,6 +45,8 @@ public class UserRecordsControllerTest {
 
     @MockBean
     private RoleService roleService;
+    @MockBean
+    private RecordCountCache recordCountCache;
 
     @Test
     @WithMockUser(username = USERNAME, authorities = VIEW_AUTHORITY)
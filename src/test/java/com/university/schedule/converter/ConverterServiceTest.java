@@ -0,0 +1,109 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.dto.UserDTO;
+import com.university.schedule.model.Course;
+import com.university.schedule.model.Teacher;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.springframework.core.convert.support.GenericConversionService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class ConverterServiceTest {
+
+    private static final int CONVERSIONS = 100_000;
+
+    private ConverterService converterService;
+
+    @BeforeEach
+    public void setUp() {
+        converterService = new ConverterService();
+        converterService.addConverter(new CourseEntityToCourseDTOConverter());
+        converterService.addConverter(new UserEntityToUserDTOConverter());
+    }
+
+    @Test
+    public void convert_success() {
+        assertEquals(new CourseDTO(1L, "courseName"), converterService.convert(new Course(1L, "courseName"),
+            CourseDTO.class));
+    }
+
+    @Test
+    public void convert_whenSourceIsSubclass_useSuperclassConverter() {
+        Teacher teacher = new Teacher("teacherEmail", "password", "firstName", "lastName");
+
+        UserDTO userDTO = converterService.convert(teacher, UserDTO.class);
+
+        assertNotNull(userDTO);
+        assertEquals("teacherEmail", userDTO.getEmail());
+    }
+
+    @Test
+    public void convert_whenSourceIsNull_returnNull() {
+        assertNull(converterService.convert(null, CourseDTO.class));
+    }
+
+    @Test
+    public void convertAll_success() {
+        List<CourseDTO> courseDTOS =
+            converterService.convertAll(Arrays.asList(new Course(1L, "courseName"), null, new Course(2L, "other")),
+                CourseDTO.class);
+
+        assertEquals(Arrays.asList(new CourseDTO(1L, "courseName"), null, new CourseDTO(2L, "other")), courseDTOS);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void convertAll_whenSourcesIsNull_throwIllegalArgumentException(List<Course> nullSources) {
+        assertThrows(IllegalArgumentException.class, () -> converterService.convertAll(nullSources, CourseDTO.class));
+    }
+
+    /**
+     * Logs the time of 100k conversions through the GenericConversionService lookup, the direct dispatch of
+     * {@link ConverterService#convert(Object, Class)} and {@link ConverterService#convertAll(List, Class)}.
+     */
+    @Test
+    public void convertAll_measureAgainstGenericConversionService() {
+        GenericConversionService genericConversionService = new GenericConversionService();
+        genericConversionService.addConverter(new CourseEntityToCourseDTOConverter());
+        List<Course> courses =
+            LongStream.rangeClosed(1, CONVERSIONS).mapToObj(id -> new Course(id, "courseName" + id)).toList();
+
+        for (int i = 0; i < 5; i++) {
+            convertEach(genericConversionService, courses);
+            convertEach(converterService, courses);
+            converterService.convertAll(courses, CourseDTO.class);
+        }
+        long genericNanos = System.nanoTime();
+        List<CourseDTO> genericDTOS = convertEach(genericConversionService, courses);
+        long directNanos = System.nanoTime();
+        List<CourseDTO> directDTOS = convertEach(converterService, courses);
+        long bulkNanos = System.nanoTime();
+        List<CourseDTO> bulkDTOS = converterService.convertAll(courses, CourseDTO.class);
+        long endNanos = System.nanoTime();
+
+        log.info("{} Course conversions, GenericConversionService: {} ms, direct convert: {} ms, convertAll: {} ms",
+            CONVERSIONS, (directNanos - genericNanos) / 1_000_000, (bulkNanos - directNanos) / 1_000_000,
+            (endNanos - bulkNanos) / 1_000_000);
+        assertEquals(genericDTOS, directDTOS);
+        assertEquals(genericDTOS, bulkDTOS);
+    }
+
+    private static List<CourseDTO> convertEach(GenericConversionService conversionService, List<Course> courses) {
+        List<CourseDTO> courseDTOS = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            courseDTOS.add(conversionService.convert(course, CourseDTO.class));
+        }
+        return courseDTOS;
+    }
+}
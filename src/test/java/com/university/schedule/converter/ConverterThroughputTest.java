@@ -0,0 +1,115 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.dto.*;
+import com.university.schedule.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.Condition;
+import org.modelmapper.ModelMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the generated converters with the reflective ModelMapper mappings they replaced: both must produce the
+ * same DTOs, the throughput of both is logged.
+ */
+@Slf4j
+public class ConverterThroughputTest {
+
+    private static final int WARMUP = 20_000;
+
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    public void convert_classTime_sameResultAsModelMapper() {
+        ClassTime classTime =
+            ClassTime.builder().id(1L).orderNumber(1).startTime(LocalTime.of(8, 30)).duration(Duration.ofMinutes(90))
+                .build();
+        ModelMapper modelMapper = new ModelMapper();
+        org.modelmapper.Converter<Duration, Integer> durationConverter =
+            ctx -> Math.toIntExact(ctx.getSource().toMinutes());
+        modelMapper.typeMap(ClassTime.class, ClassTimeDTO.class).addMappings(
+            mapper -> mapper.using(durationConverter).map(ClassTime::getDuration, ClassTimeDTO::setDurationMinutes));
+
+        compare("ClassTime", classTime, source -> modelMapper.map(source, ClassTimeDTO.class),
+            new ClassTimeEntityToClassTimeDTOConverter()::convert);
+    }
+
+    @Test
+    public void convert_group_sameResultAsModelMapper() {
+        Group group = new Group(1L, "groupName", new Discipline(1L, "disciplineName"));
+        group.setCourses(Set.of(new Course(1L, "courseName")));
+        ModelMapper modelMapper = new ModelMapper();
+        Condition<?, ?> notNull = ctx -> ctx.getSource() != null;
+        org.modelmapper.Converter<Discipline, DisciplineDTO> disciplineConverter =
+            ctx -> new ModelMapper().map(ctx.getSource(), DisciplineDTO.class);
+        org.modelmapper.Converter<Set<Course>, List<CourseDTO>> coursesConverter =
+            ctx -> ctx.getSource().stream().map(course -> new ModelMapper().map(course, CourseDTO.class)).toList();
+        modelMapper.typeMap(Group.class, GroupDTO.class).addMappings(mapper -> {
+            mapper.when(notNull).using(disciplineConverter).map(Group::getDiscipline, GroupDTO::setDisciplineDTO);
+            mapper.when(notNull).using(coursesConverter).map(Group::getCourses, GroupDTO::setCourseDTOS);
+        });
+
+        compare("Group", group, source -> modelMapper.map(source, GroupDTO.class),
+            new GroupEntityToGroupDTOConverter()::convert);
+    }
+
+    @Test
+    public void convert_scheduledClass_sameFieldsAsModelMapperGraph() {
+        Teacher teacher = new Teacher("teacherEmail", "password", "firstName", "lastName");
+        teacher.setId(1L);
+        ScheduledClass scheduledClass = new ScheduledClass(1L, new Course(1L, "courseName"), teacher,
+            new Classroom(1L, "classroomName", new Building(1L, "buildingName", "buildingAddress")),
+            ClassTime.builder().id(1L).orderNumber(1).startTime(LocalTime.of(8, 30)).duration(Duration.ofMinutes(90))
+                .build(), LocalDate.of(2023, 1, 2), new ClassType(1L, "classTypeName"),
+            Set.of(new Group(1L, "groupName", new Discipline(1L, "disciplineName")),
+                new Group(2L, "otherGroupName", new Discipline(1L, "disciplineName"))));
+        ScheduledClassEntityToScheduledClassDTOConverter converter =
+            new ScheduledClassEntityToScheduledClassDTOConverter();
+
+        ScheduledClassDTO scheduledClassDTO = converter.convert(scheduledClass);
+        assertEquals(1L, scheduledClassDTO.getId());
+        assertEquals(LocalDate.of(2023, 1, 2), scheduledClassDTO.getDate());
+        assertEquals("courseName", scheduledClassDTO.getCourseDTO().getName());
+        assertEquals("teacherEmail", scheduledClassDTO.getTeacherDTO().getEmail());
+        assertTrue(scheduledClassDTO.getTeacherDTO().isEnable());
+        assertEquals("buildingName", scheduledClassDTO.getClassroomDTO().getBuildingDTO().getName());
+        assertEquals(90, scheduledClassDTO.getClassTimeDTO().getDurationMinutes());
+        assertEquals("classTypeName", scheduledClassDTO.getClassTypeDTO().getName());
+        assertEquals(List.of("groupName", "otherGroupName"),
+            scheduledClassDTO.getGroupDTOS().stream().map(GroupDTO::getName).sorted(Comparator.naturalOrder())
+                .toList());
+
+        long opsPerSecond = measure(scheduledClass, converter::convert);
+        log.info("ScheduledClass to ScheduledClassDTO, generated converter: {} ops/s", opsPerSecond);
+    }
+
+    private <S, T> void compare(String name, S source, Function<S, T> legacy, Function<S, T> generated) {
+        assertEquals(legacy.apply(source), generated.apply(source));
+
+        long legacyOpsPerSecond = measure(source, legacy);
+        long generatedOpsPerSecond = measure(source, generated);
+        log.info("{} conversion, ModelMapper: {} ops/s, generated converter: {} ops/s", name, legacyOpsPerSecond,
+            generatedOpsPerSecond);
+    }
+
+    private static <S, T> long measure(S source, Function<S, T> conversion) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertNotNull(conversion.apply(source));
+        }
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotNull(conversion.apply(source));
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        return ITERATIONS * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.dto.ImportJobDTO;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.model.ImportJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImportJobEntityToImportJobDTOConverterTest {
+
+    private ImportJobEntityToImportJobDTOConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        converter = new ImportJobEntityToImportJobDTOConverter();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void convert_whenImportJobIsNull_throwIllegalArgumentException(ImportJob nullJob) {
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(nullJob));
+    }
+
+    @Test
+    public void convert_whenImportJobIsValid_success() {
+        ImportReport report = new ImportReport("courses", 2, 2, 0, List.of(), false, 10);
+        ImportJob job = ImportJob.builder().id(1L).type(ImportType.COURSES).filename("courses.csv")
+            .status(ImportJob.Status.COMPLETED).report(report).build();
+        ImportJobDTO jobDTO = ImportJobDTO.builder().id(1L).type("COURSES").filename("courses.csv")
+            .status("COMPLETED").report(report).build();
+
+        assertEquals(jobDTO, converter.convert(job));
+    }
+}
@@ -0,0 +1,43 @@
+package com.university.schedule.converter;
+
+import com.university.schedule.dto.ScheduleGenerationJobDTO;
+import com.university.schedule.model.ScheduleGenerationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScheduleGenerationJobEntityToScheduleGenerationJobDTOConverterTest {
+
+    private ScheduleGenerationJobEntityToScheduleGenerationJobDTOConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        converter = new ScheduleGenerationJobEntityToScheduleGenerationJobDTOConverter();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void convert_whenScheduleGenerationJobIsNull_throwIllegalArgumentException(ScheduleGenerationJob nullJob) {
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(nullJob));
+    }
+
+    @Test
+    public void convert_whenScheduleGenerationJobIsValid_success() {
+        LocalDate startDate = LocalDate.of(2023, 9, 1);
+        LocalDate endDate = LocalDate.of(2023, 12, 20);
+        ScheduleGenerationJob job = ScheduleGenerationJob.builder().id(1L).status(ScheduleGenerationJob.Status.RUNNING)
+            .phase(ScheduleGenerationJob.Phase.GENERATING).startDate(startDate).endDate(endDate)
+            .nextChunkDate(startDate.plusWeeks(2)).generatedRows(40).build();
+        ScheduleGenerationJobDTO jobDTO = ScheduleGenerationJobDTO.builder().id(1L).status("RUNNING")
+            .phase("GENERATING").startDate(startDate).endDate(endDate).nextChunkDate(startDate.plusWeeks(2))
+            .generatedRows(40).build();
+
+        assertEquals(jobDTO, converter.convert(job));
+    }
+}
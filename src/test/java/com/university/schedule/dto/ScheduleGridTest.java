@@ -0,0 +1,136 @@
+package com.university.schedule.dto;
+
+import com.university.schedule.utility.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+public class ScheduleGridTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 10, 1);
+
+    private static final LocalDate END_DATE = LocalDate.of(2023, 10, 30);
+
+    private static final List<LocalDate> DATES = DateUtils.getDatesBetween(START_DATE, END_DATE);
+
+    private static final List<ClassTimeDTO> CLASS_TIME_DTOS =
+        IntStream.rangeClosed(1, 6).mapToObj(i -> new ClassTimeDTO((long) i, i, LocalTime.of(7 + i, 0), 90))
+            .toList();
+
+    private static ScheduledClassDTO scheduledClass(long id, LocalDate date, int orderNumber) {
+        ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
+        scheduledClassDTO.setId(id);
+        scheduledClassDTO.setDate(date);
+        scheduledClassDTO.setClassTimeDTO(new ClassTimeDTO((long) orderNumber, orderNumber, LocalTime.of(8, 0), 90));
+        return scheduledClassDTO;
+    }
+
+    /**
+     * 2,000 classes spread over the 30 days and 6 ClassTimes of a month view.
+     */
+    private static List<ScheduledClassDTO> monthOfClasses() {
+        List<ScheduledClassDTO> scheduledClassDTOS = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            scheduledClassDTOS.add(scheduledClass(i, START_DATE.plusDays(i % 30), i % 6 + 1));
+        }
+        return scheduledClassDTOS;
+    }
+
+    @Test
+    public void of_placeClassesByDateAndOrderNumber() {
+        ScheduledClassDTO first = scheduledClass(1L, START_DATE, 1);
+        ScheduledClassDTO second = scheduledClass(2L, START_DATE.plusDays(2), 3);
+        ScheduledClassDTO third = scheduledClass(3L, START_DATE.plusDays(2), 3);
+
+        ScheduleGrid scheduleGrid = ScheduleGrid.of(DATES, CLASS_TIME_DTOS, List.of(first, second, third));
+
+        assertEquals(30, scheduleGrid.getRows().size());
+        assertEquals(START_DATE, scheduleGrid.getRows().get(0).getDate());
+        assertEquals(END_DATE, scheduleGrid.getRows().get(29).getDate());
+        assertEquals(List.of(first), scheduleGrid.getRows().get(0).getCells().get(0));
+        assertEquals(List.of(second, third), scheduleGrid.getRows().get(2).getCells().get(2));
+        assertTrue(scheduleGrid.getRows().get(1).getCells().get(2).isEmpty());
+        assertEquals(3, scheduleGrid.getPlacedCount());
+        assertFalse(scheduleGrid.isEmpty());
+    }
+
+    @Test
+    public void of_whenClassIsOutsideGrid_leaveItOut() {
+        ScheduleGrid scheduleGrid = ScheduleGrid.of(DATES, CLASS_TIME_DTOS,
+            List.of(scheduledClass(1L, START_DATE.minusDays(1), 1), scheduledClass(2L, END_DATE.plusDays(1), 1),
+                scheduledClass(3L, START_DATE, 7)));
+
+        assertTrue(scheduleGrid.getRows().stream().flatMap(row -> row.getCells().stream()).allMatch(List::isEmpty));
+        assertTrue(scheduleGrid.isEmpty());
+    }
+
+    @Test
+    public void of_whenNoClasses_isEmpty() {
+        ScheduleGrid scheduleGrid =
+            ScheduleGrid.of(DateUtils.getDatesBetween(START_DATE, START_DATE.plusDays(6)), CLASS_TIME_DTOS, List.of());
+
+        assertTrue(scheduleGrid.isEmpty());
+        assertEquals(7, scheduleGrid.getRows().size());
+    }
+
+    @Test
+    public void of_whenArgumentIsNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ScheduleGrid.of(null, CLASS_TIME_DTOS, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleGrid.of(DATES, null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleGrid.of(DATES, CLASS_TIME_DTOS, null));
+    }
+
+    /**
+     * Logs the time of building the cells of a 30 day view of 2,000 classes by scanning all classes for every
+     * (date, ClassTime) cell, as the template did, and with the grid.
+     */
+    @Test
+    public void of_measureAgainstCellScan() {
+        List<ScheduledClassDTO> scheduledClassDTOS = monthOfClasses();
+        for (int i = 0; i < 20; i++) {
+            scanCells(scheduledClassDTOS);
+            ScheduleGrid.of(DATES, CLASS_TIME_DTOS, scheduledClassDTOS);
+        }
+
+        int iterations = 50;
+        int scanned = 0;
+        long scanNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            scanned = scanCells(scheduledClassDTOS);
+        }
+        long gridNanos = System.nanoTime();
+        ScheduleGrid scheduleGrid = null;
+        for (int i = 0; i < iterations; i++) {
+            scheduleGrid = ScheduleGrid.of(DATES, CLASS_TIME_DTOS, scheduledClassDTOS);
+        }
+        long endNanos = System.nanoTime();
+
+        log.info("30 days x 6 ClassTimes, 2000 classes, cell scan: {} us, grid: {} us per view",
+            (gridNanos - scanNanos) / iterations / 1_000, (endNanos - gridNanos) / iterations / 1_000);
+        assertEquals(scanned, scheduleGrid.getRows().stream().flatMap(row -> row.getCells().stream())
+            .mapToInt(List::size).sum());
+    }
+
+    private static int scanCells(List<ScheduledClassDTO> scheduledClassDTOS) {
+        int placed = 0;
+        for (LocalDate date = START_DATE; !date.isAfter(END_DATE); date = date.plusDays(1)) {
+            for (ClassTimeDTO classTimeDTO : CLASS_TIME_DTOS) {
+                for (ScheduledClassDTO scheduledClassDTO : scheduledClassDTOS) {
+                    if (scheduledClassDTO.getDate().isEqual(date) &&
+                        scheduledClassDTO.getClassTimeDTO().getOrderNumber().equals(classTimeDTO.getOrderNumber())) {
+                        placed++;
+                    }
+                }
+            }
+        }
+        return placed;
+    }
+}
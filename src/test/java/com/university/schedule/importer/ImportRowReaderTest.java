@@ -0,0 +1,56 @@
+package com.university.schedule.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportRowReaderTest {
+
+    private static ImportRowReader open(String filename, String content) throws IOException {
+        return ImportRowReader.open(filename, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void next_whenCsv_readRowsByHeader() throws IOException {
+        try (ImportRowReader reader = open("students.csv",
+            "\uFEFFemail, name\r\na@example.com,\"Doe, \"\"J\"\"\nJohn\"\r\n\r\nb@example.com\n")) {
+            assertInstanceOf(CsvImportRowReader.class, reader);
+            assertEquals(Map.of("email", "a@example.com", "name", "Doe, \"J\"\nJohn"), reader.next());
+            assertEquals(Map.of("email", "b@example.com"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void next_whenQuoteIsNotClosed_throwIOException() throws IOException {
+        try (ImportRowReader reader = open("students.csv", "email\n\"a@example.com\n")) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    public void open_whenCsvIsEmpty_throwIOException() {
+        assertThrows(IOException.class, () -> open("students.csv", ""));
+    }
+
+    @Test
+    public void next_whenJson_readScalarsAsText() throws IOException {
+        try (ImportRowReader reader = open("students.JSON",
+            "[{\"email\": \"a@example.com\", \"age\": 20, \"group\": null, \"tags\": [\"x\"]}, {\"email\": \"b\"}]")) {
+            assertInstanceOf(JsonImportRowReader.class, reader);
+            assertEquals(Map.of("email", "a@example.com", "age", "20"), reader.next());
+            assertEquals(Map.of("email", "b"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void open_whenJsonIsNotAnArray_throwIOException() {
+        assertThrows(IOException.class, () -> open("students.json", "{\"email\": \"a@example.com\"}"));
+    }
+}
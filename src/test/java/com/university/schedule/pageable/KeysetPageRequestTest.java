@@ -0,0 +1,91 @@
+package com.university.schedule.pageable;
+
+import com.university.schedule.model.Building;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetPageRequestTest {
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "date");
+
+    @Test
+    public void of_whenCursorIsNullOrBlank_returnFirstPage() {
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(20, SORT, "");
+
+        assertTrue(keysetPageRequest.isFirst());
+        assertTrue(KeysetPageRequest.of(20, SORT).isFirst());
+        assertEquals(20, keysetPageRequest.getLimit());
+        assertEquals(SORT, keysetPageRequest.getSort());
+    }
+
+    @Test
+    public void of_whenCursorIsEncoded_restoreKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("date", LocalDate.of(2023, 9, 1));
+        keys.put("id", 42L);
+        String cursor = KeysetPageRequest.encodeCursor(ScrollPosition.forward(keys));
+
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(20, SORT, cursor);
+
+        assertFalse(keysetPageRequest.isFirst());
+        assertEquals(keys, keysetPageRequest.getScrollPosition().getKeys());
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    public void of_whenCursorHasTimeAndStringKeys_restoreTypes() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("startTime", LocalTime.of(9, 30));
+        keys.put("duration", Duration.ofMinutes(90));
+        keys.put("name", "Room & Hall");
+        keys.put("orderNumber", 3);
+        keys.put("id", 7L);
+        Sort sort = Sort.by("startTime", "duration", "name", "orderNumber");
+
+        KeysetPageRequest keysetPageRequest =
+            KeysetPageRequest.of(5, sort, KeysetPageRequest.encodeCursor(ScrollPosition.forward(keys)));
+
+        assertEquals(keys, keysetPageRequest.getScrollPosition().getKeys());
+    }
+
+    @Test
+    public void of_whenCursorIsMalformed_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(20, SORT, "not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(20, SORT, "AQAB"));
+    }
+
+    @Test
+    public void of_whenCursorWasMadeForAnotherSort_throwIllegalArgumentException() {
+        String cursor = KeysetPageRequest.encodeCursor(ScrollPosition.forward(Map.of("name", "A", "id", 1L)));
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(20, SORT, cursor));
+    }
+
+    @Test
+    public void of_whenLimitIsLessThanOne_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(0, SORT));
+    }
+
+    @Test
+    public void encodeCursor_whenKeyIsAssociationOrNull_throwIllegalArgumentException() {
+        Map<String, Object> associationKeys = Map.of("building", new Building(), "id", 1L);
+        Map<String, Object> nullKeys = new LinkedHashMap<>();
+        nullKeys.put("name", null);
+        nullKeys.put("id", 1L);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetPageRequest.encodeCursor(ScrollPosition.forward(associationKeys)));
+        assertThrows(IllegalArgumentException.class,
+            () -> KeysetPageRequest.encodeCursor(ScrollPosition.forward(nullKeys)));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.encodeCursor(ScrollPosition.offset()));
+    }
+}
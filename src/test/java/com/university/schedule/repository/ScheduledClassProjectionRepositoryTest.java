@@ -0,0 +1,217 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.converter.ScheduledClassEntityToScheduledClassDTOConverter;
+import com.university.schedule.dto.GroupDTO;
+import com.university.schedule.dto.ScheduleCursor;
+import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ScheduledClassProjectionRepository.class)
+public class ScheduledClassProjectionRepositoryTest {
+
+    public static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:latest").withDatabaseName("databaseName").withUsername("username")
+            .withPassword("password").withReuse(true);
+    @Autowired
+    ScheduledClassProjectionRepository scheduledClassProjectionRepository;
+    @Autowired
+    ScheduledClassRepository scheduledClassRepository;
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        // Postgresql
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+
+        // Flyway
+        registry.add("spring.flyway.cleanDisabled", () -> false);
+    }
+
+    @BeforeEach
+    void clearDatabase(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    private LocalDate persistWeek(int classesPerDay) {
+        Discipline discipline = new Discipline("disciplineName");
+        ClassType classType = new ClassType("classTypeName");
+        Course course = new Course("courseName");
+        Building building = new Building("buildingName", "buildingAddress");
+        entityManager.persist(discipline);
+        entityManager.persist(classType);
+        entityManager.persist(course);
+        entityManager.persist(building);
+
+        LocalDate monday = LocalDate.of(2023, 1, 2);
+        for (int i = 0; i < classesPerDay; i++) {
+            Teacher teacher = new Teacher("teacherEmail" + i, "password", "firstName" + i, "lastName" + i);
+            Classroom classroom = new Classroom("classroomName" + i, building);
+            Group group1 = new Group("groupName" + i, discipline);
+            Group group2 = new Group("otherGroupName" + i, discipline);
+            entityManager.persist(teacher);
+            entityManager.persist(classroom);
+            entityManager.persist(group1);
+            entityManager.persist(group2);
+            ClassTime classTime = new ClassTime(i + 1, LocalTime.of(8, 0), Duration.ofMinutes(60));
+            entityManager.persist(classTime);
+            for (int day = 0; day < 5; day++) {
+                entityManager.persist(
+                    new ScheduledClass(course, teacher, classroom, classTime, monday.plusDays(day), classType,
+                        Set.of(group1, group2)));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return monday;
+    }
+
+    @Test
+    public void findAllFiltered_matchEntityPath() {
+        LocalDate monday = persistWeek(4);
+
+        List<ScheduledClassDTO> projected =
+            scheduledClassProjectionRepository.findAllFiltered(monday, monday.plusDays(6), null, null, null);
+        ScheduledClassEntityToScheduledClassDTOConverter converter =
+            new ScheduledClassEntityToScheduledClassDTOConverter();
+        List<ScheduledClassDTO> converted =
+            scheduledClassRepository.findAll().stream().map(converter::convert).toList();
+
+        assertEquals(20, projected.size());
+        assertEquals(converted.stream().map(ScheduledClassDTO::getId).sorted().toList(),
+            projected.stream().map(ScheduledClassDTO::getId).sorted().toList());
+        for (ScheduledClassDTO projectedDTO : projected) {
+            ScheduledClassDTO convertedDTO =
+                converted.stream().filter(dto -> dto.getId().equals(projectedDTO.getId())).findFirst().orElseThrow();
+            assertEquals(convertedDTO.getDate(), projectedDTO.getDate());
+            assertEquals(convertedDTO.getCourseDTO().getName(), projectedDTO.getCourseDTO().getName());
+            assertEquals(convertedDTO.getTeacherDTO().getFullName(), projectedDTO.getTeacherDTO().getFullName());
+            assertEquals(convertedDTO.getClassroomDTO().getName(), projectedDTO.getClassroomDTO().getName());
+            assertEquals(convertedDTO.getClassroomDTO().getBuildingDTO().getName(),
+                projectedDTO.getClassroomDTO().getBuildingDTO().getName());
+            assertEquals(convertedDTO.getClassTimeDTO().getOrderNumber(),
+                projectedDTO.getClassTimeDTO().getOrderNumber());
+            assertEquals(convertedDTO.getClassTimeDTO().getStartTime(), projectedDTO.getClassTimeDTO().getStartTime());
+            assertEquals(convertedDTO.getClassTypeDTO().getName(), projectedDTO.getClassTypeDTO().getName());
+            assertEquals(convertedDTO.getGroupDTOS().stream().map(GroupDTO::getName).sorted().toList(),
+                projectedDTO.getGroupDTOS().stream().map(GroupDTO::getName).toList());
+        }
+    }
+
+    @Test
+    public void findAllFiltered_whenGroupIdsIsEmpty_returnEmptyList() {
+        LocalDate monday = persistWeek(1);
+
+        assertTrue(
+            scheduledClassProjectionRepository.findAllFiltered(monday, monday.plusDays(6), null, null, List.of())
+                .isEmpty());
+    }
+
+    @Test
+    public void findPageFiltered_whenPagedByCursor_returnEveryClassOnce() {
+        LocalDate monday = persistWeek(4);
+        LocalDate sunday = monday.plusDays(6);
+
+        List<ScheduledClassDTO> pagedDTOS = new ArrayList<>();
+        ScheduleCursor cursor = null;
+        List<ScheduledClassDTO> page;
+        do {
+            page = scheduledClassProjectionRepository.findPageFiltered(monday, sunday, null, null, null, cursor, 3);
+            pagedDTOS.addAll(page);
+            cursor = page.isEmpty() ? cursor : ScheduleCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 3);
+
+        List<ScheduledClassDTO> allDTOS =
+            scheduledClassProjectionRepository.findAllFiltered(monday, sunday, null, null, null);
+        assertEquals(20, pagedDTOS.size());
+        assertEquals(allDTOS.stream().map(ScheduledClassDTO::getId).sorted().toList(),
+            pagedDTOS.stream().map(ScheduledClassDTO::getId).sorted().toList());
+        assertEquals(pagedDTOS.stream()
+            .sorted(Comparator.comparing(ScheduledClassDTO::getDate).thenComparing(ScheduledClassDTO::getId))
+            .toList(), pagedDTOS);
+    }
+
+    /**
+     * Compares time and heap allocation per request of the projection and of the entity + ModelMapper path. The
+     * numbers are logged, only the projection path must not allocate more.
+     */
+    @Test
+    public void findAllFiltered_measureAgainstEntityPath() {
+        LocalDate monday = persistWeek(8);
+        LocalDate sunday = monday.plusDays(6);
+        ScheduledClassEntityToScheduledClassDTOConverter converter =
+            new ScheduledClassEntityToScheduledClassDTOConverter();
+
+        Measurement projection = measure(
+            () -> scheduledClassProjectionRepository.findAllFiltered(monday, sunday, null, null, null));
+        Measurement entities = measure(() -> {
+            List<ScheduledClassDTO> dtos =
+                scheduledClassRepository.findAll().stream().map(converter::convert).toList();
+            entityManager.clear();
+            return dtos;
+        });
+
+        log.info("Schedule week of 40 classes, projection: {} us, {} KB per request; entities + ModelMapper: " +
+                "{} us, {} KB per request", projection.micros(), projection.kilobytes(), entities.micros(),
+            entities.kilobytes());
+        assertTrue(projection.kilobytes() <= entities.kilobytes());
+    }
+
+    private Measurement measure(Supplier<List<ScheduledClassDTO>> request) {
+        int warmup = 20;
+        int iterations = 50;
+        for (int i = 0; i < warmup; i++) {
+            assertFalse(request.get().isEmpty());
+        }
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertFalse(request.get().isEmpty());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+        return new Measurement(elapsedNanos / iterations / 1_000, allocatedBytes / iterations / 1_024);
+    }
+
+    private record Measurement(long micros, long kilobytes) {
+    }
+}
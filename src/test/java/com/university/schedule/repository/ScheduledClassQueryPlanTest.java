@@ -0,0 +1,163 @@
+package com.university.schedule.repository;
+
+import com.university.schedule.dto.ScheduleCursor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the query plans of the SQL run by {@link ScheduledClassProjectionRepository} on a 1M rows schedule, so a
+ * dropped or unusable V0_4_5 index is detected before it reaches production. The statements are captured from the
+ * repository and explained with their parameters instead of being executed.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ScheduledClassQueryPlanTest {
+
+    private static final int SCHEDULED_CLASSES = 1_000_000;
+
+    private static final int GROUPS = 1_000;
+
+    private static final int TEACHERS = 500;
+
+    private static final LocalDate WEEK_START = LocalDate.of(2001, 3, 5);
+
+    private static final LocalDate WEEK_END = LocalDate.of(2001, 3, 11);
+
+    public static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:latest").withDatabaseName("databaseName").withUsername("username")
+            .withPassword("password").withReuse(true);
+
+    private static boolean seeded;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Plans of the statements the repository ran, in order.
+     */
+    private final List<String> plans = new ArrayList<>();
+
+    private ScheduledClassProjectionRepository projectionRepository;
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        // Postgresql
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+
+        // Flyway
+        registry.add("spring.flyway.cleanDisabled", () -> false);
+    }
+
+    @BeforeEach
+    void seedDatabase(@Autowired Flyway flyway) {
+        if (seeded) {
+            return;
+        }
+        flyway.clean();
+        flyway.migrate();
+
+        jdbcTemplate.update("INSERT INTO courses (course_id, name) VALUES (1, 'CourseName')");
+        jdbcTemplate.update("INSERT INTO class_types (class_type_id, name) VALUES (1, 'Lecture')");
+        jdbcTemplate.update("INSERT INTO class_times (class_time_id, order_number, start_time, duration_minutes) " +
+            "SELECT n, n, TIME '08:00' + n * INTERVAL '1 hour', 60 FROM generate_series(1, 8) n");
+        jdbcTemplate.update("INSERT INTO users (user_id, email, password, first_name, last_name) " +
+            "SELECT n, 'teacher' || n || '@example.co', 'password', 'John', 'Doe' FROM generate_series(1, ?) n",
+            TEACHERS);
+        jdbcTemplate.update("INSERT INTO teachers (teacher_id) SELECT n FROM generate_series(1, ?) n", TEACHERS);
+        jdbcTemplate.update("INSERT INTO groups (group_id, name) " +
+            "SELECT n, 'Group' || n FROM generate_series(1, ?) n", GROUPS);
+        // 1370 classes a day over two years, (ClassTime, Teacher) pairs don`t repeat within a day
+        jdbcTemplate.update("INSERT INTO scheduled_classes (scheduled_class_id, course_id, teacher_id, " +
+            "class_time_id, class_date, type_id) SELECT n, 1, n / 8 % ? + 1, n % 8 + 1, " +
+            "DATE '2000-01-01' + n / 1370, 1 FROM generate_series(1, ?) n", TEACHERS, SCHEDULED_CLASSES);
+        jdbcTemplate.update("INSERT INTO scheduled_classes_groups (scheduled_class_id, group_id) " +
+            "SELECT n, n % ? + 1 FROM generate_series(1, ?) n", GROUPS, SCHEDULED_CLASSES);
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    @BeforeEach
+    void createProjectionRepository() {
+        projectionRepository = new ScheduledClassProjectionRepository(new ExplainingJdbcTemplate(jdbcTemplate));
+    }
+
+    @Test
+    public void findAllFiltered_studentWeek_useGroupIndex() {
+        projectionRepository.findAllFiltered(WEEK_START, WEEK_END, null, null, List.of(42L));
+        String plan = plans.get(0);
+
+        assertNoScheduleSeqScan(plan);
+        assertTrue(plan.contains("scheduled_classes_groups_group_index"), plan);
+    }
+
+    @Test
+    public void findAllFiltered_teacherWeek_useTeacherDateIndex() {
+        projectionRepository.findAllFiltered(WEEK_START, WEEK_END, null, 42L, null);
+        String plan = plans.get(0);
+
+        assertNoScheduleSeqScan(plan);
+        assertTrue(plan.contains("scheduled_classes_teacher_date_index"), plan);
+    }
+
+    @Test
+    public void findPageFiltered_teacherWeek_useTeacherDateIndex() {
+        projectionRepository.findPageFiltered(WEEK_START, WEEK_END, null, 42L, null,
+            new ScheduleCursor(WEEK_START, 1_000L), 50);
+        String plan = plans.get(0);
+
+        assertNoScheduleSeqScan(plan);
+        assertTrue(plan.contains("scheduled_classes_teacher_date_index"), plan);
+    }
+
+    /**
+     * The small reference tables may be scanned, the schedule tables never.
+     */
+    private static void assertNoScheduleSeqScan(String plan) {
+        assertFalse(plan.contains("Seq Scan on scheduled_classes "), plan);
+        assertFalse(plan.contains("Seq Scan on scheduled_classes_groups "), plan);
+    }
+
+    /**
+     * Explains every query of the repository with its parameters and records the plan, the query itself isn`t run.
+     */
+    private class ExplainingJdbcTemplate extends NamedParameterJdbcTemplate {
+
+        ExplainingJdbcTemplate(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+            plans.add(String.join("\n", queryForList("EXPLAIN " + sql, paramSource, String.class)));
+            return List.of();
+        }
+    }
+}
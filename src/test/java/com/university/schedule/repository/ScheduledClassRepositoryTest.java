@@ -4,7 +4,6 @@ import com.university.schedule.model.*;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +17,6 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -59,190 +57,6 @@ public class ScheduledClassRepositoryTest {
         flyway.migrate();
     }
 
-
-    @Test
-    public void findAllFiltered_WithNulls() {
-        List<ScheduledClass> scheduledClasses = scheduledClassRepository.findAllFiltered(null, null, null, null, null);
-        assertEquals(0, scheduledClasses.size());
-    }
-
-    @Test
-    public void findAllFiltered_NoListWithNulls() {
-        List<ScheduledClass> scheduledClasses = scheduledClassRepository.findAllFiltered(null, null, null, null);
-        assertEquals(0, scheduledClasses.size());
-    }
-
-    @Test
-    public void findAllFiltered_WithEmptyLists() {
-        List<ScheduledClass> scheduledClasses =
-            scheduledClassRepository.findAllFiltered(LocalDate.now(), LocalDate.now(), null, null, new ArrayList<>());
-        assertEquals(0, scheduledClasses.size());
-    }
-
-    @Test
-    public void findAllFiltered_NoGroupIdList_success() {
-
-        // Course
-        Course properCourse = new Course("courseName");
-
-        // Teacher
-        Teacher properTeacher = new Teacher("properTeacherEmail", "properTeacherPassword", "properTeacherFirstName",
-            "properTeacherLastName");
-        Teacher wrongTeacher =
-            new Teacher("wrongTeacherEmail", "wrongTeacherPassword", "wrongTeacherFirstName", "wrongTeacherLastName");
-
-        // Building
-        Building properBuilding = new Building("properBuildingName", "properBuildingAddress");
-
-        // Classroom
-        Classroom properClassroom = new Classroom("properClassroomName", properBuilding);
-
-        // ClassTime
-        ClassTime properClassTime1 = new ClassTime(1, LocalTime.of(8, 30), Duration.ofMinutes(90));
-        ClassTime properClassTime2 = new ClassTime(2, LocalTime.of(10, 5), Duration.ofMinutes(90));
-
-        // ClassType
-        ClassType properClassType = new ClassType("properClassTypeName");
-        ClassType wrongClassType = new ClassType("wrongClassTypeName");
-
-        // Date
-        LocalDate properDate = LocalDate.of(2023, 1, 1);
-        LocalDate wrongDateAfter = properDate.plusDays(1);
-        LocalDate wrongDateBefore = properDate.minusDays(1);
-
-        entityManager.persist(properCourse);
-        entityManager.persist(properTeacher);
-        entityManager.persist(wrongTeacher);
-        entityManager.persist(properBuilding);
-        entityManager.persist(properClassroom);
-        entityManager.persist(properClassTime1);
-        entityManager.persist(properClassTime2);
-        entityManager.persist(properClassType);
-        entityManager.persist(wrongClassType);
-
-
-        // Creating scheduledClass instances
-        ScheduledClass properScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, properDate,
-                properClassType, new HashSet<>());
-
-        ScheduledClass wrongDateBeforeScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, wrongDateBefore,
-                properClassType, new HashSet<>());
-
-        ScheduledClass wrongDateAfterScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, wrongDateAfter,
-                properClassType, new HashSet<>());
-
-        ScheduledClass wrongClassTypeScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime2, properDate,
-                wrongClassType, new HashSet<>());
-
-        ScheduledClass wrongTeacherScheduledClassToSave =
-            new ScheduledClass(properCourse, wrongTeacher, properClassroom, properClassTime1, properDate,
-                properClassType, new HashSet<>());
-
-        entityManager.persist(properScheduledClassToSave);
-        entityManager.persist(wrongDateBeforeScheduledClassToSave);
-        entityManager.persist(wrongDateAfterScheduledClassToSave);
-        entityManager.persist(wrongClassTypeScheduledClassToSave);
-        entityManager.persist(wrongTeacherScheduledClassToSave);
-
-        assertEquals(scheduledClassRepository.findAllFiltered(properDate, properDate, properClassType.getId(),
-            properTeacher.getId()), List.of(properScheduledClassToSave));
-    }
-
-    @Test
-    public void findAllFiltered_WithGroupIdList_success() {
-
-        // Discipline
-        Discipline discipline = new Discipline("properDisciplineName");
-
-        // Group
-        Group properGroup = new Group("properGroupName", discipline);
-        Group wrongGroup = new Group("wrongGroupName", discipline);
-
-        // Course
-        Course properCourse = new Course("courseName");
-
-        // Teacher
-        Teacher properTeacher = new Teacher("properTeacherEmail", "properTeacherPassword", "properTeacherFirstName",
-            "properTeacherLastName");
-        Teacher wrongTeacher =
-            new Teacher("wrongTeacherEmail", "wrongTeacherPassword", "wrongTeacherFirstName", "wrongTeacherLastName");
-
-        // Building
-        Building properBuilding = new Building("properBuildingName", "properBuildingAddress");
-
-        // Classroom
-        Classroom properClassroom = new Classroom("properClassroomName", properBuilding);
-
-        // ClassTime
-        ClassTime properClassTime1 = new ClassTime(1, LocalTime.of(8, 30), Duration.ofMinutes(90));
-        ClassTime properClassTime2 = new ClassTime(2, LocalTime.of(10, 5), Duration.ofMinutes(90));
-        ClassTime properClassTime3 = new ClassTime(3, LocalTime.of(11, 15), Duration.ofMinutes(90));
-
-        // ClassType
-        ClassType properClassType = new ClassType("properClassTypeName");
-        ClassType wrongClassType = new ClassType("wrongClassTypeName");
-
-        // Date
-        LocalDate properDate = LocalDate.of(2023, 1, 1);
-        LocalDate wrongDateAfter = properDate.plusDays(1);
-        LocalDate wrongDateBefore = properDate.minusDays(1);
-
-        entityManager.persist(discipline);
-        entityManager.persist(properGroup);
-        entityManager.persist(wrongGroup);
-        entityManager.persist(properCourse);
-        entityManager.persist(properTeacher);
-        entityManager.persist(wrongTeacher);
-        entityManager.persist(properBuilding);
-        entityManager.persist(properClassroom);
-        entityManager.persist(properClassTime1);
-        entityManager.persist(properClassTime2);
-        entityManager.persist(properClassTime3);
-        entityManager.persist(properClassType);
-        entityManager.persist(wrongClassType);
-
-
-        // Creating scheduledClass instances
-        ScheduledClass properScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, properDate,
-                properClassType, Set.of(properGroup));
-
-        ScheduledClass wrongGroupScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime3, properDate,
-                properClassType, Set.of(wrongGroup));
-
-        ScheduledClass wrongDateBeforeScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, wrongDateBefore,
-                properClassType, new HashSet<>());
-
-        ScheduledClass wrongDateAfterScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime1, wrongDateAfter,
-                properClassType, new HashSet<>());
-
-        ScheduledClass wrongClassTypeScheduledClassToSave =
-            new ScheduledClass(properCourse, properTeacher, properClassroom, properClassTime2, properDate,
-                wrongClassType, new HashSet<>());
-
-        ScheduledClass wrongTeacherScheduledClassToSave =
-            new ScheduledClass(properCourse, wrongTeacher, properClassroom, properClassTime1, properDate,
-                properClassType, new HashSet<>());
-
-        entityManager.persist(properScheduledClassToSave);
-        entityManager.persist(wrongGroupScheduledClassToSave);
-        entityManager.persist(wrongDateBeforeScheduledClassToSave);
-        entityManager.persist(wrongDateAfterScheduledClassToSave);
-        entityManager.persist(wrongClassTypeScheduledClassToSave);
-        entityManager.persist(wrongTeacherScheduledClassToSave);
-
-        assertEquals(scheduledClassRepository.findAllFiltered(properDate, properDate, properClassType.getId(),
-            properTeacher.getId(), List.of(properGroup.getId())), List.of(properScheduledClassToSave));
-    }
-
-
     @ParameterizedTest
     @CsvSource(value = {
         "CourseName:test@example.co:password:John:Doe:1:9:0:90:Lecture:" +
@@ -3,6 +3,8 @@ package com.university.schedule.repository;
 import com.university.schedule.model.Discipline;
 import com.university.schedule.model.Group;
 import com.university.schedule.model.Student;
+import com.university.schedule.pageable.KeysetPageRequest;
+import com.university.schedule.utility.PaginationSortingUtility;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -214,5 +218,29 @@ public class StudentRepositoryTest {
         // Testing
         assertFalse(retrievedStudent.isPresent());
     }
-}
 
+    @Test
+    public void scroll_walkPagesByKeyset() {
+        // Students with equal last names, the id breaks the ties
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String lastName = i < 3 ? "Doe" : "Adams";
+            Student student = new Student("test" + i + "@example.com", "password", "John" + i, lastName);
+            expectedIds.add(entityManager.persist(student).getId());
+        }
+        expectedIds = List.of(expectedIds.get(3), expectedIds.get(4), expectedIds.get(0), expectedIds.get(1),
+            expectedIds.get(2));
+
+        // Retrieving pages of two Students, every page continues after the cursor of the previous one
+        List<Long> retrievedIds = new ArrayList<>();
+        String after = "";
+        do {
+            Window<Student> window = studentRepository.scroll(KeysetPageRequest.of(2, Sort.by("lastName"), after));
+            window.forEach(student -> retrievedIds.add(student.getId()));
+            after = PaginationSortingUtility.getNextCursor(window);
+        } while (after != null);
+
+        // Testing
+        assertEquals(retrievedIds, expectedIds);
+    }
+}
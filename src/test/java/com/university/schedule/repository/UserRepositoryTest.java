@@ -1,5 +1,7 @@
 package com.university.schedule.repository;
 
+import com.university.schedule.dto.UserCredentials;
+import com.university.schedule.model.Role;
 import com.university.schedule.model.User;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeAll;
@@ -114,6 +116,32 @@ public class UserRepositoryTest {
         assertEquals(userToSave.getLastName(), foundUser.get().getLastName());
     }
 
+    @ParameterizedTest
+    @CsvSource({"test1@example.com, password1, John, Doe", "test2@example.com, password2, Jane, Smith"})
+    public void findCredentialsByEmail(String email, String password, String firstName, String lastName) {
+        Role role = new Role("Student");
+        entityManager.persist(role);
+        entityManager.persist(new User(email, password, firstName, lastName, false, role));
+
+        Optional<UserCredentials> foundCredentials = userRepository.findCredentialsByEmail(email);
+
+        assertEquals(Optional.of(new UserCredentials(email, password, false, role.getId())), foundCredentials);
+        assertTrue(userRepository.findCredentialsByEmail("missing@example.com").isEmpty());
+    }
+
+    @Test
+    public void updatePasswordByEmail() {
+        User user = new User("test1@example.com", "oldHash", "John", "Doe");
+        entityManager.persist(user);
+        entityManager.flush();
+
+        assertEquals(1, userRepository.updatePasswordByEmail("test1@example.com", "newHash"));
+        assertEquals(0, userRepository.updatePasswordByEmail("missing@example.com", "newHash"));
+        entityManager.clear();
+
+        assertEquals("newHash", userRepository.findByEmail("test1@example.com").orElseThrow().getPassword());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "test1@example.com, password1, John, Doe", "test2@example.com, password2, Jane, Smith",
@@ -0,0 +1,103 @@
+package com.university.schedule.security;
+
+import com.university.schedule.dto.PasswordEncoderStats;
+import com.university.schedule.exception.PasswordVerificationRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordEncoder delegate;
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void matches_runOnPoolAndRecordStats() {
+        BoundedPasswordEncoder boundedPasswordEncoder =
+            new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, 5000);
+
+        String encodedPassword = boundedPasswordEncoder.encode("password");
+
+        assertTrue(boundedPasswordEncoder.matches("password", encodedPassword));
+        assertFalse(boundedPasswordEncoder.matches("wrong", encodedPassword));
+        PasswordEncoderStats stats = boundedPasswordEncoder.getStats();
+        assertEquals(3, stats.completed());
+        assertEquals(1, stats.threads());
+        assertEquals(1, stats.queueCapacity());
+        assertEquals(0, stats.rejected());
+    }
+
+    @Test
+    public void matches_whenQueueIsFull_throwPasswordVerificationRejectedException() throws Exception {
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, executor, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> boundedPasswordEncoder.matches("a", "hash"));
+            callers.submit(() -> boundedPasswordEncoder.matches("b", "hash"));
+            while (executor.getQueue().isEmpty()) {
+                Thread.onSpinWait();
+            }
+
+            PasswordVerificationRejectedException exception = assertThrows(PasswordVerificationRejectedException.class,
+                () -> boundedPasswordEncoder.matches("c", "hash"));
+
+            assertTrue(exception.getRetryAfterSeconds() >= 1);
+            assertEquals(1, boundedPasswordEncoder.getStats().rejected());
+            assertEquals(1, boundedPasswordEncoder.getStats().queueDepth());
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void matches_whenWaitExceedsTimeout_throwPasswordVerificationRejectedException() {
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, executor, 50);
+
+        assertThrows(PasswordVerificationRejectedException.class, () -> boundedPasswordEncoder.matches("a", "hash"));
+
+        assertEquals(1, boundedPasswordEncoder.getStats().timedOut());
+    }
+
+    @Test
+    public void matches_whenDelegateThrows_rethrowCause() {
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("Encoded password is null"));
+        BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, executor, 5000);
+
+        assertThrows(IllegalArgumentException.class, () -> boundedPasswordEncoder.matches("a", null));
+    }
+
+    @Test
+    public void upgradeEncoding_whenWorkFactorIncreased_countUpgrade() {
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("password");
+        BoundedPasswordEncoder boundedPasswordEncoder =
+            new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor, 5000);
+
+        assertTrue(boundedPasswordEncoder.upgradeEncoding(encodedPassword));
+        assertEquals(1, boundedPasswordEncoder.getStats().upgradeEncoding());
+    }
+}
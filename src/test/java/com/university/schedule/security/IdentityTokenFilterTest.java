@@ -0,0 +1,95 @@
+package com.university.schedule.security;
+
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.service.UserIdentityService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdentityTokenFilterTest {
+
+    private static final UserIdentity USER_IDENTITY =
+        new UserIdentity(3L, "teacher@example.com", UserIdentity.Kind.TEACHER, "Teacher", List.of("VIEW_SCHEDULE"),
+            3L, null, true, 1);
+
+    private final IdentityTokenService identityTokenService =
+        new IdentityTokenService(true, "0123456789abcdef0123456789abcdef", 3600);
+
+    private final UserIdentityService userIdentityService = Mockito.mock(UserIdentityService.class);
+
+    private final IdentityTokenFilter identityTokenFilter =
+        new IdentityTokenFilter(identityTokenService, userIdentityService);
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void doFilter_whenTokenIsValid_authenticateWithIdentity() throws Exception {
+        Mockito.when(userIdentityService.findCurrentByEmail("teacher@example.com")).thenReturn(USER_IDENTITY);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(IdentityTokenService.COOKIE_NAME, identityTokenService.issue(USER_IDENTITY)));
+
+        identityTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(USER_IDENTITY, authentication.getPrincipal());
+        assertEquals("teacher@example.com", authentication.getName());
+        assertEquals(AuthorityUtils.createAuthorityList("VIEW_SCHEDULE"), authentication.getAuthorities());
+    }
+
+    @Test
+    public void doFilter_whenTokenIsInvalidOrMissing_stayUnauthenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(IdentityTokenService.COOKIE_NAME, "forged.token"));
+
+        identityTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        identityTokenFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    public void doFilter_whenTokenVersionIsRevoked_stayUnauthenticated() throws Exception {
+        Mockito.when(userIdentityService.findCurrentByEmail("teacher@example.com")).thenReturn(
+            new UserIdentity(3L, "teacher@example.com", UserIdentity.Kind.TEACHER, "Teacher", List.of("VIEW_SCHEDULE"),
+                3L, null, true, 2));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(IdentityTokenService.COOKIE_NAME, identityTokenService.issue(USER_IDENTITY)));
+
+        identityTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    public void doFilter_whenUserIsDisabledOrDeleted_stayUnauthenticated() throws Exception {
+        Mockito.when(userIdentityService.findCurrentByEmail("teacher@example.com")).thenReturn(
+            new UserIdentity(3L, "teacher@example.com", UserIdentity.Kind.TEACHER, "Teacher", List.of("VIEW_SCHEDULE"),
+                3L, null, false, 1)).thenThrow(new ServiceException("User not found"));
+        String token = identityTokenService.issue(USER_IDENTITY);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie(IdentityTokenService.COOKIE_NAME, token));
+            identityTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        Mockito.verify(userIdentityService, Mockito.times(2)).findCurrentByEmail("teacher@example.com");
+    }
+}
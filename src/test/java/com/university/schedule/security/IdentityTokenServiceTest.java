@@ -0,0 +1,80 @@
+package com.university.schedule.security;
+
+import com.university.schedule.dto.UserIdentity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdentityTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private static final UserIdentity USER_IDENTITY =
+        new UserIdentity(4L, "student@example.com", UserIdentity.Kind.STUDENT, "Student",
+            List.of("VIEW_SCHEDULE", "ROLE_STUDENT"), null, 7L, true, 2);
+
+    private final AtomicLong epochSecondClock = new AtomicLong(1_700_000_000L);
+
+    private final IdentityTokenService identityTokenService =
+        new IdentityTokenService(SECRET, 3600, epochSecondClock::get);
+
+    @Test
+    public void verify_whenTokenWasIssued_returnClaimsWithoutRoleOrGroup() {
+        String token = identityTokenService.issue(USER_IDENTITY);
+
+        assertEquals(Optional.of(new IdentityTokenService.Claims(4L, "student@example.com", 2)),
+            identityTokenService.verify(token));
+        assertTrue(token.matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    public void verify_whenPayloadIsTampered_returnEmpty() {
+        String token = identityTokenService.issue(USER_IDENTITY);
+        String otherPayload = identityTokenService.issue(
+            new UserIdentity(5L, "admin@example.com", UserIdentity.Kind.USER, "Admin", List.of("ROLE_ADMIN"), null,
+                null, true, 0)).split("\\.")[0];
+
+        assertTrue(identityTokenService.verify(otherPayload + "." + token.split("\\.")[1]).isEmpty());
+    }
+
+    @Test
+    public void verify_whenSignedWithAnotherSecret_returnEmpty() {
+        IdentityTokenService otherService =
+            new IdentityTokenService("fedcba9876543210fedcba9876543210", 3600, epochSecondClock::get);
+
+        assertTrue(identityTokenService.verify(otherService.issue(USER_IDENTITY)).isEmpty());
+    }
+
+    @Test
+    public void verify_whenExpired_returnEmpty() {
+        String token = identityTokenService.issue(USER_IDENTITY);
+        epochSecondClock.addAndGet(3600);
+
+        assertTrue(identityTokenService.verify(token).isEmpty());
+    }
+
+    @Test
+    public void verify_whenMalformed_returnEmpty() {
+        assertTrue(identityTokenService.verify(null).isEmpty());
+        assertTrue(identityTokenService.verify("").isEmpty());
+        assertTrue(identityTokenService.verify("no-separator").isEmpty());
+        assertTrue(identityTokenService.verify("a.b.c").isEmpty());
+        assertTrue(identityTokenService.verify("!!!.???").isEmpty());
+    }
+
+    @Test
+    public void new_whenSecretIsTooShort_throwIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new IdentityTokenService("short", 3600, epochSecondClock::get));
+    }
+
+    @Test
+    public void issue_whenTokenModeIsDisabled_throwIllegalStateException() {
+        IdentityTokenService disabledService = new IdentityTokenService(false, "", 3600);
+
+        assertThrows(IllegalStateException.class, () -> disabledService.issue(USER_IDENTITY));
+    }
+}
@@ -1,9 +1,10 @@
 package com.university.schedule.service;
 
+import com.university.schedule.cache.RoleAuthoritiesCache;
 import com.university.schedule.converter.UserDetailsMapper;
+import com.university.schedule.dto.RoleAuthorities;
+import com.university.schedule.dto.UserCredentials;
 import com.university.schedule.exception.ServiceException;
-import com.university.schedule.model.Role;
-import com.university.schedule.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -13,6 +14,8 @@ import org.mockito.Mock;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -27,21 +30,25 @@ public class AdminDetailsServiceTest {
     @Mock
     private UserDetailsMapper userDetailsMapper;
 
+    @Mock
+    private RoleAuthoritiesCache roleAuthoritiesCache;
+
     @BeforeEach
     public void setUp() {
-        adminDetailsService = new AdminDetailsService(userService, userDetailsMapper);
+        adminDetailsService = new AdminDetailsService(userService, userDetailsMapper, roleAuthoritiesCache);
     }
 
     @ParameterizedTest
     @CsvSource({"email"})
     public void loadUserByUsername_whenUserIsAdmin_success(String email) {
-        User user = User.builder().role(new Role("Admin")).build();
-        when(userService.findByEmail(email)).thenReturn(user);
+        UserCredentials userCredentials = new UserCredentials(email, "password", true, 1L);
+        when(userService.findCredentialsByEmail(email)).thenReturn(userCredentials);
+        when(roleAuthoritiesCache.get(1L)).thenReturn(new RoleAuthorities("Admin", List.of()));
 
         adminDetailsService.loadUserByUsername(email);
 
-        verify(userService).findByEmail(email);
-        verify(userDetailsMapper).convertToUserDetails(user);
+        verify(userService).findCredentialsByEmail(email);
+        verify(userDetailsMapper).convertToUserDetails(userCredentials);
     }
 
     @ParameterizedTest
@@ -53,23 +60,23 @@ public class AdminDetailsServiceTest {
     @ParameterizedTest
     @CsvSource({"email"})
     public void loadUserByUsername_whenUserIsNotAdmin_throwsUsernameNotFoundException(String email) {
-        User user = User.builder().role(new Role("NotAdmin")).build();
-        when(userService.findByEmail(email)).thenReturn(user);
+        when(userService.findCredentialsByEmail(email)).thenReturn(new UserCredentials(email, "password", true, 2L));
+        when(roleAuthoritiesCache.get(2L)).thenReturn(new RoleAuthorities("NotAdmin", List.of()));
 
         assertThrows(UsernameNotFoundException.class, () -> adminDetailsService.loadUserByUsername(email));
 
-        verify(userService).findByEmail(email);
+        verify(userService).findCredentialsByEmail(email);
         verifyNoInteractions(userDetailsMapper);
     }
 
     @ParameterizedTest
     @CsvSource({"email"})
     public void loadUserByUsername_whenUserServiceThrowsServiceException_throwsUsernameNotFoundException(String email) {
-        when(userService.findByEmail(email)).thenThrow(new ServiceException("some exception"));
+        when(userService.findCredentialsByEmail(email)).thenThrow(new ServiceException("some exception"));
 
         assertThrows(UsernameNotFoundException.class, () -> adminDetailsService.loadUserByUsername(email));
 
-        verify(userService).findByEmail(email);
+        verify(userService).findCredentialsByEmail(email);
         verifyNoInteractions(userDetailsMapper);
     }
 
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -42,10 +43,14 @@ public class DefaultAuthorityServiceTest {
     @Mock
     private AuthorityEntityValidator authorityEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultAuthorityService =
-            new DefaultAuthorityService(authorityRepository, converterService, authorityEntityValidator);
+            new DefaultAuthorityService(authorityRepository, converterService, authorityEntityValidator,
+                applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -6,6 +6,7 @@ import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
 import com.university.schedule.model.Building;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.pageable.OffsetBasedPageRequest;
 import com.university.schedule.repository.BuildingRepository;
 import com.university.schedule.validation.BuildingEntityValidator;
@@ -17,12 +18,17 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -41,10 +47,14 @@ public class DefaultBuildingServiceTest {
     @Mock
     private BuildingEntityValidator buildingEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultBuildingService =
-            new DefaultBuildingService(buildingRepository, converterService, buildingEntityValidator);
+            new DefaultBuildingService(buildingRepository, converterService, buildingEntityValidator,
+                applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -268,15 +278,48 @@ public class DefaultBuildingServiceTest {
         BuildingDTO buildingDTO = BuildingDTO.builder().id(1L).name("name").address("address").build();
         Pageable pageable = OffsetBasedPageRequest.of(1, 1);
 
-        when(buildingRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(building)));
+        when(buildingRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(building)));
         when(converterService.convert(building, BuildingDTO.class)).thenReturn(buildingDTO);
 
         assertEquals(List.of(buildingDTO), defaultBuildingService.findAllAsDTO(pageable));
 
-        verify(buildingRepository).findAll(any(Pageable.class));
+        verify(buildingRepository).findAllBy(any(Pageable.class));
         verify(converterService).convert(building, BuildingDTO.class);
     }
 
+    @Test
+    public void scrollAsDTO_whenKeysetPageRequestIsNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> defaultBuildingService.scrollAsDTO(null));
+
+        verifyNoInteractions(buildingRepository);
+    }
+
+    @Test
+    public void scrollAsDTO_keepScrollPositions() {
+        Building building = Building.builder().id(1L).name("name").address("address").build();
+        BuildingDTO buildingDTO = BuildingDTO.builder().id(1L).name("name").address("address").build();
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(1, Sort.by("name"));
+        ScrollPosition scrollPosition = ScrollPosition.forward(Map.of("name", "name", "id", 1L));
+
+        when(buildingRepository.scroll(keysetPageRequest)).thenReturn(
+            Window.from(List.of(building), index -> scrollPosition, true));
+        when(converterService.convert(building, BuildingDTO.class)).thenReturn(buildingDTO);
+
+        Window<BuildingDTO> buildingDTOWindow = defaultBuildingService.scrollAsDTO(keysetPageRequest);
+
+        assertEquals(List.of(buildingDTO), buildingDTOWindow.getContent());
+        assertEquals(scrollPosition, buildingDTOWindow.positionAt(0));
+        assertTrue(buildingDTOWindow.hasNext());
+    }
+
+    @Test
+    public void scrollAsDTO_whenBuildingRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(1, Sort.by("name"));
+        when(buildingRepository.scroll(keysetPageRequest)).thenThrow(BadJpqlGrammarException.class);
+
+        assertThrows(ServiceException.class, () -> defaultBuildingService.scrollAsDTO(keysetPageRequest));
+    }
+
     @Test
     public void deleteById_whenBuildingIsFound_success() {
         when(buildingRepository.existsById(1L)).thenReturn(true);
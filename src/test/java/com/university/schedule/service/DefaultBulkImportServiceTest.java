@@ -0,0 +1,178 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.dto.ImportRowError;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.model.Course;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.Student;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.model.User;
+import com.university.schedule.repository.BulkImportRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class DefaultBulkImportServiceTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private DefaultBulkImportService defaultBulkImportService;
+
+    @Mock
+    private BulkImportRepository bulkImportRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @BeforeEach
+    public void setUp() {
+        defaultBulkImportService = new DefaultBulkImportService(bulkImportRepository,
+            Validation.buildDefaultValidatorFactory().getValidator(), applicationEventPublisher,
+            TransactionOperations.withoutTransaction(), Runnable::run, passwordEncoder, 2, 10);
+        when(bulkImportRepository.findRoleIdsByName()).thenReturn(Map.of("Student", 1L, "Teacher", 2L));
+    }
+
+    private ImportReport importFile(ImportType type, String filename, String content) {
+        return defaultBulkImportService.importFile(type, filename,
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void importFile_whenUsers_insertValidRowsWithHashedPasswordsAndReportTheOthers() {
+        when(bulkImportRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("stored@example.com"));
+        when(bulkImportRepository.findGroupIdsByName(anyCollection())).thenReturn(Map.of("AB-01", 5L));
+
+        ImportReport report = importFile(ImportType.USERS, "users.csv", """
+            email,password,firstName,lastName,role,group
+            a@example.com,pass1,Ann,Lee,Student,AB-01
+            b@example.com,pass2,Bob,Ray,Teacher,
+            a@example.com,pass3,Ann,Kim,Student,
+            stored@example.com,pass4,Tom,Ng,Student,
+            c@example.com,pass,Cid,Fox,Admin,
+            """);
+
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkImportRepository, times(1)).insertUsers(captor.capture());
+        List<User> users = captor.getValue();
+        assertEquals(2, users.size());
+        Student student = assertInstanceOf(Student.class, users.get(0));
+        assertEquals(5L, student.getGroup().getId());
+        assertTrue(passwordEncoder.matches("pass1", student.getPassword()));
+        assertInstanceOf(Teacher.class, users.get(1));
+        verify(bulkImportRepository, times(3)).findExistingEmails(anyCollection());
+        verify(bulkImportRepository, times(1)).findRoleIdsByName();
+
+        assertEquals(5, report.rows());
+        assertEquals(2, report.imported());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(new ImportRowError(3, List.of("User with email = a@example.com is a duplicate of row 1")),
+            new ImportRowError(4, List.of("User with email = stored@example.com, already exists")),
+            new ImportRowError(5, List.of("Role with name = Admin not found",
+                "Minimum 4 characters, at least 1 letter and 1 number"))), report.errors());
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Student.class));
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Teacher.class));
+    }
+
+    @Test
+    public void importFile_whenChunkFailsToInsert_reportItsRows() {
+        when(bulkImportRepository.insertCourses(any())).thenThrow(new DuplicateKeyException("courses_name_key"));
+
+        ImportReport report =
+            importFile(ImportType.COURSES, "courses.json", "[{\"name\": \"Math\"}, {\"name\": \"\"}]");
+
+        assertEquals(0, report.imported());
+        assertEquals(List.of(new ImportRowError(1, List.of("Rolled back with its chunk: courses_name_key")),
+            new ImportRowError(2, List.of("Course name must not be blank"))), report.errors());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void importFile_whenGroups_checkDisciplineAndStoredNames() {
+        when(bulkImportRepository.findDisciplineIdsByName(anyCollection())).thenReturn(Map.of("Math", 3L));
+        when(bulkImportRepository.findGroupIdsByName(anyCollection())).thenReturn(Map.of("AB-02", 7L));
+
+        ImportReport report = importFile(ImportType.GROUPS, "groups.csv", "name,discipline\nAB-01,Math\nAB-02,Math\n" +
+            "AB-03,Art\n");
+
+        ArgumentCaptor<List<Group>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkImportRepository).insertGroups(captor.capture());
+        assertEquals(List.of("AB-01"), captor.getValue().stream().map(Group::getName).toList());
+        assertEquals(3L, captor.getValue().get(0).getDiscipline().getId());
+        assertEquals(List.of(new ImportRowError(2, List.of("Group with name = AB-02, already exists")),
+            new ImportRowError(3, List.of("Discipline with name = Art not found"))), report.errors());
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Group.class));
+    }
+
+    @Test
+    public void importFile_whenEnrollments_insertGroupAndTeacherLinks() {
+        when(bulkImportRepository.findCourseIdsByName(anyCollection())).thenReturn(Map.of("Math", 4L));
+        when(bulkImportRepository.findGroupIdsByName(anyCollection())).thenReturn(Map.of("AB-01", 5L));
+        when(bulkImportRepository.findTeacherIdsByEmail(anyCollection())).thenReturn(Map.of("t@example.com", 6L));
+        when(bulkImportRepository.findGroupCourses(anyCollection())).thenReturn(Set.of());
+        when(bulkImportRepository.findTeacherCourses(anyCollection())).thenReturn(Set.of());
+
+        ImportReport report = importFile(ImportType.ENROLLMENTS, "enrollments.csv", """
+            course,group,teacher
+            Math,AB-01,
+            Math,,t@example.com
+            Math,AB-01,t@example.com
+            """);
+
+        verify(bulkImportRepository).insertGroupCourses(List.of(new IdPair(5L, 4L)));
+        verify(bulkImportRepository).insertTeacherCourses(List.of(new IdPair(6L, 4L)));
+        assertEquals(2, report.imported());
+        assertEquals(List.of(new ImportRowError(3, List.of("Enrollment must have either a group or a teacher"))),
+            report.errors());
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Course.class));
+    }
+
+    @Test
+    public void importFile_whenFileIsMalformed_importRowsBeforeAndReportIt() {
+        ImportReport report = importFile(ImportType.COURSES, "courses.csv", "name\nMath\n\"Art\n");
+
+        verify(bulkImportRepository).insertCourses(any());
+        assertEquals(2, report.rows());
+        assertEquals(1, report.imported());
+        assertEquals(2, report.errors().get(0).row());
+    }
+
+    @Test
+    public void importFile_whenErrorsExceedLimit_truncateErrors() {
+        ImportReport report = importFile(ImportType.COURSES, "courses.csv", "name\n" + "\"\"\n".repeat(12));
+
+        assertEquals(12, report.failed());
+        assertEquals(10, report.errors().size());
+        assertTrue(report.errorsTruncated());
+    }
+
+    @Test
+    public void importFile_whenTypeIsNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> defaultBulkImportService.importFile(null, "users.csv", new ByteArrayInputStream(new byte[0])));
+    }
+}
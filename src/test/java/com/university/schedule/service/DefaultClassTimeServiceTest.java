@@ -16,9 +16,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -40,10 +41,14 @@ public class DefaultClassTimeServiceTest {
     @Mock
     private ClassTimeEntityValidator classTimeEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultClassTimeService =
-            new DefaultClassTimeService(classTimeRepository, classTimeEntityValidator, converterService);
+            new DefaultClassTimeService(classTimeRepository, classTimeEntityValidator, converterService,
+                applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -226,12 +231,12 @@ public class DefaultClassTimeServiceTest {
         ClassTimeDTO classTimeDTO = new ClassTimeDTO();
         Pageable pageable = OffsetBasedPageRequest.of(1, 1);
 
-        when(classTimeRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(classTime)));
+        when(classTimeRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(classTime)));
         when(converterService.convert(classTime, ClassTimeDTO.class)).thenReturn(classTimeDTO);
 
         assertEquals(List.of(classTimeDTO), defaultClassTimeService.findAllAsDTO(pageable));
 
-        verify(classTimeRepository).findAll(any(Pageable.class));
+        verify(classTimeRepository).findAllBy(any(Pageable.class));
         verify(converterService).convert(classTime, ClassTimeDTO.class);
     }
 
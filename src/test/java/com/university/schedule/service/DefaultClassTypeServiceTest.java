@@ -16,9 +16,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -40,10 +41,14 @@ public class DefaultClassTypeServiceTest {
     @Mock
     private ClassTypeEntityValidator classTypeEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultClassTypeService =
-            new DefaultClassTypeService(classTypeRepository, converterService, classTypeEntityValidator);
+            new DefaultClassTypeService(classTypeRepository, converterService, classTypeEntityValidator,
+                applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -234,7 +239,7 @@ public class DefaultClassTypeServiceTest {
 
         Pageable pageable = OffsetBasedPageRequest.of(1, 1);
 
-        when(classTypeRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(classType)));
+        when(classTypeRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(classType)));
         when(converterService.convert(classType, ClassTypeDTO.class)).thenReturn(classTypeDTO);
 
         List<ClassTypeDTO> actual = defaultClassTypeService.findAllAsDTO(pageable);
@@ -19,9 +19,10 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -44,10 +45,14 @@ public class DefaultClassroomServiceTest {
     @Mock
     private ConverterService converterService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultClassroomService =
-            new DefaultClassroomService(classroomRepository, classroomEntityValidator, converterService);
+            new DefaultClassroomService(classroomRepository, classroomEntityValidator, converterService,
+                applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -213,12 +218,12 @@ public class DefaultClassroomServiceTest {
 
         Pageable pageable = OffsetBasedPageRequest.of(1, 1);
 
-        when(classroomRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(classroom)));
+        when(classroomRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(classroom)));
         when(converterService.convert(classroom, ClassroomDTO.class)).thenReturn(classroomDTO);
 
         assertEquals(List.of(classroomDTO), defaultClassroomService.findAllAsDTO(pageable));
 
-        verify(classroomRepository).findAll(any(Pageable.class));
+        verify(classroomRepository).findAllBy(any(Pageable.class));
         verify(converterService).convert(classroom, ClassroomDTO.class);
     }
 
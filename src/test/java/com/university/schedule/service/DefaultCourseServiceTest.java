@@ -2,6 +2,7 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.CourseDTO;
+import com.university.schedule.dto.IdPair;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Course;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
@@ -48,12 +50,15 @@ public class DefaultCourseServiceTest {
     private UserPageableCourseVisitor userPageableCourseVisitor;
 
     @Mock
-    private UserService userService;
+    private UserIdentityService userIdentityService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @BeforeEach
     public void setUp() {
         defaultCourseService = new DefaultCourseService(courseRepository, converterService, courseEntityValidator,
-            userPageableCourseVisitor, userService);
+            userPageableCourseVisitor, userIdentityService, applicationEventPublisher);
     }
 
     @ParameterizedTest
@@ -188,10 +193,10 @@ public class DefaultCourseServiceTest {
     public void findAllAsDTO_whenUserIsNotFound_throwServiceException() {
         String email = "nonexistent@example.com";
         Pageable pageable = mock(Pageable.class);
-        when(userService.findByEmail(email)).thenThrow(ServiceException.class);
+        when(userIdentityService.findReferenceByEmail(email)).thenThrow(ServiceException.class);
         assertThrows(ServiceException.class, () -> defaultCourseService.findAllAsDTO(email, pageable));
 
-        verify(userService).findByEmail(email);
+        verify(userIdentityService).findReferenceByEmail(email);
         verifyNoInteractions(courseRepository);
     }
 
@@ -203,7 +208,7 @@ public class DefaultCourseServiceTest {
         List<Course> courses = Collections.singletonList(new Course(1L, "Course 1"));
         List<CourseDTO> courseDTOs = Collections.singletonList(CourseDTO.builder().id(1L).name("Course 1").build());
 
-        when(userService.findByEmail(email)).thenReturn(user);
+        when(userIdentityService.findReferenceByEmail(email)).thenReturn(user);
         when(user.accept(userPageableCourseVisitor, pageable)).thenReturn(courses);
         when(converterService.convert(any(Course.class), eq(CourseDTO.class))).thenReturn(courseDTOs.get(0));
 
@@ -211,7 +216,7 @@ public class DefaultCourseServiceTest {
         assertFalse(result.isEmpty());
         assertEquals(courseDTOs, result);
 
-        verify(userService).findByEmail(email);
+        verify(userIdentityService).findReferenceByEmail(email);
         verify(user).accept(userPageableCourseVisitor, pageable);
         verify(converterService).convert(any(Course.class), eq(CourseDTO.class));
     }
@@ -253,6 +258,22 @@ public class DefaultCourseServiceTest {
         verifyNoMoreInteractions(courseRepository);
     }
 
+    @Test
+    public void findTeacherCourseIds_success() {
+        List<IdPair> teacherCourseIds = List.of(new IdPair(1L, 2L));
+        when(courseRepository.findTeacherCourseIds(List.of(1L))).thenReturn(teacherCourseIds);
+
+        assertEquals(teacherCourseIds, defaultCourseService.findTeacherCourseIds(List.of(1L)));
+        verify(courseRepository).findTeacherCourseIds(List.of(1L));
+    }
+
+    @Test
+    public void findGroupCourseIds_whenCourseRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        when(courseRepository.findGroupCourseIds(List.of(1L))).thenThrow(InvalidDataAccessApiUsageException.class);
+
+        assertThrows(ServiceException.class, () -> defaultCourseService.findGroupCourseIds(List.of(1L)));
+    }
+
     @Test
     public void deleteById_whenCourseIsNotFound_throwDeletionFailedException() {
         Long id = 1L;
@@ -15,9 +15,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -39,10 +40,14 @@ public class DefaultDisciplineServiceTest {
     @Mock
     private ConverterService converterService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultDisciplineService =
-            new DefaultDisciplineService(disciplineRepository, disciplineEntityValidator, converterService);
+            new DefaultDisciplineService(disciplineRepository, disciplineEntityValidator, converterService,
+                applicationEventPublisher);
     }
 
     @Test
@@ -97,21 +102,21 @@ public class DefaultDisciplineServiceTest {
         DisciplineDTO disciplineDTO = new DisciplineDTO();
         Pageable pageable = Pageable.ofSize(1);
         when(converterService.convert(discipline, DisciplineDTO.class)).thenReturn(disciplineDTO);
-        when(disciplineRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(discipline)));
+        when(disciplineRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(discipline)));
 
         assertEquals(List.of(disciplineDTO), defaultDisciplineService.findAllAsDTO(pageable));
 
-        verify(disciplineRepository).findAll(pageable);
+        verify(disciplineRepository).findAllBy(pageable);
     }
 
     @Test
     public void findAllAsDTO_whenPageableIsValidAndDisciplineRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
         Pageable pageable = Pageable.ofSize(1);
-        when(disciplineRepository.findAll(pageable)).thenThrow(BadJpqlGrammarException.class);
+        when(disciplineRepository.findAllBy(pageable)).thenThrow(BadJpqlGrammarException.class);
 
         assertThrows(ServiceException.class, () -> defaultDisciplineService.findAllAsDTO(pageable));
 
-        verify(disciplineRepository).findAll(pageable);
+        verify(disciplineRepository).findAllBy(pageable);
     }
 
     @Test
@@ -16,9 +16,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -40,9 +41,13 @@ public class DefaultGroupServiceTest {
     @Mock
     private ConverterService converterService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
-        defaultGroupService = new DefaultGroupService(groupRepository, groupEntityValidator, converterService);
+        defaultGroupService = new DefaultGroupService(groupRepository, groupEntityValidator, converterService,
+            applicationEventPublisher);
     }
 
     @Test
@@ -89,11 +94,11 @@ public class DefaultGroupServiceTest {
     @Test
     public void findAllAsDTOPageable_whenRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
         Pageable pageable = Pageable.unpaged();
-        when(groupRepository.findAll(pageable)).thenThrow(BadJpqlGrammarException.class);
+        when(groupRepository.findAllBy(pageable)).thenThrow(BadJpqlGrammarException.class);
 
         assertThrows(ServiceException.class, () -> defaultGroupService.findAllAsDTO(pageable));
 
-        verify(groupRepository).findAll(pageable);
+        verify(groupRepository).findAllBy(pageable);
     }
 
     @ParameterizedTest
@@ -106,14 +111,14 @@ public class DefaultGroupServiceTest {
     public void findAllAsDTOPageable_success() {
         Pageable pageable = Pageable.unpaged();
         Group group = new Group();
-        when(groupRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(group)));
+        when(groupRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(group)));
 
         GroupDTO groupDTO = new GroupDTO();
         when(converterService.convert(group, GroupDTO.class)).thenReturn(groupDTO);
 
         assertEquals(List.of(groupDTO), defaultGroupService.findAllAsDTO(pageable));
 
-        verify(groupRepository).findAll(pageable);
+        verify(groupRepository).findAllBy(pageable);
     }
 
     @Test
@@ -0,0 +1,208 @@
+package com.university.schedule.service;
+
+import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ImportReport;
+import com.university.schedule.exception.JobNotFoundException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.importer.ImportType;
+import com.university.schedule.model.ImportJob;
+import com.university.schedule.model.ImportJob.Status;
+import com.university.schedule.repository.ImportJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class DefaultImportJobServiceTest {
+
+    private static final String CONTENT = "name\nCourse A\n";
+
+    private DefaultImportJobService importJobService;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private BulkImportService bulkImportService;
+
+    @Mock
+    private ConverterService converterService;
+
+    /**
+     * Tasks submitted to the job executor, run by the test when needed.
+     */
+    private List<Runnable> submittedTasks;
+
+    /**
+     * The only persisted job, shared by the repository mock.
+     */
+    private ImportJob persistedJob;
+
+    @BeforeEach
+    public void setUp() {
+        submittedTasks = new ArrayList<>();
+        Executor executor = submittedTasks::add;
+        importJobService =
+            new DefaultImportJobService(importJobRepository, bulkImportService, converterService, executor);
+
+        when(importJobRepository.save(any())).thenAnswer(invocation -> {
+            persistedJob = invocation.getArgument(0);
+            persistedJob.setId(1L);
+            return persistedJob;
+        });
+        when(importJobRepository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(persistedJob));
+        when(importJobRepository.claimLease(any(), anyString(), any(), any(), any())).thenReturn(1);
+    }
+
+    private void runSubmittedTasks() {
+        List<Runnable> tasks = new ArrayList<>(submittedTasks);
+        submittedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static Set<Path> listUploads() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("import-"))
+                .collect(Collectors.toSet());
+        }
+    }
+
+    private static InputStream upload() {
+        return new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void submit_whenJobRuns_importStoredFileAndKeepReport() {
+        ImportReport report = new ImportReport("courses", 1, 1, 0, List.of(), false, 5);
+        List<String> importedContent = new ArrayList<>();
+        when(bulkImportService.importFile(eq(ImportType.COURSES), eq("courses.csv"), any())).thenAnswer(invocation -> {
+            importedContent.add(new String(invocation.<InputStream>getArgument(2).readAllBytes(),
+                StandardCharsets.UTF_8));
+            return report;
+        });
+
+        Long id = importJobService.submit(ImportType.COURSES, "courses.csv", upload());
+
+        assertEquals(1L, id);
+        assertEquals(Status.QUEUED, persistedJob.getStatus());
+        verifyNoInteractions(bulkImportService);
+
+        runSubmittedTasks();
+
+        assertEquals(List.of(CONTENT), importedContent);
+        assertEquals(Status.COMPLETED, persistedJob.getStatus());
+        assertEquals(report, persistedJob.getReport());
+    }
+
+    @Test
+    public void submit_whenImportThrowsException_failJobWithMessage() {
+        when(bulkImportService.importFile(any(), any(), any())).thenThrow(new ServiceException("DAO operation failed"));
+
+        importJobService.submit(ImportType.COURSES, "courses.csv", upload());
+        runSubmittedTasks();
+
+        assertEquals(Status.FAILED, persistedJob.getStatus());
+        assertEquals("DAO operation failed", persistedJob.getErrorMessage());
+        assertNull(persistedJob.getReport());
+    }
+
+    @Test
+    public void submit_whenErrorMessageIsTooLong_truncateIt() {
+        when(bulkImportService.importFile(any(), any(), any())).thenThrow(new ServiceException("e".repeat(5000)));
+
+        importJobService.submit(ImportType.COURSES, "courses.csv", upload());
+        runSubmittedTasks();
+
+        assertEquals(ImportJob.ERROR_MESSAGE_MAX_LENGTH, persistedJob.getErrorMessage().length());
+    }
+
+    @Test
+    public void submit_whenExecutorRejectsJob_failJobAndDeleteFile() throws Exception {
+        DefaultImportJobService rejectingService = new DefaultImportJobService(importJobRepository, bulkImportService,
+            converterService, task -> {
+                throw new RejectedExecutionException("queue is full");
+            });
+        Set<Path> uploadsBefore = listUploads();
+
+        assertThrows(ServiceException.class,
+            () -> rejectingService.submit(ImportType.COURSES, "courses.csv", upload()));
+
+        assertEquals(Status.FAILED, persistedJob.getStatus());
+        assertNotNull(persistedJob.getErrorMessage());
+        assertEquals(uploadsBefore, listUploads());
+        verifyNoInteractions(bulkImportService);
+    }
+
+    @Test
+    public void submit_whenArgumentsAreNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> importJobService.submit(null, "courses.csv", upload()));
+        assertThrows(IllegalArgumentException.class,
+            () -> importJobService.submit(ImportType.COURSES, "courses.csv", null));
+        verifyNoInteractions(importJobRepository);
+    }
+
+    @Test
+    public void findByIdAsDTO_whenJobNotFound_throwJobNotFoundException() {
+        assertThrows(JobNotFoundException.class, () -> importJobService.findByIdAsDTO(2L));
+    }
+
+    @Test
+    public void failInterruptedJobs_markRunningJobsAsFailed() {
+        ImportJob runningJob = ImportJob.builder().id(2L).type(ImportType.USERS).status(Status.RUNNING).build();
+        when(importJobRepository.findAllByStatusIn(any())).thenReturn(List.of(runningJob));
+
+        importJobService.failInterruptedJobs();
+
+        assertEquals(Status.FAILED, runningJob.getStatus());
+        verify(importJobRepository).saveAll(List.of(runningJob));
+    }
+
+    @Test
+    public void failInterruptedJobs_whenLeaseIsHeldByAnotherInstance_keepJobRunning() {
+        ImportJob runningJob = ImportJob.builder().id(2L).type(ImportType.USERS).status(Status.RUNNING)
+            .ownerInstance("otherInstance").heartbeatAt(LocalDateTime.now()).build();
+        when(importJobRepository.findAllByStatusIn(any())).thenReturn(List.of(runningJob));
+
+        importJobService.failInterruptedJobs();
+
+        assertEquals(Status.RUNNING, runningJob.getStatus());
+        verify(importJobRepository, never()).claimLease(any(), any(), any(), any(), any());
+        verify(importJobRepository, never()).saveAll(any());
+    }
+
+    @Test
+    public void failInterruptedJobs_whenJobIsRunningOnThisInstance_keepItRunning() {
+        importJobService.submit(ImportType.COURSES, "courses.csv", upload());
+        persistedJob.setHeartbeatAt(LocalDateTime.now().minusHours(1));
+        when(importJobRepository.findAllByStatusIn(any())).thenReturn(List.of(persistedJob));
+
+        importJobService.failInterruptedJobs();
+
+        assertEquals(Status.QUEUED, persistedJob.getStatus());
+        verify(importJobRepository, never()).saveAll(any());
+    }
+}
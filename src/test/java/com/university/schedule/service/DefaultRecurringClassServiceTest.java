@@ -0,0 +1,164 @@
+package com.university.schedule.service;
+
+import com.university.schedule.event.ScheduleChangedEvent;
+import com.university.schedule.exception.DeletionFailedException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.RecurringClass;
+import com.university.schedule.repository.RecurringClassRepository;
+import com.university.schedule.validation.RecurringClassEntityValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class DefaultRecurringClassServiceTest {
+
+    private DefaultRecurringClassService defaultRecurringClassService;
+
+    @Mock
+    private RecurringClassRepository recurringClassRepository;
+
+    @Mock
+    private RecurringClassEntityValidator recurringClassEntityValidator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @BeforeEach
+    public void setUp() {
+        defaultRecurringClassService =
+            new DefaultRecurringClassService(recurringClassRepository, recurringClassEntityValidator,
+                applicationEventPublisher);
+    }
+
+    @Test
+    public void save_success() {
+        RecurringClass recurringClass = new RecurringClass();
+
+        assertDoesNotThrow(() -> defaultRecurringClassService.save(recurringClass));
+
+        verify(recurringClassEntityValidator).validate(recurringClass);
+        verify(recurringClassRepository).save(recurringClass);
+    }
+
+    @Test
+    public void save_whenRecurringClassIsInvalid_throwValidationException() {
+        RecurringClass recurringClass = new RecurringClass();
+        doThrow(ValidationException.class).when(recurringClassEntityValidator).validate(recurringClass);
+
+        assertThrows(ValidationException.class, () -> defaultRecurringClassService.save(recurringClass));
+
+        verifyNoInteractions(recurringClassRepository);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void saveAll_whenListIsNull_throwIllegalArgumentException(List<RecurringClass> nullList) {
+        assertThrows(IllegalArgumentException.class, () -> defaultRecurringClassService.saveAll(nullList));
+        verifyNoInteractions(recurringClassRepository);
+    }
+
+    @Test
+    public void saveAll_success() {
+        List<RecurringClass> recurringClasses = List.of(new RecurringClass(), new RecurringClass());
+
+        assertEquals(2, defaultRecurringClassService.saveAll(recurringClasses));
+
+        verify(recurringClassEntityValidator).validateAll(recurringClasses);
+        verify(recurringClassRepository).saveAll(recurringClasses);
+    }
+
+    @Test
+    public void saveAll_whenRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        when(recurringClassRepository.saveAll(any())).thenThrow(InvalidDataAccessApiUsageException.class);
+
+        assertThrows(ServiceException.class,
+            () -> defaultRecurringClassService.saveAll(List.of(new RecurringClass())));
+    }
+
+    @Test
+    public void findAllActive_whenGroupIdsIsNull_success() {
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 31);
+        RecurringClass recurringClass = new RecurringClass();
+        when(recurringClassRepository.findAllActive(startDate, endDate, 1L, 2L)).thenReturn(List.of(recurringClass));
+
+        assertEquals(List.of(recurringClass),
+            defaultRecurringClassService.findAllActive(startDate, endDate, 1L, 2L, null));
+
+        verify(recurringClassRepository, never()).findAllActive(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void findAllActive_whenGroupIdsIsNotNull_success() {
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 31);
+        RecurringClass recurringClass = new RecurringClass();
+        when(recurringClassRepository.findAllActive(startDate, endDate, null, null, List.of(3L))).thenReturn(
+            List.of(recurringClass));
+
+        assertEquals(List.of(recurringClass),
+            defaultRecurringClassService.findAllActive(startDate, endDate, null, null, List.of(3L)));
+    }
+
+    @Test
+    public void addExceptionDate_success() {
+        RecurringClass recurringClass =
+            RecurringClass.builder().id(1L).dayOfWeek(DayOfWeek.MONDAY).startDate(LocalDate.of(2000, 1, 1))
+                .endDate(LocalDate.of(2000, 1, 31)).exceptionDates(new HashSet<>()).build();
+        when(recurringClassRepository.findById(1L)).thenReturn(Optional.of(recurringClass));
+
+        defaultRecurringClassService.addExceptionDate(1L, LocalDate.of(2000, 1, 10));
+
+        assertEquals(Set.of(LocalDate.of(2000, 1, 10)), recurringClass.getExceptionDates());
+        assertEquals(List.of(LocalDate.of(2000, 1, 3), LocalDate.of(2000, 1, 17), LocalDate.of(2000, 1, 24),
+            LocalDate.of(2000, 1, 31)), recurringClass.getOccurrenceDates(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 2, 29)));
+        verify(recurringClassRepository).save(recurringClass);
+    }
+
+    @Test
+    public void addExceptionDate_whenRecurringClassNotFound_throwServiceException() {
+        when(recurringClassRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ServiceException.class,
+            () -> defaultRecurringClassService.addExceptionDate(1L, LocalDate.of(2000, 1, 10)));
+    }
+
+    @Test
+    public void deleteById_whenRecurringClassDoNotExists_throwDeletionFailedException() {
+        when(recurringClassRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(DeletionFailedException.class, () -> defaultRecurringClassService.deleteById(1L));
+        verify(recurringClassRepository, never()).deleteById(1L);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    public void deleteById_success() {
+        RecurringClass recurringClass = new RecurringClass();
+        recurringClass.setStartDate(LocalDate.of(2000, 1, 3));
+        recurringClass.setEndDate(LocalDate.of(2000, 6, 30));
+        when(recurringClassRepository.findById(1L)).thenReturn(Optional.of(recurringClass));
+        assertDoesNotThrow(() -> defaultRecurringClassService.deleteById(1L));
+        verify(recurringClassRepository).deleteById(1L);
+        verify(applicationEventPublisher).publishEvent(
+            ScheduleChangedEvent.ofRecurringClasses(List.of(recurringClass)));
+    }
+}
@@ -2,6 +2,7 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.RoleDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
 import com.university.schedule.model.Role;
@@ -13,9 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -39,9 +41,13 @@ public class DefaultRoleServiceTest {
     @Mock
     private RoleEntityValidator roleEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
-        defaultRoleService = new DefaultRoleService(roleRepository, converterService, roleEntityValidator);
+        defaultRoleService = new DefaultRoleService(roleRepository, converterService, roleEntityValidator,
+            applicationEventPublisher);
     }
 
     @Test
@@ -115,12 +121,12 @@ public class DefaultRoleServiceTest {
 
         Pageable pageable = Pageable.unpaged();
 
-        when(roleRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(role)));
+        when(roleRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(role)));
         when(converterService.convert(role, RoleDTO.class)).thenReturn(roleDTO);
 
         assertEquals(List.of(roleDTO), defaultRoleService.findAllAsDTO(pageable));
 
-        verify(roleRepository).findAll(pageable);
+        verify(roleRepository).findAllBy(pageable);
         verify(converterService).convert(role, RoleDTO.class);
     }
 
@@ -134,11 +140,11 @@ public class DefaultRoleServiceTest {
     public void findAllAsDTOPageable_whenRoleRepositoryThrowsExceptionExtendsDataAccessException_thenServiceException() {
         Pageable pageable = Pageable.unpaged();
 
-        when(roleRepository.findAll(pageable)).thenThrow(BadJpqlGrammarException.class);
+        when(roleRepository.findAllBy(pageable)).thenThrow(BadJpqlGrammarException.class);
 
         assertThrows(ServiceException.class, () -> defaultRoleService.findAllAsDTO(pageable));
 
-        verify(roleRepository).findAll(pageable);
+        verify(roleRepository).findAllBy(pageable);
     }
 
     @Test
@@ -149,6 +155,7 @@ public class DefaultRoleServiceTest {
 
         verify(roleEntityValidator).validate(role);
         verify(roleRepository).save(role);
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Role.class));
     }
 
     @ParameterizedTest
@@ -275,6 +282,7 @@ public class DefaultRoleServiceTest {
 
         verify(roleRepository).existsById(1L);
         verify(roleRepository).deleteById(1L);
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Role.class));
     }
 
     @Test
@@ -0,0 +1,284 @@
+package com.university.schedule.service;
+
+import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ScheduleConflict;
+import com.university.schedule.dto.ScheduleGenerationResult;
+import com.university.schedule.exception.ScheduleGenerationDateException;
+import com.university.schedule.exception.ServiceException;
+import com.university.schedule.model.*;
+import com.university.schedule.model.ScheduleGenerationJob.Phase;
+import com.university.schedule.model.ScheduleGenerationJob.Status;
+import com.university.schedule.repository.ScheduleGenerationJobItemRepository;
+import com.university.schedule.repository.ScheduleGenerationJobRepository;
+import com.university.schedule.validation.ScheduleValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class DefaultScheduleGenerationJobServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 9, 4);
+
+    private static final LocalDate END_DATE = LocalDate.of(2023, 9, 25);
+
+    private DefaultScheduleGenerationJobService scheduleGenerationJobService;
+
+    @Mock
+    private ScheduleGenerationJobRepository scheduleGenerationJobRepository;
+
+    @Mock
+    private ScheduleGenerationJobItemRepository scheduleGenerationJobItemRepository;
+
+    @Mock
+    private ScheduleGenerator scheduleGenerator;
+
+    @Mock
+    private ScheduleValidator scheduleValidator;
+
+    @Mock
+    private ConverterService converterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Tasks submitted to the job executor, run by the test when needed.
+     */
+    private List<Runnable> submittedTasks;
+
+    /**
+     * The only persisted job, shared by the repository mock.
+     */
+    private ScheduleGenerationJob persistedJob;
+
+    /**
+     * Persisted items of the job, shared by the item repository mock.
+     */
+    private List<ScheduleGenerationJobItem> persistedItems;
+
+    @BeforeEach
+    public void setUp() {
+        submittedTasks = new ArrayList<>();
+        Executor executor = submittedTasks::add;
+        scheduleGenerationJobService =
+            new DefaultScheduleGenerationJobService(scheduleGenerationJobRepository,
+                scheduleGenerationJobItemRepository, scheduleGenerator, scheduleValidator, converterService,
+                transactionManager, executor);
+
+        when(scheduleGenerationJobRepository.save(any())).thenAnswer(invocation -> {
+            persistedJob = invocation.getArgument(0);
+            persistedJob.setId(1L);
+            return persistedJob;
+        });
+        when(scheduleGenerationJobRepository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(persistedJob));
+        when(scheduleGenerationJobRepository.claimLease(eq(1L), anyString(), any(), any(), any())).thenReturn(1);
+        persistedItems = List.of();
+        when(scheduleGenerationJobItemRepository.saveAll(any())).thenAnswer(invocation -> {
+            persistedItems = invocation.getArgument(0);
+            return persistedItems;
+        });
+        when(scheduleGenerationJobItemRepository.findAllByJobId(1L)).thenAnswer(invocation -> persistedItems);
+        when(scheduleGenerator.generateValidatedInBatches(any(), any(), any())).thenReturn(
+            ScheduleGenerationResult.builder().generatedRows(10).build());
+    }
+
+    private static DayScheduleItem createDayScheduleItem() {
+        return new DayScheduleItem(new Course("courseName"), new Teacher("email", "password", "firstName", "lastName"),
+            new Classroom("classroomName", new Building("buildingName", "buildingAddress")),
+            new ClassTime(1, LocalTime.of(8, 0), Duration.ofMinutes(90)), DayOfWeek.MONDAY, new ClassType("classType"),
+            Set.of(new Group("groupName", new Discipline("disciplineName"))));
+    }
+
+    private void runSubmittedTasks() {
+        List<Runnable> tasks = new ArrayList<>(submittedTasks);
+        submittedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void submit_whenJobRuns_generateRangeInWeeklyChunks() {
+        Long id = scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+
+        assertEquals(1L, id);
+        assertEquals(Status.QUEUED, persistedJob.getStatus());
+
+        runSubmittedTasks();
+
+        verify(scheduleGenerator).generateValidatedInBatches(eq(START_DATE), eq(START_DATE.plusWeeks(1)), any());
+        verify(scheduleGenerator).generateValidatedInBatches(eq(START_DATE.plusWeeks(1)), eq(START_DATE.plusWeeks(2)),
+            any());
+        verify(scheduleGenerator).generateValidatedInBatches(eq(START_DATE.plusWeeks(2)), eq(END_DATE), any());
+        assertEquals(1, persistedItems.size());
+        verify(transactionManager, times(5)).commit(any());
+        assertEquals(Status.COMPLETED, persistedJob.getStatus());
+        assertEquals(Phase.DONE, persistedJob.getPhase());
+        assertEquals(30, persistedJob.getGeneratedRows());
+        assertEquals(END_DATE, persistedJob.getNextChunkDate());
+    }
+
+    @Test
+    public void submit_whenStartDateIsAfterEndDate_throwScheduleGenerationDateException() {
+        assertThrows(ScheduleGenerationDateException.class,
+            () -> scheduleGenerationJobService.submit(END_DATE, START_DATE, List.of()));
+        verifyNoInteractions(scheduleGenerationJobRepository);
+    }
+
+    @Test
+    public void submit_whenItemsHaveConflicts_failJobWithConflictCount() {
+        ScheduleConflict conflict =
+            new ScheduleConflict(ScheduleConflict.Type.TEACHER, new DayScheduleItem(), new DayScheduleItem());
+        when(scheduleValidator.findConflicts(any())).thenReturn(List.of(conflict, conflict));
+
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        runSubmittedTasks();
+
+        assertEquals(Status.FAILED, persistedJob.getStatus());
+        assertEquals(2, persistedJob.getConflictsFound());
+        verifyNoInteractions(scheduleGenerator);
+    }
+
+    @Test
+    public void cancel_whenJobIsQueued_doNotGenerate() {
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+
+        scheduleGenerationJobService.cancel(1L);
+        runSubmittedTasks();
+
+        assertEquals(Status.CANCELLED, persistedJob.getStatus());
+        verifyNoInteractions(scheduleGenerator);
+    }
+
+    @Test
+    public void resume_whenChunkFailed_continueFromFirstUncommittedChunk() {
+        when(scheduleGenerator.generateValidatedInBatches(any(), any(), any()))
+            .thenReturn(ScheduleGenerationResult.builder().generatedRows(10).build())
+            .thenThrow(new ServiceException("Can't generate schedule due to data access issues"))
+            .thenReturn(ScheduleGenerationResult.builder().generatedRows(10).build());
+
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        runSubmittedTasks();
+
+        assertEquals(Status.FAILED, persistedJob.getStatus());
+        assertEquals(START_DATE.plusWeeks(1), persistedJob.getNextChunkDate());
+        verify(transactionManager).rollback(any());
+
+        scheduleGenerationJobService.resume(1L);
+        runSubmittedTasks();
+
+        verify(scheduleGenerator, times(2)).generateValidatedInBatches(eq(START_DATE.plusWeeks(1)),
+            eq(START_DATE.plusWeeks(2)), any());
+        assertEquals(Status.COMPLETED, persistedJob.getStatus());
+        assertNull(persistedJob.getErrorMessage());
+    }
+
+    @Test
+    public void resume_whenJobIsCompleted_throwServiceException() {
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        runSubmittedTasks();
+
+        assertThrows(ServiceException.class, () -> scheduleGenerationJobService.resume(1L));
+        assertThrows(ServiceException.class, () -> scheduleGenerationJobService.cancel(1L));
+    }
+
+    @Test
+    public void resume_whenJobIsCancelledWhileRunning_throwServiceExceptionUntilChunkIsFinished() {
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        persistedJob.setStatus(Status.CANCELLED);
+
+        assertThrows(ServiceException.class, () -> scheduleGenerationJobService.resume(1L));
+    }
+
+    @Test
+    public void resumeInterruptedJobs_continueRunningJobsFromPersistedItems() {
+        persistedJob = ScheduleGenerationJob.builder().id(1L).status(Status.RUNNING).phase(Phase.GENERATING)
+            .startDate(START_DATE).endDate(END_DATE).nextChunkDate(START_DATE.plusWeeks(2)).generatedRows(20).build();
+        persistedItems = List.of(ScheduleGenerationJobItem.of(1L, createDayScheduleItem()));
+        when(scheduleGenerationJobRepository.findAllByStatusIn(any())).thenReturn(List.of(persistedJob));
+
+        scheduleGenerationJobService.resumeInterruptedJobs();
+
+        assertEquals(Status.QUEUED, persistedJob.getStatus());
+        assertNotNull(persistedJob.getOwnerInstance());
+        runSubmittedTasks();
+
+        verify(scheduleGenerator).generateValidatedInBatches(eq(START_DATE.plusWeeks(2)), eq(END_DATE),
+            argThat(dayScheduleItems -> dayScheduleItems.size() == 1));
+        assertEquals(Status.COMPLETED, persistedJob.getStatus());
+        assertEquals(30, persistedJob.getGeneratedRows());
+    }
+
+    @Test
+    public void resumeInterruptedJobs_whenJobIsSubmittedByThisInstance_doNotStartItAgain() {
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        when(scheduleGenerationJobRepository.findAllByStatusIn(any())).thenReturn(List.of(persistedJob));
+
+        scheduleGenerationJobService.resumeInterruptedJobs();
+
+        assertEquals(1, submittedTasks.size());
+        verify(scheduleGenerationJobRepository, never()).claimLease(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void resumeInterruptedJobs_whenLeaseIsHeldByAnotherInstance_doNotStartJob() {
+        persistedJob = ScheduleGenerationJob.builder().id(1L).status(Status.RUNNING).phase(Phase.GENERATING)
+            .startDate(START_DATE).endDate(END_DATE).nextChunkDate(START_DATE).ownerInstance("otherInstance")
+            .heartbeatAt(LocalDateTime.now()).build();
+        when(scheduleGenerationJobRepository.findAllByStatusIn(any())).thenReturn(List.of(persistedJob));
+
+        scheduleGenerationJobService.resumeInterruptedJobs();
+
+        assertTrue(submittedTasks.isEmpty());
+        assertEquals(Status.RUNNING, persistedJob.getStatus());
+        verify(scheduleGenerationJobRepository, never()).claimLease(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void resumeInterruptedJobs_whenAnotherInstanceClaimsExpiredLeaseFirst_doNotStartJob() {
+        persistedJob = ScheduleGenerationJob.builder().id(1L).status(Status.RUNNING).phase(Phase.GENERATING)
+            .startDate(START_DATE).endDate(END_DATE).nextChunkDate(START_DATE).ownerInstance("otherInstance")
+            .heartbeatAt(LocalDateTime.now().minusHours(1)).build();
+        when(scheduleGenerationJobRepository.findAllByStatusIn(any())).thenReturn(List.of(persistedJob));
+        when(scheduleGenerationJobRepository.claimLease(eq(1L), anyString(), any(), any(), any())).thenReturn(0);
+
+        scheduleGenerationJobService.resumeInterruptedJobs();
+
+        assertTrue(submittedTasks.isEmpty());
+        assertEquals("otherInstance", persistedJob.getOwnerInstance());
+    }
+
+    @Test
+    public void submit_whenLeaseIsTakenOverWhileRunning_stopWithoutFinishingJob() {
+        when(scheduleGenerator.generateValidatedInBatches(any(), any(), any())).thenAnswer(invocation -> {
+            persistedJob.setOwnerInstance("otherInstance");
+            return ScheduleGenerationResult.builder().generatedRows(10).build();
+        });
+
+        scheduleGenerationJobService.submit(START_DATE, END_DATE, List.of(createDayScheduleItem()));
+        runSubmittedTasks();
+
+        verify(scheduleGenerator, times(1)).generateValidatedInBatches(any(), any(), any());
+        assertEquals(Status.RUNNING, persistedJob.getStatus());
+        assertEquals(START_DATE.plusWeeks(1), persistedJob.getNextChunkDate());
+    }
+}
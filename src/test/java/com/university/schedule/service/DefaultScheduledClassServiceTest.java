@@ -1,28 +1,51 @@
 package com.university.schedule.service;
 
+import com.university.schedule.cache.ScheduleWeekCache;
 import com.university.schedule.converter.ConverterService;
+import com.university.schedule.dto.ClassTimeDTO;
+import com.university.schedule.dto.ScheduleCursor;
 import com.university.schedule.dto.ScheduleFilterItem;
+import com.university.schedule.dto.ScheduledClassChanges;
 import com.university.schedule.dto.ScheduledClassDTO;
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.dto.TeacherDTO;
+import com.university.schedule.event.ScheduleChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.ClassTime;
+import com.university.schedule.model.RecurringClass;
 import com.university.schedule.model.ScheduledClass;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.repository.ScheduledClassBatchRepository;
+import com.university.schedule.repository.ScheduledClassProjectionRepository;
 import com.university.schedule.repository.ScheduledClassRepository;
 import com.university.schedule.validation.ScheduledClassEntityValidator;
+import com.university.schedule.validation.ScheduledClassValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +58,12 @@ public class DefaultScheduledClassServiceTest {
     @Mock
     private ScheduledClassRepository scheduledClassRepository;
 
+    @Mock
+    private ScheduledClassBatchRepository scheduledClassBatchRepository;
+
+    @Mock
+    private ScheduledClassProjectionRepository scheduledClassProjectionRepository;
+
     @Mock
     private ScheduleFilterItemService scheduleFilterItemService;
 
@@ -44,11 +73,24 @@ public class DefaultScheduledClassServiceTest {
     @Mock
     private ScheduledClassEntityValidator scheduledClassEntityValidator;
 
+    @Mock
+    private RecurringClassService recurringClassService;
+
+    @Mock
+    private ScheduleWeekCache scheduleWeekCache;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
         defaultScheduledClassService =
-            new DefaultScheduledClassService(scheduledClassRepository, scheduleFilterItemService, converterService,
-                scheduledClassEntityValidator);
+            new DefaultScheduledClassService(scheduledClassRepository, scheduledClassBatchRepository,
+                scheduledClassProjectionRepository,
+                scheduleFilterItemService, converterService, scheduledClassEntityValidator,
+                recurringClassService, scheduleWeekCache, applicationEventPublisher);
+        when(scheduleWeekCache.get(any(ScheduleFilterItem.class), any())).thenAnswer(
+            invocation -> invocation.<Supplier<List<ScheduledClassDTO>>>getArgument(1).get());
     }
 
     @ParameterizedTest
@@ -130,6 +172,82 @@ public class DefaultScheduledClassServiceTest {
         verify(scheduledClassRepository).save(scheduledClass);
     }
 
+    @ParameterizedTest
+    @NullSource
+    public void saveAll_whenListIsNull_throwIllegalArgumentException(List<ScheduledClass> nullList) {
+        assertThrows(IllegalArgumentException.class, () -> defaultScheduledClassService.saveAll(nullList));
+    }
+
+    @Test
+    public void saveAll_success() {
+        List<ScheduledClass> scheduledClasses = List.of(new ScheduledClass(), new ScheduledClass());
+        when(scheduledClassBatchRepository.insertAll(scheduledClasses)).thenReturn(2);
+
+        assertEquals(2, defaultScheduledClassService.saveAll(scheduledClasses));
+
+        verify(scheduledClassEntityValidator).validateAll(scheduledClasses);
+        verify(scheduledClassBatchRepository).insertAll(scheduledClasses);
+    }
+
+    @Test
+    public void saveAll_withContext_validateAgainstGivenContext() {
+        List<ScheduledClass> scheduledClasses = List.of(new ScheduledClass());
+        ScheduledClassValidationContext context = mock(ScheduledClassValidationContext.class);
+        when(scheduledClassBatchRepository.insertAll(scheduledClasses)).thenReturn(1);
+
+        assertEquals(1, defaultScheduledClassService.saveAll(scheduledClasses, context));
+
+        verify(scheduledClassEntityValidator).validateAll(scheduledClasses, context);
+        verify(scheduledClassEntityValidator, never()).createValidationContext(any());
+    }
+
+    @Test
+    public void saveAll_whenScheduledClassesAreInvalid_throwValidationException() {
+        List<ScheduledClass> scheduledClasses = List.of(new ScheduledClass());
+        doThrow(ValidationException.class).when(scheduledClassEntityValidator).validateAll(scheduledClasses);
+
+        assertThrows(ValidationException.class, () -> defaultScheduledClassService.saveAll(scheduledClasses));
+
+        verifyNoInteractions(scheduledClassBatchRepository);
+    }
+
+    @Test
+    public void saveAll_whenBatchRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        List<ScheduledClass> scheduledClasses = List.of(new ScheduledClass());
+        when(scheduledClassBatchRepository.insertAll(scheduledClasses)).thenThrow(
+            InvalidDataAccessApiUsageException.class);
+
+        assertThrows(ServiceException.class, () -> defaultScheduledClassService.saveAll(scheduledClasses));
+    }
+
+    @Test
+    public void applyChanges_success() {
+        ScheduledClass insertedClass = new ScheduledClass();
+        ScheduledClass updatedClass = new ScheduledClass();
+        updatedClass.setId(1L);
+        ScheduledClass regroupedClass = new ScheduledClass();
+        regroupedClass.setId(2L);
+        ScheduledClassChanges changes = ScheduledClassChanges.builder().insertedClasses(List.of(insertedClass))
+            .updatedClasses(List.of(updatedClass)).regroupedClasses(List.of(regroupedClass))
+            .deletedIds(List.of(3L)).build();
+
+        defaultScheduledClassService.applyChanges(changes);
+
+        verify(scheduledClassEntityValidator).validateAll(List.of(insertedClass, updatedClass, regroupedClass),
+            Set.of(1L, 3L));
+        InOrder inOrder = inOrder(scheduledClassBatchRepository);
+        inOrder.verify(scheduledClassBatchRepository).deleteAllById(List.of(3L));
+        inOrder.verify(scheduledClassBatchRepository).updateAll(List.of(updatedClass));
+        inOrder.verify(scheduledClassBatchRepository).replaceGroups(List.of(regroupedClass));
+        inOrder.verify(scheduledClassBatchRepository).insertAll(List.of(insertedClass));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void applyChanges_whenChangesAreNull_throwIllegalArgumentException(ScheduledClassChanges nullChanges) {
+        assertThrows(IllegalArgumentException.class, () -> defaultScheduledClassService.applyChanges(nullChanges));
+    }
+
     @Test
     public void findByIdAsDTO_success() {
         ScheduledClass scheduledClass = new ScheduledClass();
@@ -175,10 +293,11 @@ public class DefaultScheduledClassServiceTest {
         ScheduledClass scheduledClass = new ScheduledClass();
         ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
         when(scheduledClassRepository.findAll()).thenReturn(List.of(scheduledClass));
-        when(converterService.convert(scheduledClass, ScheduledClassDTO.class)).thenReturn(scheduledClassDTO);
+        when(converterService.convertAll(List.of(scheduledClass), ScheduledClassDTO.class)).thenReturn(
+            List.of(scheduledClassDTO));
         assertEquals(List.of(scheduledClassDTO), defaultScheduledClassService.findAllAsDTO());
         verify(scheduledClassRepository).findAll();
-        verify(converterService).convert(scheduledClass, ScheduledClassDTO.class);
+        verify(converterService).convertAll(List.of(scheduledClass), ScheduledClassDTO.class);
     }
 
     @Test
@@ -198,11 +317,12 @@ public class DefaultScheduledClassServiceTest {
         ScheduledClass scheduledClass = new ScheduledClass();
         ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
         Pageable pageable = mock(Pageable.class);
-        when(scheduledClassRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(scheduledClass)));
-        when(converterService.convert(scheduledClass, ScheduledClassDTO.class)).thenReturn(scheduledClassDTO);
+        when(scheduledClassRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(scheduledClass)));
+        when(converterService.convertAll(List.of(scheduledClass), ScheduledClassDTO.class)).thenReturn(
+            List.of(scheduledClassDTO));
         assertEquals(List.of(scheduledClassDTO), defaultScheduledClassService.findAllAsDTO(pageable));
-        verify(scheduledClassRepository).findAll(pageable);
-        verify(converterService).convert(scheduledClass, ScheduledClassDTO.class);
+        verify(scheduledClassRepository).findAllBy(pageable);
+        verify(converterService).convertAll(List.of(scheduledClass), ScheduledClassDTO.class);
     }
 
     @ParameterizedTest
@@ -216,66 +336,239 @@ public class DefaultScheduledClassServiceTest {
 
     @Test
     public void findAllAsDTOByScheduleFilterItem_whenGroupIdListIsNull_success() {
-        ScheduledClass scheduledClass = new ScheduledClass();
         ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
         ScheduleFilterItem scheduleFilterItem = new ScheduleFilterItem();
 
-        when(
-            scheduledClassRepository.findAllFiltered(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
-                scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId())).thenReturn(
-            List.of(scheduledClass));
-
-        when(converterService.convert(scheduledClass, ScheduledClassDTO.class)).thenReturn(scheduledClassDTO);
+        when(scheduledClassProjectionRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
+            scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
+            null)).thenReturn(List.of(scheduledClassDTO));
 
         assertEquals(List.of(scheduledClassDTO),
             defaultScheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem));
 
-        verify(scheduledClassRepository).findAllFiltered(scheduleFilterItem.getStartDate(),
-            scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId());
-        verify(converterService).convert(scheduledClass, ScheduledClassDTO.class);
+        verify(scheduledClassProjectionRepository).findAllFiltered(scheduleFilterItem.getStartDate(),
+            scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
+            null);
+        verifyNoInteractions(scheduledClassRepository, converterService);
     }
 
     @Test
     public void findAllAsDTOByScheduleFilterItem_whenGroupIdListIsNotNull_success() {
-        ScheduledClass scheduledClass = new ScheduledClass();
         ScheduledClassDTO scheduledClassDTO = new ScheduledClassDTO();
         ScheduleFilterItem scheduleFilterItem = new ScheduleFilterItem();
         scheduleFilterItem.setGroupIdList(List.of(1L));
 
-        when(
-            scheduledClassRepository.findAllFiltered(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
-                scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
-                scheduleFilterItem.getGroupIdList())).thenReturn(List.of(scheduledClass));
-
-        when(converterService.convert(scheduledClass, ScheduledClassDTO.class)).thenReturn(scheduledClassDTO);
+        when(scheduledClassProjectionRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
+            scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
+            scheduleFilterItem.getGroupIdList())).thenReturn(List.of(scheduledClassDTO));
 
         assertEquals(List.of(scheduledClassDTO),
             defaultScheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem));
 
-        verify(scheduledClassRepository).findAllFiltered(scheduleFilterItem.getStartDate(),
+        verify(scheduledClassProjectionRepository).findAllFiltered(scheduleFilterItem.getStartDate(),
             scheduleFilterItem.getEndDate(), scheduleFilterItem.getClassTypeId(), scheduleFilterItem.getTeacherId(),
             scheduleFilterItem.getGroupIdList());
-        verify(converterService).convert(scheduledClass, ScheduledClassDTO.class);
+        verifyNoInteractions(scheduledClassRepository, converterService);
+    }
+
+    @Test
+    public void findAllAsDTOByScheduleFilterItem_whenRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        ScheduleFilterItem scheduleFilterItem = new ScheduleFilterItem();
+        when(scheduledClassProjectionRepository.findAllFiltered(any(), any(), any(), any(), any())).thenThrow(
+            InvalidDataAccessApiUsageException.class);
+
+        assertThrows(ServiceException.class,
+            () -> defaultScheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem));
+    }
+
+    @Test
+    public void findAllAsDTOByScheduleFilterItem_whenRecurringClassesExist_mergeOccurrences() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        ClassTime classTime = new ClassTime(2L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        ScheduleFilterItem scheduleFilterItem = new ScheduleFilterItem();
+        scheduleFilterItem.setStartDate(LocalDate.of(2000, 1, 1));
+        scheduleFilterItem.setEndDate(LocalDate.of(2000, 1, 31));
+
+        // Mondays: 2000-01-03, 2000-01-10, 2000-01-17, 2000-01-24, 2000-01-31
+        RecurringClass recurringClass = RecurringClass.builder().id(1L).teacher(teacher).classTime(classTime)
+            .dayOfWeek(DayOfWeek.MONDAY).groups(Set.of()).startDate(LocalDate.of(1999, 9, 1))
+            .endDate(LocalDate.of(2000, 1, 24)).exceptionDates(Set.of(LocalDate.of(2000, 1, 17))).build();
+        TeacherDTO teacherDTO = new TeacherDTO();
+        teacherDTO.setId(1L);
+        ScheduledClassDTO overridingDTO = ScheduledClassDTO.builder().id(5L).teacherDTO(teacherDTO)
+            .classTimeDTO(ClassTimeDTO.builder().id(2L).orderNumber(1).build()).date(LocalDate.of(2000, 1, 10))
+            .build();
+        when(scheduledClassProjectionRepository.findAllFiltered(scheduleFilterItem.getStartDate(),
+            scheduleFilterItem.getEndDate(), null, null, null)).thenReturn(List.of(overridingDTO));
+        when(recurringClassService.findAllActive(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
+            null, null, null)).thenReturn(List.of(recurringClass));
+        when(converterService.convert(any(ScheduledClass.class), eq(ScheduledClassDTO.class))).thenAnswer(
+            invocation -> ScheduledClassDTO.builder().date(invocation.<ScheduledClass>getArgument(0).getDate())
+                .classTimeDTO(ClassTimeDTO.builder().id(2L).orderNumber(1).build()).build());
+
+        List<ScheduledClassDTO> scheduledClassDTOList =
+            defaultScheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem);
+
+        assertEquals(List.of(LocalDate.of(2000, 1, 3), LocalDate.of(2000, 1, 10), LocalDate.of(2000, 1, 24)),
+            scheduledClassDTOList.stream().map(ScheduledClassDTO::getDate).toList());
+        assertSame(overridingDTO, scheduledClassDTOList.get(1));
+        verify(converterService, times(2)).convert(any(ScheduledClass.class), eq(ScheduledClassDTO.class));
     }
 
     @Test
     public void deleteById_whenScheduledClassRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
+        when(scheduledClassBatchRepository.findRowsByIds(List.of(1L))).thenReturn(
+            List.of(new ScheduledClassRow(1L, LocalDate.of(2000, 1, 3), 1L, 1L, 1L, null, null, Set.of(), true)));
         doThrow(InvalidDataAccessApiUsageException.class).when(scheduledClassRepository).deleteById(1L);
         assertThrows(ServiceException.class, () -> defaultScheduledClassService.deleteById(1L));
     }
 
     @Test
     public void deleteById_whenScheduledClassDoNotExists_throwServiceException() {
-        when(scheduledClassRepository.existsById(1L)).thenReturn(false);
+        when(scheduledClassBatchRepository.findRowsByIds(List.of(1L))).thenReturn(List.of());
         assertThrows(DeletionFailedException.class, () -> defaultScheduledClassService.deleteById(1L));
-        verify(scheduledClassRepository).existsById(1L);
+        verify(scheduledClassRepository, never()).deleteById(1L);
+        verifyNoInteractions(applicationEventPublisher);
     }
 
     @Test
     public void deleteById_success() {
-        when(scheduledClassRepository.existsById(1L)).thenReturn(true);
+        ScheduledClassRow row =
+            new ScheduledClassRow(1L, LocalDate.of(2000, 1, 3), 1L, 2L, 1L, null, null, Set.of(3L), true);
+        when(scheduledClassBatchRepository.findRowsByIds(List.of(1L))).thenReturn(List.of(row));
         assertDoesNotThrow(() -> defaultScheduledClassService.deleteById(1L));
-        verify(scheduledClassRepository).existsById(1L);
         verify(scheduledClassRepository).deleteById(1L);
+        verify(applicationEventPublisher).publishEvent(
+            new ScheduleChangedEvent(List.of(new ScheduleChangedEvent.Change(row.date(), row.date(), 2L, Set.of(3L)))));
+    }
+
+    @Test
+    public void save_whenScheduledClassIsPersisted_publishPreviousAndNewState() {
+        Teacher teacher = new Teacher();
+        teacher.setId(2L);
+        ScheduledClass scheduledClass = new ScheduledClass();
+        scheduledClass.setId(1L);
+        scheduledClass.setTeacher(teacher);
+        scheduledClass.setDate(LocalDate.of(2000, 1, 4));
+        ScheduledClassRow previousRow =
+            new ScheduledClassRow(1L, LocalDate.of(2000, 1, 3), 1L, 5L, 1L, null, null, Set.of(3L), true);
+        when(scheduledClassBatchRepository.findRowsByIds(List.of(1L))).thenReturn(List.of(previousRow));
+
+        defaultScheduledClassService.save(scheduledClass);
+
+        verify(applicationEventPublisher).publishEvent(new ScheduleChangedEvent(
+            List.of(new ScheduleChangedEvent.Change(LocalDate.of(2000, 1, 4), LocalDate.of(2000, 1, 4), 2L, Set.of()),
+                new ScheduleChangedEvent.Change(LocalDate.of(2000, 1, 3), LocalDate.of(2000, 1, 3), 5L, Set.of(3L)))));
+    }
+
+    @Test
+    public void findAllAsDTOByScheduleFilterItem_useScheduleWeekCache() {
+        ScheduleFilterItem scheduleFilterItem = ScheduleFilterItem.builder().teacherId(1L)
+            .startDate(LocalDate.of(2000, 1, 3)).endDate(LocalDate.of(2000, 1, 9)).build();
+        List<ScheduledClassDTO> cachedDTOList = List.of(new ScheduledClassDTO());
+        when(scheduleWeekCache.get(eq(scheduleFilterItem), any())).thenReturn(cachedDTOList);
+
+        assertSame(cachedDTOList, defaultScheduledClassService.findAllAsDTOByScheduleFilterItem(scheduleFilterItem));
+
+        verify(scheduleFilterItemService).processRawItem(scheduleFilterItem);
+        verifyNoInteractions(scheduledClassProjectionRepository, recurringClassService);
+    }
+
+    @Test
+    public void streamAsDTOByScheduleFilterItem_whenPageIsFull_readNextPageAfterLastClass() {
+        ScheduleFilterItem scheduleFilterItem = ScheduleFilterItem.builder().startDate(LocalDate.of(2000, 1, 1))
+            .endDate(LocalDate.of(2000, 6, 30)).build();
+        List<ScheduledClassDTO> firstPage = new ArrayList<>();
+        for (int i = 0; i < DefaultScheduledClassService.STREAM_PAGE_SIZE; i++) {
+            firstPage.add(ScheduledClassDTO.builder().id((long) i).date(LocalDate.of(2000, 1, 1).plusDays(i / 4))
+                .classTimeDTO(ClassTimeDTO.builder().startTime(LocalTime.of(8 + i % 4, 0)).build()).build());
+        }
+        ScheduledClassDTO last = firstPage.get(firstPage.size() - 1);
+        List<ScheduledClassDTO> secondPage = List.of(ScheduledClassDTO.builder().id(1000L).date(last.getDate())
+            .classTimeDTO(ClassTimeDTO.builder().startTime(LocalTime.of(18, 0)).build()).build());
+        when(scheduledClassProjectionRepository.findPageFiltered(any(), any(), any(), any(), any(), any(),
+            anyInt())).thenReturn(firstPage, secondPage);
+        List<ScheduledClassDTO> streamedDTOList = new ArrayList<>();
+
+        int streamed =
+            defaultScheduledClassService.streamAsDTOByScheduleFilterItem(scheduleFilterItem, streamedDTOList::add);
+
+        assertEquals(DefaultScheduledClassService.STREAM_PAGE_SIZE + 1, streamed);
+        assertEquals(1000L, streamedDTOList.get(streamed - 1).getId());
+        verifyNoInteractions(scheduleFilterItemService);
+        verify(scheduledClassProjectionRepository).findPageFiltered(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 6, 30),
+            null, null, null, null, DefaultScheduledClassService.STREAM_PAGE_SIZE);
+        verify(scheduledClassProjectionRepository).findPageFiltered(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 6, 30),
+            null, null, null, new ScheduleCursor(last.getDate(), last.getId()),
+            DefaultScheduledClassService.STREAM_PAGE_SIZE);
+        verifyNoInteractions(scheduleWeekCache);
+    }
+
+    @Test
+    public void streamAsDTOByScheduleFilterItem_whenDayIsReadInIdOrder_streamItInClassTimeOrder() {
+        ScheduleFilterItem scheduleFilterItem = ScheduleFilterItem.builder().startDate(LocalDate.of(2000, 1, 1))
+            .endDate(LocalDate.of(2000, 1, 2)).build();
+        List<ScheduledClassDTO> page = List.of(
+            ScheduledClassDTO.builder().id(1L).date(LocalDate.of(2000, 1, 1))
+                .classTimeDTO(ClassTimeDTO.builder().startTime(LocalTime.of(11, 0)).build()).build(),
+            ScheduledClassDTO.builder().id(2L).date(LocalDate.of(2000, 1, 1))
+                .classTimeDTO(ClassTimeDTO.builder().startTime(LocalTime.of(9, 0)).build()).build(),
+            ScheduledClassDTO.builder().id(3L).date(LocalDate.of(2000, 1, 2))
+                .classTimeDTO(ClassTimeDTO.builder().startTime(LocalTime.of(8, 0)).build()).build());
+        when(scheduledClassProjectionRepository.findPageFiltered(any(), any(), any(), any(), any(), any(),
+            anyInt())).thenReturn(page);
+        List<ScheduledClassDTO> streamedDTOList = new ArrayList<>();
+
+        defaultScheduledClassService.streamAsDTOByScheduleFilterItem(scheduleFilterItem, streamedDTOList::add);
+
+        assertEquals(List.of(2L, 1L, 3L), streamedDTOList.stream().map(ScheduledClassDTO::getId).toList());
+    }
+
+    @Test
+    public void streamAsDTOByScheduleFilterItem_whenRecurringClassesExist_mergeOccurrences() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        ClassTime classTime = new ClassTime(2L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        ScheduleFilterItem scheduleFilterItem = ScheduleFilterItem.builder().startDate(LocalDate.of(2000, 1, 1))
+            .endDate(LocalDate.of(2000, 1, 31)).build();
+        // Mondays: 2000-01-03, 2000-01-10, 2000-01-24 (2000-01-17 is an exception date, 2000-01-31 after the end)
+        RecurringClass recurringClass = RecurringClass.builder().id(1L).teacher(teacher).classTime(classTime)
+            .dayOfWeek(DayOfWeek.MONDAY).groups(Set.of()).startDate(LocalDate.of(1999, 9, 1))
+            .endDate(LocalDate.of(2000, 1, 24)).exceptionDates(Set.of(LocalDate.of(2000, 1, 17))).build();
+        TeacherDTO teacherDTO = new TeacherDTO();
+        teacherDTO.setId(1L);
+        ScheduledClassDTO overridingDTO = ScheduledClassDTO.builder().id(5L).teacherDTO(teacherDTO)
+            .classTimeDTO(ClassTimeDTO.builder().id(2L).orderNumber(1).startTime(LocalTime.of(9, 0)).build())
+            .date(LocalDate.of(2000, 1, 10)).build();
+        ScheduledClassDTO otherDTO = ScheduledClassDTO.builder().id(6L).teacherDTO(teacherDTO)
+            .classTimeDTO(ClassTimeDTO.builder().id(3L).orderNumber(2).startTime(LocalTime.of(11, 0)).build())
+            .date(LocalDate.of(2000, 1, 20)).build();
+        when(scheduledClassProjectionRepository.findPageFiltered(any(), any(), any(), any(), any(), any(),
+            anyInt())).thenReturn(List.of(overridingDTO, otherDTO));
+        when(recurringClassService.findAllActive(scheduleFilterItem.getStartDate(), scheduleFilterItem.getEndDate(),
+            null, null, null)).thenReturn(List.of(recurringClass));
+        when(converterService.convert(any(ScheduledClass.class), eq(ScheduledClassDTO.class))).thenAnswer(
+            invocation -> ScheduledClassDTO.builder().date(invocation.<ScheduledClass>getArgument(0).getDate())
+                .classTimeDTO(ClassTimeDTO.builder().id(2L).orderNumber(1).build()).build());
+        List<ScheduledClassDTO> streamedDTOList = new ArrayList<>();
+
+        int streamed =
+            defaultScheduledClassService.streamAsDTOByScheduleFilterItem(scheduleFilterItem, streamedDTOList::add);
+
+        assertEquals(4, streamed);
+        assertEquals(List.of(LocalDate.of(2000, 1, 3), LocalDate.of(2000, 1, 10), LocalDate.of(2000, 1, 20),
+            LocalDate.of(2000, 1, 24)), streamedDTOList.stream().map(ScheduledClassDTO::getDate).toList());
+        assertSame(overridingDTO, streamedDTOList.get(1));
+        assertSame(otherDTO, streamedDTOList.get(2));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void streamAsDTOByScheduleFilterItem_whenConsumerIsNull_throwIllegalArgumentException(
+        Consumer<ScheduledClassDTO> nullConsumer) {
+        assertThrows(IllegalArgumentException.class,
+            () -> defaultScheduledClassService.streamAsDTOByScheduleFilterItem(new ScheduleFilterItem(), nullConsumer));
+        verifyNoInteractions(scheduledClassProjectionRepository);
     }
 }
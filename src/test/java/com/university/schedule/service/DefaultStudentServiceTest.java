@@ -2,10 +2,13 @@ package com.university.schedule.service;
 
 import com.university.schedule.converter.ConverterService;
 import com.university.schedule.dto.StudentDTO;
+import com.university.schedule.event.ReferenceDataChangedEvent;
+import com.university.schedule.event.UserChangedEvent;
 import com.university.schedule.exception.DeletionFailedException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.exception.ValidationException;
 import com.university.schedule.model.Student;
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.repository.StudentRepository;
 import com.university.schedule.validation.StudentEntityValidator;
 import com.university.schedule.visitor.UserPageableStudentVisitor;
@@ -15,16 +18,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -37,7 +46,7 @@ public class DefaultStudentServiceTest {
     private StudentRepository studentRepository;
 
     @Mock
-    private UserService userService;
+    private UserIdentityService userIdentityService;
 
     @Mock
     private ConverterService converterService;
@@ -48,11 +57,14 @@ public class DefaultStudentServiceTest {
     @Mock
     private UserPageableStudentVisitor userPageableStudentVisitor;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     void setUp() {
         defaultStudentService =
-            new DefaultStudentService(studentRepository, userService, converterService, studentEntityValidator,
-                userPageableStudentVisitor);
+            new DefaultStudentService(studentRepository, userIdentityService, converterService, studentEntityValidator,
+                userPageableStudentVisitor, applicationEventPublisher);
     }
 
     @Test
@@ -113,11 +125,11 @@ public class DefaultStudentServiceTest {
         Pageable pageable = mock(Pageable.class);
 
         when(converterService.convert(student, StudentDTO.class)).thenReturn(studentDTO);
-        when(studentRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(student)));
+        when(studentRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(student)));
 
         assertEquals(List.of(studentDTO), defaultStudentService.findAllAsDTO(pageable));
 
-        verify(studentRepository).findAll(pageable);
+        verify(studentRepository).findAllBy(pageable);
         verify(converterService).convert(student, StudentDTO.class);
     }
 
@@ -131,11 +143,11 @@ public class DefaultStudentServiceTest {
     public void findAllAsDTO_whenPageableIsValidAndStudentRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
         Pageable pageable = mock(Pageable.class);
 
-        when(studentRepository.findAll(pageable)).thenThrow(BadJpqlGrammarException.class);
+        when(studentRepository.findAllBy(pageable)).thenThrow(BadJpqlGrammarException.class);
 
         assertThrows(ServiceException.class, () -> defaultStudentService.findAllAsDTO(pageable));
 
-        verify(studentRepository).findAll(pageable);
+        verify(studentRepository).findAllBy(pageable);
     }
 
     @Test
@@ -148,6 +160,8 @@ public class DefaultStudentServiceTest {
         assertEquals(1L, defaultStudentService.save(student));
 
         verify(studentRepository).save(student);
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Student.class));
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(1L));
     }
 
     @Test
@@ -325,6 +339,7 @@ public class DefaultStudentServiceTest {
 
         verify(studentRepository).existsById(student.getId());
         verify(studentRepository).deleteById(student.getId());
+        verify(applicationEventPublisher).publishEvent(new ReferenceDataChangedEvent(Student.class));
     }
 
     @Test
@@ -369,18 +384,49 @@ public class DefaultStudentServiceTest {
         Pageable pageable = mock(Pageable.class);
         String email = "email";
 
-        when(userService.findByEmail(email)).thenReturn(student);
-        when(studentRepository.findByGroup(student.getGroup(), pageable)).thenReturn(new PageImpl<>(List.of(student)));
+        when(userIdentityService.findReferenceByEmail(email)).thenReturn(student);
+        when(studentRepository.findByGroup(student.getGroup(), pageable)).thenReturn(new SliceImpl<>(List.of(student)));
         when(converterService.convert(student, StudentDTO.class)).thenReturn(studentDTO);
         when(userPageableStudentVisitor.performActionForStudent(student, pageable)).thenReturn(List.of(student));
 
         assertEquals(List.of(studentDTO), defaultStudentService.findAllAsDTO(email, pageable));
 
-        verify(userService).findByEmail(email);
+        verify(userIdentityService).findReferenceByEmail(email);
         verify(converterService).convert(student, StudentDTO.class);
         verify(userPageableStudentVisitor).performActionForStudent(student, pageable);
     }
 
+    @Test
+    public void scrollAsDTO_whenUserIsStudent_scrollStudentsOfGroup() {
+        Student student = new Student();
+        student.setId(1L);
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setId(1L);
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(10, Sort.by("lastName"));
+        String email = "email";
+
+        when(userIdentityService.findReferenceByEmail(email)).thenReturn(student);
+        when(userPageableStudentVisitor.performActionForStudent(student, keysetPageRequest)).thenReturn(
+            Window.from(List.of(student), index -> ScrollPosition.forward(Map.of("lastName", "Doe", "id", 1L))));
+        when(converterService.convert(student, StudentDTO.class)).thenReturn(studentDTO);
+
+        Window<StudentDTO> studentDTOWindow = defaultStudentService.scrollAsDTO(email, keysetPageRequest);
+
+        assertEquals(List.of(studentDTO), studentDTOWindow.getContent());
+        assertFalse(studentDTOWindow.hasNext());
+        verify(userPageableStudentVisitor).performActionForStudent(student, keysetPageRequest);
+    }
+
+    @Test
+    public void scrollAsDTO_whenEmailOrKeysetPageRequestIsNull_throwIllegalArgumentException() {
+        KeysetPageRequest keysetPageRequest = KeysetPageRequest.of(10, Sort.by("lastName"));
+
+        assertThrows(IllegalArgumentException.class, () -> defaultStudentService.scrollAsDTO(null, keysetPageRequest));
+        assertThrows(IllegalArgumentException.class, () -> defaultStudentService.scrollAsDTO("email", null));
+
+        verifyNoInteractions(userIdentityService);
+    }
+
     @ParameterizedTest
     @NullSource
     public void findAllAsDTO_whenPageableIsNullAndEmailIsValid_throwIllegalArgumentException(Pageable nullPageable) {
@@ -15,9 +15,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.query.BadJpqlGrammarException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
@@ -41,9 +42,13 @@ public class DefaultTeacherServiceTest {
     @Mock
     private TeacherEntityValidator teacherEntityValidator;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     public void setUp() {
-        defaultTeacherService = new DefaultTeacherService(teacherRepository, converterService, teacherEntityValidator);
+        defaultTeacherService = new DefaultTeacherService(teacherRepository, converterService, teacherEntityValidator,
+            applicationEventPublisher);
     }
 
     @Test
@@ -121,12 +126,12 @@ public class DefaultTeacherServiceTest {
         TeacherDTO teacherDTO = new TeacherDTO();
         teacherDTO.setId(1L);
 
-        when(teacherRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(teacher)));
+        when(teacherRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(teacher)));
         when(converterService.convert(teacher, TeacherDTO.class)).thenReturn(teacherDTO);
 
         assertEquals(List.of(teacherDTO), defaultTeacherService.findAllAsDTO(pageable));
 
-        verify(teacherRepository).findAll(pageable);
+        verify(teacherRepository).findAllBy(pageable);
         verify(converterService).convert(teacher, TeacherDTO.class);
     }
 
@@ -140,11 +145,11 @@ public class DefaultTeacherServiceTest {
     public void findAllAsDTO_whenWithValidPageableTeacherRepositoryThrowsExceptionExtendsDataAccessException_throwServiceException() {
         Pageable pageable = mock(Pageable.class);
 
-        when(teacherRepository.findAll(pageable)).thenThrow(BadJpqlGrammarException.class);
+        when(teacherRepository.findAllBy(pageable)).thenThrow(BadJpqlGrammarException.class);
 
         assertThrows(ServiceException.class, () -> defaultTeacherService.findAllAsDTO(pageable));
 
-        verify(teacherRepository).findAll(pageable);
+        verify(teacherRepository).findAllBy(pageable);
     }
 
     @Test
@@ -0,0 +1,151 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ScheduleGenerationResult;
+import com.university.schedule.model.*;
+import com.university.schedule.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+public class ScheduleGeneratorDatabaseTest {
+
+    public static PostgreSQLContainer<?> postgres =
+        new PostgreSQLContainer<>("postgres:latest").withDatabaseName("databaseName").withUsername("username")
+            .withPassword("password").withReuse(true);
+    private static final int CLASSROOMS = 8;
+    private static final int PARTITIONS = 32;
+    @Autowired
+    ScheduleGenerator scheduleGenerator;
+    @Autowired
+    DisciplineRepository disciplineRepository;
+    @Autowired
+    ClassTypeRepository classTypeRepository;
+    @Autowired
+    ClassTimeRepository classTimeRepository;
+    @Autowired
+    BuildingRepository buildingRepository;
+    @Autowired
+    ClassroomRepository classroomRepository;
+    @Autowired
+    CourseRepository courseRepository;
+    @Autowired
+    TeacherRepository teacherRepository;
+    @Autowired
+    GroupRepository groupRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        // Postgresql
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+
+        // Flyway
+        registry.add("spring.flyway.cleanDisabled", () -> false);
+    }
+
+    @BeforeEach
+    void clearDatabase(@Autowired Flyway flyway) {
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    /**
+     * One partition per Discipline, each with its own Teacher and Group and a class on every working day. The
+     * Disciplines share {@code CLASSROOMS} Classrooms, each Classroom is used at a different ClassTime by every
+     * Discipline using it.
+     */
+    private List<DayScheduleItem> persistPartitionedItems(int partitions) {
+        ClassType classType = classTypeRepository.save(new ClassType("classTypeName"));
+        Building building = buildingRepository.save(new Building("buildingName", "buildingAddress"));
+        List<Classroom> classrooms = new ArrayList<>();
+        for (int i = 0; i < CLASSROOMS; i++) {
+            classrooms.add(classroomRepository.save(new Classroom("classroomName" + i, building)));
+        }
+        List<ClassTime> classTimes = new ArrayList<>();
+        for (int i = 0; i < (partitions + CLASSROOMS - 1) / CLASSROOMS; i++) {
+            classTimes.add(classTimeRepository.save(
+                new ClassTime(i + 1, LocalTime.of(8, 0).plusHours(2L * i), Duration.ofMinutes(90))));
+        }
+
+        List<DayScheduleItem> dayScheduleItems = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            Discipline discipline = disciplineRepository.save(new Discipline("disciplineName" + i));
+            Course course = courseRepository.save(new Course("courseName" + i));
+            Teacher teacher = new Teacher("teacherEmail" + i, "password", "firstName" + i, "lastName" + i);
+            teacher.getCourses().add(course);
+            teacher = teacherRepository.save(teacher);
+            Group group = new Group("groupName" + i, discipline);
+            group.getCourses().add(course);
+            group = groupRepository.save(group);
+            Classroom classroom = classrooms.get(i % CLASSROOMS);
+            ClassTime classTime = classTimes.get(i / CLASSROOMS);
+            for (DayOfWeek dayOfWeek : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+                dayScheduleItems.add(
+                    new DayScheduleItem(course, teacher, classroom, classTime, dayOfWeek, classType, Set.of(group)));
+            }
+        }
+        return dayScheduleItems;
+    }
+
+    /**
+     * Generates the same semester with 1, 4 and 16 workers, every run into an empty schedule. The timings are
+     * logged, only the written rows are checked.
+     */
+    @Test
+    public void generateInParallel_measureByWorkers() {
+        List<DayScheduleItem> dayScheduleItems = persistPartitionedItems(PARTITIONS);
+        LocalDate startDate = LocalDate.of(2023, 9, 4);
+        int weeks = 17;
+        LocalDate endDate = startDate.plusWeeks(weeks).minusDays(1);
+        int expectedRows = dayScheduleItems.size() * weeks;
+
+        Map<Integer, ScheduleGenerationResult> resultsByWorkers = new LinkedHashMap<>();
+        for (int workers : new int[]{1, 4, 16}) {
+            jdbcTemplate.update("DELETE FROM scheduled_classes");
+            ScheduleGenerationResult result =
+                scheduleGenerator.generateInParallel(startDate, endDate, dayScheduleItems, workers);
+
+            assertTrue(result.isComplete());
+            assertEquals(PARTITIONS, result.getCommittedPartitions());
+            assertEquals(expectedRows, result.getGeneratedRows());
+            assertEquals(expectedRows, jdbcTemplate.queryForObject("SELECT count(*) FROM scheduled_classes",
+                Integer.class));
+            resultsByWorkers.put(workers, result);
+        }
+
+        resultsByWorkers.forEach((workers, result) -> log.info(
+            "Parallel generation of {} ScheduledClasses in {} partitions, {} workers: {} ms, {} rows/s", expectedRows,
+            PARTITIONS, workers, result.getElapsed().toMillis(), result.getRowsPerSecond()));
+    }
+}
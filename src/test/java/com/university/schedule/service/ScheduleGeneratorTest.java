@@ -1,27 +1,32 @@
 package com.university.schedule.service;
 
+import com.university.schedule.dto.ScheduleGenerationResult;
+import com.university.schedule.dto.ScheduleRegenerationResult;
+import com.university.schedule.dto.ScheduledClassRow;
+import com.university.schedule.dto.ScheduleSolution;
 import com.university.schedule.exception.ScheduleGenerationException;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.*;
 import com.university.schedule.validation.ScheduleValidator;
+import com.university.schedule.validation.ScheduledClassValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +40,22 @@ public class ScheduleGeneratorTest {
     @Mock
     public ScheduleValidator scheduleValidator;
 
+    @Mock
+    public ScheduleSolver scheduleSolver;
+
+    @Mock
+    public PlatformTransactionManager transactionManager;
+
+    @Mock
+    public RecurringClassService recurringClassService;
+
+    @Mock
+    public ScheduledClassValidationContext validationContext;
+
     @BeforeEach
     public void beforeEach() {
-        scheduleGenerator = new ScheduleGenerator(scheduleValidator, scheduledClassService);
+        scheduleGenerator = new ScheduleGenerator(scheduleValidator, scheduledClassService, scheduleSolver,
+            transactionManager, recurringClassService);
     }
 
     @Test
@@ -100,4 +118,353 @@ public class ScheduleGeneratorTest {
         Mockito.verify(scheduleValidator).validate(startDate, endDate, dayScheduleItemList);
         Mockito.verify(scheduledClassService).save((ScheduledClass) any());
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "CourseName:test@example.co:password:John:Doe:1:9:0:90:Lecture:" +
+            "GroupName:ClassroomName:BuildingName:BuildingAddress:DisciplineName"}, delimiter = ':')
+    public void generateInBatches_success(String courseName, String email, String password, String firstName,
+                                          String lastName, Integer orderNumber, int hour, int minute,
+                                          int durationMinutes, String classTypeName, String groupName,
+                                          String classroomName, String buildingName, String buildingAddress,
+                                          String disciplineName) {
+        Mockito.when(scheduledClassService.saveAll(any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        List<DayScheduleItem> dayScheduleItemList = List.of(
+            DayScheduleItem.builder().course(new Course(courseName))
+                .teacher(new Teacher(email, password, firstName, lastName))
+                .classTime(new ClassTime(orderNumber, LocalTime.of(hour, minute), Duration.ofMinutes(durationMinutes)))
+                .dayOfWeek(DayOfWeek.SUNDAY).classType(new ClassType(classTypeName))
+                .groups(Set.of(new Group(groupName, new Discipline(disciplineName))))
+                .classroom(new Classroom(classroomName, new Building(buildingName, buildingAddress))).build());
+
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 10);
+
+        ScheduleGenerationResult result = scheduleGenerator.generateInBatches(startDate, endDate, dayScheduleItemList);
+
+        assertEquals(2, result.getGeneratedRows());
+        Mockito.verify(scheduledClassService).saveAll(Mockito.argThat(
+            scheduledClasses -> scheduledClasses.size() == 2 && scheduledClasses.stream()
+                .allMatch(scheduledClass -> scheduledClass.getDate().getDayOfWeek() == DayOfWeek.SUNDAY)));
+        Mockito.verify(scheduledClassService, Mockito.never()).save((ScheduledClass) any());
+    }
+
+    @Test
+    public void generateInBatches_whenScheduledClassServiceThrowsServiceException_thenThrowServiceException() {
+        Mockito.when(scheduledClassService.saveAll(any())).thenThrow(ServiceException.class);
+
+        assertThrows(ServiceException.class,
+            () -> scheduleGenerator.generateInBatches(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 2),
+                new ArrayList<>()));
+    }
+
+    @Test
+    public void generateValidatedInBatches_doNotValidateItemsAgain() {
+        Mockito.when(scheduledClassService.saveAll(any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        DayScheduleItem dayScheduleItem = createPartitionedItems(1, 1).get(0);
+        dayScheduleItem.setDayOfWeek(DayOfWeek.MONDAY);
+
+        ScheduleGenerationResult result = scheduleGenerator.generateValidatedInBatches(LocalDate.of(2000, 1, 3),
+            LocalDate.of(2000, 1, 11), List.of(dayScheduleItem));
+
+        assertEquals(2, result.getGeneratedRows());
+        Mockito.verifyNoInteractions(scheduleValidator);
+    }
+
+    @Test
+    public void generateFromDemands_success() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        Course course = new Course("CourseName");
+        ClassType classType = new ClassType("Lecture");
+        Set<Group> groups = Set.of(new Group("GroupName", new Discipline("DisciplineName")));
+        ClassTime classTime = new ClassTime(1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        Classroom classroom = new Classroom("ClassroomName", new Building("BuildingName", "BuildingAddress"));
+        List<CourseDemand> courseDemands = List.of(new CourseDemand(course, teacher, classType, groups, 1));
+        List<DayScheduleItem> dayScheduleItems = List.of(
+            DayScheduleItem.builder().course(course).teacher(teacher).classTime(classTime).dayOfWeek(DayOfWeek.MONDAY)
+                .classType(classType).groups(groups).classroom(classroom).build());
+
+        Mockito.when(scheduleSolver.solve(courseDemands, List.of(classTime), List.of(classroom))).thenReturn(
+            ScheduleSolution.builder().dayScheduleItems(dayScheduleItems).unassignedDemands(List.of()).build());
+        Mockito.when(scheduledClassService.saveAll(any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 10);
+        ScheduleGenerationResult result = scheduleGenerator.generateFromDemands(startDate, endDate, courseDemands,
+            List.of(classTime), List.of(classroom));
+
+        assertEquals(1, result.getGeneratedRows());
+        Mockito.verify(scheduleValidator).validate(startDate, endDate, dayScheduleItems);
+    }
+
+    @Test
+    public void generateFromDemands_whenSolutionIsIncomplete_throwScheduleGenerationException() {
+        CourseDemand courseDemand = new CourseDemand(new Course("CourseName"),
+            new Teacher("test@example.co", "password", "John", "Doe"), new ClassType("Lecture"),
+            Set.of(new Group("GroupName", new Discipline("DisciplineName"))), 1);
+        Mockito.when(scheduleSolver.solve(any(), any(), any())).thenReturn(
+            ScheduleSolution.builder().dayScheduleItems(List.of()).unassignedDemands(List.of(courseDemand)).build());
+
+        assertThrows(ScheduleGenerationException.class,
+            () -> scheduleGenerator.generateFromDemands(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 10),
+                List.of(courseDemand), List.of(), List.of()));
+        Mockito.verify(scheduledClassService, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    public void regenerate_whenTemplateChanged_applyOnlyDelta() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        Course course = new Course(2L, "CourseName");
+        ClassType classType = new ClassType(3L, "Lecture");
+        Group group = new Group(4L, "GroupName", new Discipline(1L, "DisciplineName"));
+        ClassTime classTime = new ClassTime(5L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        Building building = new Building(1L, "BuildingName", "BuildingAddress");
+        Classroom classroom = new Classroom(6L, "ClassroomName", building);
+
+        // Mondays: 2000-01-03, 2000-01-10, 2000-01-17
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 20);
+        List<ScheduledClassRow> existingRows = List.of(
+            new ScheduledClassRow(10L, LocalDate.of(2000, 1, 3), 5L, 1L, 2L, 6L, 3L, Set.of(4L), true),
+            new ScheduledClassRow(11L, LocalDate.of(2000, 1, 10), 5L, 1L, 2L, 7L, 3L, Set.of(4L), true),
+            new ScheduledClassRow(12L, LocalDate.of(2000, 1, 12), 5L, 1L, 2L, 6L, 3L, Set.of(4L), true));
+        Mockito.when(scheduledClassService.findRowsByDateBetween(startDate, endDate.minusDays(1)))
+            .thenReturn(existingRows);
+
+        List<DayScheduleItem> dayScheduleItems = List.of(
+            DayScheduleItem.builder().course(course).teacher(teacher).classTime(classTime).dayOfWeek(DayOfWeek.MONDAY)
+                .classType(classType).groups(Set.of(group)).classroom(classroom).build());
+
+        ScheduleRegenerationResult result = scheduleGenerator.regenerate(startDate, endDate, dayScheduleItems);
+
+        assertEquals(1, result.getInsertedRows());
+        assertEquals(1, result.getUpdatedRows());
+        assertEquals(1, result.getDeletedRows());
+        assertEquals(1, result.getUnchangedRows());
+        Mockito.verify(scheduledClassService).applyChanges(Mockito.argThat(changes ->
+            changes.getInsertedClasses().size() == 1 &&
+                changes.getInsertedClasses().get(0).getDate().equals(LocalDate.of(2000, 1, 17)) &&
+                changes.getUpdatedClasses().size() == 1 && changes.getUpdatedClasses().get(0).getId() == 11L &&
+                changes.getRegroupedClasses().isEmpty() && changes.getDeletedIds().equals(List.of(12L))));
+        Mockito.verify(scheduledClassService, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    public void regenerate_whenNothingChanged_doNotWrite() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        DayScheduleItem dayScheduleItem = DayScheduleItem.builder().course(new Course(2L, "CourseName"))
+            .teacher(teacher).classTime(new ClassTime(5L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90)))
+            .dayOfWeek(DayOfWeek.MONDAY).classType(new ClassType(3L, "Lecture"))
+            .groups(Set.of(new Group(4L, "GroupName", new Discipline(1L, "DisciplineName"))))
+            .classroom(new Classroom(6L, "ClassroomName", new Building(1L, "BuildingName", "BuildingAddress")))
+            .build();
+        Mockito.when(scheduledClassService.findRowsByDateBetween(any(), any())).thenReturn(
+            List.of(new ScheduledClassRow(10L, LocalDate.of(2000, 1, 3), 5L, 1L, 2L, 6L, 3L, Set.of(4L), true)));
+
+        ScheduleRegenerationResult result = scheduleGenerator.regenerate(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), List.of(dayScheduleItem));
+
+        assertEquals(0, result.getTouchedRows());
+        assertEquals(1, result.getUnchangedRows());
+        Mockito.verify(scheduledClassService, Mockito.never()).applyChanges(any());
+    }
+
+    @Test
+    public void regenerate_whenRowsWereCreatedManually_keepThem() {
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        DayScheduleItem dayScheduleItem = DayScheduleItem.builder().course(new Course(2L, "CourseName"))
+            .teacher(teacher).classTime(new ClassTime(5L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90)))
+            .dayOfWeek(DayOfWeek.MONDAY).classType(new ClassType(3L, "Lecture"))
+            .groups(Set.of(new Group(4L, "GroupName", new Discipline(1L, "DisciplineName"))))
+            .classroom(new Classroom(6L, "ClassroomName", new Building(1L, "BuildingName", "BuildingAddress")))
+            .build();
+        // a manual class in the slot of the 2000-01-03 occurrence and a manual one-off class on 2000-01-04
+        Mockito.when(scheduledClassService.findRowsByDateBetween(any(), any())).thenReturn(
+            List.of(new ScheduledClassRow(10L, LocalDate.of(2000, 1, 3), 5L, 1L, 8L, 7L, 3L, Set.of(4L), false),
+                new ScheduledClassRow(11L, LocalDate.of(2000, 1, 4), 5L, 1L, 2L, 6L, 3L, Set.of(4L), false)));
+
+        ScheduleRegenerationResult result = scheduleGenerator.regenerate(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), List.of(dayScheduleItem));
+
+        assertEquals(0, result.getTouchedRows());
+        assertEquals(0, result.getUnchangedRows());
+        assertEquals(2, result.getKeptRows());
+        Mockito.verify(scheduledClassService, Mockito.never()).applyChanges(any());
+    }
+
+    @Test
+    public void generateRecurring_saveOneRulePerItem() {
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 3);
+        Mockito.when(recurringClassService.saveAll(any())).thenAnswer(
+            invocation -> invocation.<List<?>>getArgument(0).size());
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 6, 1);
+
+        assertEquals(6, scheduleGenerator.generateRecurring(startDate, endDate, dayScheduleItems));
+
+        Mockito.verify(scheduleValidator).validate(startDate, endDate, dayScheduleItems);
+        Mockito.verify(recurringClassService).saveAll(Mockito.argThat(recurringClasses ->
+            recurringClasses.size() == 6 && recurringClasses.stream().allMatch(
+                recurringClass -> recurringClass.getStartDate().equals(startDate) &&
+                    recurringClass.getEndDate().equals(LocalDate.of(2000, 5, 31)))));
+        Mockito.verify(scheduledClassService, Mockito.never()).saveAll(any());
+    }
+
+    private void stubValidationContext() {
+        Mockito.when(scheduledClassService.createValidationContext(any())).thenReturn(validationContext);
+        Mockito.when(validationContext.slice(any())).thenReturn(validationContext);
+    }
+
+    /**
+     * Creates items of {@code partitions} independent partitions, {@code itemsPerPartition} items each. Items of one
+     * partition share a Teacher and a Discipline and use different Groups, Classrooms and days.
+     */
+    private List<DayScheduleItem> createPartitionedItems(int partitions, int itemsPerPartition) {
+        Building building = new Building(1L, "BuildingName", "BuildingAddress");
+        ClassTime classTime = new ClassTime(1L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        ClassType classType = new ClassType(1L, "Lecture");
+        List<DayScheduleItem> dayScheduleItems = new ArrayList<>();
+        long id = 1;
+        for (int partition = 0; partition < partitions; partition++) {
+            Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+            teacher.setId((long) partition);
+            Discipline discipline = new Discipline(partition + 1L, "DisciplineName");
+            for (int item = 0; item < itemsPerPartition; item++, id++) {
+                dayScheduleItems.add(DayScheduleItem.builder().course(new Course(1L, "CourseName")).teacher(teacher)
+                    .classTime(classTime).dayOfWeek(DayOfWeek.of(item % 7 + 1)).classType(classType)
+                    .groups(Set.of(new Group(id, "GroupName", discipline)))
+                    .classroom(new Classroom(id, "ClassroomName", building)).build());
+            }
+        }
+        return dayScheduleItems;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    public void generateInParallel_success(int workers) {
+        stubValidationContext();
+        List<Integer> partitionSizes = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(scheduledClassService.saveAll(any(), any())).thenAnswer(invocation -> {
+            int size = invocation.<List<?>>getArgument(0).size();
+            partitionSizes.add(size);
+            return size;
+        });
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(5, 3);
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2000, 1, 15);
+
+        ScheduleGenerationResult result =
+            scheduleGenerator.generateInParallel(startDate, endDate, dayScheduleItems, workers);
+
+        // 15 items, 2 weeks each, 5 partitions of 6 rows
+        assertEquals(30, result.getGeneratedRows());
+        assertEquals(5, result.getCommittedPartitions());
+        assertTrue(result.isComplete());
+        assertEquals(List.of(6, 6, 6, 6, 6), partitionSizes);
+        Mockito.verify(scheduleValidator).validate(startDate, endDate, dayScheduleItems);
+        Mockito.verify(transactionManager, Mockito.times(5)).commit(any());
+        Mockito.verify(scheduledClassService).createValidationContext(
+            Mockito.argThat(scheduledClasses -> scheduledClasses.size() == 30));
+        Mockito.verify(validationContext, Mockito.times(5)).slice(any());
+    }
+
+    @Test
+    public void generateInParallel_whenItemsShareGroup_writeThemInOnePartition() {
+        stubValidationContext();
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 1);
+        dayScheduleItems.get(1).setGroups(dayScheduleItems.get(0).getGroups());
+        Mockito.when(scheduledClassService.saveAll(any(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        scheduleGenerator.generateInParallel(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 8), dayScheduleItems,
+            4);
+
+        Mockito.verify(scheduledClassService)
+            .saveAll(Mockito.argThat(scheduledClasses -> scheduledClasses.size() == 2), any());
+    }
+
+    @Test
+    public void generateInParallel_whenItemsShareDiscipline_writeThemInOnePartition() {
+        stubValidationContext();
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 1);
+        Discipline discipline = dayScheduleItems.get(0).getGroups().iterator().next().getDiscipline();
+        dayScheduleItems.get(1).getGroups().forEach(group -> group.setDiscipline(discipline));
+        Mockito.when(scheduledClassService.saveAll(any(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        ScheduleGenerationResult result = scheduleGenerator.generateInParallel(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), dayScheduleItems, 4);
+
+        assertEquals(1, result.getCommittedPartitions());
+    }
+
+    @Test
+    public void generateInParallel_whenItemsShareClassroom_keepPartitionsApart() {
+        stubValidationContext();
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 2);
+        dayScheduleItems.get(3).setClassroom(dayScheduleItems.get(0).getClassroom());
+        Mockito.when(scheduledClassService.saveAll(any(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        ScheduleGenerationResult result = scheduleGenerator.generateInParallel(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), dayScheduleItems, 4);
+
+        assertEquals(2, result.getCommittedPartitions());
+        assertTrue(result.isComplete());
+    }
+
+    @Test
+    public void generateInParallel_whenPartitionsClaimSameSlot_failTheLaterOne() {
+        stubValidationContext();
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 1);
+        dayScheduleItems.get(1).setClassroom(dayScheduleItems.get(0).getClassroom());
+        Mockito.when(scheduledClassService.saveAll(any(), any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        ScheduleGenerationResult result = scheduleGenerator.generateInParallel(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), dayScheduleItems, 1);
+
+        assertEquals(1, result.getCommittedPartitions());
+        assertEquals(List.of(dayScheduleItems.get(1)), result.getFailedItems());
+        Mockito.verify(scheduledClassService).saveAll(any(), any());
+    }
+
+    @Test
+    public void generateInParallel_whenPartitionFails_returnItsItemsForRetry() {
+        stubValidationContext();
+        Mockito.when(scheduledClassService.saveAll(any(), any())).thenReturn(1).thenThrow(ServiceException.class);
+        List<DayScheduleItem> dayScheduleItems = createPartitionedItems(2, 1);
+
+        ScheduleGenerationResult result = scheduleGenerator.generateInParallel(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2000, 1, 8), dayScheduleItems, 1);
+
+        assertEquals(1, result.getGeneratedRows());
+        assertEquals(1, result.getCommittedPartitions());
+        assertEquals(List.of(dayScheduleItems.get(1)), result.getFailedItems());
+        assertFalse(result.isComplete());
+        Mockito.verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    public void generateInBatches_whenStartDateIsNotClassDay_startFromFirstMatchingDay() {
+        Mockito.when(scheduledClassService.saveAll(any()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        DayScheduleItem dayScheduleItem = createPartitionedItems(1, 1).get(0);
+        dayScheduleItem.setDayOfWeek(DayOfWeek.WEDNESDAY);
+
+        // 2000-01-01 is Saturday, Wednesdays before 2000-01-19: 01-05 and 01-12
+        scheduleGenerator.generateInBatches(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 1, 19),
+            List.of(dayScheduleItem));
+
+        Mockito.verify(scheduledClassService).saveAll(Mockito.argThat(scheduledClasses ->
+            scheduledClasses.stream().map(ScheduledClass::getDate).toList()
+                .equals(List.of(LocalDate.of(2000, 1, 5), LocalDate.of(2000, 1, 12)))));
+    }
 }
@@ -0,0 +1,129 @@
+package com.university.schedule.service;
+
+import com.university.schedule.dto.ScheduleSolution;
+import com.university.schedule.model.*;
+import com.university.schedule.validation.ScheduleValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleSolverTest {
+
+    private ScheduleSolver scheduleSolver;
+
+    private ClassType classType;
+
+    private Discipline discipline;
+
+    @BeforeEach
+    public void setUp() {
+        scheduleSolver = new ScheduleSolver();
+        classType = new ClassType(1L, "Lecture");
+        discipline = new Discipline(1L, "DisciplineName");
+    }
+
+    private List<ClassTime> createClassTimes(int count) {
+        List<ClassTime> classTimes = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            classTimes.add(new ClassTime(i, (int) i, LocalTime.of(8, 0).plusHours(i), Duration.ofMinutes(50)));
+        }
+        return classTimes;
+    }
+
+    private List<Classroom> createClassrooms(int count) {
+        Building building = new Building(1L, "BuildingName", "BuildingAddress");
+        List<Classroom> classrooms = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            classrooms.add(new Classroom(i, "Classroom" + i, building));
+        }
+        return classrooms;
+    }
+
+    private Teacher createTeacher(long id) {
+        Teacher teacher = new Teacher("teacher" + id + "@example.co", "password", "John", "Doe");
+        teacher.setId(id);
+        return teacher;
+    }
+
+    @Test
+    public void solve_whenDemandsFit_placeEveryClassWithoutConflicts() {
+        Teacher teacher = createTeacher(1L);
+        Group group = new Group(1L, "GroupName", discipline);
+        Group otherGroup = new Group(2L, "OtherGroupName", discipline);
+        List<CourseDemand> courseDemands = List.of(
+            new CourseDemand(new Course(1L, "CourseName1"), teacher, classType, Set.of(group, otherGroup), 3),
+            new CourseDemand(new Course(2L, "CourseName2"), createTeacher(2L), classType, Set.of(group), 2),
+            new CourseDemand(new Course(3L, "CourseName3"), teacher, classType, Set.of(otherGroup), 2));
+
+        ScheduleSolution solution = scheduleSolver.solve(courseDemands, createClassTimes(2), createClassrooms(1),
+            ScheduleSolver.WORKING_DAYS, Duration.ofSeconds(5));
+
+        assertTrue(solution.isComplete());
+        assertEquals(7, solution.getDayScheduleItems().size());
+        assertTrue(new ScheduleValidator().findConflicts(solution.getDayScheduleItems()).isEmpty());
+        // classes of one demand are spread over different days
+        assertEquals(3, solution.getDayScheduleItems().stream()
+            .filter(item -> item.getCourse().getId() == 1L).map(DayScheduleItem::getDayOfWeek).distinct().count());
+    }
+
+    @Test
+    public void solve_whenDemandsDoNotFit_returnBestSolutionWithUnassignedDemands() {
+        Group group = new Group(1L, "GroupName", discipline);
+        CourseDemand courseDemand =
+            new CourseDemand(new Course(1L, "CourseName"), createTeacher(1L), classType, Set.of(group), 3);
+
+        ScheduleSolution solution = scheduleSolver.solve(List.of(courseDemand), createClassTimes(1),
+            createClassrooms(1), Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), Duration.ofMillis(100));
+
+        assertFalse(solution.isComplete());
+        assertEquals(2, solution.getDayScheduleItems().size());
+        assertEquals(List.of(courseDemand), solution.getUnassignedDemands());
+        assertTrue(solution.getAttempts() >= 1);
+    }
+
+    @Test
+    public void solve_whenDemandHasNonPositiveWeeklyCount_throwIllegalArgumentException() {
+        CourseDemand courseDemand = new CourseDemand(new Course(1L, "CourseName"), createTeacher(1L), classType,
+            Set.of(new Group(1L, "GroupName", discipline)), 0);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduleSolver.solve(List.of(courseDemand), createClassTimes(1), createClassrooms(1)));
+    }
+
+    @Test
+    public void solve_whenThousandGroups_placeEveryClassWithinOneMinute() {
+        List<Group> groups = new ArrayList<>();
+        for (long i = 1; i <= 1000; i++) {
+            groups.add(new Group(i, "Group" + i, discipline));
+        }
+        // every group has 7 seminars (2 per week) with its own Teachers and a lecture shared with a neighbour group
+        List<CourseDemand> courseDemands = new ArrayList<>();
+        long courseId = 1;
+        for (int i = 0; i < groups.size(); i++) {
+            for (int j = 0; j < 7; j++) {
+                courseDemands.add(new CourseDemand(new Course(courseId++, "Course"), createTeacher(i * 7L + j + 1),
+                    classType, Set.of(groups.get(i)), 2));
+            }
+            if (i % 2 == 0) {
+                courseDemands.add(new CourseDemand(new Course(courseId++, "Lecture"), createTeacher(10_000L + i),
+                    classType, Set.of(groups.get(i), groups.get(i + 1)), 2));
+            }
+        }
+
+        ScheduleSolution solution = scheduleSolver.solve(courseDemands, createClassTimes(5), createClassrooms(800),
+            ScheduleSolver.WORKING_DAYS, Duration.ofSeconds(50));
+
+        assertTrue(solution.isComplete());
+        assertTrue(solution.getElapsed().compareTo(Duration.ofMinutes(1)) < 0);
+        assertEquals(15_000, solution.getDayScheduleItems().size());
+        assertTrue(new ScheduleValidator().findConflicts(solution.getDayScheduleItems()).isEmpty());
+    }
+}
@@ -1,5 +1,7 @@
 package com.university.schedule.service;
 
+import com.university.schedule.cache.RoleAuthoritiesCache;
+import com.university.schedule.cache.UserIdentityCache;
 import com.university.schedule.dto.ScheduleFilterItem;
 import com.university.schedule.exception.ServiceException;
 import com.university.schedule.model.Group;
@@ -25,9 +27,13 @@ public class ScheduledFilterItemServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private RoleAuthoritiesCache roleAuthoritiesCache;
+
     @BeforeEach
     public void setUp() {
-        scheduledFilterItemService = new ScheduleFilterItemService(userService);
+        scheduledFilterItemService = new ScheduleFilterItemService(
+            new UserIdentityService(userService, roleAuthoritiesCache, new UserIdentityCache(100, 60)));
     }
 
     @ParameterizedTest
@@ -0,0 +1,165 @@
+package com.university.schedule.service;
+
+import com.university.schedule.cache.RoleAuthoritiesCache;
+import com.university.schedule.cache.UserIdentityCache;
+import com.university.schedule.dto.RoleAuthorities;
+import com.university.schedule.dto.UserIdentity;
+import com.university.schedule.dto.UserTokenState;
+import com.university.schedule.model.Group;
+import com.university.schedule.model.Role;
+import com.university.schedule.model.Student;
+import com.university.schedule.model.Teacher;
+import com.university.schedule.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class UserIdentityServiceTest {
+
+    private UserIdentityService userIdentityService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RoleAuthoritiesCache roleAuthoritiesCache;
+
+    @BeforeEach
+    public void setUp() {
+        userIdentityService =
+            new UserIdentityService(userService, roleAuthoritiesCache, new UserIdentityCache(100, 60));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void findByEmail_whenUserIsATeacher_resolveTeacherIdAndAuthorities() {
+        Teacher teacher = new Teacher();
+        teacher.setId(3L);
+        teacher.setEmail("teacher@example.com");
+        teacher.setRole(new Role(2L, "Teacher"));
+        teacher.setIsEnable(true);
+        teacher.setTokenVersion(2);
+        when(userService.findByEmail("teacher@example.com")).thenReturn(teacher);
+        when(roleAuthoritiesCache.get(2L)).thenReturn(
+            new RoleAuthorities("Teacher", List.of(new SimpleGrantedAuthority("VIEW_SCHEDULE"))));
+
+        UserIdentity userIdentity = userIdentityService.findByEmail("teacher@example.com");
+
+        assertEquals(new UserIdentity(3L, "teacher@example.com", UserIdentity.Kind.TEACHER, "Teacher",
+            List.of("VIEW_SCHEDULE"), 3L, null, true, 2), userIdentity);
+    }
+
+    @Test
+    public void findByEmail_whenUserIsAStudent_resolveGroupId() {
+        Student student = new Student();
+        student.setId(4L);
+        student.setEmail("student@example.com");
+        Group group = new Group();
+        group.setId(7L);
+        student.setGroup(group);
+        when(userService.findByEmail("student@example.com")).thenReturn(student);
+
+        UserIdentity userIdentity = userIdentityService.findByEmail("student@example.com");
+
+        assertEquals(UserIdentity.Kind.STUDENT, userIdentity.kind());
+        assertEquals(7L, userIdentity.groupId());
+        assertNull(userIdentity.teacherId());
+        verifyNoInteractions(roleAuthoritiesCache);
+    }
+
+    @Test
+    public void findByEmail_whenRequestIsAuthenticatedByToken_resolveCurrentGroup() {
+        UserIdentity tokenIdentity =
+            new UserIdentity(4L, "student@example.com", UserIdentity.Kind.STUDENT, "Student", List.of(), null, 7L,
+                true, 0);
+        SecurityContextHolder.getContext()
+            .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(tokenIdentity, null, List.of()));
+        Student student = new Student();
+        student.setId(4L);
+        Group group = new Group();
+        group.setId(8L);
+        student.setGroup(group);
+        when(userService.findByEmail("student@example.com")).thenReturn(student);
+
+        assertEquals(8L, userIdentityService.findByEmail("student@example.com").groupId());
+    }
+
+    @Test
+    public void findByEmail_whenReadTwice_lookUpUserOnce() {
+        Teacher teacher = new Teacher();
+        teacher.setId(3L);
+        when(userService.findByEmail("teacher@example.com")).thenReturn(teacher);
+
+        userIdentityService.findByEmail("teacher@example.com");
+        userIdentityService.findByEmail("teacher@example.com");
+
+        verify(userService, times(1)).findByEmail("teacher@example.com");
+    }
+
+    @Test
+    public void findCurrentByEmail_whenTokensWereRevokedElsewhere_readTokenStateOfEveryCall() {
+        Teacher teacher = new Teacher();
+        teacher.setId(3L);
+        teacher.setIsEnable(true);
+        teacher.setTokenVersion(1);
+        when(userService.findByEmail("teacher@example.com")).thenReturn(teacher);
+        when(userService.findTokenStateById(3L)).thenReturn(new UserTokenState(true, 1))
+            .thenReturn(new UserTokenState(false, 2));
+
+        assertEquals(1, userIdentityService.findCurrentByEmail("teacher@example.com").tokenVersion());
+        UserIdentity userIdentity = userIdentityService.findCurrentByEmail("teacher@example.com");
+
+        assertEquals(2, userIdentity.tokenVersion());
+        assertFalse(userIdentity.enabled());
+        verify(userService, times(1)).findByEmail("teacher@example.com");
+        verify(userService, times(2)).findTokenStateById(3L);
+    }
+
+    @Test
+    public void findReferenceByEmail_whenUserIsAStudent_returnStudentWithGroupId() {
+        Student student = new Student();
+        student.setId(4L);
+        Group group = new Group();
+        group.setId(7L);
+        student.setGroup(group);
+        when(userService.findByEmail("student@example.com")).thenReturn(student);
+
+        User reference = userIdentityService.findReferenceByEmail("student@example.com");
+
+        Student studentReference = assertInstanceOf(Student.class, reference);
+        assertEquals(4L, studentReference.getId());
+        assertEquals(7L, studentReference.getGroup().getId());
+    }
+
+    @Test
+    public void findReferenceByEmail_whenUserIsATeacher_returnTeacherWithId() {
+        Teacher teacher = new Teacher();
+        teacher.setId(3L);
+        when(userService.findByEmail("teacher@example.com")).thenReturn(teacher);
+
+        User reference = userIdentityService.findReferenceByEmail("teacher@example.com");
+
+        assertEquals(3L, assertInstanceOf(Teacher.class, reference).getId());
+    }
+
+    @Test
+    public void findByEmail_whenEmailIsNull_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> userIdentityService.findByEmail(null));
+    }
+}
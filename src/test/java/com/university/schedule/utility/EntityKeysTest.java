@@ -0,0 +1,25 @@
+package com.university.schedule.utility;
+
+import com.university.schedule.model.Course;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EntityKeysTest {
+
+    @Test
+    public void of_whenEntityIsPersisted_returnId() {
+        Course course = new Course("courseName");
+        course.setId(1L);
+
+        assertEquals(1L, EntityKeys.of(course.getId(), course));
+    }
+
+    @Test
+    public void of_whenEntityIsTransient_returnEntity() {
+        Course course = new Course("courseName");
+
+        assertSame(course, EntityKeys.of(course.getId(), course));
+    }
+}
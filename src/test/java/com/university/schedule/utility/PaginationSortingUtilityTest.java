@@ -1,12 +1,20 @@
 package com.university.schedule.utility;
 
+import com.university.schedule.pageable.KeysetPageRequest;
 import com.university.schedule.pageable.OffsetBasedPageRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PaginationSortingUtilityTest {
 
@@ -49,4 +57,41 @@ public class PaginationSortingUtilityTest {
         assertEquals(pageable.getSort().getOrderFor("name").getProperty(), "name");
         assertEquals(pageable.getClass(), OffsetBasedPageRequest.class);
     }
+
+    @Test
+    public void getKeysetPageRequest_whenSortLengthIsLessThanTwo_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> PaginationSortingUtility.getKeysetPageRequest(10, "", new String[]{"name"}));
+    }
+
+    @Test
+    public void getKeysetPageRequest_whenAfterIsEmpty_returnFirstPage() {
+        KeysetPageRequest keysetPageRequest =
+            PaginationSortingUtility.getKeysetPageRequest(10, "", new String[]{"name", "desc"});
+
+        assertTrue(keysetPageRequest.isFirst());
+        assertEquals(keysetPageRequest.getLimit(), 10);
+        assertEquals(keysetPageRequest.getSort().getOrderFor("name").getDirection(), Sort.Direction.DESC);
+    }
+
+    @Test
+    public void getNextCursor_returnCursorOfLastElement() {
+        Window<String> window = Window.from(List.of("A", "B"),
+            index -> ScrollPosition.forward(Map.of("name", index == 0 ? "A" : "B", "id", (long) index)), true);
+
+        String nextCursor = PaginationSortingUtility.getNextCursor(window);
+        KeysetPageRequest keysetPageRequest =
+            PaginationSortingUtility.getKeysetPageRequest(10, nextCursor, new String[]{"name", "asc"});
+
+        assertEquals(keysetPageRequest.getScrollPosition().getKeys(), Map.of("name", "B", "id", 1L));
+    }
+
+    @Test
+    public void getNextCursor_whenWindowIsLast_returnNull() {
+        Window<String> window =
+            Window.from(List.of("A"), index -> ScrollPosition.forward(Map.of("name", "A", "id", 0L)), false);
+
+        assertNull(PaginationSortingUtility.getNextCursor(window));
+        assertNull(PaginationSortingUtility.getNextCursor(Window.from(List.of(), ScrollPosition::offset, true)));
+    }
 }
@@ -0,0 +1,186 @@
+package com.university.schedule.validation;
+
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ScheduledClassGroupSlot;
+import com.university.schedule.dto.ScheduledClassSlot;
+import com.university.schedule.exception.ValidationException;
+import com.university.schedule.model.*;
+import com.university.schedule.repository.RecurringClassRepository;
+import com.university.schedule.repository.ScheduledClassRepository;
+import com.university.schedule.service.CourseService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class RecurringClassEntityValidatorTest {
+
+    // Monday
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 4);
+    private static final LocalDate END_DATE = LocalDate.of(2021, 1, 31);
+    private final Validator jakartaValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    private RecurringClassEntityValidator validator;
+    @Mock
+    private RecurringClassRepository recurringClassRepository;
+    @Mock
+    private ScheduledClassRepository scheduledClassRepository;
+    @Mock
+    private CourseService courseService;
+
+    @BeforeEach
+    public void setUp() {
+        validator = new RecurringClassEntityValidator(recurringClassRepository, scheduledClassRepository,
+            courseService, jakartaValidator);
+        // every Teacher and Group is assigned to Course 3
+        when(courseService.findTeacherCourseIds(any())).thenAnswer(
+            invocation -> invocation.<Collection<Long>>getArgument(0).stream().map(id -> new IdPair(id, 3L)).toList());
+        when(courseService.findGroupCourseIds(any())).thenAnswer(
+            invocation -> invocation.<Collection<Long>>getArgument(0).stream().map(id -> new IdPair(id, 3L)).toList());
+    }
+
+    private RecurringClass createRecurringClass(Long id, Long teacherId, Long classroomId) {
+        Teacher teacher = new Teacher("email" + teacherId, "password", "name", "surname");
+        teacher.setId(teacherId);
+        Classroom classroom = new Classroom("classroom" + classroomId, new Building("building", "address"));
+        classroom.setId(classroomId);
+        ClassTime classTime = new ClassTime(1, LocalTime.of(8, 0), Duration.ofMinutes(90));
+        classTime.setId(4L);
+        return RecurringClass.builder().id(id).course(new Course(3L, "course")).teacher(teacher).classroom(classroom)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(new ClassType("classType"))
+            .groups(Set.of(new Group(teacherId + 100, "group", new Discipline("discipline")))).startDate(START_DATE)
+            .endDate(END_DATE).build();
+    }
+
+    @Test
+    public void validate_whenRecurringClassIsValid() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        when(scheduledClassRepository.findSlotsByDateBetween(START_DATE, END_DATE)).thenReturn(
+            List.of(new ScheduledClassSlot(10L, START_DATE.plusDays(1), 4L, 1L, 5L)));
+        RecurringClass tuesdayRule = createRecurringClass(20L, 1L, 5L);
+        tuesdayRule.setDayOfWeek(DayOfWeek.TUESDAY);
+        when(recurringClassRepository.findAllActive(START_DATE, END_DATE, null, null)).thenReturn(List.of(tuesdayRule));
+
+        assertDoesNotThrow(() -> validator.validate(recurringClass));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    public void validate_whenRecurringClassIsNull_throwIllegalArgumentException(RecurringClass nullRecurringClass) {
+        assertThrows(IllegalArgumentException.class, () -> validator.validate(nullRecurringClass));
+    }
+
+    @Test
+    public void validate_whenStartDateIsAfterEndDate_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        recurringClass.setStartDate(END_DATE.plusDays(1));
+
+        assertThrows(ValidationException.class, () -> validator.validate(recurringClass));
+    }
+
+    @Test
+    public void validate_whenOccurrenceTakesClassroomOfScheduledClass_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        when(scheduledClassRepository.findSlotsByDateBetween(START_DATE, END_DATE)).thenReturn(
+            List.of(new ScheduledClassSlot(10L, START_DATE.plusWeeks(2), 4L, 7L, 5L)));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validate(recurringClass));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validate_whenOccurrenceOfScheduledClassIsExceptionDate_doNotThrow() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        recurringClass.setExceptionDates(new HashSet<>(Set.of(START_DATE.plusWeeks(2))));
+        when(scheduledClassRepository.findSlotsByDateBetween(START_DATE, END_DATE)).thenReturn(
+            List.of(new ScheduledClassSlot(10L, START_DATE.plusWeeks(2), 4L, 1L, 6L)));
+
+        assertDoesNotThrow(() -> validator.validate(recurringClass));
+    }
+
+    @Test
+    public void validate_whenActiveRuleOfSameTeacherOverlaps_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        RecurringClass activeRule = createRecurringClass(20L, 1L, 6L);
+        activeRule.setStartDate(END_DATE.minusDays(7));
+        activeRule.setEndDate(END_DATE.plusWeeks(4));
+        when(recurringClassRepository.findAllActive(START_DATE, END_DATE, null, null)).thenReturn(List.of(activeRule));
+
+        assertThrows(ValidationException.class, () -> validator.validate(recurringClass));
+    }
+
+    @Test
+    public void validate_whenRecurringClassIsUpdated_doNotConflictWithItsPersistedState() {
+        RecurringClass recurringClass = createRecurringClass(20L, 1L, 5L);
+        when(recurringClassRepository.findAllActive(any(), any(), any(), any())).thenReturn(
+            List.of(createRecurringClass(20L, 1L, 5L)));
+
+        assertDoesNotThrow(() -> validator.validate(recurringClass));
+    }
+
+    @Test
+    public void validateAll_whenRulesShareClassroom_throwValidationExceptionAndLoadOccupancyOnce() {
+        List<RecurringClass> recurringClasses =
+            List.of(createRecurringClass(null, 1L, 5L), createRecurringClass(null, 2L, 5L),
+                createRecurringClass(null, 3L, 6L));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validateAll(recurringClasses));
+        assertEquals(1, exception.getViolations().size());
+        verify(scheduledClassRepository).findSlotsByDateBetween(START_DATE, END_DATE);
+        verify(recurringClassRepository).findAllActive(START_DATE, END_DATE, null, null);
+    }
+
+    @Test
+    public void validateAll_whenRulesShareGroup_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        RecurringClass otherRecurringClass = createRecurringClass(null, 2L, 6L);
+        otherRecurringClass.setGroups(recurringClass.getGroups());
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> validator.validateAll(List.of(recurringClass, otherRecurringClass)));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validate_whenOccurrenceTakesGroupOfScheduledClass_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        when(scheduledClassRepository.findGroupSlotsByDateBetween(START_DATE, END_DATE, Set.of(101L))).thenReturn(
+            List.of(new ScheduledClassGroupSlot(START_DATE.plusWeeks(1), 4L, 101L)));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validate(recurringClass));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validate_whenTeacherIsNotAssignedToCourse_throwValidationException() {
+        RecurringClass recurringClass = createRecurringClass(null, 1L, 5L);
+        doReturn(List.of(new IdPair(1L, 4L))).when(courseService).findTeacherCourseIds(any());
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validate(recurringClass));
+        assertEquals(1, exception.getViolations().size());
+    }
+}
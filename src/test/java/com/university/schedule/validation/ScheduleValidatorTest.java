@@ -1,9 +1,12 @@
 package com.university.schedule.validation;
 
+import com.university.schedule.dto.ScheduleConflict;
+import com.university.schedule.exception.ScheduleGenerationConflictException;
 import com.university.schedule.exception.ScheduleGenerationDateException;
 import com.university.schedule.exception.ScheduleGenerationException;
 import com.university.schedule.model.*;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -17,8 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 public class ScheduleValidatorTest {
@@ -213,4 +215,96 @@ public class ScheduleValidatorTest {
             () -> scheduleValidator.validate(LocalDate.of(2000, 5, 1), LocalDate.of(2000, 5, 10), dayScheduleItemList));
 
     }
+
+    @Test
+    public void findConflicts_whenSeveralConflicts_reportAllWithInvolvedItems() {
+        Discipline discipline = new Discipline(1L, "DisciplineName");
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        Teacher otherTeacher = new Teacher("test2@example.co", "password", "Jane", "Doe");
+        otherTeacher.setId(2L);
+        ClassTime classTime = new ClassTime(1L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        ClassType classType = new ClassType(1L, "Lecture");
+        Building building = new Building(1L, "BuildingName", "BuildingAddress");
+        Group group = new Group(1L, "GroupName", discipline);
+        Group otherGroup = new Group(2L, "OtherGroupName", discipline);
+
+        DayScheduleItem first = DayScheduleItem.builder().course(new Course(1L, "CourseName1")).teacher(teacher)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(classType).groups(Set.of(group))
+            .classroom(new Classroom(1L, "ClassroomName1", building)).build();
+        DayScheduleItem second = DayScheduleItem.builder().course(new Course(2L, "CourseName2")).teacher(teacher)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(classType).groups(Set.of(otherGroup))
+            .classroom(new Classroom(2L, "ClassroomName2", building)).build();
+        DayScheduleItem third = DayScheduleItem.builder().course(new Course(3L, "CourseName3")).teacher(otherTeacher)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(classType).groups(Set.of(group, otherGroup))
+            .classroom(new Classroom(3L, "ClassroomName3", building)).build();
+
+        List<ScheduleConflict> conflicts = scheduleValidator.findConflicts(List.of(first, second, third));
+
+        assertEquals(3, conflicts.size());
+        assertTrue(conflicts.stream().anyMatch(
+            conflict -> conflict.getType() == ScheduleConflict.Type.TEACHER && conflict.getFirstItem() == first &&
+                conflict.getSecondItem() == second));
+        assertTrue(conflicts.stream().anyMatch(
+            conflict -> conflict.getType() == ScheduleConflict.Type.GROUP && conflict.getFirstItem() == first &&
+                conflict.getSecondItem() == third));
+        assertTrue(conflicts.stream().anyMatch(
+            conflict -> conflict.getType() == ScheduleConflict.Type.GROUP && conflict.getFirstItem() == second &&
+                conflict.getSecondItem() == third));
+
+        ScheduleGenerationConflictException exception = assertThrows(ScheduleGenerationConflictException.class,
+            () -> scheduleValidator.validate(LocalDate.of(2000, 5, 1), LocalDate.of(2000, 5, 10),
+                List.of(first, second, third)));
+        assertEquals(3, exception.getConflicts().size());
+    }
+
+    @Test
+    public void findConflicts_whenManyItemsWithoutConflicts_returnEmptyList() {
+        Discipline discipline = new Discipline(1L, "DisciplineName");
+        ClassType classType = new ClassType(1L, "Lecture");
+        Building building = new Building(1L, "BuildingName", "BuildingAddress");
+        List<ClassTime> classTimes = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            classTimes.add(new ClassTime(i, (int) i, LocalTime.of(8, 0).plusHours(2 * i), Duration.ofMinutes(90)));
+        }
+
+        List<DayScheduleItem> dayScheduleItemList = new ArrayList<>();
+        for (long i = 0; i < 10_000; i++) {
+            Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+            teacher.setId(i / 25);
+            dayScheduleItemList.add(DayScheduleItem.builder().course(new Course(1L, "CourseName")).teacher(teacher)
+                .classTime(classTimes.get((int) (i % 5))).dayOfWeek(DayOfWeek.of((int) (i / 5 % 5) + 1))
+                .classType(classType).groups(Set.of(new Group(i / 25, "GroupName", discipline)))
+                .classroom(new Classroom(i / 25, "ClassroomName", building)).build());
+        }
+
+        assertTrue(scheduleValidator.findConflicts(dayScheduleItemList).isEmpty());
+    }
+
+    @Test
+    public void findConflicts_whenClassroomIsDoubleBooked_reportClassroomConflict() {
+        Discipline discipline = new Discipline(1L, "DisciplineName");
+        Teacher teacher = new Teacher("test@example.co", "password", "John", "Doe");
+        teacher.setId(1L);
+        Teacher otherTeacher = new Teacher("test2@example.co", "password", "Jane", "Doe");
+        otherTeacher.setId(2L);
+        ClassTime classTime = new ClassTime(1L, 1, LocalTime.of(9, 0), Duration.ofMinutes(90));
+        ClassType classType = new ClassType(1L, "Lecture");
+        Classroom classroom = new Classroom(1L, "ClassroomName", new Building(1L, "BuildingName", "BuildingAddress"));
+
+        DayScheduleItem first = DayScheduleItem.builder().course(new Course(1L, "CourseName1")).teacher(teacher)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(classType)
+            .groups(Set.of(new Group(1L, "GroupName", discipline))).classroom(classroom).build();
+        DayScheduleItem second = DayScheduleItem.builder().course(new Course(2L, "CourseName2")).teacher(otherTeacher)
+            .classTime(classTime).dayOfWeek(DayOfWeek.MONDAY).classType(classType)
+            .groups(Set.of(new Group(2L, "OtherGroupName", discipline))).classroom(classroom).build();
+
+        List<ScheduleConflict> conflicts = scheduleValidator.findConflicts(List.of(first, second));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(ScheduleConflict.Type.CLASSROOM, conflicts.get(0).getType());
+        assertThrows(ScheduleGenerationConflictException.class,
+            () -> scheduleValidator.validate(LocalDate.of(2000, 5, 1), LocalDate.of(2000, 5, 10),
+                List.of(first, second)));
+    }
 }
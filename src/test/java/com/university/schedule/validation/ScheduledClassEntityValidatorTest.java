@@ -1,7 +1,10 @@
 package com.university.schedule.validation;
 
+import com.university.schedule.dto.IdPair;
+import com.university.schedule.dto.ScheduledClassSlot;
 import com.university.schedule.exception.ValidationException;
 import com.university.schedule.model.*;
+import com.university.schedule.repository.RecurringClassRepository;
 import com.university.schedule.repository.ScheduledClassRepository;
 import com.university.schedule.service.CourseService;
 import jakarta.validation.Validation;
@@ -14,6 +17,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -23,8 +27,11 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,11 +43,14 @@ public class ScheduledClassEntityValidatorTest {
     @Mock
     private ScheduledClassRepository scheduledClassRepository;
     @Mock
+    private RecurringClassRepository recurringClassRepository;
+    @Mock
     private CourseService courseService;
 
     @BeforeEach
     public void setUp() {
-        validator = new ScheduledClassEntityValidator(scheduledClassRepository, courseService, jakartaValidator);
+        validator = new ScheduledClassEntityValidator(scheduledClassRepository, recurringClassRepository, courseService,
+            jakartaValidator);
     }
 
     public ScheduledClass createScheduledClass() {
@@ -106,6 +116,33 @@ public class ScheduledClassEntityValidatorTest {
         assertThrows(ValidationException.class, () -> validator.validate(scheduledClassToCheck));
     }
 
+    @Test
+    public void validate_whenScheduledClassClassroomDateClassTimePairIsNotUnique_throwValidationException() {
+        ScheduledClass scheduledClassToCheck = createScheduledClass();
+        ScheduledClass scheduledClassToBeFounded = createScheduledClass();
+        when(scheduledClassRepository.findByDateAndClassTimeAndClassroom(scheduledClassToCheck.getDate(),
+            scheduledClassToCheck.getClassTime(), scheduledClassToCheck.getClassroom())).thenReturn(
+            Optional.of(scheduledClassToBeFounded));
+        when(courseService.findByTeacher(scheduledClassToCheck.getTeacher())).thenReturn(
+            List.of(scheduledClassToCheck.getCourse()));
+        when(courseService.findByGroup(any())).thenReturn(List.of(scheduledClassToCheck.getCourse()));
+        assertThrows(ValidationException.class, () -> validator.validate(scheduledClassToCheck));
+    }
+
+    @Test
+    public void validate_whenClassroomIsTakenByRecurringClass_throwValidationException() {
+        ScheduledClass scheduledClass = createScheduledClass();
+        when(recurringClassRepository.existsOccurrenceInClassroom(any(), any(), eq(DayOfWeek.FRIDAY),
+            eq(scheduledClass.getDate()), any())).thenReturn(true);
+        when(courseService.findByTeacher(scheduledClass.getTeacher())).thenReturn(List.of(scheduledClass.getCourse()));
+        when(courseService.findByGroup(any())).thenReturn(List.of(scheduledClass.getCourse()));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validate(scheduledClass));
+        assertEquals(1, exception.getViolations().size());
+        verify(recurringClassRepository, never()).findAllActive(any(), any(), any(), any());
+    }
+
     @Test
     public void validate_whenScheduledClassTeacherIsNotAssignedToCourse_throwValidationException() {
         ScheduledClass scheduledClass = createScheduledClass();
@@ -128,5 +165,156 @@ public class ScheduledClassEntityValidatorTest {
         assertThrows(ValidationException.class, () -> validator.validate(scheduledClass));
     }
 
+    public ScheduledClass createPersistedScheduledClass() {
+        ScheduledClass scheduledClass = createScheduledClass();
+        scheduledClass.getTeacher().setId(1L);
+        scheduledClass.getCourse().setId(2L);
+        scheduledClass.getGroups().forEach(group -> group.setId(3L));
+        scheduledClass.getClassTime().setId(4L);
+        scheduledClass.getClassroom().setId(5L);
+        return scheduledClass;
+    }
+
+    @Test
+    public void validateAll_whenScheduledClassesAreValid_doNotQueryPerRow() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+        ScheduledClass nextWeekScheduledClass = createPersistedScheduledClass();
+        nextWeekScheduledClass.setDate(scheduledClass.getDate().plusWeeks(1));
+
+        when(scheduledClassRepository.findSlotsByDateBetween(scheduledClass.getDate(),
+            nextWeekScheduledClass.getDate())).thenReturn(List.of());
+        when(courseService.findTeacherCourseIds(Set.of(1L))).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(Set.of(3L))).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        assertDoesNotThrow(() -> validator.validateAll(List.of(scheduledClass, nextWeekScheduledClass)));
+
+        verify(scheduledClassRepository, never()).findByDateAndClassTimeAndTeacher(any(), any(), any());
+        verify(courseService, never()).findByTeacher(any());
+        verify(courseService, never()).findByGroup(any());
+    }
+
+    @Test
+    public void validateAll_whenTeacherSlotIsOccupied_throwValidationException() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+
+        when(scheduledClassRepository.findSlotsByDateBetween(scheduledClass.getDate(),
+            scheduledClass.getDate())).thenReturn(
+            List.of(new ScheduledClassSlot(10L, scheduledClass.getDate(), 4L, 1L, 5L)));
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        assertThrows(ValidationException.class, () -> validator.validateAll(List.of(scheduledClass)));
+    }
 
+    @Test
+    public void validateAll_whenSameTeacherSlotIsUsedTwice_throwValidationException() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+        ScheduledClass sameSlotScheduledClass = createPersistedScheduledClass();
+        sameSlotScheduledClass.getClassroom().setId(6L);
+
+        when(scheduledClassRepository.findSlotsByDateBetween(any(), any())).thenReturn(List.of());
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> validator.validateAll(List.of(scheduledClass, sameSlotScheduledClass)));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validateAll_whenClassroomSlotIsOccupied_throwValidationException() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+
+        when(scheduledClassRepository.findSlotsByDateBetween(scheduledClass.getDate(),
+            scheduledClass.getDate())).thenReturn(
+            List.of(new ScheduledClassSlot(10L, scheduledClass.getDate(), 4L, 7L, 5L)));
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validateAll(List.of(scheduledClass)));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validateAll_whenGroupIsNotAssignedToCourse_throwValidationException() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+
+        when(scheduledClassRepository.findSlotsByDateBetween(any(), any())).thenReturn(List.of());
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of());
+
+        assertThrows(ValidationException.class, () -> validator.validateAll(List.of(scheduledClass)));
+    }
+
+    @Test
+    public void validateAll_whenValidatedAgainstSlice_keepOnlyOccupancyOfItsTeachersAndClassrooms() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+        ScheduledClass otherTeacherScheduledClass = createPersistedScheduledClass();
+        otherTeacherScheduledClass.getTeacher().setId(8L);
+        otherTeacherScheduledClass.getClassroom().setId(6L);
+
+        when(scheduledClassRepository.findSlotsByDateBetween(any(), any())).thenReturn(
+            List.of(new ScheduledClassSlot(10L, scheduledClass.getDate(), 4L, 1L, 5L),
+                new ScheduledClassSlot(11L, scheduledClass.getDate(), 4L, 9L, 6L)));
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L), new IdPair(8L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+        ScheduledClassValidationContext context =
+            validator.createValidationContext(List.of(scheduledClass, otherTeacherScheduledClass));
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> validator.validateAll(List.of(otherTeacherScheduledClass),
+                context.slice(List.of(otherTeacherScheduledClass))));
+        assertEquals(1, exception.getViolations().size());
+        assertThrows(ValidationException.class,
+            () -> validator.validateAll(List.of(scheduledClass), context.slice(List.of(scheduledClass))));
+        ScheduledClass otherDateScheduledClass = createPersistedScheduledClass();
+        otherDateScheduledClass.setDate(scheduledClass.getDate().plusDays(1));
+        assertDoesNotThrow(() -> validator.validateAll(List.of(otherDateScheduledClass),
+            context.slice(List.of(otherDateScheduledClass))));
+        verify(scheduledClassRepository).findSlotsByDateBetween(any(), any());
+    }
+
+    private RecurringClass createFridayRecurringClass(Long teacherId, Long classroomId) {
+        Teacher teacher = new Teacher("otherEmail", "password", "name", "surname");
+        teacher.setId(teacherId);
+        Classroom classroom = new Classroom("classroom", new Building("building", "address"));
+        classroom.setId(classroomId);
+        ClassTime classTime = new ClassTime(1, LocalTime.of(8, 0), Duration.ofMinutes(90));
+        classTime.setId(4L);
+        return RecurringClass.builder().id(20L).teacher(teacher).classroom(classroom).classTime(classTime)
+            .dayOfWeek(DayOfWeek.FRIDAY).startDate(LocalDate.of(2020, 12, 1)).endDate(LocalDate.of(2021, 2, 1))
+            .build();
+    }
+
+    @Test
+    public void validateAll_whenClassroomIsTakenByRecurringClassOfOtherTeacher_throwValidationException() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+
+        when(scheduledClassRepository.findSlotsByDateBetween(any(), any())).thenReturn(List.of());
+        when(recurringClassRepository.findAllActive(scheduledClass.getDate(), scheduledClass.getDate(), null, null))
+            .thenReturn(List.of(createFridayRecurringClass(7L, 5L)));
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        ValidationException exception =
+            assertThrows(ValidationException.class, () -> validator.validateAll(List.of(scheduledClass)));
+        assertEquals(1, exception.getViolations().size());
+    }
+
+    @Test
+    public void validateAll_whenScheduledClassOverridesOccurrenceOfItsTeacher_releaseOccurrenceClassroom() {
+        ScheduledClass scheduledClass = createPersistedScheduledClass();
+        scheduledClass.getClassroom().setId(6L);
+        ScheduledClass otherTeacherScheduledClass = createPersistedScheduledClass();
+        otherTeacherScheduledClass.getTeacher().setId(8L);
+
+        when(scheduledClassRepository.findSlotsByDateBetween(any(), any())).thenReturn(List.of());
+        when(recurringClassRepository.findAllActive(any(), any(), any(), any()))
+            .thenReturn(List.of(createFridayRecurringClass(1L, 5L)));
+        when(courseService.findTeacherCourseIds(any())).thenReturn(List.of(new IdPair(1L, 2L), new IdPair(8L, 2L)));
+        when(courseService.findGroupCourseIds(any())).thenReturn(List.of(new IdPair(3L, 2L)));
+
+        assertDoesNotThrow(() -> validator.validateAll(List.of(scheduledClass, otherTeacherScheduledClass)));
+    }
 }